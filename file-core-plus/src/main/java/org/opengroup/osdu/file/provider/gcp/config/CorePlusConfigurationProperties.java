@@ -17,6 +17,8 @@
 
 package org.opengroup.osdu.file.provider.gcp.config;
 
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -32,6 +34,7 @@ public class CorePlusConfigurationProperties {
   private int partitionInfoVmCacheExpTime = 60;
   private int partitionInfoVmCacheSize = 100;
   private SignedUrl signedUrl = new SignedUrl();
+  private Copy copy = new Copy();
 
   @Getter
   @Setter
@@ -39,4 +42,23 @@ public class CorePlusConfigurationProperties {
 
     private int expirationDays = 1;
   }
+
+  @Getter
+  @Setter
+  public static class Copy {
+
+    /**
+     * Maximum number of files or directories of one request copied at the same time.
+     */
+    private int concurrency = 8;
+
+    /**
+     * Concurrency by data partition id, for partitions that do not use {@link #concurrency}.
+     */
+    private Map<String, Integer> partitionConcurrency = new HashMap<>();
+
+    public int getConcurrencyFor(String partitionId) {
+      return partitionConcurrency.getOrDefault(partitionId, concurrency);
+    }
+  }
 }
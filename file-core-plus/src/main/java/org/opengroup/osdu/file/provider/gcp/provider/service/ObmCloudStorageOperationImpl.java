@@ -17,7 +17,11 @@
 
 package org.opengroup.osdu.file.provider.gcp.provider.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -32,10 +36,16 @@ import org.opengroup.osdu.core.obm.core.model.ObmBlob;
 import org.opengroup.osdu.core.obm.core.persistence.ObmDestination;
 import org.opengroup.osdu.file.constant.FileMetadataConstant;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.model.file.FileCopyChecksumResponse;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.StoredObjectSummary;
+import org.opengroup.osdu.file.model.property.FileCollectionCopyProperties;
+import org.opengroup.osdu.file.provider.gcp.config.CorePlusConfigurationProperties;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
+import org.opengroup.osdu.file.util.DirectoryDiff;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -48,9 +58,34 @@ public class ObmCloudStorageOperationImpl implements ICloudStorageOperation {
   private final Driver obmDriver;
   private final DpsHeaders dpsHeaders;
   private final EnvironmentResolver environmentResolver;
+  private final ParallelExecutor parallelExecutor;
+  private final CorePlusConfigurationProperties properties;
+  private final FileCollectionCopyProperties fileCollectionCopyProperties;
 
+  /**
+   * Copies without reading the source blob first; whether the source exists is only checked when
+   * the copy fails, to report a missing source as a bad request.
+   */
   @Override
   public String copyFile(String sourceFile, String destinationFile) throws OsduBadRequestException {
+    return copyBlob(sourceFile, destinationFile, false).getDestinationPath();
+  }
+
+  /**
+   * A copy keeps the blob content, so the checksum the store already holds for the source blob, which is
+   * read anyway to check it exists, is returned for the copy without reading it back.
+   */
+  @Override
+  public FileCopyChecksumResponse copyFileWithChecksum(String sourceFile, String destinationFile)
+      throws OsduBadRequestException {
+    FileCopyChecksumResponse response = copyBlob(sourceFile, destinationFile, true);
+    if (StringUtils.isNotBlank(response.getChecksum())) {
+      response.setChecksumAlgorithm(environmentResolver.getChecksumAlgorithm());
+    }
+    return response;
+  }
+
+  private FileCopyChecksumResponse copyBlob(String sourceFile, String destinationFile, boolean readSourceBlob) {
     String partitionId = dpsHeaders.getPartitionId();
     String fromBucket = pathProvider.extractBucketInfoFromUnsignedUrl(sourceFile, partitionId).getBucketName();
     String fromPath = pathProvider.getDirectoryPath(sourceFile, partitionId);
@@ -65,38 +100,60 @@ public class ObmCloudStorageOperationImpl implements ICloudStorageOperation {
       throwBadRequest(INVALID_RESOURCE_PATH);
     }
 
-    ObmBlob sourceBlob = obmDriver.getBlob(fromBucket, fromPath, obmDestination);
-    if (sourceBlob == null) {
-      log.error("Source blob not found: bucket={}, key={}", fromBucket, fromPath);
-      throwBadRequest(getErrorMessageFileNotPresent(fromPath),
-          FileMetadataConstant.INVALID_SOURCE_EXCEPTION + sourceFile);
+    ObmBlob sourceBlob = null;
+    if (readSourceBlob) {
+      sourceBlob = obmDriver.getBlob(fromBucket, fromPath, obmDestination);
+      checkSourceBlobExists(sourceBlob, fromBucket, fromPath, sourceFile);
     }
     log.debug("Executing blob copy: sourceBucket={}, sourceKey={}, destBucket={}, destKey={}, partition={}",
         fromBucket, fromPath, destinationBucket, destinationPath, partitionId);
 
-    String copyBlobPath = obmDriver.copyBlob(obmDestination, fromBucket, fromPath, destinationBucket, destinationPath);
+    String copyBlobPath;
+    try {
+      copyBlobPath = obmDriver.copyBlob(obmDestination, fromBucket, fromPath, destinationBucket, destinationPath);
+    } catch (ObmDriverRuntimeException e) {
+      if (!readSourceBlob) {
+        checkSourceBlobExists(obmDriver.getBlob(fromBucket, fromPath, obmDestination), fromBucket, fromPath, sourceFile);
+      }
+      throw e;
+    }
     log.debug("Copied blob: sourceBucket={}, sourceKey={}, destBucket={}, destKey={}, resultPath={}",
         fromBucket, fromPath, destinationBucket, destinationPath, copyBlobPath);
-    return environmentResolver.getTransferProtocol(partitionId) + copyBlobPath;
+    return FileCopyChecksumResponse.builder()
+        .destinationPath(environmentResolver.getTransferProtocol(partitionId) + copyBlobPath)
+        .checksum(sourceBlob != null ? sourceBlob.getChecksum() : null)
+        .build();
+  }
+
+  private void checkSourceBlobExists(ObmBlob sourceBlob, String fromBucket, String fromPath, String sourceFile) {
+    if (sourceBlob == null) {
+      log.error("Source blob not found: bucket={}, key={}", fromBucket, fromPath);
+      throwBadRequest(getErrorMessageFileNotPresent(fromPath),
+          FileMetadataConstant.INVALID_SOURCE_EXCEPTION + sourceFile);
+    }
   }
 
+  /**
+   * Copies the files concurrently, up to the copy concurrency of the partition. Responses keep the
+   * order of the operations, callers pair them by index.
+   */
   @Override
   public List<FileCopyOperationResponse> copyFiles(List<FileCopyOperation> fileCopyOperationList) {
-    return fileCopyOperationList.stream().map(operation -> {
+    return parallelExecutor.map(fileCopyOperationList, getCopyConcurrency(), operation -> {
       try {
         this.copyFile(operation.getSourcePath(), operation.getDestinationPath());
         return FileCopyOperationResponse.builder().copyOperation(operation).success(Boolean.TRUE).build();
-      } catch (OsduBadRequestException e) {
+      } catch (OsduBadRequestException | ObmDriverRuntimeException e) {
         log.error("File copy operation failed: source={}, destination={}",
             operation.getSourcePath(), operation.getDestinationPath(), e);
         return FileCopyOperationResponse.builder().copyOperation(operation).success(Boolean.FALSE).build();
       }
-    }).collect(Collectors.toList());
+    });
   }
 
   @Override
   public List<DatasetCopyOperation> copyDirectories(List<FileCopyOperation> fileCopyOperationList) {
-    return fileCopyOperationList.stream().map(operation -> {
+    return parallelExecutor.map(fileCopyOperationList, getCopyConcurrency(), operation -> {
       try {
         this.copyDirectory(operation.getSourcePath(), operation.getDestinationPath());
         return DatasetCopyOperation.builder().fileCopyOperation(operation).success(Boolean.TRUE).build();
@@ -105,7 +162,11 @@ public class ObmCloudStorageOperationImpl implements ICloudStorageOperation {
             operation.getSourcePath(), operation.getDestinationPath(), e);
         return DatasetCopyOperation.builder().fileCopyOperation(operation).success(Boolean.FALSE).build();
       }
-    }).collect(Collectors.toList());
+    });
+  }
+
+  private int getCopyConcurrency() {
+    return properties.getCopy().getConcurrencyFor(dpsHeaders.getPartitionId());
   }
 
   private List<String> copyDirectory(String sourcePath, String destinationPath) throws OsduBadRequestException {
@@ -129,6 +190,13 @@ public class ObmCloudStorageOperationImpl implements ICloudStorageOperation {
 
     String transferProtocol = environmentResolver.getTransferProtocol(partitionId);
 
+    if (fileCollectionCopyProperties.isIncremental()) {
+      return syncDirectory(obmDestination, fromBucket, fromPath, sourceBlobs, destinationBucket, destinationFilePath)
+          .stream()
+          .map(filePath -> transferProtocol + filePath)
+          .collect(Collectors.toList());
+    }
+
     List<String> copiedPaths = obmDriver.copyBlobs(obmDestination,
             fromBucket, fromPath,
             destinationBucket, destinationFilePath)
@@ -140,6 +208,51 @@ public class ObmCloudStorageOperationImpl implements ICloudStorageOperation {
     return copiedPaths;
   }
 
+  /**
+   * Copies the blobs of the source directory that are new or changed compared with the blobs of the
+   * destination directory, see {@link DirectoryDiff}, and with
+   * {@link FileCollectionCopyProperties#isDeleteRemoved()} deletes the destination blobs that are no
+   * longer in the source directory.
+   *
+   * @return paths of the copied blobs
+   */
+  private List<String> syncDirectory(ObmDestination obmDestination, String fromBucket, String fromPath,
+      Iterable<ObmBlob> sourceBlobs, String destinationBucket, String destinationPath) {
+    List<Supplier<List<StoredObjectSummary>>> listings = Arrays.asList(
+        () -> toSummaries(sourceBlobs, fromPath),
+        () -> toSummaries(obmDriver.listBlobsByPrefix(destinationBucket, obmDestination, destinationPath),
+            destinationPath));
+    List<List<StoredObjectSummary>> blobs = parallelExecutor.map(listings, listings.size(), Supplier::get);
+    DirectoryDiff diff = DirectoryDiff.compare(blobs.get(0), blobs.get(1));
+
+    int concurrency = getCopyConcurrency();
+    List<String> copiedPaths = parallelExecutor.map(diff.getChanged(), concurrency, blob ->
+        obmDriver.copyBlob(obmDestination, fromBucket, fromPath + blob.getRelativeKey(),
+            destinationBucket, destinationPath + blob.getRelativeKey()));
+    if (fileCollectionCopyProperties.isDeleteRemoved()) {
+      parallelExecutor.map(diff.getRemoved(), concurrency, blob ->
+          obmDriver.deleteBlob(destinationBucket, destinationPath + blob.getRelativeKey(), obmDestination));
+    }
+    log.debug("Synchronized directory: sourceBucket={}, sourcePrefix={}, destBucket={}, destPrefix={}, "
+            + "copiedCount={}, unchangedCount={}, removedCount={}, deleteRemoved={}",
+        fromBucket, fromPath, destinationBucket, destinationPath, copiedPaths.size(), diff.getUnchanged(),
+        diff.getRemoved().size(), fileCollectionCopyProperties.isDeleteRemoved());
+    return copiedPaths;
+  }
+
+  private static List<StoredObjectSummary> toSummaries(Iterable<ObmBlob> blobs, String prefix) {
+    List<StoredObjectSummary> summaries = new ArrayList<>();
+    for (ObmBlob blob : blobs) {
+      String name = blob.getName();
+      summaries.add(StoredObjectSummary.builder()
+          .relativeKey(name.startsWith(prefix) ? name.substring(prefix.length()) : name)
+          .size(Objects.requireNonNullElse(blob.getSize(), 0L))
+          .checksum(blob.getChecksum())
+          .build());
+    }
+    return summaries;
+  }
+
   @Override
   public Boolean deleteFile(String location) {
     String partitionId = dpsHeaders.getPartitionId();
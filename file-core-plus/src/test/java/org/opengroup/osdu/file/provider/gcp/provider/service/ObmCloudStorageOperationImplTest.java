@@ -0,0 +1,263 @@
+package org.opengroup.osdu.file.provider.gcp.provider.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.obm.core.Driver;
+import org.opengroup.osdu.core.obm.core.EnvironmentResolver;
+import org.opengroup.osdu.core.obm.core.ObmDriverRuntimeException;
+import org.opengroup.osdu.core.obm.core.ObmPathProvider;
+import org.opengroup.osdu.core.obm.core.model.ObmBlob;
+import org.opengroup.osdu.file.constant.ChecksumAlgorithm;
+import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.model.file.FileCopyChecksumResponse;
+import org.opengroup.osdu.file.model.file.FileCopyOperation;
+import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
+import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.property.FileCollectionCopyProperties;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.provider.gcp.config.CorePlusConfigurationProperties;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class ObmCloudStorageOperationImplTest {
+
+  private static final String PARTITION_ID = "opendes";
+  private static final String TRANSFER_PROTOCOL = "https://seaweedfs.example.com";
+  private static final String STAGING_BUCKET = "staging-bucket";
+  private static final String PERSISTENT_BUCKET = "persistent-bucket";
+  private static final String KEY = "uuid/fileId";
+  private static final String STAGING_FILE = TRANSFER_PROTOCOL + "/" + STAGING_BUCKET + "/" + KEY;
+  private static final String PERSISTENT_FILE = TRANSFER_PROTOCOL + "/" + PERSISTENT_BUCKET + "/" + KEY;
+
+  @Mock
+  private Driver obmDriver;
+  @Mock
+  private DpsHeaders dpsHeaders;
+  @Mock
+  private EnvironmentResolver environmentResolver;
+
+  private final CorePlusConfigurationProperties properties = new CorePlusConfigurationProperties();
+  private final FileCollectionCopyProperties fileCollectionCopyProperties = new FileCollectionCopyProperties();
+  private final ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+  private ObmCloudStorageOperationImpl storageOperation;
+
+  @BeforeEach
+  void setUp() {
+    storageOperation = new ObmCloudStorageOperationImpl(
+        new ObmPathProvider(environmentResolver),
+        obmDriver,
+        dpsHeaders,
+        environmentResolver,
+        parallelExecutor,
+        properties,
+        fileCollectionCopyProperties);
+
+    given(dpsHeaders.getPartitionId()).willReturn(PARTITION_ID);
+    lenient().when(environmentResolver.getTransferProtocol(PARTITION_ID)).thenReturn(TRANSFER_PROTOCOL);
+  }
+
+  @AfterEach
+  void tearDown() {
+    parallelExecutor.destroy();
+  }
+
+  @Test
+  void copyFileWithChecksumShouldReturnChecksumOfSourceBlob() {
+    given(obmDriver.getBlob(eq(STAGING_BUCKET), eq(KEY), any()))
+        .willReturn(new ObmBlob(KEY, STAGING_BUCKET, null, "abc123", 10L, null, null));
+    given(obmDriver.copyBlob(any(), eq(STAGING_BUCKET), eq(KEY), eq(PERSISTENT_BUCKET), eq(KEY)))
+        .willReturn("/" + PERSISTENT_BUCKET + "/" + KEY);
+    given(environmentResolver.getChecksumAlgorithm()).willReturn(ChecksumAlgorithm.MD5.name());
+
+    FileCopyChecksumResponse response = storageOperation.copyFileWithChecksum(STAGING_FILE, PERSISTENT_FILE);
+
+    assertEquals(PERSISTENT_FILE, response.getDestinationPath());
+    assertEquals("abc123", response.getChecksum());
+    assertEquals(ChecksumAlgorithm.MD5.name(), response.getChecksumAlgorithm());
+    verify(obmDriver, times(1)).getBlob(anyString(), anyString(), any());
+  }
+
+  @Test
+  void copyFileWithChecksumShouldRejectMissingSourceWithoutCopying() {
+    given(obmDriver.getBlob(eq(STAGING_BUCKET), eq(KEY), any())).willReturn(null);
+
+    assertThrows(OsduBadRequestException.class,
+        () -> storageOperation.copyFileWithChecksum(STAGING_FILE, PERSISTENT_FILE));
+
+    verify(obmDriver, never()).copyBlob(any(), anyString(), anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void copyFileShouldNotReadSourceBlobWhenCopySucceeds() {
+    given(obmDriver.copyBlob(any(), eq(STAGING_BUCKET), eq(KEY), eq(PERSISTENT_BUCKET), eq(KEY)))
+        .willReturn("/" + PERSISTENT_BUCKET + "/" + KEY);
+
+    assertEquals(PERSISTENT_FILE, storageOperation.copyFile(STAGING_FILE, PERSISTENT_FILE));
+
+    verify(obmDriver, never()).getBlob(anyString(), anyString(), any());
+  }
+
+  @Test
+  void copyFileShouldReportMissingSourceAsBadRequestWhenCopyFails() {
+    given(obmDriver.copyBlob(any(), anyString(), anyString(), anyString(), anyString()))
+        .willThrow(ObmDriverRuntimeException.class);
+    given(obmDriver.getBlob(eq(STAGING_BUCKET), eq(KEY), any())).willReturn(null);
+
+    assertThrows(OsduBadRequestException.class, () -> storageOperation.copyFile(STAGING_FILE, PERSISTENT_FILE));
+  }
+
+  @Test
+  void copyFileShouldRethrowDriverFailureWhenSourceExists() {
+    given(obmDriver.copyBlob(any(), anyString(), anyString(), anyString(), anyString()))
+        .willThrow(ObmDriverRuntimeException.class);
+    given(obmDriver.getBlob(eq(STAGING_BUCKET), eq(KEY), any()))
+        .willReturn(new ObmBlob(KEY, STAGING_BUCKET, null, "abc123", 10L, null, null));
+
+    assertThrows(ObmDriverRuntimeException.class, () -> storageOperation.copyFile(STAGING_FILE, PERSISTENT_FILE));
+  }
+
+  @Test
+  void copyFilesShouldKeepOrderOfOperationsAndReportFailures() {
+    List<FileCopyOperation> operations = operations(4);
+    given(obmDriver.copyBlob(any(), eq(STAGING_BUCKET), anyString(), eq(PERSISTENT_BUCKET), anyString()))
+        .willAnswer(invocation -> "/" + PERSISTENT_BUCKET + "/" + invocation.getArgument(4));
+    willThrow(ObmDriverRuntimeException.class).given(obmDriver)
+        .copyBlob(any(), eq(STAGING_BUCKET), eq("uuid/file-2"), eq(PERSISTENT_BUCKET), anyString());
+    given(obmDriver.getBlob(eq(STAGING_BUCKET), eq("uuid/file-2"), any())).willReturn(null);
+
+    List<FileCopyOperationResponse> responses = storageOperation.copyFiles(operations);
+
+    assertEquals(operations, responses.stream().map(FileCopyOperationResponse::getCopyOperation)
+        .collect(Collectors.toList()));
+    assertTrue(responses.get(0).isSuccess());
+    assertTrue(responses.get(1).isSuccess());
+    assertFalse(responses.get(2).isSuccess());
+    assertTrue(responses.get(3).isSuccess());
+  }
+
+  @Test
+  void copyFilesShouldNotExceedConcurrencyOfPartition() {
+    properties.getCopy().setConcurrency(8);
+    properties.getCopy().getPartitionConcurrency().put(PARTITION_ID, 2);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    given(obmDriver.copyBlob(any(), anyString(), anyString(), anyString(), anyString()))
+        .willAnswer(invocation -> {
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          inFlight.decrementAndGet();
+          return "/" + PERSISTENT_BUCKET + "/" + invocation.getArgument(4);
+        });
+
+    List<FileCopyOperationResponse> responses = storageOperation.copyFiles(operations(8));
+
+    assertEquals(8, responses.size());
+    assertTrue(responses.stream().allMatch(FileCopyOperationResponse::isSuccess));
+    assertTrue(maxInFlight.get() <= 2);
+  }
+
+  @Test
+  void copyFilesShouldRunOnCallingThreadWithConcurrencyOfOne() {
+    properties.getCopy().setConcurrency(1);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    given(obmDriver.copyBlob(any(), anyString(), anyString(), anyString(), anyString()))
+        .willAnswer(invocation -> {
+          threads.add(Thread.currentThread());
+          return "/" + PERSISTENT_BUCKET + "/" + invocation.getArgument(4);
+        });
+
+    storageOperation.copyFiles(operations(4));
+
+    assertEquals(Collections.singleton(Thread.currentThread()), threads);
+  }
+
+  @Test
+  void copyDirectoriesShouldKeepOrderOfOperationsAndReportMissingSources() {
+    List<FileCopyOperation> operations = operations(3);
+    given(obmDriver.listBlobsByPrefix(eq(STAGING_BUCKET), any(), anyString()))
+        .willAnswer(invocation -> ((String) invocation.getArgument(2)).endsWith("file-1")
+            ? Collections.emptyList()
+            : Collections.singletonList(new ObmBlob(invocation.getArgument(2), STAGING_BUCKET, null, "abc123", 10L,
+                null, null)));
+    given(obmDriver.copyBlobs(any(), eq(STAGING_BUCKET), anyString(), eq(PERSISTENT_BUCKET), anyString()))
+        .willAnswer(invocation -> Collections.singletonList("/" + PERSISTENT_BUCKET + "/" + invocation.getArgument(4)));
+
+    List<DatasetCopyOperation> responses = storageOperation.copyDirectories(operations);
+
+    assertEquals(operations, responses.stream().map(DatasetCopyOperation::getFileCopyOperation)
+        .collect(Collectors.toList()));
+    assertTrue(responses.get(0).isSuccess());
+    assertFalse(responses.get(1).isSuccess());
+    assertTrue(responses.get(2).isSuccess());
+  }
+
+  @Test
+  void copyDirectoriesShouldCopyOnlyChangedBlobsAndDeleteRemovedOnesWhenIncremental() {
+    fileCollectionCopyProperties.setIncremental(true);
+    fileCollectionCopyProperties.setDeleteRemoved(true);
+    given(obmDriver.listBlobsByPrefix(eq(STAGING_BUCKET), any(), anyString())).willReturn(Arrays.asList(
+        new ObmBlob("collection/same", STAGING_BUCKET, null, "same", 10L, null, null),
+        new ObmBlob("collection/changed", STAGING_BUCKET, null, "changed", 10L, null, null),
+        new ObmBlob("collection/new", STAGING_BUCKET, null, "new", 10L, null, null)));
+    given(obmDriver.listBlobsByPrefix(eq(PERSISTENT_BUCKET), any(), anyString())).willReturn(Arrays.asList(
+        new ObmBlob("collection/same", PERSISTENT_BUCKET, null, "same", 10L, null, null),
+        new ObmBlob("collection/changed", PERSISTENT_BUCKET, null, "old", 10L, null, null),
+        new ObmBlob("collection/removed", PERSISTENT_BUCKET, null, "removed", 10L, null, null)));
+    given(obmDriver.copyBlob(any(), eq(STAGING_BUCKET), anyString(), eq(PERSISTENT_BUCKET), anyString()))
+        .willAnswer(invocation -> "/" + PERSISTENT_BUCKET + "/" + invocation.getArgument(4));
+    given(obmDriver.deleteBlob(eq(PERSISTENT_BUCKET), anyString(), any())).willReturn(true);
+
+    List<DatasetCopyOperation> responses = storageOperation.copyDirectories(Collections.singletonList(
+        FileCopyOperation.builder()
+            .sourcePath(TRANSFER_PROTOCOL + "/" + STAGING_BUCKET + "/collection/")
+            .destinationPath(TRANSFER_PROTOCOL + "/" + PERSISTENT_BUCKET + "/collection/")
+            .build()));
+
+    assertTrue(responses.get(0).isSuccess());
+    verify(obmDriver).copyBlob(any(), eq(STAGING_BUCKET), eq("collection/changed"), eq(PERSISTENT_BUCKET),
+        eq("collection/changed"));
+    verify(obmDriver).copyBlob(any(), eq(STAGING_BUCKET), eq("collection/new"), eq(PERSISTENT_BUCKET),
+        eq("collection/new"));
+    verify(obmDriver, never()).copyBlob(any(), anyString(), eq("collection/same"), anyString(), anyString());
+    verify(obmDriver).deleteBlob(eq(PERSISTENT_BUCKET), eq("collection/removed"), any());
+    verify(obmDriver, times(1)).deleteBlob(anyString(), anyString(), any());
+    verify(obmDriver, never()).copyBlobs(any(), anyString(), anyString(), anyString(), anyString());
+  }
+
+  private static List<FileCopyOperation> operations(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> FileCopyOperation.builder()
+            .sourcePath(TRANSFER_PROTOCOL + "/" + STAGING_BUCKET + "/uuid/file-" + i)
+            .destinationPath(TRANSFER_PROTOCOL + "/" + PERSISTENT_BUCKET + "/uuid/file-" + i)
+            .build())
+        .collect(Collectors.toList());
+  }
+}
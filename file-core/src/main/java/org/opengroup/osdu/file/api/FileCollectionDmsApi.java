@@ -37,6 +37,8 @@ import org.opengroup.osdu.core.common.dms.model.RetrievalInstructionsResponse;
 import org.opengroup.osdu.core.common.dms.model.StorageInstructionsResponse;
 import org.opengroup.osdu.core.common.model.http.AppError;
 import org.opengroup.osdu.core.common.model.storage.StorageRole;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
+import org.opengroup.osdu.file.service.copyjob.ICopyJobDmsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
@@ -62,6 +64,10 @@ public class FileCollectionDmsApi {
   @Qualifier("FileCollectionDmsService")
   IDmsService fileCollectionDmsService;
 
+  @Autowired
+  @Qualifier("FileCollectionDmsService")
+  ICopyJobDmsService fileCollectionDmsCopyJobs;
+
   @Operation(summary = "${fileCollectionDmsApi.getStorageInstructions.summary}", description = "${fileCollectionDmsApi.getStorageInstructions.description}",
       security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-collection-dms-api" })
   @ApiResponses(value = {
@@ -121,4 +127,42 @@ public class FileCollectionDmsApi {
     List<CopyDmsResponse> copyOpResponse = fileCollectionDmsService.copyDatasetsToPersistentLocation(copyDmsRequest.getDatasetSources());
     return new ResponseEntity<>(copyOpResponse, HttpStatus.OK);
   }
+
+  @Operation(summary = "${fileCollectionDmsApi.copyDmsAsync.summary}", description = "${fileCollectionDmsApi.copyDmsAsync.description}",
+      security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-collection-dms-api" })
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Accepted", content = { @Content(schema = @Schema(implementation = CopyJobResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class))})
+  })
+  @PostMapping(value = "/copy", params = "async=true")
+  @PreAuthorize("@authorizationFilter.hasPermission('" + StorageRole.CREATOR + "', '" + StorageRole.ADMIN + "')")
+  public ResponseEntity<CopyJobResponse> copyDmsAsync(@RequestBody CopyDmsRequest copyDmsRequest) {
+    CopyJobResponse copyJobResponse = fileCollectionDmsCopyJobs.submitCopyJob(copyDmsRequest.getDatasetSources());
+    return new ResponseEntity<>(copyJobResponse, HttpStatus.ACCEPTED);
+  }
+
+  @Operation(summary = "${fileCollectionDmsApi.getCopyJob.summary}", description = "${fileCollectionDmsApi.getCopyJob.description}",
+      security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-collection-dms-api" })
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "OK", content = { @Content(schema = @Schema(implementation = CopyJobResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class))})
+  })
+  @GetMapping("/copy/jobs/{jobId}")
+  @PreAuthorize("@authorizationFilter.hasPermission('" + StorageRole.CREATOR + "', '" + StorageRole.ADMIN + "')")
+  public ResponseEntity<CopyJobResponse> getCopyJob(@PathVariable("jobId") String jobId) {
+    CopyJobResponse copyJobResponse = fileCollectionDmsCopyJobs.getCopyJob(jobId);
+    return new ResponseEntity<>(copyJobResponse, HttpStatus.OK);
+  }
 }
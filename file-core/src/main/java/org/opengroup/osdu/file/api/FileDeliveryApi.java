@@ -8,10 +8,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.opengroup.osdu.core.common.model.http.AppError;
 import org.opengroup.osdu.file.constant.FileServiceRole;
 import org.opengroup.osdu.file.model.DownloadUrlResponse;
+import org.opengroup.osdu.file.model.DownloadUrlsRequest;
+import org.opengroup.osdu.file.model.DownloadUrlsResponse;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.service.FileDeliveryService;
 import org.opengroup.osdu.file.service.storage.StorageException;
@@ -21,6 +24,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.annotation.RequestScope;
@@ -61,4 +66,25 @@ public class FileDeliveryApi {
       return new ResponseEntity<>(signedUrl, HttpStatus.OK);
   }
 
+  @Operation(summary = "${fileDeliveryApi.downloadURLs.summary}", description = "${fileDeliveryApi.downloadURLs.description}",
+      security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-delivery-api" })
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Request processed, see the result of each id", content = { @Content(schema = @Schema(implementation = DownloadUrlsResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad user input. Mandatory fields missing or unacceptable value passed to API",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class))})
+  })
+  @PreAuthorize("@authorizationFilter.hasPermission('" + FileServiceRole.VIEWERS + "')")
+  @PostMapping("/v2/files/downloadURLs")
+  public ResponseEntity<DownloadUrlsResponse> downloadURLs(@Valid @RequestBody DownloadUrlsRequest request)
+      throws StorageException {
+
+      DownloadUrlsResponse signedUrls = fileDeliveryService.getSignedUrlsByRecordIds(request.getIds(),
+          request.getExpiryTime());
+      return new ResponseEntity<>(signedUrls, HttpStatus.OK);
+  }
+
 }
@@ -39,6 +39,8 @@ import org.opengroup.osdu.core.common.model.http.AppError;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.storage.StorageRole;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
+import org.opengroup.osdu.file.service.copyjob.ICopyJobDmsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
@@ -66,6 +68,10 @@ public class FileDmsApi {
   @Qualifier("FileDmsService")
   private IDmsService fileDmsService;
 
+  @Autowired
+  @Qualifier("FileDmsService")
+  private ICopyJobDmsService fileDmsCopyJobs;
+
   @Operation(summary = "${fileDmsApi.getStorageInstructions.summary}", description = "${fileDmsApi.getStorageInstructions.description}",
       security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-dms-api" })
   @ApiResponses(value = {
@@ -125,4 +131,42 @@ public class FileDmsApi {
     List<CopyDmsResponse> copyOpResponse = fileDmsService.copyDatasetsToPersistentLocation(copyDmsRequest.getDatasetSources());
     return new ResponseEntity<>(copyOpResponse, HttpStatus.OK);
   }
+
+  @Operation(summary = "${fileDmsApi.copyDmsAsync.summary}", description = "${fileDmsApi.copyDmsAsync.description}",
+      security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-dms-api" })
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "Accepted", content = { @Content(schema = @Schema(implementation = CopyJobResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class))})
+  })
+  @PostMapping(value = "/copy", params = "async=true")
+  @PreAuthorize("@authorizationFilter.hasPermission('" + StorageRole.CREATOR + "', '" + StorageRole.ADMIN + "')")
+  public ResponseEntity<CopyJobResponse> copyDmsAsync(@RequestBody CopyDmsRequest copyDmsRequest) {
+    CopyJobResponse copyJobResponse = fileDmsCopyJobs.submitCopyJob(copyDmsRequest.getDatasetSources());
+    return new ResponseEntity<>(copyJobResponse, HttpStatus.ACCEPTED);
+  }
+
+  @Operation(summary = "${fileDmsApi.getCopyJob.summary}", description = "${fileDmsApi.getCopyJob.description}",
+      security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-dms-api" })
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "OK", content = { @Content(schema = @Schema(implementation = CopyJobResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad Request",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "403", description = "User not authorized to perform the action",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "404", description = "Not Found",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+      @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class))})
+  })
+  @GetMapping("/copy/jobs/{jobId}")
+  @PreAuthorize("@authorizationFilter.hasPermission('" + StorageRole.CREATOR + "', '" + StorageRole.ADMIN + "')")
+  public ResponseEntity<CopyJobResponse> getCopyJob(@PathVariable("jobId") String jobId) {
+    CopyJobResponse copyJobResponse = fileDmsCopyJobs.getCopyJob(jobId);
+    return new ResponseEntity<>(copyJobResponse, HttpStatus.OK);
+  }
 }
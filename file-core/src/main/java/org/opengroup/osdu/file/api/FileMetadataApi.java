@@ -15,6 +15,8 @@ import org.opengroup.osdu.file.exception.ApplicationException;
 import org.opengroup.osdu.file.exception.NotFoundException;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.model.filemetadata.FileMetadata;
+import org.opengroup.osdu.file.model.filemetadata.FileMetadataBatchRequest;
+import org.opengroup.osdu.file.model.filemetadata.FileMetadataBatchResponse;
 import org.opengroup.osdu.file.model.filemetadata.FileMetadataResponse;
 import org.opengroup.osdu.file.model.filemetadata.RecordVersion;
 import org.opengroup.osdu.file.service.FileMetadataService;
@@ -61,6 +63,26 @@ public class FileMetadataApi {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "${fileMetadataApi.postFilesMetadataBatch.summary}", description = "${fileMetadataApi.postFilesMetadataBatch.description}",
+        security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-metadata-api" })
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see the result of each item", content = { @Content(schema = @Schema(implementation = FileMetadataBatchResponse.class))}),
+        @ApiResponse(responseCode = "400", description = "Bad user input. Mandatory fields missing or unacceptable value passed to API",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+        @ApiResponse(responseCode = "401", description = "Unauthorized",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+        @ApiResponse(responseCode = "403", description = "User not authorized to perform the action",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+        @ApiResponse(responseCode = "502", description = "Bad Gateway",  content = {@Content(schema = @Schema(implementation = AppError.class))}),
+        @ApiResponse(responseCode = "503", description = "Service Unavailable",  content = {@Content(schema = @Schema(implementation = AppError.class))})
+    })
+    @PostMapping("/metadata:batch")
+    @PreAuthorize("@authorizationFilter.hasPermission('" + FileServiceRole.EDITORS + "')")
+    public ResponseEntity<FileMetadataBatchResponse> postFilesMetadataBatch(
+            @Validated(FileMetadataValidationSequence.class) @RequestBody FileMetadataBatchRequest request)
+            throws OsduBadRequestException {
+        FileMetadataBatchResponse response = fileMetadataService.saveMetadataBatch(request.getItems());
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "${fileMetadataApi.getFileMetadataById.summary}", description = "${fileMetadataApi.getFileMetadataById.description}",
         security = {@SecurityRequirement(name = "Authorization")}, tags = { "file-metadata-api" })
     @ApiResponses(value = {
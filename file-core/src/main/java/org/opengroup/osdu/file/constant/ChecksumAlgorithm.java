@@ -1,8 +1,13 @@
 package org.opengroup.osdu.file.constant;
 
+/**
+ * Built-in checksum algorithms. Checksums are keyed by the algorithm name, so that
+ * {@code IChecksumDigestFactory} beans can add algorithms that are not listed here.
+ */
 public enum ChecksumAlgorithm {
   NONE,
   MD5,
   SHA1,
-  SHA256;
+  SHA256,
+  CRC32C;
 }
@@ -16,7 +16,13 @@ public class FileMetadataConstant {
 	public static final String FILE_KIND_SOURCE = "wks";
 	public static final String KIND_SEPRATOR = ":";
 	public static final String FILE_SOURCE = "FileSource";
+	public static final String FILE_NAME = "Name";
 	public static final String DATASET_PROPERTIES = "DatasetProperties";
+	public static final String FILE_SOURCE_INFO = "FileSourceInfo";
+	public static final String CHECKSUM = "Checksum";
+	public static final String CHECKSUM_ALGORITHM = "ChecksumAlgorithm";
+	public static final String EXTENSION_PROPERTIES = "ExtensionProperties";
+	public static final String CHECKSUMS = "Checksums";
 	public static final String FILE_SOURCE_PATH= "data.DatasetProperties.FileSourceInfo.FileSource";
 	public static final String FILE_NAME_PATH= "data.DatasetProperties.FileSourceInfo.Name";
 	public static final String METADATA_DELETE_STARTED = "Deleting metadata in store";
@@ -16,10 +16,16 @@
 
 package org.opengroup.osdu.file.di;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
+import org.opengroup.osdu.file.model.property.StorageHttpClientProperties;
+import org.opengroup.osdu.file.model.property.StorageRecordCacheProperties;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.StorageAPIConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.stereotype.Component;
@@ -36,14 +42,41 @@ public class DatalakeStorageClientFactory extends AbstractFactoryBean<DataLakeSt
 
     private final HttpResponseBodyMapper bodyMapper;
 
+    private final StorageHttpClientProperties httpClientProperties;
+
+    private final StorageRecordCacheProperties recordCacheProperties;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @Override
     protected DataLakeStorageFactory createInstance() throws Exception {
 
-        return new DataLakeStorageFactory(
+        DataLakeStorageFactory factory = new DataLakeStorageFactory(
             StorageAPIConfig.builder()
                 .storageServiceBaseUrl(this.api)
                 .apiKey(this.apiKey).build(),
-                bodyMapper);
+                bodyMapper,
+                httpClientProperties,
+                recordCacheProperties);
+        meterRegistry.ifAvailable(registry -> bindMetrics(factory, registry));
+        return factory;
+    }
+
+    @Override
+    protected void destroyInstance(DataLakeStorageFactory instance) throws Exception {
+        instance.close();
+    }
+
+    private void bindMetrics(DataLakeStorageFactory factory, MeterRegistry registry) {
+        Gauge.builder("file.storage.http.pool.leased", factory, f -> f.getPoolStats().getLeased())
+            .description("Storage connections currently in use").register(registry);
+        Gauge.builder("file.storage.http.pool.pending", factory, f -> f.getPoolStats().getPending())
+            .description("Requests waiting for a Storage connection").register(registry);
+        Gauge.builder("file.storage.http.pool.idle", factory, f -> f.getPoolStats().getAvailable())
+            .description("Idle Storage connections kept alive in the pool").register(registry);
+        Gauge.builder("file.storage.http.pool.max", factory, f -> f.getPoolStats().getMax())
+            .description("Maximum Storage connections in the pool").register(registry);
+        GuavaCacheMetrics.monitor(registry, factory.getRecordCache().getCache(), "file.storage.records");
     }
 
     @Override
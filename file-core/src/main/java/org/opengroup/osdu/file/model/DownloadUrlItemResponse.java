@@ -0,0 +1,34 @@
+package org.opengroup.osdu.file.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Download URL of one id of a bulk download URL request.")
+public class DownloadUrlItemResponse {
+
+    @Schema(description = "File metadata record id.")
+    private String id;
+
+    @Schema(description = "Signed URL, absent if the id failed.")
+    private String signedUrl;
+
+    @Schema(description = "True if a signed URL was created for the id.")
+    private boolean success;
+
+    @Schema(description = "HTTP status code describing the failure of the id.")
+    private Integer errorCode;
+
+    @Schema(description = "Reason of the failure of the id.")
+    private String errorMessage;
+}
@@ -0,0 +1,27 @@
+package org.opengroup.osdu.file.model;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Schema(description = "File metadata record ids to get download URLs for.")
+public class DownloadUrlsRequest {
+
+    @Schema(description = "File metadata record ids. Each id is resolved independently.")
+    @NotEmpty(message = "ids cannot be empty")
+    private List<String> ids;
+
+    @Schema(description = "The Time for which Signed URLs are valid. Accepted Regex patterns are \"^[0-9]+M$\", \"^[0-9]+H$\", \"^[0-9]+D$\" denoting Integer values in Minutes, Hours, Days respectively. In absence of this parameter the URLs would be valid for 1 Hour.",
+        example = "5M")
+    private String expiryTime;
+}
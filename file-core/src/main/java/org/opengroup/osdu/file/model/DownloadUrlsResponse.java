@@ -0,0 +1,22 @@
+package org.opengroup.osdu.file.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per id result of a bulk download URL request, in request order.")
+public class DownloadUrlsResponse {
+
+    @Schema(description = "Result of each id of the request, in the same order.")
+    private List<DownloadUrlItemResponse> items;
+}
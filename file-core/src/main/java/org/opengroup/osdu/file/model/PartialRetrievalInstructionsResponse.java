@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.opengroup.osdu.core.common.dms.model.RetrievalInstructionsResponse;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retrieval instructions for the datasets that could be resolved, together with the requested
+ * dataset registry ids Storage did not return (not found, not accessible or to be retried).
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class PartialRetrievalInstructionsResponse extends RetrievalInstructionsResponse {
+
+  private List<String> unresolvedDatasetRegistryIds;
+
+  public PartialRetrievalInstructionsResponse(RetrievalInstructionsResponse instructions,
+                                              List<String> unresolvedDatasetRegistryIds) {
+    BeanUtils.copyProperties(instructions, this);
+    this.unresolvedDatasetRegistryIds = unresolvedDatasetRegistryIds;
+  }
+
+  /**
+   * @return {@code instructions} unchanged when every dataset was resolved, otherwise a copy that
+   * also lists the unresolved ids, after those already listed by {@code instructions}.
+   */
+  public static RetrievalInstructionsResponse of(RetrievalInstructionsResponse instructions,
+                                                 List<String> unresolvedDatasetRegistryIds) {
+    if (instructions == null || unresolvedDatasetRegistryIds == null || unresolvedDatasetRegistryIds.isEmpty()) {
+      return instructions;
+    }
+    List<String> unresolvedIds = new ArrayList<>();
+    if (instructions instanceof PartialRetrievalInstructionsResponse
+        && ((PartialRetrievalInstructionsResponse) instructions).getUnresolvedDatasetRegistryIds() != null) {
+      unresolvedIds.addAll(((PartialRetrievalInstructionsResponse) instructions).getUnresolvedDatasetRegistryIds());
+    }
+    unresolvedIds.addAll(unresolvedDatasetRegistryIds);
+    return new PartialRetrievalInstructionsResponse(instructions, unresolvedIds);
+  }
+}
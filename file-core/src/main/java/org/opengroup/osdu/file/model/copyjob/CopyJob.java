@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.copyjob;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copy of datasets from the staging to the persistent location running in the background. The
+ * state of every item is checkpointed to the copy job store as the job progresses, so a job that
+ * is submitted again resumes with the items that were not copied yet. The instance running a job
+ * holds a lease on it, which it renews while the job runs; another instance takes the job over
+ * only once the lease has expired.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CopyJob {
+
+  public enum Type {
+    FILE,
+    FILE_COLLECTION
+  }
+
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  private String jobId;
+  private Type type;
+  private String partitionId;
+  private Status status;
+  private String error;
+  private long createdAt;
+  private long updatedAt;
+
+  /**
+   * Instance holding the lease on the job.
+   */
+  private String owner;
+
+  /**
+   * Time until which {@link #owner} holds the job, 0 once the job is released.
+   */
+  private long leaseExpiresAt;
+
+  /**
+   * Incremented by every update of the job, see {@code ICopyJobStore#update}.
+   */
+  private long version;
+
+  @Builder.Default
+  private List<CopyJobItem> items = new ArrayList<>();
+
+  @JsonIgnore
+  public boolean isLeased(long now) {
+    return leaseExpiresAt > now;
+  }
+
+  @JsonIgnore
+  public boolean isFinished() {
+    return status == Status.COMPLETED || status == Status.FAILED;
+  }
+
+  public long countItems(CopyJobItem.Status itemStatus) {
+    return items.stream().filter(item -> item.getStatus() == itemStatus).count();
+  }
+}
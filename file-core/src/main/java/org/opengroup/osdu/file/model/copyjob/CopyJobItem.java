@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.copyjob;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CopyJobItem {
+
+  public enum Status {
+    PENDING,
+    COMPLETED,
+    FAILED
+  }
+
+  private String sourcePath;
+  private String destinationPath;
+  private String datasetBlobStoragePath;
+
+  @Builder.Default
+  private Status status = Status.PENDING;
+
+  /**
+   * Cursor of the next page of objects to copy of a file collection that is partly copied, null
+   * before its first page is copied and once it is copied.
+   */
+  private String cursor;
+
+  /**
+   * Number of objects of a file collection copied so far.
+   */
+  private long copiedObjects;
+}
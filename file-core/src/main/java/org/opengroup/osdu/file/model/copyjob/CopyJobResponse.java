@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.copyjob;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.opengroup.osdu.core.common.dms.model.CopyDmsResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Progress of a copy job. The results, in the order of the datasets of the copy request, are
+ * only set once the job has finished.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CopyJobResponse {
+
+  private String jobId;
+  private CopyJob.Status status;
+  private String error;
+  private long totalItems;
+  private long completedItems;
+  private long failedItems;
+  private List<CopyDmsResponse> results;
+
+  public static CopyJobResponse of(CopyJob job) {
+    CopyJobResponse response = CopyJobResponse.builder()
+        .jobId(job.getJobId())
+        .status(job.getStatus())
+        .error(job.getError())
+        .totalItems(job.getItems().size())
+        .completedItems(job.countItems(CopyJobItem.Status.COMPLETED))
+        .failedItems(job.countItems(CopyJobItem.Status.FAILED))
+        .build();
+    if (job.isFinished()) {
+      response.setResults(job.getItems().stream()
+          .map(item -> CopyDmsResponse.builder()
+              .success(item.getStatus() == CopyJobItem.Status.COMPLETED)
+              .datasetBlobStoragePath(item.getDatasetBlobStoragePath())
+              .build())
+          .collect(Collectors.toList()));
+    }
+    return response;
+  }
+}
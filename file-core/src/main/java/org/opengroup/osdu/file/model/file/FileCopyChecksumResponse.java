@@ -0,0 +1,16 @@
+package org.opengroup.osdu.file.model.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileCopyChecksumResponse {
+  private String destinationPath;
+  private String checksum;
+  private String checksumAlgorithm;
+}
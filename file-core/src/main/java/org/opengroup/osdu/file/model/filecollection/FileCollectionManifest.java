@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.filecollection;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Files of a persistent file collection, written inside the collection when it is copied so that
+ * the collection can be described with a single read instead of a listing.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileCollectionManifest {
+
+  public static final int VERSION = 1;
+
+  private int version;
+  private long fileCount;
+  private long totalSize;
+  private List<Entry> files;
+
+  public static FileCollectionManifest of(List<Entry> files) {
+    return FileCollectionManifest.builder()
+        .version(VERSION)
+        .fileCount(files.size())
+        .totalSize(files.stream().mapToLong(Entry::getSize).sum())
+        .files(files)
+        .build();
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Entry {
+
+    /**
+     * Path relative to the directory of the file collection.
+     */
+    private String path;
+    private long size;
+
+    /**
+     * Hex encoded checksum of the content, null if the store does not keep one.
+     */
+    private String checksum;
+
+    /**
+     * Algorithm of {@link #checksum}, null if there is no checksum.
+     */
+    private String checksumAlgorithm;
+
+    /**
+     * ETag of the persistent object, null if the store does not list one.
+     */
+    private String etag;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.filecollection;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Object of a file collection as listed by the object store.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredObjectSummary {
+
+  /**
+   * Key relative to the directory of the file collection.
+   */
+  private String relativeKey;
+  private long size;
+
+  /**
+   * ETag or content checksum of the object, null if the store does not list one.
+   */
+  private String checksum;
+
+  /**
+   * Last modification time in milliseconds since the epoch, null if the store does not list one.
+   */
+  private Long lastModified;
+}
@@ -0,0 +1,37 @@
+package org.opengroup.osdu.file.model.filemetadata;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of registering one item of a batch file metadata request.")
+public class FileMetadataBatchItemResponse {
+
+    @Schema(description = "Position of the item in the request.")
+    private int index;
+
+    @Schema(description = "Unique identifier generated by the system for the file metadata record.")
+    private String id;
+
+    @Schema(description = "Identifier of the created record version.")
+    private String version;
+
+    @Schema(description = "True if the file was copied to the persistent location and its record was created.")
+    private boolean success;
+
+    @Schema(description = "HTTP status code describing the failure of the item.")
+    private Integer errorCode;
+
+    @Schema(description = "Reason of the failure of the item.")
+    private String errorMessage;
+}
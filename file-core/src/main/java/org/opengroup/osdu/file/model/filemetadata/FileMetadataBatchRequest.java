@@ -0,0 +1,25 @@
+package org.opengroup.osdu.file.model.filemetadata;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Schema(description = "Batch of file metadata records to register.")
+public class FileMetadataBatchRequest {
+
+    @Schema(description = "File metadata records. Each item is registered independently.")
+    @Valid
+    @NotEmpty(message = "items cannot be empty")
+    private List<FileMetadata> items;
+}
@@ -0,0 +1,22 @@
+package org.opengroup.osdu.file.model.filemetadata;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per item result of a batch file metadata registration, in request order.")
+public class FileMetadataBatchResponse {
+
+    @Schema(description = "Result of each item of the request, in the same order.")
+    private List<FileMetadataBatchItemResponse> items;
+}
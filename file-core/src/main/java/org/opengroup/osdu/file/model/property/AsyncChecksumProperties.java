@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Background checksum computation: when enabled, file metadata is stored without waiting for the
+ * checksum, which is added to the record in a new version once computed.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.checksum.async")
+@Validated
+@Component
+public class AsyncChecksumProperties {
+
+  boolean enabled = false;
+
+  @Min(1)
+  int poolSize = 4;
+
+  @Min(0)
+  int queueCapacity = 100;
+
+  @Min(1)
+  long keepAliveSeconds = 60;
+
+  /**
+   * Attempts to store the checksums when the record changes between reading and writing it.
+   */
+  @Min(1)
+  int maxWriteAttempts = 3;
+}
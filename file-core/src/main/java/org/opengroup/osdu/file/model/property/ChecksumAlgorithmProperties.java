@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Names of the checksum algorithms recorded for registered files, see {@code ChecksumDigests}. The first algorithm is stored in
+ * {@code FileSourceInfo.Checksum}, the others in {@code ExtensionProperties.Checksums}. An empty
+ * list keeps the default algorithm of the provider.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.checksum.algorithms")
+@Validated
+@Component
+public class ChecksumAlgorithmProperties {
+
+  List<String> defaults = new ArrayList<>();
+
+  /**
+   * Algorithms by data partition id, for partitions that do not use {@link #defaults}.
+   */
+  Map<String, List<String>> partitions = new HashMap<>();
+
+  public List<String> getAlgorithmsFor(String partitionId) {
+    return partitions.getOrDefault(partitionId, defaults);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Background copy jobs, submitted with {@code POST /copy?async=true}.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.copy.jobs")
+@Validated
+@Component
+public class CopyJobProperties {
+
+  @Min(1)
+  int poolSize = 2;
+
+  @Min(0)
+  int queueCapacity = 50;
+
+  @Min(1)
+  long keepAliveSeconds = 60;
+
+  /**
+   * Number of items of a job copied at the same time. The job is checkpointed as each item is
+   * copied.
+   */
+  @Min(1)
+  int concurrency = 8;
+
+  /**
+   * Time during which submitting a completed copy again returns the completed job. Once it has
+   * passed, the items are copied again, e.g. after new files were uploaded to the same staging
+   * locations.
+   */
+  @Min(0)
+  long completedJobTtlSeconds = 600;
+
+  /**
+   * Lease of an instance on the jobs it runs, renewed every third of the lease while they run.
+   * Once the lease of a job has expired, e.g. because its instance stopped, submitting the job
+   * again resumes it on the instance receiving the request.
+   */
+  @Min(3)
+  long leaseSeconds = 60;
+
+  /**
+   * Directory of the jobs when no {@code ICopyJobStore} bean is configured. A local directory is
+   * only shared by the instances that mount the same volume: a job stored by one instance is
+   * unknown to the others, which copy it again from the start.
+   */
+  String storeDirectory = System.getProperty("java.io.tmpdir") + "/file-copy-jobs";
+}
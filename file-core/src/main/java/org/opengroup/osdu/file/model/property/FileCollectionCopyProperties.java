@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Copy of file collections to their persistent location. Incremental copies compare the listings
+ * of the staging and persistent directories and only copy new and changed objects; providers that
+ * move collections instead of copying them ignore these settings.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.collection.copy")
+@Validated
+@Component
+public class FileCollectionCopyProperties {
+
+  boolean incremental = false;
+
+  /**
+   * With incremental copies, also delete the persistent objects that are no longer in the staging
+   * directory.
+   */
+  boolean deleteRemoved = false;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Manifests of file collections, see
+ * {@link org.opengroup.osdu.file.model.filecollection.FileCollectionManifest}. When enabled,
+ * providers that support them write the manifest of a collection once it is copied to its persistent
+ * location and read it instead of listing the collection; collections without a manifest are listed.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.collection.manifest")
+@Validated
+@Component
+public class FileCollectionManifestProperties {
+
+  boolean enabled = false;
+}
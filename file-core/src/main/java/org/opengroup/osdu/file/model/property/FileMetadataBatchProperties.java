@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Limits of the batch file metadata registration.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.metadata.batch")
+@Validated
+@Component
+public class FileMetadataBatchProperties {
+
+  @Min(1)
+  int maxItems = 1000;
+
+  /**
+   * Number of staging to persistent copies and checksums running at the same time for one request.
+   */
+  @Min(1)
+  int concurrency = 16;
+
+  /**
+   * Number of records sent to Storage in one upsert call. Storage accepts at most 500.
+   */
+  @Min(1)
+  @Max(500)
+  int storageChunkSize = 500;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Tuning of checksum computation with parallel ranged reads. At most {@code concurrency} parts of
+ * {@code partSizeBytes} are held in memory per checksum.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.checksum.ranged")
+@Validated
+@Component
+public class RangedChecksumProperties {
+
+  boolean enabled = true;
+
+  @Min(1)
+  int partSizeBytes = 8 * 1024 * 1024;
+
+  @Min(1)
+  int concurrency = 8;
+
+  /**
+   * Bytes of ranged reads held in memory by all checksum calculations of the instance at the same
+   * time; windows of parts wait for buffer space beyond this.
+   */
+  @Min(1)
+  int maxBufferedBytes = 256 * 1024 * 1024;
+
+  /**
+   * Objects smaller than this are read with a single sequential stream.
+   */
+  @Min(0)
+  long minObjectSizeBytes = 32L * 1024 * 1024;
+
+  /**
+   * Buffer used when an object is read with a single sequential stream.
+   */
+  @Min(1)
+  int streamBufferBytes = 64 * 1024;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the optional cache of signed download URLs.
+ */
+@Data
+@ConfigurationProperties(prefix = "file.signed-url-cache")
+@Validated
+@Component
+public class SignedUrlCacheProperties {
+
+  boolean enabled = false;
+
+  @Min(1)
+  long maxSize = 10000;
+
+  /**
+   * Fraction of the validity of a signed URL during which it is handed out again, so that a cached URL
+   * is always valid for at least the rest of its validity.
+   */
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  double reuseFraction = 0.5;
+
+  /**
+   * Upper bound of the time a signed URL is handed out again, whatever its validity.
+   */
+  @Min(1)
+  long maxReuseSeconds = 3600;
+}
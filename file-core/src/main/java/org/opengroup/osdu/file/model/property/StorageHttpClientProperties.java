@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Connection pool settings of the shared HTTP transport used to call the Storage service.
+ */
+@Data
+@ConfigurationProperties(prefix = "storage.http-client")
+@Validated
+@Component
+public class StorageHttpClientProperties {
+
+  @Min(1)
+  int maxConnectionsTotal = 200;
+
+  @Min(1)
+  int maxConnectionsPerRoute = 100;
+
+  @Min(1)
+  long connectTimeoutMillis = 5000;
+
+  @Min(1)
+  long socketTimeoutMillis = 60000;
+
+  @Min(1)
+  long connectionRequestTimeoutMillis = 10000;
+
+  @Min(1)
+  long idleEvictionSeconds = 30;
+
+  @Min(1)
+  long connectionTimeToLiveSeconds = 300;
+
+  @Min(1)
+  long validateAfterInactivityMillis = 2000;
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.model.property;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Settings of the optional read-through cache in front of Storage record reads.
+ */
+@Data
+@ConfigurationProperties(prefix = "storage.record-cache")
+@Validated
+@Component
+public class StorageRecordCacheProperties {
+
+  boolean enabled = false;
+
+  @Min(1)
+  long maxSize = 10000;
+
+  @Min(1)
+  long ttlSeconds = 30;
+
+  /**
+   * Partitions for which the cache is bypassed even when it is enabled.
+   */
+  Set<String> disabledPartitions = new HashSet<>();
+}
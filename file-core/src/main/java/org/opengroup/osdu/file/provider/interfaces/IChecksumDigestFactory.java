@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.interfaces;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Creates digests of a checksum algorithm. Beans implementing this interface add algorithms, e.g.
+ * XXH64, or take precedence over the built-in implementations of
+ * {@link org.opengroup.osdu.file.constant.ChecksumAlgorithm}, e.g. to use a faster native
+ * implementation.
+ */
+public interface IChecksumDigestFactory {
+
+  /**
+   * @return name of the algorithm of the digests created by this factory, as configured in
+   * {@code file.checksum.algorithms} and stored with the checksums
+   */
+  String getAlgorithm();
+
+  /**
+   * @return new digest; digests are used by a single thread and are not reused once digested
+   */
+  MessageDigest newDigest() throws NoSuchAlgorithmException;
+}
@@ -17,9 +17,11 @@
 package org.opengroup.osdu.file.provider.interfaces;
 
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.model.file.FileCopyChecksumResponse;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.DirectoryCopyPage;
 
 import java.util.List;
 
@@ -36,6 +38,23 @@ public interface ICloudStorageOperation {
     return null;
   }
 
+  /**
+   * Copy file from a source location in cloud storage to destination location and return the checksum
+   * of the copied content, obtained without reading the copy back, e.g. from a checksum the object
+   * store keeps or returns for the copy, or from a digest computed while streaming the content.
+   * Providers that cannot do better than a copy followed by a full read keep this default.
+   * @param sourceFilePath path of the source file
+   * @param destinationFilePath path of destination file
+   * @return complete path of copied file with its checksum, the checksum is blank when it could not be
+   * obtained in the same pass; null if not supported, callers then use {@link #copyFile(String, String)}
+   * and compute the checksum separately
+   * @throws OsduBadRequestException if source or destination file path is invalid
+   */
+  default FileCopyChecksumResponse copyFileWithChecksum(String sourceFilePath, String destinationFilePath)
+      throws OsduBadRequestException {
+    return null;
+  }
+
   /**
    * Copies given list of files from the provided source location to the destination location.
    * @param fileCopyOperationList List of files to be copied
@@ -62,4 +81,17 @@ public interface ICloudStorageOperation {
   default List<DatasetCopyOperation> copyDirectories(List<FileCopyOperation> fileCopyOperationList) {
     return null;
   }
+
+  /**
+   * Copies the next page of the objects of a directory, so that an interrupted copy can resume after
+   * the last copied page instead of copying the whole directory again. Once the last page is copied,
+   * the directory is complete as after {@link #copyDirectories(List)}.
+   * @param fileCopyOperation directory to be copied
+   * @param cursor cursor returned with the previous page, null to start with the first page
+   * @return copied page with the cursor of the next page; null if not supported, callers then use
+   * {@link #copyDirectories(List)}
+   */
+  default DirectoryCopyPage copyDirectoryPage(FileCopyOperation fileCopyOperation, String cursor) {
+    return null;
+  }
 }
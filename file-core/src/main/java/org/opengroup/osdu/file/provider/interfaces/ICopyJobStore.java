@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.interfaces;
+
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+
+/**
+ * Keeps the state of copy jobs in a store shared by all instances, e.g. a database or a bucket, so
+ * that any instance can report and resume a job. Without a bean implementing this interface, jobs
+ * are kept in the local directory {@code file.copy.jobs.store-directory}.
+ *
+ * <p>The state of a job and the state of each of its items are stored separately: the job is
+ * updated with a compare-and-set on its version, which the instances use to take and renew the
+ * lease on the job, while items are updated one at a time as they are copied.
+ */
+public interface ICopyJobStore {
+
+  /**
+   * Stores a new job with its items, unless a job with the same id is already stored.
+   *
+   * @return false if the job is already stored
+   */
+  boolean create(CopyJob job);
+
+  /**
+   * @return last stored state of the job with the last stored state of each of its items, or null
+   * if the job is unknown
+   */
+  CopyJob get(String jobId);
+
+  /**
+   * Replaces the state of a job, leaving the state of its items as stored, if the stored version
+   * of the job is still {@code expectedVersion}. On success the job is stored, and its version
+   * set, to {@code expectedVersion + 1}.
+   *
+   * @return false if the job was updated by another instance since it was read
+   */
+  boolean update(CopyJob job, long expectedVersion);
+
+  /**
+   * Replaces the state of an item of a job, leaving the job and its other items as stored.
+   *
+   * @param index position of the item in {@link CopyJob#getItems()}
+   */
+  void updateItem(String jobId, int index, CopyJobItem item);
+}
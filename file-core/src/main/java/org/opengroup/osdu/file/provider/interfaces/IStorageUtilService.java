@@ -2,6 +2,10 @@ package org.opengroup.osdu.file.provider.interfaces;
 
 import org.opengroup.osdu.file.constant.ChecksumAlgorithm;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 public interface IStorageUtilService {
 
   /**
@@ -31,6 +35,29 @@ public interface IStorageUtilService {
    */
   default String getChecksum(final String filePath) { return null; }
 
+  /**
+   * Method is used to get the checksum of a file regardless of the size limit applied by
+   * {@link #getChecksum(String)}. Meant for background computation, outside of a request.
+   * @param filePath Path of file to get the metadata
+   * @return File checksum.
+   */
+  default String getChecksumWithoutSizeLimit(final String filePath) { return getChecksum(filePath); }
+
+  /**
+   * Method is used to get several checksums of a file, computed in a single pass over the file
+   * where the provider supports it. Providers supporting a single algorithm return the checksum
+   * of {@link #getChecksumAlgorithm()}.
+   * @param filePath Path of file to get the metadata
+   * @param algorithms Names of the requested algorithms, the default algorithm of the provider when empty
+   * @param sizeLimited Whether the size limit of {@link #getChecksum(String)} applies
+   * @return File checksums by algorithm name, empty if no checksum is available.
+   */
+  default Map<String, String> getChecksums(final String filePath, List<String> algorithms, boolean sizeLimited) {
+    String checksum = sizeLimited ? getChecksum(filePath) : getChecksumWithoutSizeLimit(filePath);
+    return checksum == null || checksum.isEmpty()
+        ? Collections.emptyMap() : Collections.singletonMap(getChecksumAlgorithm().name(), checksum);
+  }
+
   /**
    * Method is used to get the checksum algorithm.
    * @return File checksum algorithm.
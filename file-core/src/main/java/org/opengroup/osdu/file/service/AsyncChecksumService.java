@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.opengroup.osdu.file.constant.FileMetadataConstant;
+import org.opengroup.osdu.file.model.property.AsyncChecksumProperties;
+import org.opengroup.osdu.file.model.property.ChecksumAlgorithmProperties;
+import org.opengroup.osdu.file.model.storage.Record;
+import org.opengroup.osdu.file.model.storage.UpsertRecords;
+import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
+import org.opengroup.osdu.file.service.status.FileStatusPublisher;
+import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
+import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
+import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.util.DetachedRequestAttributes;
+import org.opengroup.osdu.file.util.FileChecksums;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes file checksums after the metadata record has been stored and adds them to the record
+ * in a new version, so that registering a file does not wait for the whole file to be read.
+ *
+ * <p>Checksums computed here are not subject to the size limit of the synchronous path. The work
+ * runs on a bounded pool with the headers of the request that registered the file; when the pool
+ * and its queue are full, the checksum is skipped and the record is left without one.
+ */
+@Service
+public class AsyncChecksumService implements DisposableBean {
+
+    private static final String METRIC_NAME = "file.checksum.executor";
+    private static final String REJECTED_METRIC_NAME = "file.checksum.rejected";
+
+    private final JaxRsDpsLog log;
+    private final DataLakeStorageFactory dataLakeStorageFactory;
+    private final IStorageUtilService storageUtilService;
+    private final DpsHeaders dpsHeaders;
+    private final FileStatusPublisher fileStatusPublisher;
+    private final AsyncChecksumProperties properties;
+    private final ChecksumAlgorithmProperties checksumAlgorithmProperties;
+    private final ObjectProvider<IServiceAccountJwtClient> serviceAccountJwtClient;
+    private final ThreadPoolExecutor executor;
+    private Counter rejected;
+
+    public AsyncChecksumService(JaxRsDpsLog log, DataLakeStorageFactory dataLakeStorageFactory,
+                                IStorageUtilService storageUtilService, DpsHeaders dpsHeaders,
+                                FileStatusPublisher fileStatusPublisher, AsyncChecksumProperties properties,
+                                ChecksumAlgorithmProperties checksumAlgorithmProperties,
+                                ObjectProvider<IServiceAccountJwtClient> serviceAccountJwtClient,
+                                ObjectProvider<MeterRegistry> meterRegistry) {
+        this.log = log;
+        this.dataLakeStorageFactory = dataLakeStorageFactory;
+        this.storageUtilService = storageUtilService;
+        this.dpsHeaders = dpsHeaders;
+        this.fileStatusPublisher = fileStatusPublisher;
+        this.properties = properties;
+        this.checksumAlgorithmProperties = checksumAlgorithmProperties;
+        this.serviceAccountJwtClient = serviceAccountJwtClient;
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+                properties.getKeepAliveSeconds(), TimeUnit.SECONDS, queue,
+                new ThreadFactoryBuilder().setNameFormat("file-checksum-%d").setDaemon(true).build());
+        this.executor.allowCoreThreadTimeOut(true);
+        meterRegistry.ifAvailable(registry -> {
+            new ExecutorServiceMetrics(this.executor, METRIC_NAME, Tags.empty()).bindTo(registry);
+            this.rejected = Counter.builder(REJECTED_METRIC_NAME)
+                    .description("Checksum calculations not queued because the worker pool was full")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * @return true if checksums should be left to {@link #schedule(String, String, List)} instead of
+     * being computed before the record is stored.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queues the checksum computation of a stored file. Must be called from the request that
+     * stored the record. When the worker pool is full the computation is not queued; a failed
+     * checksum status is published for the record so that it can be requested again.
+     *
+     * @param recordId           id of the stored file record
+     * @param persistentLocation location of the file to compute the checksum of
+     * @param algorithms         algorithms to compute, the checksums already in the record are kept;
+     *                           empty for the default checksum of the provider
+     */
+    public void schedule(String recordId, String persistentLocation, List<String> algorithms) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        DetachedRequestAttributes detachedAttributes = requestAttributes != null
+                ? DetachedRequestAttributes.copyOf(requestAttributes) : new DetachedRequestAttributes();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        try {
+            executor.execute(() -> {
+                RequestContextHolder.setRequestAttributes(detachedAttributes);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    updateChecksum(recordId, persistentLocation, algorithms);
+                } finally {
+                    detachedAttributes.completed();
+                    RequestContextHolder.resetRequestAttributes();
+                    MDC.clear();
+                }
+            });
+            log.debug("Scheduled checksum calculation: recordId=" + recordId
+                    + ", persistentLocation=" + persistentLocation);
+        } catch (RejectedExecutionException e) {
+            log.error("Checksum calculation rejected, worker pool is full: recordId=" + recordId
+                    + ", persistentLocation=" + persistentLocation);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            fileStatusPublisher.publishChecksumFailureStatus(recordId,
+                    "Checksum calculation rejected, worker pool is full", HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Computes the checksums of the file and stores them, merged with the checksums the record already
+     * has, in a new version of the record. The record is
+     * written with service credentials, as the caller's token may expire before the work runs, and with
+     * the version that was read, so that a concurrent update is not overwritten; on a version conflict
+     * the record is read again and the write retried.
+     */
+    void updateChecksum(String recordId, String persistentLocation, List<String> algorithms) {
+        try {
+            Map<String, String> checksums =
+                    storageUtilService.getChecksums(persistentLocation, algorithms, false);
+            if (FileChecksums.primary(algorithms, checksums) == null) {
+                log.info("Checksum is not available: recordId=" + recordId
+                        + ", persistentLocation=" + persistentLocation);
+                return;
+            }
+            List<String> preferred =
+                    checksumAlgorithmProperties.getAlgorithmsFor(dpsHeaders.getPartitionId());
+
+            DataLakeStorageService dataLakeStorage = dataLakeStorageFactory.create(getServiceHeaders());
+            for (int attempt = 1; ; attempt++) {
+                Record fileRecord = dataLakeStorage.getRecord(recordId);
+                String checksumAlgorithm = applyChecksums(recordId, fileRecord, preferred, checksums);
+                if (checksumAlgorithm == null) {
+                    return;
+                }
+                try {
+                    UpsertRecords upsertRecords = dataLakeStorage.upsertRecord(fileRecord);
+                    fileStatusPublisher.publishChecksumStatus(upsertRecords.getRecordIds().get(0),
+                            upsertRecords.getRecordIdVersions().get(0));
+                    log.info("Stored checksum: recordId=" + recordId + ", recordVersion="
+                            + upsertRecords.getRecordIdVersions().get(0) + ", checksumAlgorithm=" + checksumAlgorithm);
+                    return;
+                } catch (StorageException e) {
+                    if (!isVersionConflict(e) || attempt >= properties.getMaxWriteAttempts()) {
+                        throw e;
+                    }
+                    log.info("Record changed while storing checksum, retrying: recordId=" + recordId
+                            + ", recordVersion=" + fileRecord.getVersion() + ", attempt=" + attempt);
+                }
+            }
+        } catch (Exception e) {
+            log.warning("Checksum calculation failed: recordId=" + recordId
+                    + ", persistentLocation=" + persistentLocation, e);
+            fileStatusPublisher.publishChecksumFailureStatus(recordId, "Checksum calculation failed",
+                    HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    /**
+     * Sets the checksums in {@code fileRecord}, together with the checksums it already has, keeping the
+     * version that was read.
+     *
+     * @return algorithm of the checksum in {@code FileSourceInfo}, null if the record cannot hold the checksums
+     */
+    @SuppressWarnings("unchecked")
+    private String applyChecksums(String recordId, Record fileRecord, List<String> preferred,
+                                  Map<String, String> computed) {
+        if (fileRecord == null || fileRecord.getData() == null) {
+            log.warning("Checksum not stored, record not found: recordId=" + recordId);
+            return null;
+        }
+        Map<String, Object> datasetProperties =
+                (Map<String, Object>) fileRecord.getData().get(FileMetadataConstant.DATASET_PROPERTIES);
+        Map<String, Object> fileSourceInfo = datasetProperties != null
+                ? (Map<String, Object>) datasetProperties.get(FileMetadataConstant.FILE_SOURCE_INFO) : null;
+        if (fileSourceInfo == null) {
+            log.warning("Checksum not stored, record has no file source info: recordId=" + recordId);
+            return null;
+        }
+        Map<String, Object> extensionProperties =
+                (Map<String, Object>) fileRecord.getData().get(FileMetadataConstant.EXTENSION_PROPERTIES);
+        Map<String, String> checksums = getStoredChecksums(fileSourceInfo, extensionProperties);
+        checksums.putAll(computed);
+        String checksumAlgorithm = FileChecksums.primary(preferred, checksums);
+        fileSourceInfo.put(FileMetadataConstant.CHECKSUM, checksums.get(checksumAlgorithm));
+        fileSourceInfo.put(FileMetadataConstant.CHECKSUM_ALGORITHM, checksumAlgorithm);
+        Map<String, String> additional = FileChecksums.additional(checksumAlgorithm, checksums);
+        if (!additional.isEmpty()) {
+            extensionProperties = extensionProperties != null
+                    ? new LinkedHashMap<>(extensionProperties) : new LinkedHashMap<>();
+            extensionProperties.put(FileMetadataConstant.CHECKSUMS, additional);
+            fileRecord.getData().put(FileMetadataConstant.EXTENSION_PROPERTIES, extensionProperties);
+        }
+        return checksumAlgorithm;
+    }
+
+    /**
+     * @return checksums stored in the record by the metadata request or an earlier update
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> getStoredChecksums(Map<String, Object> fileSourceInfo,
+                                                          Map<String, Object> extensionProperties) {
+        Map<String, String> checksums = new LinkedHashMap<>();
+        putChecksum(checksums, fileSourceInfo.get(FileMetadataConstant.CHECKSUM_ALGORITHM),
+                fileSourceInfo.get(FileMetadataConstant.CHECKSUM));
+        Object additional = extensionProperties != null
+                ? extensionProperties.get(FileMetadataConstant.CHECKSUMS) : null;
+        if (additional instanceof Map) {
+            ((Map<Object, Object>) additional).forEach((algorithm, checksum) ->
+                    putChecksum(checksums, algorithm, checksum));
+        }
+        return checksums;
+    }
+
+    private static void putChecksum(Map<String, String> checksums, Object algorithm, Object checksum) {
+        if (algorithm == null || !(checksum instanceof String) || StringUtils.isBlank((String) checksum)) {
+            return;
+        }
+        checksums.put(algorithm.toString(), (String) checksum);
+    }
+
+    /**
+     * @return the headers of the request that scheduled the work, authorized with the service account
+     * of the partition when the provider supplies one
+     */
+    private DpsHeaders getServiceHeaders() {
+        DpsHeaders headers = DpsHeaders.createFromMap(dpsHeaders.getHeaders());
+        IServiceAccountJwtClient jwtClient = serviceAccountJwtClient.getIfAvailable();
+        if (jwtClient != null) {
+            headers.put(DpsHeaders.AUTHORIZATION, jwtClient.getIdToken(dpsHeaders.getPartitionId()));
+        }
+        return headers;
+    }
+
+    private static boolean isVersionConflict(StorageException e) {
+        return e.getHttpResponse() != null && e.getHttpResponse().getResponseCode() == HttpStatus.CONFLICT.value();
+    }
+}
@@ -31,16 +31,23 @@ import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.core.common.model.storage.Record;
 import org.opengroup.osdu.file.model.FileRetrievalData;
+import org.opengroup.osdu.file.model.PartialRetrievalInstructionsResponse;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.filecollection.DatasetProperties;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
 import org.opengroup.osdu.file.provider.interfaces.IFileCollectionStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IFileCollectionStorageUtilService;
+import org.opengroup.osdu.file.service.copyjob.CopyJobService;
+import org.opengroup.osdu.file.service.copyjob.ICopyJobDmsService;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.service.storage.StorageRecordReader;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -50,7 +57,7 @@ import java.util.UUID;
 @Service("FileCollectionDmsService")
 @Slf4j
 @RequiredArgsConstructor
-public class FileCollectionDmsServiceImpl implements IDmsService {
+public class FileCollectionDmsServiceImpl implements IDmsService, ICopyJobDmsService {
 
   final IFileCollectionStorageService storageService;
   final DpsHeaders headers;
@@ -69,12 +76,20 @@ public class FileCollectionDmsServiceImpl implements IDmsService {
     DataLakeStorageService dataLakeStorage = this.storageFactory.create(headers);
 
     try {
-      MultiRecordInfo batchRecordsResponse = dataLakeStorage.getRecords(retrievalInstructionsRequest.getDatasetRegistryIds());
+      MultiRecordInfo batchRecordsResponse = storageRecordReader.getRecords(dataLakeStorage,
+          retrievalInstructionsRequest.getDatasetRegistryIds());
       List<Record> datasetMetadataRecords = batchRecordsResponse.getRecords();
       List<FileRetrievalData> fileRetrievalData = buildUnsignedUrls(datasetMetadataRecords);
 
-      return this.storageService.createRetrievalInstructions(fileRetrievalData,
-          new SignedUrlParameters(expiryTime));
+      List<String> unresolvedIds = new ArrayList<>(batchRecordsResponse.getInvalidRecords());
+      unresolvedIds.addAll(batchRecordsResponse.getRetryRecords());
+      if (!unresolvedIds.isEmpty()) {
+        log.warn("Unable to resolve {} of {} datasets: {}", unresolvedIds.size(),
+            retrievalInstructionsRequest.getDatasetRegistryIds().size(), unresolvedIds);
+      }
+
+      return PartialRetrievalInstructionsResponse.of(this.storageService.createRetrievalInstructions(fileRetrievalData,
+          new SignedUrlParameters(expiryTime)), unresolvedIds);
     } catch (StorageException storageExc) {
       final int statusCode = storageExc.getHttpResponse() != null ?
           storageExc.getHttpResponse().getResponseCode() : 500;
@@ -86,6 +101,8 @@ public class FileCollectionDmsServiceImpl implements IDmsService {
   final DataLakeStorageFactory storageFactory;
   final ICloudStorageOperation cloudStorageOperation;
   final IFileCollectionStorageUtilService storageUtilService;
+  final StorageRecordReader storageRecordReader;
+  final CopyJobService copyJobService;
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -146,6 +163,25 @@ public class FileCollectionDmsServiceImpl implements IDmsService {
     return copyDmsResponseList;
   }
 
+  @Override
+  public CopyJobResponse submitCopyJob(List<Record> datasetSources) {
+    List<CopyJobItem> items = new ArrayList<>();
+    for (Record datasetSource: datasetSources) {
+      final String fileCollectionPath = this.getFileCollectionPath(datasetSource);
+      items.add(CopyJobItem.builder()
+          .sourcePath(storageUtilService.getStagingLocation(fileCollectionPath, headers.getPartitionId()))
+          .destinationPath(storageUtilService.getPersistentLocation(fileCollectionPath, headers.getPartitionId()))
+          .datasetBlobStoragePath(fileCollectionPath)
+          .build());
+    }
+    return copyJobService.submit(CopyJob.Type.FILE_COLLECTION, items);
+  }
+
+  @Override
+  public CopyJobResponse getCopyJob(String jobId) {
+    return copyJobService.getJob(CopyJob.Type.FILE_COLLECTION, jobId);
+  }
+
   private String generateDirectoryId() {
     return UUID.randomUUID().toString().replace("-", "");
   }
@@ -2,32 +2,40 @@ package org.opengroup.osdu.file.service;
 
 
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.file.constant.FileExtension;
 
 import org.opengroup.osdu.file.constant.ErrorMessages;
 import org.opengroup.osdu.file.constant.FileMetadataConstant;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.DownloadUrlItemResponse;
 import org.opengroup.osdu.file.model.DownloadUrlResponse;
+import org.opengroup.osdu.file.model.DownloadUrlsResponse;
 import org.opengroup.osdu.file.model.SignedUrl;
+import org.opengroup.osdu.file.model.property.FileDeliveryBatchProperties;
 import org.opengroup.osdu.file.model.storage.Record;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.service.storage.StorageRecordReader;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import io.restassured.path.json.JsonPath;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -40,6 +48,10 @@ public class FileDeliveryService {
   final DataLakeStorageFactory storageFactory;
   final IStorageUtilService storageUtilService;
   final ExpiryTimeUtil expiryTimeUtil;
+  final SignedUrlCache signedUrlCache;
+  final StorageRecordReader storageRecordReader;
+  final ParallelExecutor parallelExecutor;
+  final FileDeliveryBatchProperties batchProperties;
 
   public DownloadUrlResponse getSignedUrlsByRecordId(String id,
       SignedUrlParameters signedUrlParameters) throws StorageException {
@@ -47,7 +59,6 @@ public class FileDeliveryService {
     validateParameters(signedUrlParameters);
     DataLakeStorageService dataLakeStorage = this.storageFactory.create(headers);
     Record rec;
-    String contentType = null;
 
     try {
       rec = dataLakeStorage.getRecord(id);
@@ -61,9 +72,75 @@ public class FileDeliveryService {
     if (null == rec)
       throw new AppException(HttpStatus.SC_NOT_FOUND, "Not Found.", "File id not found.");
 
-    String fileSource = extractFileSource(rec);
+    SignedUrl signedUrl = signRecord(rec.getData(), signedUrlParameters);
+    return DownloadUrlResponse.builder().signedUrl(signedUrl.getUrl().toString()).build();
+  }
+
+  /**
+   * Signs the download URLs of several files. The records are read from Storage together and the URLs
+   * are signed concurrently; a failing id does not fail the other ids.
+   *
+   * @return result of each id, in request order
+   * @throws StorageException if Storage rejects the record query
+   */
+  public DownloadUrlsResponse getSignedUrlsByRecordIds(List<String> ids, String expiryTime)
+      throws StorageException {
+
+    validateParameters(new SignedUrlParameters(expiryTime));
+    if (ids.size() > batchProperties.getMaxItems()) {
+      throw new OsduBadRequestException(String.format("A request cannot contain more than %d ids",
+          batchProperties.getMaxItems()));
+    }
+
+    DataLakeStorageService dataLakeStorage = this.storageFactory.create(headers);
+    MultiRecordInfo records = storageRecordReader.getRecords(dataLakeStorage, ids);
+    Map<String, org.opengroup.osdu.core.common.model.storage.Record> recordsById = new HashMap<>();
+    for (org.opengroup.osdu.core.common.model.storage.Record fileRecord : records.getRecords()) {
+      recordsById.put(fileRecord.getId(), fileRecord);
+    }
+    Set<String> retryIds = new HashSet<>(records.getRetryRecords());
+
+    List<DownloadUrlItemResponse> items = parallelExecutor.map(ids, batchProperties.getConcurrency(),
+        id -> signItem(id, recordsById.get(id), retryIds.contains(id), expiryTime));
+    log.info("Signed download URLs: partition=" + headers.getPartitionId() + ", ids=" + ids.size()
+        + ", succeeded=" + items.stream().filter(DownloadUrlItemResponse::isSuccess).count());
+    return new DownloadUrlsResponse(items);
+  }
+
+  private DownloadUrlItemResponse signItem(String id, org.opengroup.osdu.core.common.model.storage.Record fileRecord,
+                                           boolean retry, String expiryTime) {
+    DownloadUrlItemResponse item = DownloadUrlItemResponse.builder().id(id).build();
+    if (fileRecord == null) {
+      item.setErrorCode(retry ? HttpStatus.SC_SERVICE_UNAVAILABLE : HttpStatus.SC_NOT_FOUND);
+      item.setErrorMessage(retry ? "File record could not be read, retry later." : "File id not found.");
+      return item;
+    }
+    try {
+      SignedUrl signedUrl = signRecord(fileRecord.getData(), new SignedUrlParameters(expiryTime));
+      item.setSignedUrl(signedUrl.getUrl().toString());
+      item.setSuccess(true);
+    } catch (AppException e) {
+      log.warning("Failed to sign download URL: id=" + id, e);
+      item.setErrorCode(e.getError().getCode());
+      item.setErrorMessage(e.getError().getMessage());
+    } catch (Exception e) {
+      log.warning("Failed to sign download URL: id=" + id, e);
+      item.setErrorCode(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+      item.setErrorMessage(e.getMessage());
+    }
+    return item;
+  }
+
+  /**
+   * @param recordData data of the file record, with the file source and name in
+   *                   {@code DatasetProperties.FileSourceInfo}
+   */
+  private SignedUrl signRecord(Map<String, Object> recordData, SignedUrlParameters signedUrlParameters) {
+    String contentType = null;
+    Map<?, ?> fileSourceInfo = getFileSourceInfo(recordData);
+    String fileSource = getString(fileSourceInfo, FileMetadataConstant.FILE_SOURCE);
 
-    String fileName = extractFileName(rec);
+    String fileName = getString(fileSourceInfo, FileMetadataConstant.FILE_NAME);
     if (StringUtils.isNoneEmpty(fileName)) {
       try{
         contentType = getContentTypeFromFileName(fileName);
@@ -77,10 +154,9 @@ public class FileDeliveryService {
 
     String absolutePath = storageUtilService.getPersistentLocation(fileSource,
                                                                    headers.getPartitionId());
-    SignedUrl signedUrl = storageService
+    return signedUrlCache.get(absolutePath, signedUrlParameters, () -> storageService
         .createSignedUrlFileLocation(absolutePath, headers.getAuthorization(),
-            signedUrlParameters);
-    return DownloadUrlResponse.builder().signedUrl(signedUrl.getUrl().toString()).build();
+            signedUrlParameters));
   }
 
   private void validateParameters(SignedUrlParameters signedUrlParameters) {
@@ -89,34 +165,17 @@ public class FileDeliveryService {
     }
   }
 
-	private String extractFileSource(Object obj) {
-		ObjectMapper mapper = new ObjectMapper();
-
-		String jsonStr;
-		try {
-			jsonStr = mapper.writeValueAsString(obj);
-		} catch (JsonProcessingException e) {
-			throw new AppException(HttpStatus.SC_NOT_FOUND, "Not Found.", "Unable to parse fileSource in data.DatasetProperties.FileSourceInfo.FileSource");
-		}
-		JsonPath jsonPath = JsonPath.with(jsonStr);
-		return jsonPath.get(FileMetadataConstant.FILE_SOURCE_PATH);
-	}
-
-
+  private static Map<?, ?> getFileSourceInfo(Map<String, Object> recordData) {
+    Object datasetProperties = recordData != null ? recordData.get(FileMetadataConstant.DATASET_PROPERTIES) : null;
+    Object fileSourceInfo = datasetProperties instanceof Map
+        ? ((Map<?, ?>) datasetProperties).get(FileMetadataConstant.FILE_SOURCE_INFO) : null;
+    return fileSourceInfo instanceof Map ? (Map<?, ?>) fileSourceInfo : null;
+  }
 
-    private String extractFileName(Record recordToHandle) {
-        ObjectMapper mapper = new ObjectMapper();
-        String fileName = null;
-        String jsonStr;
-        try {
-            jsonStr = mapper.writeValueAsString(recordToHandle);
-            JsonPath jsonPath = JsonPath.with(jsonStr);
-            fileName = jsonPath.get(FileMetadataConstant.FILE_NAME_PATH);
-        } catch (JsonProcessingException e) {
-            log.warning("Unable to parse fileName in data.DatasetProperties.FileSourceInfo.Name", e);
-        }
-        return fileName;
-    }
+  private static String getString(Map<?, ?> values, String key) {
+    Object value = values != null ? values.get(key) : null;
+    return value != null ? value.toString() : null;
+  }
 
     private String getContentTypeFromFileName(String fileName) {
         FileExtension fileExtension = null;
@@ -28,7 +28,11 @@ import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.file.model.FileRetrievalData;
+import org.opengroup.osdu.file.model.PartialRetrievalInstructionsResponse;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.DatasetProperties;
@@ -36,9 +40,12 @@ import org.opengroup.osdu.file.model.filemetadata.filedetails.FileSourceInfo;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
+import org.opengroup.osdu.file.service.copyjob.CopyJobService;
+import org.opengroup.osdu.file.service.copyjob.ICopyJobDmsService;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.service.storage.StorageRecordReader;
 import org.springframework.stereotype.Service;
 
 import jakarta.inject.Inject;
@@ -47,13 +54,15 @@ import java.util.*;
 @Service("FileDmsService")
 @Slf4j
 @RequiredArgsConstructor
-public class FileDmsServiceImpl implements IDmsService {
+public class FileDmsServiceImpl implements IDmsService, ICopyJobDmsService {
 
   final IStorageService storageService;
   final DpsHeaders headers;
   final DataLakeStorageFactory storageFactory;
   final IStorageUtilService storageUtilService;
   final ICloudStorageOperation cloudStorageOperation;
+  final StorageRecordReader storageRecordReader;
+  final CopyJobService copyJobService;
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -75,11 +84,20 @@ public class FileDmsServiceImpl implements IDmsService {
     DataLakeStorageService dataLakeStorage = this.storageFactory.create(headers);
 
     try {
-      MultiRecordInfo batchRecordsResponse = dataLakeStorage.getRecords(retrievalInstructionsRequest.getDatasetRegistryIds());
+      MultiRecordInfo batchRecordsResponse = storageRecordReader.getRecords(dataLakeStorage,
+          retrievalInstructionsRequest.getDatasetRegistryIds());
       List<Record> datasetMetadataRecords = batchRecordsResponse.getRecords();
       List<FileRetrievalData> fileRetrievalData = buildUnsignedUrls(datasetMetadataRecords);
 
-      return this.storageService.createRetrievalInstructions(fileRetrievalData, new SignedUrlParameters(expiryTime));
+      List<String> unresolvedIds = new ArrayList<>(batchRecordsResponse.getInvalidRecords());
+      unresolvedIds.addAll(batchRecordsResponse.getRetryRecords());
+      if (!unresolvedIds.isEmpty()) {
+        log.warn("Unable to resolve {} of {} datasets: {}", unresolvedIds.size(),
+            retrievalInstructionsRequest.getDatasetRegistryIds().size(), unresolvedIds);
+      }
+
+      return PartialRetrievalInstructionsResponse.of(createRetrievalInstructions(fileRetrievalData,
+          new SignedUrlParameters(expiryTime)), unresolvedIds);
 
     } catch (StorageException storageExc) {
       final int statusCode = storageExc.getHttpResponse() != null ?
@@ -119,6 +137,77 @@ public class FileDmsServiceImpl implements IDmsService {
     return copyDmsResponseList;
   }
 
+  @Override
+  public CopyJobResponse submitCopyJob(List<Record> datasetSources) {
+    List<CopyJobItem> items = new ArrayList<>();
+    for (Record datasetSource: datasetSources) {
+      final String filePath = this.getStorageFilePath(datasetSource);
+      String persistentLocation = storageUtilService.getPersistentLocation(filePath, headers.getPartitionId());
+      items.add(CopyJobItem.builder()
+          .sourcePath(storageUtilService.getStagingLocation(filePath, headers.getPartitionId()))
+          .destinationPath(persistentLocation)
+          .datasetBlobStoragePath(persistentLocation)
+          .build());
+    }
+    return copyJobService.submit(CopyJob.Type.FILE, items);
+  }
+
+  @Override
+  public CopyJobResponse getCopyJob(String jobId) {
+    return copyJobService.getJob(CopyJob.Type.FILE, jobId);
+  }
+
+  /**
+   * Signs every distinct unsigned URL once, for the first record that refers to it, and gives the
+   * other records referring to it a copy of the same retrieval properties, in the order of the
+   * records.
+   */
+  private RetrievalInstructionsResponse createRetrievalInstructions(List<FileRetrievalData> fileRetrievalData,
+                                                                    SignedUrlParameters signedUrlParameters) {
+    Map<String, FileRetrievalData> signedByUrl = new LinkedHashMap<>();
+    Map<String, List<String>> duplicateIds = new HashMap<>();
+    for (FileRetrievalData retrievalData : fileRetrievalData) {
+      FileRetrievalData signed = signedByUrl.putIfAbsent(retrievalData.getUnsignedUrl(), retrievalData);
+      if (signed != null) {
+        duplicateIds.computeIfAbsent(signed.getRecordId(), id -> new ArrayList<>()).add(retrievalData.getRecordId());
+      }
+    }
+
+    RetrievalInstructionsResponse instructions = storageService.createRetrievalInstructions(
+        new ArrayList<>(signedByUrl.values()), signedUrlParameters);
+    if (duplicateIds.isEmpty() || instructions == null || instructions.getDatasets() == null) {
+      return instructions;
+    }
+    log.debug("Signed {} distinct locations for {} datasets", signedByUrl.size(), fileRetrievalData.size());
+
+    Map<String, DatasetRetrievalProperties> signedDatasets = new HashMap<>();
+    instructions.getDatasets().forEach(dataset -> signedDatasets.put(dataset.getDatasetRegistryId(), dataset));
+    List<DatasetRetrievalProperties> datasets = new ArrayList<>(fileRetrievalData.size());
+    for (FileRetrievalData retrievalData : fileRetrievalData) {
+      FileRetrievalData signed = signedByUrl.get(retrievalData.getUnsignedUrl());
+      DatasetRetrievalProperties dataset = signedDatasets.get(signed.getRecordId());
+      if (dataset == null) {
+        continue;
+      }
+      datasets.add(signed == retrievalData ? dataset : DatasetRetrievalProperties.builder()
+          .datasetRegistryId(retrievalData.getRecordId())
+          .retrievalProperties(dataset.getRetrievalProperties() == null
+              ? null : new HashMap<>(dataset.getRetrievalProperties()))
+          .providerKey(dataset.getProviderKey())
+          .build());
+    }
+    instructions.setDatasets(datasets);
+
+    List<String> unresolvedDuplicateIds = new ArrayList<>();
+    if (instructions instanceof PartialRetrievalInstructionsResponse
+        && ((PartialRetrievalInstructionsResponse) instructions).getUnresolvedDatasetRegistryIds() != null) {
+      for (String unresolvedId : ((PartialRetrievalInstructionsResponse) instructions).getUnresolvedDatasetRegistryIds()) {
+        unresolvedDuplicateIds.addAll(duplicateIds.getOrDefault(unresolvedId, Collections.emptyList()));
+      }
+    }
+    return PartialRetrievalInstructionsResponse.of(instructions, unresolvedDuplicateIds);
+  }
+
   private List<FileRetrievalData> buildUnsignedUrls(List<Record> datasetRegistryRecords){
     List<FileRetrievalData> fileRetrievalDataList = new ArrayList<>();
     for(Record datasetRegistryRecord : datasetRegistryRecords){
@@ -16,9 +16,11 @@
 
 package org.opengroup.osdu.file.service;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
 import org.opengroup.osdu.core.common.http.HttpResponse;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.file.constant.FileMetadataConstant;
 import org.opengroup.osdu.file.exception.ApplicationException;
@@ -26,10 +28,16 @@ import org.opengroup.osdu.file.exception.KindValidationException;
 import org.opengroup.osdu.file.exception.NotFoundException;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.mapper.FileMetadataRecordMapper;
+import org.opengroup.osdu.file.model.file.FileCopyChecksumResponse;
 import org.opengroup.osdu.file.model.filemetadata.FileMetadata;
+import org.opengroup.osdu.file.model.filemetadata.FileMetadataBatchItemResponse;
+import org.opengroup.osdu.file.model.filemetadata.FileMetadataBatchResponse;
 import org.opengroup.osdu.file.model.filemetadata.FileMetadataResponse;
 import org.opengroup.osdu.file.model.filemetadata.RecordVersion;
+import org.opengroup.osdu.file.model.filemetadata.filedetails.FileData;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.FileSourceInfo;
+import org.opengroup.osdu.file.model.property.ChecksumAlgorithmProperties;
+import org.opengroup.osdu.file.model.property.FileMetadataBatchProperties;
 import org.opengroup.osdu.file.model.storage.Record;
 import org.opengroup.osdu.file.model.storage.UpsertRecords;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
@@ -39,10 +47,19 @@ import org.opengroup.osdu.file.service.status.FileStatusPublisher;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.util.FileChecksums;
 import org.opengroup.osdu.file.util.FileMetadataUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -58,6 +75,10 @@ public class FileMetadataService {
     final FileMetadataRecordMapper fileMetadataRecordMapper;
     final FileStatusPublisher fileStatusPublisher;
     final FileDatasetDetailsPublisher fileDatasetDetailsPublisher;
+    final ParallelExecutor parallelExecutor;
+    final FileMetadataBatchProperties batchProperties;
+    final AsyncChecksumService asyncChecksumService;
+    final ChecksumAlgorithmProperties checksumAlgorithmProperties;
 
     public FileMetadataResponse saveMetadata(FileMetadata fileMetadata)
             throws OsduBadRequestException, StorageException, ApplicationException {
@@ -69,7 +90,8 @@ public class FileMetadataService {
         String filePath = null;
         String stagingLocation = null;
         String persistentLocation = null;
-        String checksumAlgorithm = null;
+        List<String> deferredAlgorithms = null;
+        boolean deferChecksum = asyncChecksumService.isEnabled();
         try {
             validateKind(fileMetadata.getKind());
 
@@ -86,16 +108,13 @@ public class FileMetadataService {
             log.debug("Prepared metadata save: recordId=" + recordId + ", stagingLocation=" + stagingLocation
                     + ", persistentLocation=" + persistentLocation);
 
-            cloudStorageOperation.copyFile(stagingLocation, persistentLocation);
-            String checksum = storageUtilService.getChecksum(persistentLocation);
-            if (!StringUtils.isBlank(checksum)) {
-              FileSourceInfo fileSourceInfo = fileMetadata.getData().getDatasetProperties().getFileSourceInfo();
-              checksumAlgorithm = storageUtilService.getChecksumAlgorithm().toString();
-              fileSourceInfo.setChecksum(checksum);
-              fileSourceInfo.setChecksumAlgorithm(checksumAlgorithm);
-            }
+            FileCopyChecksumResponse copyResponse = copyToPersistentLocation(stagingLocation, persistentLocation);
+            deferredAlgorithms = recordChecksums(copyResponse, persistentLocation,
+                    fileMetadata.getData(), dpsHeaders.getPartitionId(), deferChecksum);
+            String checksumAlgorithm = fileMetadata.getData().getDatasetProperties().getFileSourceInfo()
+                    .getChecksumAlgorithm();
             log.debug("Prepared persistent file for metadata save: recordId=" + recordId
-                    + ", checksumPresent=" + StringUtils.isNotBlank(checksum)
+                    + ", checksumPresent=" + (checksumAlgorithm != null)
                     + ", checksumAlgorithm=" + checksumAlgorithm);
             Record fileMetadataRecord = fileMetadataRecordMapper.fileMetadataToRecord(fileMetadata);
 
@@ -115,9 +134,13 @@ public class FileMetadataService {
             * 3. Delete should be the last step of metadata save process
             * */
             cleanupStagingLocation(stagingLocation, dataLakeStorage, fileMetadataRecord);
+            if (deferredAlgorithms != null) {
+                asyncChecksumService.schedule(upsertRecords.getRecordIds().get(0), persistentLocation,
+                        deferredAlgorithms);
+            }
             log.info("Saved file metadata: recordId=" + upsertRecords.getRecordIds().get(0)
                     + ", recordVersion=" + upsertRecords.getRecordIdVersions().get(0)
-                    + ", checksumPresent=" + StringUtils.isNotBlank(checksum));
+                    + ", checksumPresent=" + (checksumAlgorithm != null));
         } catch (StorageException e) {
             log.error("Storage failure while saving metadata: recordId=" + recordId + ", fileSource=" + filePath
                     + ", persistentLocation=" + persistentLocation + ", responseCode="
@@ -140,6 +163,207 @@ public class FileMetadataService {
         return fileMetadataResponse;
     }
 
+    /**
+     * Registers several files at once. Staging to persistent copies and checksums run with bounded
+     * parallelism, records are upserted to Storage in chunks and status events are published as arrays.
+     * A failing item does not fail the other items of the batch.
+     *
+     * @param fileMetadataList file metadata records to register
+     * @return result of each item, in request order
+     */
+    public FileMetadataBatchResponse saveMetadataBatch(List<FileMetadata> fileMetadataList)
+            throws OsduBadRequestException {
+        if (fileMetadataList.size() > batchProperties.getMaxItems()) {
+            throw new OsduBadRequestException(String.format("A batch cannot contain more than %d items",
+                    batchProperties.getMaxItems()));
+        }
+
+        log.info(FileMetadataConstant.METADATA_SAVE_STARTED);
+        log.info("Saving file metadata batch: partition=" + dpsHeaders.getPartitionId()
+                + ", items=" + fileMetadataList.size());
+        fileStatusPublisher.publishInProgressStatus();
+        String partitionId = dpsHeaders.getPartitionId();
+        boolean deferChecksum = asyncChecksumService.isEnabled();
+
+        List<BatchItem> items = parallelExecutor.map(
+                IntStream.range(0, fileMetadataList.size()).boxed().collect(Collectors.toList()),
+                batchProperties.getConcurrency(),
+                index -> preparePersistentFile(index, fileMetadataList.get(index), partitionId, deferChecksum));
+
+        DataLakeStorageService dataLakeStorage = this.dataLakeStorageFactory.create(dpsHeaders);
+        List<BatchItem> prepared = items.stream().filter(item -> item.response.isSuccess())
+                .collect(Collectors.toList());
+        for (List<BatchItem> chunk : Lists.partition(prepared, batchProperties.getStorageChunkSize())) {
+            upsertChunk(dataLakeStorage, chunk);
+        }
+
+        List<FileMetadataBatchItemResponse> responses = items.stream().map(item -> item.response)
+                .collect(Collectors.toList());
+        List<FileMetadataBatchItemResponse> succeeded = responses.stream()
+                .filter(FileMetadataBatchItemResponse::isSuccess).collect(Collectors.toList());
+        List<FileMetadataBatchItemResponse> failed = responses.stream()
+                .filter(response -> !response.isSuccess()).collect(Collectors.toList());
+
+        List<String> recordIds = succeeded.stream().map(FileMetadataBatchItemResponse::getId)
+                .collect(Collectors.toList());
+        List<String> recordIdVersions = succeeded.stream().map(FileMetadataBatchItemResponse::getVersion)
+                .collect(Collectors.toList());
+        fileStatusPublisher.publishSuccessStatus(recordIds, recordIdVersions);
+        fileDatasetDetailsPublisher.publishDatasetDetails(recordIds, recordIdVersions);
+        fileStatusPublisher.publishFailureStatus(failed);
+
+        List<BatchItem> stored = items.stream().filter(item -> item.response.isSuccess())
+                .collect(Collectors.toList());
+        parallelExecutor.map(stored, batchProperties.getConcurrency(), item -> {
+            deleteQuietly(item.stagingLocation, item.response.getId());
+            return null;
+        });
+        stored.stream().filter(item -> item.deferredAlgorithms != null)
+                .forEach(item -> asyncChecksumService.schedule(item.response.getId(), item.persistentLocation,
+                        item.deferredAlgorithms));
+
+        log.info("Saved file metadata batch: items=" + fileMetadataList.size() + ", succeeded="
+                + succeeded.size() + ", failed=" + failed.size());
+        return new FileMetadataBatchResponse(responses);
+    }
+
+    /**
+     * Copies the staged file to its persistent location, taking the checksum from the copy when the provider
+     * supports it so the file is not read a second time.
+     *
+     * @return the provider's copy response, null if the provider copied the file without a checksum
+     */
+    private FileCopyChecksumResponse copyToPersistentLocation(String stagingLocation, String persistentLocation) {
+        FileCopyChecksumResponse copyResponse =
+                cloudStorageOperation.copyFileWithChecksum(stagingLocation, persistentLocation);
+        if (copyResponse == null) {
+            cloudStorageOperation.copyFile(stagingLocation, persistentLocation);
+        }
+        return copyResponse;
+    }
+
+    /**
+     * Records the checksums of the persistent file in {@code fileData}. The checksum returned by the copy is
+     * reused; checksums of the other algorithms configured for the partition are computed in a single pass over
+     * the file, unless {@code deferChecksum} leaves them to {@link AsyncChecksumService}.
+     *
+     * @return algorithms left to {@link AsyncChecksumService}, null if none
+     */
+    private List<String> recordChecksums(FileCopyChecksumResponse copyResponse, String persistentLocation,
+                                   FileData fileData, String partitionId, boolean deferChecksum) {
+        List<String> algorithms = checksumAlgorithmProperties.getAlgorithmsFor(partitionId);
+        Map<String, String> checksums = new LinkedHashMap<>();
+        if (copyResponse != null && copyResponse.getChecksumAlgorithm() != null
+                && StringUtils.isNotBlank(copyResponse.getChecksum())) {
+            checksums.put(copyResponse.getChecksumAlgorithm(), copyResponse.getChecksum());
+        }
+        List<String> missing = checksums.isEmpty() ? algorithms : algorithms.stream()
+                .filter(algorithm -> !checksums.containsKey(algorithm)).collect(Collectors.toList());
+        List<String> deferred = null;
+        if (checksums.isEmpty() || !missing.isEmpty()) {
+            if (deferChecksum) {
+                deferred = missing;
+            } else {
+                storageUtilService.getChecksums(persistentLocation, algorithms, true).forEach(checksums::putIfAbsent);
+            }
+        }
+
+        String primary = FileChecksums.primary(algorithms, checksums);
+        if (primary == null) {
+            return deferred;
+        }
+        FileSourceInfo fileSourceInfo = fileData.getDatasetProperties().getFileSourceInfo();
+        fileSourceInfo.setChecksum(checksums.get(primary));
+        fileSourceInfo.setChecksumAlgorithm(primary);
+        Map<String, String> additional = FileChecksums.additional(primary, checksums);
+        if (!additional.isEmpty()) {
+            Map<String, Object> extensionProperties = fileData.getExtensionProperties() != null
+                    ? new LinkedHashMap<>(fileData.getExtensionProperties()) : new LinkedHashMap<>();
+            extensionProperties.put(FileMetadataConstant.CHECKSUMS, additional);
+            fileData.setExtensionProperties(extensionProperties);
+        }
+        return deferred;
+    }
+
+    private BatchItem preparePersistentFile(int index, FileMetadata fileMetadata, String partitionId,
+                                            boolean deferChecksum) {
+        BatchItem item = new BatchItem();
+        item.response = FileMetadataBatchItemResponse.builder().index(index).build();
+        try {
+            validateKind(fileMetadata.getKind());
+            fileMetadata.setId(fileMetadataUtil.generateRecordId(partitionId,
+                    fetchEntityFromKind(fileMetadata.getKind())));
+            item.response.setId(fileMetadata.getId());
+
+            String filePath = fileMetadata.getData().getDatasetProperties().getFileSourceInfo().getFileSource();
+            item.stagingLocation = storageUtilService.getStagingLocation(filePath, partitionId);
+            String persistentLocation = storageUtilService.getPersistentLocation(filePath, partitionId);
+
+            FileCopyChecksumResponse copyResponse = copyToPersistentLocation(item.stagingLocation,
+                    persistentLocation);
+            // only a file this item copied may be removed again when the item fails
+            item.persistentLocation = persistentLocation;
+            item.deferredAlgorithms = recordChecksums(copyResponse, persistentLocation,
+                    fileMetadata.getData(), partitionId, deferChecksum);
+            item.record = fileMetadataRecordMapper.fileMetadataToRecord(fileMetadata);
+            item.response.setSuccess(true);
+        } catch (OsduBadRequestException e) {
+            log.warning("Bad request in metadata batch item: index=" + index + ", recordId="
+                    + item.response.getId() + ", reason=" + e.getMessage());
+            fail(item, HttpStatus.BAD_REQUEST.value(), e.getMessage());
+        } catch (AppException e) {
+            log.warning("Failed to prepare metadata batch item: index=" + index + ", recordId="
+                    + item.response.getId(), e);
+            fail(item, e.getError().getCode(), e.getError().getMessage());
+        } catch (Exception e) {
+            log.warning("Failed to prepare metadata batch item: index=" + index + ", recordId="
+                    + item.response.getId(), e);
+            fail(item, HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
+        }
+        return item;
+    }
+
+    private void upsertChunk(DataLakeStorageService dataLakeStorage, List<BatchItem> chunk) {
+        Record[] records = chunk.stream().map(item -> item.record).toArray(Record[]::new);
+        try {
+            UpsertRecords upsertRecords = dataLakeStorage.upsertRecord(records);
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).response.setVersion(upsertRecords.getRecordIdVersions().get(i));
+            }
+        } catch (StorageException e) {
+            int responseCode = e.getHttpResponse() != null ? e.getHttpResponse().getResponseCode()
+                    : HttpStatus.INTERNAL_SERVER_ERROR.value();
+            log.error("Storage failure while saving metadata batch chunk: records=" + records.length
+                    + ", responseCode=" + responseCode, e);
+            chunk.forEach(item -> fail(item, responseCode, e.getMessage()));
+        }
+    }
+
+    private void fail(BatchItem item, int errorCode, String errorMessage) {
+        item.response.setSuccess(false);
+        item.response.setErrorCode(errorCode);
+        item.response.setErrorMessage(errorMessage);
+        if (item.persistentLocation != null) {
+            deleteQuietly(item.persistentLocation, item.response.getId());
+        }
+    }
+
+    private void deleteQuietly(String location, String recordId) {
+        try {
+            cloudStorageOperation.deleteFile(location);
+        } catch (Exception e) {
+            log.warning("Failed to delete file: recordId=" + recordId + ", location=" + location, e);
+        }
+    }
+
+    private static class BatchItem {
+        private FileMetadataBatchItemResponse response;
+        private String stagingLocation;
+        private String persistentLocation;
+        private Record record;
+        private List<String> deferredAlgorithms;
+    }
+
     private void cleanupStagingLocation(String stagingLocation, DataLakeStorageService dataLakeStorage, Record fileMetadataRecord) {
       try{
         if(dataLakeStorage.getRecord(fileMetadataRecord.getId()) != null) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.file.model.SignedUrl;
+import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.property.SignedUrlCacheProperties;
+import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Optional cache of signed download URLs, so that a caller asking again for the same file with the same
+ * parameters gets the URL signed for its previous request instead of a new one. Identical URLs also let
+ * downstream HTTP caches serve the content.
+ *
+ * <p>Entries are scoped to the partition and credentials of the caller, and keyed by the file, the
+ * content disposition and type of the download and the requested validity, normalized so that e.g. 60M
+ * and 1H share entries. A URL is handed out again during {@link SignedUrlCacheProperties#getReuseFraction()}
+ * of its validity, at most {@link SignedUrlCacheProperties#getMaxReuseSeconds()}.
+ */
+@Service
+public class SignedUrlCache {
+
+  private static final String METRIC_PREFIX = "file.signed.urls";
+
+  private final SignedUrlCacheProperties properties;
+  private final DpsHeaders headers;
+  private final ExpiryTimeUtil expiryTimeUtil;
+  private final Cache<Key, Entry> cache;
+  private Counter hits;
+  private Counter misses;
+  private Timer signTime;
+  private Counter savedSeconds;
+
+  public SignedUrlCache(SignedUrlCacheProperties properties, DpsHeaders headers, ExpiryTimeUtil expiryTimeUtil,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+    this.properties = properties;
+    this.headers = headers;
+    this.expiryTimeUtil = expiryTimeUtil;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(properties.getMaxSize())
+        .expireAfterWrite(properties.getMaxReuseSeconds(), TimeUnit.SECONDS)
+        .build();
+    meterRegistry.ifAvailable(this::bindMetrics);
+  }
+
+  /**
+   * @param absolutePath location of the file to download
+   * @param parameters   parameters of the signed URL
+   * @param signer       signs a new URL when there is no cached one to hand out
+   * @return cached or newly signed URL
+   */
+  public SignedUrl get(String absolutePath, SignedUrlParameters parameters, Supplier<SignedUrl> signer) {
+    if (!isEnabled()) {
+      return signer.get();
+    }
+
+    long validitySeconds = validitySeconds(parameters.getExpiryTime());
+    Key key = key(absolutePath, parameters, validitySeconds);
+    Entry entry = cache.getIfPresent(key);
+    long now = System.nanoTime();
+    if (entry != null && now - entry.getReuseUntil() < 0) {
+      increment(hits);
+      if (savedSeconds != null) {
+        savedSeconds.increment(entry.getSignNanos() / 1e9);
+      }
+      return entry.getSignedUrl();
+    }
+
+    increment(misses);
+    SignedUrl signedUrl = signer.get();
+    long signNanos = System.nanoTime() - now;
+    if (signTime != null) {
+      signTime.record(signNanos, TimeUnit.NANOSECONDS);
+    }
+    long reuseNanos = (long) Math.min(TimeUnit.SECONDS.toNanos(validitySeconds) * properties.getReuseFraction(),
+        TimeUnit.SECONDS.toNanos(properties.getMaxReuseSeconds()));
+    if (signedUrl != null && reuseNanos > 0) {
+      cache.put(key, new Entry(signedUrl, now + reuseNanos, signNanos));
+    }
+    return signedUrl;
+  }
+
+  private boolean isEnabled() {
+    return properties.isEnabled()
+        && StringUtils.isNotBlank(headers.getPartitionId())
+        && StringUtils.isNotBlank(headers.getAuthorization());
+  }
+
+  private long validitySeconds(String expiryTime) {
+    ExpiryTimeUtil.RelativeTimeValue validity = expiryTimeUtil.getExpiryTimeValueInTimeUnit(expiryTime);
+    return validity.getTimeUnit().toSeconds(validity.getValue());
+  }
+
+  private Key key(String absolutePath, SignedUrlParameters parameters, long validitySeconds) {
+    String scope = Hashing.sha256().hashString(headers.getAuthorization(), StandardCharsets.UTF_8).toString();
+    return new Key(headers.getPartitionId(), scope, absolutePath, parameters.getFileName(),
+        parameters.getContentType(), validitySeconds);
+  }
+
+  private void bindMetrics(MeterRegistry registry) {
+    hits = Counter.builder(METRIC_PREFIX + ".cache.requests").tag("result", "hit")
+        .description("Signed URLs served from the cache").register(registry);
+    misses = Counter.builder(METRIC_PREFIX + ".cache.requests").tag("result", "miss")
+        .description("Signed URLs signed because none was cached").register(registry);
+    signTime = Timer.builder(METRIC_PREFIX + ".sign")
+        .description("Time to sign a URL that was not cached").register(registry);
+    savedSeconds = Counter.builder(METRIC_PREFIX + ".cache.saved").baseUnit("seconds")
+        .description("Signing time saved by cache hits").register(registry);
+    Gauge.builder(METRIC_PREFIX + ".cache.size", cache, Cache::size)
+        .description("Signed URLs in the cache").register(registry);
+  }
+
+  private static void increment(Counter counter) {
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+
+  @Value
+  static class Key {
+    String partitionId;
+    String scope;
+    String absolutePath;
+    String fileName;
+    String contentType;
+    long validitySeconds;
+  }
+
+  @Value
+  static class Entry {
+    SignedUrl signedUrl;
+    long reuseUntil;
+    long signNanos;
+  }
+}
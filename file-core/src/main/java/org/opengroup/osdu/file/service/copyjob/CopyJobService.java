@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.copyjob;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
+import org.opengroup.osdu.file.model.file.FileCopyOperation;
+import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
+import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.DirectoryCopyPage;
+import org.opengroup.osdu.file.model.property.CopyJobProperties;
+import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
+import org.opengroup.osdu.file.provider.interfaces.ICopyJobStore;
+import org.opengroup.osdu.file.util.DetachedRequestAttributes;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs dataset copies in the background on a bounded pool and checkpoints every copied item, and
+ * every copied page of the objects of a file collection, to the {@link ICopyJobStore}.
+ *
+ * <p>The id of a job is derived from its partition and items, so submitting the same copy again
+ * returns the job: a job completed within {@code file.copy.jobs.completed-job-ttl-seconds} is not
+ * copied again, a job leased by a running instance is left running, and a failed job, or a job
+ * whose lease expired, e.g. because its instance stopped, resumes with the items that are not
+ * checkpointed as copied, from their last copied page. The lease is taken with a compare-and-set in
+ * the store, so only one instance resumes the job, and an instance that lost the lease of a job
+ * stops running it. The job runs with the headers of the request that submitted it, with the token
+ * of the service account instead of the token of the request when an
+ * {@link IServiceAccountJwtClient} is available, since jobs may outlive the token of the request.
+ */
+@Slf4j
+@Service
+public class CopyJobService implements DisposableBean {
+
+  private static final String METRIC_NAME = "file.copy.jobs.executor";
+
+  private final ICloudStorageOperation cloudStorageOperation;
+  private final DpsHeaders headers;
+  private final CopyJobProperties properties;
+  private final ParallelExecutor parallelExecutor;
+  private final ObjectProvider<IServiceAccountJwtClient> serviceAccountJwtClient;
+  private final ICopyJobStore store;
+  private final String instanceId = UUID.randomUUID().toString();
+  /**
+   * Jobs leased by this instance, a job is removed once finished or once its lease was lost.
+   */
+  private final Map<String, CopyJob> activeJobs = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor executor;
+  private final ScheduledExecutorService leaseRenewal;
+
+  public CopyJobService(ICloudStorageOperation cloudStorageOperation, DpsHeaders headers,
+                        CopyJobProperties properties, ParallelExecutor parallelExecutor,
+                        ObjectProvider<ICopyJobStore> stores,
+                        ObjectProvider<IServiceAccountJwtClient> serviceAccountJwtClient,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+    this.cloudStorageOperation = cloudStorageOperation;
+    this.headers = headers;
+    this.properties = properties;
+    this.parallelExecutor = parallelExecutor;
+    this.serviceAccountJwtClient = serviceAccountJwtClient;
+    this.store = stores.getIfAvailable(() -> {
+      log.info("No copy job store configured, keeping copy jobs in {}", properties.getStoreDirectory());
+      return new LocalFileCopyJobStore(properties.getStoreDirectory());
+    });
+    BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+        ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+        : new SynchronousQueue<>();
+    this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+        properties.getKeepAliveSeconds(), TimeUnit.SECONDS, queue,
+        new ThreadFactoryBuilder().setNameFormat("file-copy-job-%d").setDaemon(true).build());
+    this.executor.allowCoreThreadTimeOut(true);
+    meterRegistry.ifAvailable(registry ->
+        new ExecutorServiceMetrics(this.executor, METRIC_NAME, Tags.empty()).bindTo(registry));
+    this.leaseRenewal = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("file-copy-job-lease-%d").setDaemon(true).build());
+    long renewalMillis = TimeUnit.SECONDS.toMillis(properties.getLeaseSeconds()) / 3;
+    this.leaseRenewal.scheduleWithFixedDelay(this::renewLeases, renewalMillis, renewalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Submits the copy of the given items, or returns the job already submitted for them. Must be
+   * called from the request that asks for the copy.
+   *
+   * @throws AppException 503 if the worker pool and its queue are full
+   */
+  public CopyJobResponse submit(CopyJob.Type type, List<CopyJobItem> items) {
+    String partitionId = headers.getPartitionId();
+    String jobId = jobId(partitionId, type, items);
+    while (true) {
+      long now = System.currentTimeMillis();
+      CopyJob job = store.get(jobId);
+      if (job == null) {
+        job = CopyJob.builder()
+            .jobId(jobId)
+            .type(type)
+            .partitionId(partitionId)
+            .status(CopyJob.Status.QUEUED)
+            .items(new ArrayList<>(items))
+            .createdAt(now)
+            .updatedAt(now)
+            .owner(instanceId)
+            .leaseExpiresAt(leaseExpiry(now))
+            .build();
+        if (store.create(job)) {
+          return start(job);
+        }
+        continue;
+      }
+      if (job.isLeased(now)) {
+        return CopyJobResponse.of(job);
+      }
+      boolean copyAgain = job.getStatus() == CopyJob.Status.COMPLETED;
+      if (copyAgain && now - job.getUpdatedAt() < TimeUnit.SECONDS.toMillis(properties.getCompletedJobTtlSeconds())) {
+        return CopyJobResponse.of(job);
+      }
+      String previousOwner = job.getOwner();
+      CopyJob.Status previousStatus = job.getStatus();
+      long previousUpdate = job.getUpdatedAt();
+      long version = job.getVersion();
+      job.setOwner(instanceId);
+      job.setLeaseExpiresAt(leaseExpiry(now));
+      job.setStatus(CopyJob.Status.QUEUED);
+      job.setError(null);
+      job.setUpdatedAt(now);
+      if (!store.update(job, version)) {
+        // leased by another instance since it was read
+        continue;
+      }
+      if (copyAgain) {
+        log.info("Copying the items of copy job {} again, completed at {}", jobId, previousUpdate);
+      } else {
+        log.info("Resuming copy job {}, {} on instance {}: {} of {} items already copied", jobId, previousStatus,
+            previousOwner, job.countItems(CopyJobItem.Status.COMPLETED), job.getItems().size());
+      }
+      resetItems(job, copyAgain);
+      return start(job);
+    }
+  }
+
+  /**
+   * @return progress of a job of the partition of the request
+   * @throws AppException 404 if there is no such job
+   */
+  public CopyJobResponse getJob(CopyJob.Type type, String jobId) {
+    CopyJob job = null;
+    if (isJobId(jobId)) {
+      job = store.get(jobId);
+    }
+    if (job == null || job.getType() != type || !Objects.equals(job.getPartitionId(), headers.getPartitionId())) {
+      throw new AppException(HttpStatus.SC_NOT_FOUND, "Not Found", "Copy job not found: " + jobId);
+    }
+    return CopyJobResponse.of(job);
+  }
+
+  @Override
+  public void destroy() {
+    leaseRenewal.shutdownNow();
+    executor.shutdown();
+  }
+
+  void run(CopyJob job) {
+    try {
+      if (!updateJob(job, CopyJob.Status.RUNNING, null)) {
+        return;
+      }
+      List<Integer> pending = IntStream.range(0, job.getItems().size())
+          .filter(index -> job.getItems().get(index).getStatus() == CopyJobItem.Status.PENDING)
+          .boxed()
+          .collect(Collectors.toList());
+      int concurrency = properties.getConcurrency();
+      for (int from = 0; from < pending.size(); from += concurrency) {
+        if (!isOwned(job)) {
+          log.warn("Stopping copy job {}, taken over by another instance", job.getJobId());
+          return;
+        }
+        List<Integer> batch = pending.subList(from, Math.min(pending.size(), from + concurrency));
+        // refreshed between batches, not while the items of a batch use the headers
+        useServiceCredentials(job.getPartitionId());
+        parallelExecutor.map(batch, concurrency, index -> {
+          CopyJobItem item = job.getItems().get(index);
+          CopyJobItem.Status status = job.getType() == CopyJob.Type.FILE_COLLECTION
+              ? copyDirectory(job, index, item) : copyFile(item);
+          if (status != CopyJobItem.Status.PENDING) {
+            item.setStatus(status);
+            store.updateItem(job.getJobId(), index, item);
+          }
+          return item;
+        });
+        log.debug("Copy job {}: copied batch of {} items", job.getJobId(), batch.size());
+      }
+      long failed = job.countItems(CopyJobItem.Status.FAILED);
+      finish(job, failed == 0 ? CopyJob.Status.COMPLETED : CopyJob.Status.FAILED,
+          failed == 0 ? null : failed + " of " + job.getItems().size() + " items could not be copied");
+    } catch (RuntimeException e) {
+      log.warn("Copy job {} failed", job.getJobId(), e);
+      finish(job, CopyJob.Status.FAILED, e.getMessage());
+    } finally {
+      activeJobs.remove(job.getJobId(), job);
+    }
+  }
+
+  /**
+   * Renews the lease of the jobs of this instance, and stops the jobs whose lease was taken over by
+   * another instance, e.g. after this instance could not renew it in time.
+   */
+  void renewLeases() {
+    for (CopyJob job : activeJobs.values()) {
+      try {
+        boolean renewed;
+        synchronized (job) {
+          long version = job.getVersion();
+          job.setLeaseExpiresAt(leaseExpiry(System.currentTimeMillis()));
+          renewed = store.update(job, version);
+        }
+        if (!renewed) {
+          activeJobs.remove(job.getJobId(), job);
+        }
+      } catch (RuntimeException e) {
+        log.warn("Unable to renew the lease of copy job {}", job.getJobId(), e);
+      }
+    }
+  }
+
+  private CopyJobResponse start(CopyJob job) {
+    CopyJobResponse response = CopyJobResponse.of(job);
+    activeJobs.put(job.getJobId(), job);
+    try {
+      execute(job);
+    } catch (RejectedExecutionException e) {
+      activeJobs.remove(job.getJobId(), job);
+      finish(job, CopyJob.Status.FAILED, "Too many copy jobs in progress");
+      throw new AppException(HttpStatus.SC_SERVICE_UNAVAILABLE, "Service Unavailable",
+          "Too many copy jobs in progress, retry later");
+    }
+    return response;
+  }
+
+  /**
+   * Sets the items that are to be copied to pending: the failed items, which resume from their last
+   * copied page, or all of them to copy them again from the start.
+   */
+  private void resetItems(CopyJob job, boolean all) {
+    for (int index = 0; index < job.getItems().size(); index++) {
+      CopyJobItem item = job.getItems().get(index);
+      if (all && (item.getStatus() != CopyJobItem.Status.PENDING || item.getCursor() != null)) {
+        item.setCursor(null);
+        item.setCopiedObjects(0);
+      } else if (item.getStatus() != CopyJobItem.Status.FAILED) {
+        continue;
+      }
+      item.setStatus(CopyJobItem.Status.PENDING);
+      store.updateItem(job.getJobId(), index, item);
+    }
+  }
+
+  /**
+   * Stores the final state of the job and releases its lease, unless another instance took it over.
+   */
+  private void finish(CopyJob job, CopyJob.Status status, String error) {
+    try {
+      if (updateJob(job, status, error)) {
+        log.info("Copy job {} {}: {} of {} items copied", job.getJobId(), job.getStatus(),
+            job.countItems(CopyJobItem.Status.COMPLETED), job.getItems().size());
+      }
+    } catch (RuntimeException e) {
+      log.warn("Unable to store the final state of copy job {}", job.getJobId(), e);
+    }
+  }
+
+  /**
+   * Stores the new status of the job, releasing its lease once the job has finished.
+   *
+   * @return false if another instance took the job over
+   */
+  private boolean updateJob(CopyJob job, CopyJob.Status status, String error) {
+    boolean updated;
+    synchronized (job) {
+      long version = job.getVersion();
+      long now = System.currentTimeMillis();
+      job.setStatus(status);
+      job.setError(error);
+      job.setUpdatedAt(now);
+      job.setLeaseExpiresAt(job.isFinished() ? 0 : leaseExpiry(now));
+      updated = store.update(job, version);
+    }
+    if (!updated) {
+      log.warn("Copy job {} was taken over by another instance", job.getJobId());
+      activeJobs.remove(job.getJobId(), job);
+    }
+    return updated;
+  }
+
+  private boolean isOwned(CopyJob job) {
+    return activeJobs.get(job.getJobId()) == job;
+  }
+
+  private long leaseExpiry(long now) {
+    return now + TimeUnit.SECONDS.toMillis(properties.getLeaseSeconds());
+  }
+
+  private void execute(CopyJob job) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    DetachedRequestAttributes detachedAttributes = requestAttributes != null
+        ? DetachedRequestAttributes.copyOf(requestAttributes) : new DetachedRequestAttributes();
+    // the job replaces the token of its headers, see useServiceCredentials
+    detachedAttributes.replace(DpsHeaders.class,
+        requestHeaders -> DpsHeaders.createFromMap(requestHeaders.getHeaders()));
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    executor.execute(() -> {
+      RequestContextHolder.setRequestAttributes(detachedAttributes);
+      if (mdc != null) {
+        MDC.setContextMap(mdc);
+      }
+      try {
+        run(job);
+      } finally {
+        detachedAttributes.completed();
+        RequestContextHolder.resetRequestAttributes();
+        MDC.clear();
+      }
+    });
+  }
+
+  private CopyJobItem.Status copyFile(CopyJobItem item) {
+    return cloudStorageOperation.copyFiles(Collections.singletonList(operation(item))).stream()
+        .allMatch(FileCopyOperationResponse::isSuccess) ? CopyJobItem.Status.COMPLETED : CopyJobItem.Status.FAILED;
+  }
+
+  /**
+   * Copies a directory page by page from the cursor of the item, checkpointing the cursor after every
+   * page, or in one go when the provider does not copy by page.
+   *
+   * @return PENDING if the job was taken over by another instance before the directory was copied
+   */
+  private CopyJobItem.Status copyDirectory(CopyJob job, int index, CopyJobItem item) {
+    FileCopyOperation operation = operation(item);
+    while (true) {
+      DirectoryCopyPage page = cloudStorageOperation.copyDirectoryPage(operation, item.getCursor());
+      if (page == null) {
+        return cloudStorageOperation.copyDirectories(Collections.singletonList(operation)).stream()
+            .allMatch(DatasetCopyOperation::isSuccess) ? CopyJobItem.Status.COMPLETED : CopyJobItem.Status.FAILED;
+      }
+      if (!page.isSuccess()) {
+        return CopyJobItem.Status.FAILED;
+      }
+      item.setCopiedObjects(item.getCopiedObjects() + page.getCopiedObjects());
+      item.setCursor(page.getNextCursor());
+      if (item.getCursor() == null) {
+        return CopyJobItem.Status.COMPLETED;
+      }
+      if (!isOwned(job)) {
+        return CopyJobItem.Status.PENDING;
+      }
+      store.updateItem(job.getJobId(), index, item);
+      log.debug("Copy job {}: copied {} objects of {}", job.getJobId(), item.getCopiedObjects(), item.getSourcePath());
+    }
+  }
+
+  private static FileCopyOperation operation(CopyJobItem item) {
+    return FileCopyOperation.builder()
+        .sourcePath(item.getSourcePath())
+        .destinationPath(item.getDestinationPath())
+        .build();
+  }
+
+  private void useServiceCredentials(String partitionId) {
+    IServiceAccountJwtClient jwtClient = serviceAccountJwtClient.getIfAvailable();
+    if (jwtClient != null) {
+      headers.put(DpsHeaders.AUTHORIZATION, jwtClient.getIdToken(partitionId));
+    }
+  }
+
+  static String jobId(String partitionId, CopyJob.Type type, List<CopyJobItem> items) {
+    StringBuilder key = new StringBuilder().append(partitionId).append('\n').append(type);
+    for (CopyJobItem item : items) {
+      key.append('\n').append(item.getSourcePath()).append('\t').append(item.getDestinationPath());
+    }
+    return UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  private static boolean isJobId(String jobId) {
+    try {
+      return jobId != null && UUID.fromString(jobId).toString().equals(jobId);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.copyjob;
+
+import org.opengroup.osdu.core.common.model.storage.Record;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
+
+import java.util.List;
+
+/**
+ * Background copies of datasets to their persistent location, see {@link CopyJobService}.
+ */
+public interface ICopyJobDmsService {
+
+  /**
+   * Submits the copy of the datasets, or returns the job already submitted for them.
+   */
+  CopyJobResponse submitCopyJob(List<Record> datasetSources);
+
+  /**
+   * @return progress of a copy job submitted with {@link #submitCopyJob(List)}
+   */
+  CopyJobResponse getCopyJob(String jobId);
+}
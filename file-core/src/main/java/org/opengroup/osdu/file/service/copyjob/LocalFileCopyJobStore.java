@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.copyjob;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+import org.opengroup.osdu.file.provider.interfaces.ICopyJobStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Copy job store keeping every job in a JSON file of a local directory, and the state of each of
+ * its items in a JSON file of a directory next to it, so that checkpointing an item does not
+ * rewrite the job. Files are replaced atomically, so a crash while checkpointing leaves the
+ * previous checkpoint. The compare-and-set of {@link #update(CopyJob, long)} is atomic within
+ * this instance only.
+ */
+public class LocalFileCopyJobStore implements ICopyJobStore {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final Path directory;
+
+  public LocalFileCopyJobStore(String directory) {
+    this.directory = Paths.get(directory);
+  }
+
+  @Override
+  public synchronized boolean create(CopyJob job) {
+    if (Files.exists(jobFile(job.getJobId()))) {
+      return false;
+    }
+    write(jobFile(job.getJobId()), job);
+    return true;
+  }
+
+  @Override
+  public CopyJob get(String jobId) {
+    CopyJob job = read(jobFile(jobId), CopyJob.class);
+    if (job == null) {
+      return null;
+    }
+    List<CopyJobItem> items = job.getItems();
+    try (DirectoryStream<Path> itemFiles = Files.newDirectoryStream(itemDirectory(jobId), "*.json")) {
+      for (Path itemFile : itemFiles) {
+        int index = Integer.parseInt(itemFile.getFileName().toString().replace(".json", ""));
+        CopyJobItem item = read(itemFile, CopyJobItem.class);
+        if (item != null && index < items.size()) {
+          items.set(index, item);
+        }
+      }
+    } catch (NoSuchFileException e) {
+      // no item was updated since the job was created
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read the items of copy job " + jobId, e);
+    }
+    return job;
+  }
+
+  @Override
+  public synchronized boolean update(CopyJob job, long expectedVersion) {
+    CopyJob stored = read(jobFile(job.getJobId()), CopyJob.class);
+    if (stored == null || stored.getVersion() != expectedVersion) {
+      return false;
+    }
+    write(jobFile(job.getJobId()), job.toBuilder()
+        .items(stored.getItems())
+        .version(expectedVersion + 1)
+        .build());
+    job.setVersion(expectedVersion + 1);
+    return true;
+  }
+
+  @Override
+  public void updateItem(String jobId, int index, CopyJobItem item) {
+    write(itemDirectory(jobId).resolve(index + ".json"), item);
+  }
+
+  private void write(Path file, Object value) {
+    try {
+      Files.createDirectories(file.getParent());
+      Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      try {
+        OBJECT_MAPPER.writeValue(temporary.toFile(), value);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to store " + file, e);
+    }
+  }
+
+  private static <T> T read(Path file, Class<T> type) {
+    try {
+      return OBJECT_MAPPER.readValue(Files.readAllBytes(file), type);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read " + file, e);
+    }
+  }
+
+  private Path jobFile(String jobId) {
+    return directory.resolve(jobId + ".json");
+  }
+
+  private Path itemDirectory(String jobId) {
+    return directory.resolve(jobId + ".items");
+  }
+}
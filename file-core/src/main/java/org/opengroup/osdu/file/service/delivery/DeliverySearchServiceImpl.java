@@ -19,6 +19,8 @@ package org.opengroup.osdu.file.service.delivery;
 import com.google.api.client.http.HttpMethods;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import lombok.extern.java.Log;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -33,6 +35,7 @@ import org.opengroup.osdu.core.common.model.search.QueryResponse;
 import org.opengroup.osdu.file.model.delivery.SrnFileData;
 import org.opengroup.osdu.file.model.delivery.UrlSigningResponse;
 import org.opengroup.osdu.file.provider.interfaces.delivery.IDeliveryUnsignedUrlLocationMapper;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -58,6 +61,8 @@ public class DeliverySearchServiceImpl implements IDeliverySearchService {
     private JaxRsDpsLog jaxRsDpsLog;
     @Inject
     private IDeliveryUnsignedUrlLocationMapper unsignedUrlLocationMapper;
+    @Inject
+    private ParallelExecutor parallelExecutor;
 
     @Value("${SEARCH_QUERY_RECORD_HOST}")
     private String SEARCH_QUERY_RECORD_HOST;
@@ -68,6 +73,12 @@ public class DeliverySearchServiceImpl implements IDeliverySearchService {
     @Value("${SEARCH_QUERY_LIMIT}")
     private String SEARCH_QUERY_LIMIT;
 
+    @Value("${SEARCH_QUERY_WITH_CURSOR_HOST:${SEARCH_QUERY_RECORD_HOST}_with_cursor}")
+    private String SEARCH_QUERY_WITH_CURSOR_HOST;
+
+    @Value("${SEARCH_BATCH_CONCURRENCY:8}")
+    private String SEARCH_BATCH_CONCURRENCY;
+
     protected DpsHeaders getDpsHeaders() {
         return dpsHeaders;
     }
@@ -148,10 +159,14 @@ public class DeliverySearchServiceImpl implements IDeliverySearchService {
             batchSize = searchLimit;
 
         List<List<String>> batch = Lists.partition(recordIds, batchSize);
-        for (List<String> recordsBatch : batch) {
-            QueryResponse batchResponse = this.searchRecordsByRecordId(recordsBatch, searchLimit);
-            totalCount += batchResponse.getTotalCount();
-            results.addAll(batchResponse.getResults());
+        List<BatchResult> batchResults = parallelExecutor.map(batch, Integer.parseInt(SEARCH_BATCH_CONCURRENCY),
+                recordsBatch -> searchBatch(recordsBatch, searchLimit));
+        for (BatchResult batchResult : batchResults) {
+            if (batchResult.error != null) {
+                throw batchResult.error;
+            }
+            totalCount += batchResult.response.getTotalCount();
+            results.addAll(batchResult.response.getResults());
         }
         return QueryResponse.builder().results(results).totalCount(totalCount).build();
     }
@@ -161,6 +176,11 @@ public class DeliverySearchServiceImpl implements IDeliverySearchService {
         query.setKind("*:*:*:*.*.*");
     }
 
+    /**
+     * Searches the records of the ids through the cursor endpoint. Its first page is the page a plain
+     * query returns, so a batch matching more records than {@code limit} is paged through without
+     * repeating the first request.
+     */
     private QueryResponse searchRecordsByRecordId(List<String> ids, int limit) throws URISyntaxException {
         QueryRequest query = new QueryRequest();
 
@@ -170,29 +190,62 @@ public class DeliverySearchServiceImpl implements IDeliverySearchService {
 
         // e.g. "data.ResourceID: \"srn:master-data/Well:7806:\" OR data.ResourceID: \"srn:master-data/Well:5587:\""
         query.setQuery(generateSrnQueryString(ids));
-        FetchServiceHttpRequest request = FetchServiceHttpRequest
-                .builder()
-                .httpMethod(HttpMethods.POST)
-                .url(SEARCH_QUERY_RECORD_HOST)
-                .headers(dpsHeaders)
-                .body(query.toString()).build();
-
-        HttpResponse response = this.urlFetchService.sendRequest(request);
 
-        String dataFromSearch = response.getBody();
+        return searchRecordsWithCursor(query, limit);
+    }
 
-        QueryResponse queryResponse = this.gson.fromJson(dataFromSearch, QueryResponse.class);
+    private QueryResponse searchRecordsWithCursor(QueryRequest query, int limit) throws URISyntaxException {
+        JsonObject body = JsonParser.parseString(query.toString()).getAsJsonObject();
+        // cursor queries do not accept an offset
+        body.remove("offset");
 
-        if (queryResponse == null) {
-            queryResponse = QueryResponse.getEmptyResponse();
+        List<Map<String, Object>> results = new ArrayList<>();
+        long totalCount = 0;
+        String cursor = null;
+        int pages = 0;
+        do {
+            if (cursor != null) {
+                body.addProperty("cursor", cursor);
+            }
+            FetchServiceHttpRequest request = FetchServiceHttpRequest
+                    .builder()
+                    .httpMethod(HttpMethods.POST)
+                    .url(SEARCH_QUERY_WITH_CURSOR_HOST)
+                    .headers(dpsHeaders)
+                    .body(body.toString()).build();
+
+            HttpResponse response = this.urlFetchService.sendRequest(request);
+            if (!response.isSuccessCode()) {
+                int status = response.getResponseCode() >= 400 ? response.getResponseCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
+                throw new AppException(status, "Search error", String.format(
+                    "Search query failed after %d records | response code: %d | body: %s",
+                    results.size(), response.getResponseCode(), response.getBody()));
+            }
+            CursorQueryResponse page = this.gson.fromJson(response.getBody(), CursorQueryResponse.class);
+            if (page == null || page.results == null || page.results.isEmpty()) {
+                break;
+            }
+            results.addAll(page.results);
+            totalCount = page.totalCount;
+            cursor = page.cursor;
+            pages++;
+        } while (cursor != null && results.size() < totalCount);
+
+        if (results.size() < totalCount) {
+            jaxRsDpsLog.warning(String.format("Search cursor ended before all records were returned. | records returned: %d | records found: %d", results.size(), totalCount));
         }
+        log.fine(String.format("Paged through %d records found by search in %d pages of %d", results.size(), pages, limit));
+        return QueryResponse.builder().results(results).totalCount(totalCount).build();
+    }
 
-        if (queryResponse.getTotalCount() > limit){
-            //TODO: Use a cursor and get the rest of the results
-            jaxRsDpsLog.warning(String.format("Search found more records than could be returned. | search limit is: %d | records found: %d", limit, queryResponse.getTotalCount()));
+    private BatchResult searchBatch(List<String> recordsBatch, int searchLimit) {
+        BatchResult batchResult = new BatchResult();
+        try {
+            batchResult.response = this.searchRecordsByRecordId(recordsBatch, searchLimit);
+        } catch (URISyntaxException e) {
+            batchResult.error = e;
         }
-
-        return queryResponse;
+        return batchResult;
     }
 
     private String generateSrnQueryString(List<String> ids) {
@@ -202,4 +255,17 @@ public class DeliverySearchServiceImpl implements IDeliverySearchService {
         String joinedIds = StringUtils.join(quotedIds, " OR ");
         return  String.format("%s: (%s)",QUERY_SEARCH_ATTRIBUTE,joinedIds);
     }
+
+    /** Search result of one batch, or the error it failed with. */
+    private static class BatchResult {
+        private QueryResponse response;
+        private URISyntaxException error;
+    }
+
+    /** Page of a {@code query_with_cursor} search. */
+    private static class CursorQueryResponse {
+        private String cursor;
+        private List<Map<String, Object>> results;
+        private long totalCount;
+    }
 }
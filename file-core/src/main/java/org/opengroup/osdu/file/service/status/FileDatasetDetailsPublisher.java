@@ -1,5 +1,6 @@
 package org.opengroup.osdu.file.service.status;
 
+import java.util.List;
 import java.util.Map;
 
 import org.opengroup.osdu.core.common.exception.CoreException;
@@ -38,6 +39,24 @@ public class FileDatasetDetailsPublisher {
         }
     }
 
+    public void publishDatasetDetails(List<String> datasetIds, List<String> datasetVersionIds) {
+        if (datasetIds.isEmpty()) {
+            return;
+        }
+        Map<String, String> attributesMap = attributesBuilder.createAttributesMap();
+        int recordCount = 1;
+        DatasetDetails[] datasetDetailsArr = new DatasetDetails[datasetIds.size()];
+        for (int i = 0; i < datasetIds.size(); i++) {
+            datasetDetailsArr[i] = createDatasetDetails(datasetIds.get(i), DATASET_TYPE, datasetVersionIds.get(i),
+                    recordCount);
+        }
+        try {
+            datasetDetailsEventPublisher.publish(datasetDetailsArr, attributesMap);
+        } catch (CoreException e) {
+            log.warning(FAILED_TO_PUBLISH_DATASET_DETAILS + e.getMessage(), e);
+        }
+    }
+
     private DatasetDetails[] createDatasetDetailsArr(String datasetId, String datasetVersionId, int recordCount) {
         DatasetDetails datasetDetails = createDatasetDetails(datasetId, DATASET_TYPE, datasetVersionId, recordCount);
         DatasetDetails[] datasetDetailsArr = new DatasetDetails[1];
@@ -1,5 +1,6 @@
 package org.opengroup.osdu.file.service.status;
 
+import java.util.List;
 import java.util.Map;
 
 import org.opengroup.osdu.core.common.exception.CoreException;
@@ -11,6 +12,7 @@ import org.opengroup.osdu.core.common.model.status.StatusDetails;
 import org.opengroup.osdu.core.common.model.status.StatusDetails.Properties;
 import org.opengroup.osdu.core.common.status.AttributesBuilder;
 import org.opengroup.osdu.core.common.status.IEventPublisher;
+import org.opengroup.osdu.file.model.filemetadata.FileMetadataBatchItemResponse;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
@@ -48,6 +50,36 @@ public class FileStatusPublisher {
         publish(statusDetailsArr, attributesMap);
     }
 
+    public void publishSuccessStatus(List<String> recordIds, List<String> recordIdVersions) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        Map<String, String> attributesMap = attributesBuilder.createAttributesMap();
+        StatusDetails[] statusDetailsArr = new StatusDetails[recordIds.size()];
+        for (int i = 0; i < recordIds.size(); i++) {
+            statusDetailsArr[i] = createStatusDetails("Metadata store completed successfully", recordIds.get(i),
+                    recordIdVersions.get(i), Status.SUCCESS, DATASET_SYNC, 0);
+        }
+
+        publish(statusDetailsArr, attributesMap);
+    }
+
+    public void publishChecksumStatus(String recordId, String recordIdVersion) {
+        Map<String, String> attributesMap = attributesBuilder.createAttributesMap();
+        StatusDetails[] statusDetailsArr = createStatusDetailsArr("Checksum calculation completed successfully",
+                recordId, recordIdVersion, Status.SUCCESS, DATASET_SYNC, 0);
+
+        publish(statusDetailsArr, attributesMap);
+    }
+
+    public void publishChecksumFailureStatus(String recordId, String message, int errorCode) {
+        Map<String, String> attributesMap = attributesBuilder.createAttributesMap();
+        StatusDetails[] statusDetailsArr = createStatusDetailsArr(message, recordId, null, Status.FAILED,
+                DATASET_SYNC, errorCode);
+
+        publish(statusDetailsArr, attributesMap);
+    }
+
     public void publishFailureStatus(String message, int errorCode) {
         Map<String, String> attributesMap = attributesBuilder.createAttributesMap();
         StatusDetails[] statusDetailsArr = createStatusDetailsArr(message, null, null, Status.FAILED, DATASET_SYNC,
@@ -66,6 +98,21 @@ public class FileStatusPublisher {
         publishFailureStatus(errorMessage, httpResponse.getResponseCode());
     }
 
+    public void publishFailureStatus(List<FileMetadataBatchItemResponse> failedItems) {
+        if (failedItems.isEmpty()) {
+            return;
+        }
+        Map<String, String> attributesMap = attributesBuilder.createAttributesMap();
+        StatusDetails[] statusDetailsArr = new StatusDetails[failedItems.size()];
+        for (int i = 0; i < failedItems.size(); i++) {
+            FileMetadataBatchItemResponse failedItem = failedItems.get(i);
+            statusDetailsArr[i] = createStatusDetails(failedItem.getErrorMessage(), failedItem.getId(), null,
+                    Status.FAILED, DATASET_SYNC, failedItem.getErrorCode() != null ? failedItem.getErrorCode() : 0);
+        }
+
+        publish(statusDetailsArr, attributesMap);
+    }
+
     private void publish(StatusDetails[] statusDetailsArr, Map<String, String> attributesMap) {
         try {
             statusEventPublisher.publish(statusDetailsArr, attributesMap);
@@ -16,27 +16,59 @@
 
 package org.opengroup.osdu.file.service.storage;
 
-import org.opengroup.osdu.core.common.http.HttpClient;
+import org.apache.hc.core5.pool.PoolStats;
 import org.opengroup.osdu.core.common.http.json.HttpResponseBodyMapper;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.file.model.property.StorageHttpClientProperties;
+import org.opengroup.osdu.file.model.property.StorageRecordCacheProperties;
 
-public class DataLakeStorageFactory {
+import java.io.Closeable;
+import java.io.IOException;
+
+public class DataLakeStorageFactory implements Closeable {
 
     private final StorageAPIConfig config;
     private final HttpResponseBodyMapper bodyMapper;
+    private final PooledHttpClient httpClient;
+    private final RecordCache recordCache;
 
     public DataLakeStorageFactory(StorageAPIConfig config, HttpResponseBodyMapper bodyMapper) {
+        this(config, bodyMapper, new StorageHttpClientProperties(), new StorageRecordCacheProperties());
+    }
+
+    public DataLakeStorageFactory(StorageAPIConfig config, HttpResponseBodyMapper bodyMapper,
+            StorageHttpClientProperties httpClientProperties, StorageRecordCacheProperties recordCacheProperties) {
         if (config == null) {
             throw new IllegalArgumentException("StorageAPIConfig cannot be empty");
         }
         this.config = config;
         this.bodyMapper = bodyMapper;
+        this.httpClient = new PooledHttpClient(
+                httpClientProperties != null ? httpClientProperties : new StorageHttpClientProperties());
+        this.recordCache = new RecordCache(
+                recordCacheProperties != null ? recordCacheProperties : new StorageRecordCacheProperties());
     }
 
     public DataLakeStorageService create(DpsHeaders headers) {
         if (headers == null) {
             throw new NullPointerException("headers cannot be null");
         }
-        return new DataLakeStorageService(this.config, new HttpClient(), headers, bodyMapper);
+        return new DataLakeStorageService(this.config, this.httpClient, headers, bodyMapper, this.recordCache);
+    }
+
+    /**
+     * @return snapshot of the shared Storage connection pool, used to size it under load.
+     */
+    public PoolStats getPoolStats() {
+        return this.httpClient.getPoolStats();
+    }
+
+    public RecordCache getRecordCache() {
+        return this.recordCache;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
     }
 }
@@ -13,20 +13,36 @@ import org.opengroup.osdu.file.model.storage.Record;
 import org.opengroup.osdu.file.model.storage.UpsertRecords;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class DataLakeStorageService {
     private final String storageServiceBaseUrl;
     private final IHttpClient httpClient;
     private final DpsHeaders headers;
     private final HttpResponseBodyMapper bodyMapper;
+    private final RecordCache recordCache;
 
     DataLakeStorageService(StorageAPIConfig config, IHttpClient httpClient, DpsHeaders headers,
             HttpResponseBodyMapper bodyMapper) {
+        this(config, httpClient, headers, bodyMapper, null);
+    }
+
+    DataLakeStorageService(StorageAPIConfig config, IHttpClient httpClient, DpsHeaders headers,
+            HttpResponseBodyMapper bodyMapper, RecordCache recordCache) {
         this.storageServiceBaseUrl = config.getStorageServiceBaseUrl();
         this.httpClient = httpClient;
         this.headers = headers;
         this.bodyMapper = bodyMapper;
+        this.recordCache = recordCache;
         if (config.getApiKey() != null) {
             headers.put("AppKey", config.getApiKey());
         }
@@ -40,26 +56,101 @@ public class DataLakeStorageService {
 
     public UpsertRecords upsertRecord(Record[] records) throws StorageException {
         String url = this.createUrl("/records");
-        HttpResponse result = this.httpClient
-                .send(HttpRequest.put(records).url(url).headers(this.headers.getHeaders()).build());
-        return this.getResult(result, UpsertRecords.class);
+        try {
+            HttpResponse result = this.httpClient
+                    .send(HttpRequest.put(records).url(url).headers(this.headers.getHeaders()).build());
+            return this.getResult(result, UpsertRecords.class);
+        } finally {
+            this.invalidate(Arrays.stream(records).map(Record::getId).filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+        }
     }
 
     public Record getRecord(String id) throws StorageException {
+        boolean cacheable = this.isCacheEnabled();
+        long generation = 0;
+        if (cacheable) {
+            Record cached = this.recordCache.get(this.headers, id, Record.class);
+            if (cached != null) {
+                return cached;
+            }
+            generation = this.recordCache.generation(this.headers.getPartitionId(), id);
+        }
         String url = this.createUrl(String.format("/records/%s", id));
         HttpResponse result = this.httpClient
                 .send(HttpRequest.get().url(url).headers(this.headers.getHeaders()).build());
-        return result.IsNotFoundCode() ? null : this.getResult(result, Record.class);
+        Record fetched = result.IsNotFoundCode() ? null : this.getResult(result, Record.class);
+        if (cacheable) {
+            this.recordCache.put(this.headers, id, fetched != null ? fetched.getVersion() : null, fetched, generation);
+        }
+        return fetched;
     }
 
     public HttpResponse deleteRecord(String id) {
         String url = this.createUrl(String.format("/records/%s:delete", id));
         HttpResponse result = this.httpClient
                 .send(HttpRequest.post("{'anything':'anything'}").url(url).headers(this.headers.getHeaders()).build());
+        this.invalidate(Collections.singletonList(id));
         return result;
     }
 
     public MultiRecordInfo getRecords(Collection<String> ids) throws StorageException {
+        if (!this.isCacheEnabled()) {
+            return this.fetchRecords(ids);
+        }
+
+        Map<String, org.opengroup.osdu.core.common.model.storage.Record> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        Map<String, Long> generations = new HashMap<>();
+        for (String id : ids) {
+            org.opengroup.osdu.core.common.model.storage.Record cached = this.recordCache.get(this.headers, id,
+                    org.opengroup.osdu.core.common.model.storage.Record.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+                generations.put(id, this.recordCache.generation(this.headers.getPartitionId(), id));
+            }
+        }
+        if (missing.isEmpty()) {
+            MultiRecordInfo cachedResult = new MultiRecordInfo();
+            cachedResult.setRecords(new ArrayList<>(found.values()));
+            cachedResult.setInvalidRecords(new ArrayList<>());
+            cachedResult.setRetryRecords(new ArrayList<>());
+            return cachedResult;
+        }
+
+        MultiRecordInfo fetched = this.fetchRecords(missing);
+        if (fetched == null) {
+            if (found.isEmpty()) {
+                return null;
+            }
+            // none of the missing records exist, the cached ones are still returned
+            fetched = new MultiRecordInfo();
+            fetched.setInvalidRecords(new ArrayList<>(missing));
+            fetched.setRetryRecords(new ArrayList<>());
+        }
+        if (fetched.getRecords() != null) {
+            for (org.opengroup.osdu.core.common.model.storage.Record fetchedRecord : fetched.getRecords()) {
+                Long generation = generations.get(fetchedRecord.getId());
+                if (generation != null) {
+                    this.recordCache.put(this.headers, fetchedRecord.getId(), fetchedRecord.getVersion(), fetchedRecord,
+                            generation);
+                }
+                found.putIfAbsent(fetchedRecord.getId(), fetchedRecord);
+            }
+        }
+        List<org.opengroup.osdu.core.common.model.storage.Record> merged = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            if (found.containsKey(id)) {
+                merged.add(found.get(id));
+            }
+        }
+        fetched.setRecords(merged);
+        return fetched;
+    }
+
+    private MultiRecordInfo fetchRecords(Collection<String> ids) throws StorageException {
         MultiRecordIds input = new MultiRecordIds();
         input.setRecords(new ArrayList<>());
         input.getRecords().addAll(ids);
@@ -68,6 +159,16 @@ public class DataLakeStorageService {
         return result.IsNotFoundCode() ? null : this.getResult(result, MultiRecordInfo.class);
     }
 
+    private boolean isCacheEnabled() {
+        return this.recordCache != null && this.recordCache.isEnabledFor(this.headers);
+    }
+
+    private void invalidate(Collection<String> ids) {
+        if (this.recordCache != null && !ids.isEmpty()) {
+            this.recordCache.invalidate(this.headers.getPartitionId(), ids);
+        }
+    }
+
     private StorageException generateException(HttpResponse result) {
         return new StorageException(
                 "Error making request to Storage service. Check the inner HttpResponse for more info.", result);
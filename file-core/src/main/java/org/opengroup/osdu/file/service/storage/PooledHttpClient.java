@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.storage;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.opengroup.osdu.core.common.http.HttpRequest;
+import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.http.IHttpClient;
+import org.opengroup.osdu.file.model.property.StorageHttpClientProperties;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * {@link IHttpClient} backed by a pooled, keep-alive Apache HTTP client. A single instance is meant
+ * to be shared by every {@link DataLakeStorageService} so that requests to Storage reuse open
+ * connections instead of paying for a new TCP/TLS handshake each time.
+ */
+public class PooledHttpClient implements IHttpClient, Closeable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RequestConfig defaultRequestConfig;
+
+    public PooledHttpClient(StorageHttpClientProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getSocketTimeoutMillis()))
+                .setTimeToLive(TimeValue.ofSeconds(properties.getConnectionTimeToLiveSeconds()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(properties.getValidateAfterInactivityMillis()))
+                .build();
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        this.defaultRequestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMillis()))
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(this.connectionManager)
+                .setDefaultRequestConfig(this.defaultRequestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(properties.getIdleEvictionSeconds()))
+                .build();
+    }
+
+    @Override
+    public HttpResponse send(HttpRequest request) {
+        HttpResponse output = new HttpResponse();
+        output.setRequest(request);
+        long start = System.currentTimeMillis();
+        try {
+            this.httpClient.execute(this.toClassicRequest(request), this.toContext(request), response -> {
+                output.setResponseCode(response.getCode());
+                HttpEntity entity = response.getEntity();
+                if (entity != null) {
+                    if (entity.getContentType() != null) {
+                        output.setContentType(entity.getContentType());
+                    }
+                    output.setBody(EntityUtils.toString(entity));
+                }
+                return output;
+            });
+        } catch (IOException e) {
+            output.setException(e);
+        }
+        output.setLatency(System.currentTimeMillis() - start);
+        return output;
+    }
+
+    /**
+     * @return snapshot of the connection pool: leased, pending, available and max connections.
+     */
+    public PoolStats getPoolStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+    /**
+     * Applies the timeout and redirect settings carried by the request, as the core HTTP client does,
+     * on top of the pool defaults.
+     */
+    private HttpClientContext toContext(HttpRequest request) {
+        RequestConfig.Builder config = RequestConfig.copy(this.defaultRequestConfig)
+                .setRedirectsEnabled(request.isFollowRedirects());
+        if (request.getConnectionTimeout() > 0) {
+            config.setResponseTimeout(Timeout.ofMilliseconds(request.getConnectionTimeout()));
+        }
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(config.build());
+        return context;
+    }
+
+    private ClassicHttpRequest toClassicRequest(HttpRequest request) {
+        ClassicRequestBuilder builder = ClassicRequestBuilder.create(request.getHttpMethod())
+                .setUri(request.getUrl());
+        Map<String, String> headers = request.getHeaders();
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                // the entity below owns the body framing headers
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                        && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                    builder.addHeader(name, value);
+                }
+            });
+        }
+        if (request.getBody() != null) {
+            builder.setEntity(request.getBody(), ContentType.APPLICATION_JSON);
+        }
+        return builder.build();
+    }
+}
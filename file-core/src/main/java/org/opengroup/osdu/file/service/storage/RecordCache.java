@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.file.model.property.StorageRecordCacheProperties;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, time-limited cache of Storage records shared by all {@link DataLakeStorageService} instances.
+ * Entries are scoped to the caller's credentials so that a record is only served back to a caller that
+ * Storage has already authorized to read it.
+ *
+ * <p>Records are held in their serialized form, so every read returns a private copy that callers are
+ * free to modify. The cache is keyed by partition and record id, with the caller scoped views of a record
+ * grouped under that key, so invalidating a record is a direct lookup whichever callers cached it. A view
+ * is never replaced by an older version of the same record.
+ *
+ * <p>A record read from Storage is only cached if the record has not been invalidated since the read
+ * started: callers take the {@link #generation(String, String) generation} of the record before reading
+ * it and pass it to {@link #put(DpsHeaders, String, Long, Object, long)}. Generations are kept in a
+ * fixed number of stripes, so a record sharing a stripe with an invalidated one is at worst not cached.
+ */
+public class RecordCache {
+
+    private static final int GENERATION_STRIPES = 4096;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final StorageRecordCacheProperties properties;
+    private final Cache<RecordKey, ConcurrentMap<ViewKey, Entry>> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public RecordCache(StorageRecordCacheProperties properties) {
+        this.properties = properties;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtlSeconds(), TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return true if records read with the given headers may be served from or stored in the cache.
+     */
+    public boolean isEnabledFor(DpsHeaders headers) {
+        return properties.isEnabled()
+                && StringUtils.isNotBlank(headers.getPartitionId())
+                && StringUtils.isNotBlank(headers.getAuthorization())
+                && !properties.getDisabledPartitions().contains(headers.getPartitionId());
+    }
+
+    public <T> T get(DpsHeaders headers, String id, Class<T> type) {
+        ConcurrentMap<ViewKey, Entry> views = cache.getIfPresent(new RecordKey(headers.getPartitionId(), id));
+        if (views == null) {
+            return null;
+        }
+        Entry entry = views.get(viewKey(headers, type));
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(entry.getJson(), type);
+        } catch (IOException e) {
+            views.remove(viewKey(headers, type), entry);
+            return null;
+        }
+    }
+
+    /**
+     * @return the invalidation generation of a record, to be taken before reading the record from Storage
+     */
+    public long generation(String partitionId, String id) {
+        return generations.get(stripe(new RecordKey(partitionId, id)));
+    }
+
+    /**
+     * Caches a copy of {@code value} as read with the given headers at the given record version.
+     */
+    public <T> void put(DpsHeaders headers, String id, Long version, T value) {
+        put(headers, id, version, value, generation(headers.getPartitionId(), id));
+    }
+
+    /**
+     * Caches a copy of {@code value} as read with the given headers at the given record version, unless
+     * the record was invalidated after {@code generation} was taken.
+     */
+    public <T> void put(DpsHeaders headers, String id, Long version, T value, long generation) {
+        if (value == null) {
+            return;
+        }
+        RecordKey key = new RecordKey(headers.getPartitionId(), id);
+        int stripe = stripe(key);
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+        byte[] json;
+        try {
+            json = MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            return;
+        }
+        Entry entry = new Entry(version, json);
+        ViewKey viewKey = viewKey(headers, value.getClass());
+        ConcurrentMap<ViewKey, Entry> views = cache.asMap().computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        views.merge(viewKey, entry, RecordCache::newest);
+        // an invalidation that bumped the generation before dropping the views may have missed this entry
+        if (generations.get(stripe) != generation) {
+            views.remove(viewKey, entry);
+        }
+    }
+
+    /**
+     * Drops every cached view of the given records, whichever caller cached them.
+     */
+    public void invalidate(String partitionId, Collection<String> ids) {
+        List<RecordKey> keys = ids.stream().map(id -> new RecordKey(partitionId, id)).collect(Collectors.toList());
+        keys.forEach(key -> generations.incrementAndGet(stripe(key)));
+        cache.invalidateAll(keys);
+    }
+
+    public Cache<?, ?> getCache() {
+        return cache;
+    }
+
+    private static Entry newest(Entry current, Entry candidate) {
+        if (current.getVersion() != null && candidate.getVersion() != null
+                && current.getVersion() > candidate.getVersion()) {
+            return current;
+        }
+        return candidate;
+    }
+
+    private static int stripe(RecordKey key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private ViewKey viewKey(DpsHeaders headers, Class<?> type) {
+        String scope = Hashing.sha256().hashString(headers.getAuthorization(), StandardCharsets.UTF_8).toString();
+        return new ViewKey(scope, type);
+    }
+
+    @Value
+    static class RecordKey {
+        String partitionId;
+        String id;
+    }
+
+    @Value
+    static class ViewKey {
+        String scope;
+        Class<?> type;
+    }
+
+    @Value
+    static class Entry {
+        Long version;
+        byte[] json;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.storage;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
+import org.opengroup.osdu.file.model.property.StorageRecordsQueryProperties;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Reads large sets of records from Storage by splitting the ids into chunks that are queried
+ * concurrently. Records are returned in chunk order, and ids Storage could not return are collected
+ * into {@link MultiRecordInfo#getInvalidRecords()} and {@link MultiRecordInfo#getRetryRecords()}
+ * instead of failing the whole read.
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageRecordReader {
+
+    private final ParallelExecutor parallelExecutor;
+    private final StorageRecordsQueryProperties properties;
+
+    /**
+     * @param storage client bound to the caller's headers
+     * @param ids     ids of the records to read; duplicates are queried once
+     * @return never null
+     * @throws StorageException if Storage rejects any of the chunk queries
+     */
+    public MultiRecordInfo getRecords(DataLakeStorageService storage, List<String> ids) throws StorageException {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<String>> chunks = Lists.partition(distinctIds, properties.getChunkSize());
+        List<ChunkResult> results = parallelExecutor.map(chunks, properties.getConcurrency(),
+                chunk -> fetchChunk(storage, chunk));
+
+        MultiRecordInfo merged = new MultiRecordInfo();
+        merged.setRecords(new ArrayList<>());
+        merged.setInvalidRecords(new ArrayList<>());
+        merged.setRetryRecords(new ArrayList<>());
+        for (ChunkResult result : results) {
+            if (result.error != null) {
+                throw result.error;
+            }
+            if (result.info == null) {
+                // Storage answers 404 when none of the ids of the chunk exist
+                merged.getInvalidRecords().addAll(result.ids);
+                continue;
+            }
+            addAll(merged.getRecords(), result.info.getRecords());
+            addAll(merged.getInvalidRecords(), result.info.getInvalidRecords());
+            addAll(merged.getRetryRecords(), result.info.getRetryRecords());
+        }
+        return merged;
+    }
+
+    private static ChunkResult fetchChunk(DataLakeStorageService storage, List<String> ids) {
+        try {
+            return new ChunkResult(ids, storage.getRecords(ids), null);
+        } catch (StorageException e) {
+            return new ChunkResult(ids, null, e);
+        }
+    }
+
+    private static <T> void addAll(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ChunkResult {
+        private final List<String> ids;
+        private final MultiRecordInfo info;
+        private final StorageException error;
+    }
+}
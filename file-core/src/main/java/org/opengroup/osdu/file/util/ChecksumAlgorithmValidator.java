@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.opengroup.osdu.file.model.property.ChecksumAlgorithmProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fails the startup when {@link ChecksumAlgorithmProperties} names an algorithm that no
+ * {@link ChecksumDigests} factory is registered for, instead of failing every checksum of the
+ * affected partitions at runtime.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChecksumAlgorithmValidator {
+
+  private final ChecksumAlgorithmProperties properties;
+  private final ChecksumDigests checksumDigests;
+
+  @PostConstruct
+  public void validate() {
+    List<String> invalid = new ArrayList<>();
+    collectInvalid("defaults", properties.getDefaults(), invalid);
+    for (Map.Entry<String, List<String>> partition : properties.getPartitions().entrySet()) {
+      collectInvalid("partitions." + partition.getKey(), partition.getValue(), invalid);
+    }
+    if (!invalid.isEmpty()) {
+      throw new IllegalStateException("Unsupported checksum algorithms in file.checksum.algorithms: "
+          + String.join(", ", invalid) + "; supported algorithms: "
+          + String.join(", ", checksumDigests.getAlgorithms()));
+    }
+  }
+
+  private void collectInvalid(String property, List<String> algorithms, List<String> invalid) {
+    if (algorithms == null) {
+      return;
+    }
+    for (String algorithm : algorithms) {
+      if (!checksumDigests.isSupported(algorithm)) {
+        invalid.add(property + "=" + algorithm);
+      }
+    }
+  }
+}
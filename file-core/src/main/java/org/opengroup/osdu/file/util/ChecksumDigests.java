@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.opengroup.osdu.file.constant.ChecksumAlgorithm;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the digests that can be computed for stored files, by algorithm name. MD5, SHA1,
+ * SHA256 and CRC32C are built in, {@link IChecksumDigestFactory} beans add or replace algorithms.
+ */
+@Component
+public class ChecksumDigests {
+
+  private final Map<String, IChecksumDigestFactory> factories = new LinkedHashMap<>();
+
+  public ChecksumDigests(ObjectProvider<IChecksumDigestFactory> customFactories) {
+    register(jdkDigest(ChecksumAlgorithm.MD5, "MD5"));
+    register(jdkDigest(ChecksumAlgorithm.SHA1, "SHA-1"));
+    register(jdkDigest(ChecksumAlgorithm.SHA256, "SHA-256"));
+    register(new IChecksumDigestFactory() {
+      @Override
+      public String getAlgorithm() {
+        return ChecksumAlgorithm.CRC32C.name();
+      }
+
+      @Override
+      public MessageDigest newDigest() {
+        return new Crc32cDigest();
+      }
+    });
+    customFactories.orderedStream().forEach(this::register);
+  }
+
+  /**
+   * @return names of the registered algorithms
+   */
+  public Set<String> getAlgorithms() {
+    return Collections.unmodifiableSet(factories.keySet());
+  }
+
+  public boolean isSupported(String algorithm) {
+    return algorithm != null && factories.containsKey(algorithm);
+  }
+
+  /**
+   * @throws NoSuchAlgorithmException if no implementation of the algorithm is registered
+   */
+  public MessageDigest newDigest(String algorithm) throws NoSuchAlgorithmException {
+    IChecksumDigestFactory factory = algorithm != null ? factories.get(algorithm) : null;
+    if (factory == null) {
+      throw new NoSuchAlgorithmException("Unsupported checksum algorithm " + algorithm);
+    }
+    return factory.newDigest();
+  }
+
+  private void register(IChecksumDigestFactory factory) {
+    String algorithm = factory.getAlgorithm();
+    if (algorithm == null || algorithm.isBlank() || ChecksumAlgorithm.NONE.name().equals(algorithm)) {
+      throw new IllegalStateException("Invalid checksum algorithm name " + algorithm + " of "
+          + factory.getClass().getName());
+    }
+    factories.put(algorithm, factory);
+  }
+
+  private static IChecksumDigestFactory jdkDigest(ChecksumAlgorithm algorithm, String name) {
+    return new IChecksumDigestFactory() {
+      @Override
+      public String getAlgorithm() {
+        return algorithm.name();
+      }
+
+      @Override
+      public MessageDigest newDigest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(name);
+      }
+    };
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.zip.CRC32C;
+
+/**
+ * CRC32C as a {@link MessageDigest}, so it can be computed alongside cryptographic digests. The
+ * JDK implementation is backed by CPU intrinsics where available. The digest is the 4 byte
+ * big-endian checksum value.
+ */
+public class Crc32cDigest extends MessageDigest {
+
+  private final CRC32C crc = new CRC32C();
+
+  public Crc32cDigest() {
+    super("CRC32C");
+  }
+
+  @Override
+  protected void engineUpdate(byte input) {
+    crc.update(input);
+  }
+
+  @Override
+  protected void engineUpdate(byte[] input, int offset, int len) {
+    crc.update(input, offset, len);
+  }
+
+  @Override
+  protected void engineUpdate(ByteBuffer input) {
+    crc.update(input);
+  }
+
+  @Override
+  protected byte[] engineDigest() {
+    int value = (int) crc.getValue();
+    crc.reset();
+    return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+  }
+
+  @Override
+  protected int engineGetDigestLength() {
+    return Integer.BYTES;
+  }
+
+  @Override
+  protected void engineReset() {
+    crc.reset();
+  }
+}
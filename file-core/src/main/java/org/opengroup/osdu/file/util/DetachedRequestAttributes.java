@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.springframework.web.context.request.RequestAttributes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copy of the request attributes of a request, for work that continues after the request has
+ * completed. Request scoped beans already created during the request, such as {@code DpsHeaders},
+ * stay available to that work, and beans created afterwards are scoped to the copy.
+ */
+public class DetachedRequestAttributes implements RequestAttributes {
+
+  private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+  private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+
+  /**
+   * @param source attributes of an active request
+   */
+  public static DetachedRequestAttributes copyOf(RequestAttributes source) {
+    DetachedRequestAttributes copy = new DetachedRequestAttributes();
+    for (String name : source.getAttributeNames(SCOPE_REQUEST)) {
+      Object value = source.getAttribute(name, SCOPE_REQUEST);
+      if (value != null) {
+        copy.attributes.put(name, value);
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Replaces the request scoped beans of the given type already created during the request, e.g.
+   * with copies that the detached work can change without affecting the request.
+   */
+  public <T> void replace(Class<T> type, UnaryOperator<T> replacement) {
+    attributes.replaceAll((name, value) -> type.isInstance(value) ? replacement.apply(type.cast(value)) : value);
+  }
+
+  @Override
+  public Object getAttribute(String name, int scope) {
+    return scope == SCOPE_REQUEST ? attributes.get(name) : null;
+  }
+
+  @Override
+  public void setAttribute(String name, Object value, int scope) {
+    if (scope == SCOPE_REQUEST) {
+      attributes.put(name, value);
+    }
+  }
+
+  @Override
+  public void removeAttribute(String name, int scope) {
+    if (scope == SCOPE_REQUEST) {
+      attributes.remove(name);
+      synchronized (destructionCallbacks) {
+        destructionCallbacks.remove(name);
+      }
+    }
+  }
+
+  @Override
+  public String[] getAttributeNames(int scope) {
+    return scope == SCOPE_REQUEST ? attributes.keySet().toArray(new String[0]) : new String[0];
+  }
+
+  @Override
+  public void registerDestructionCallback(String name, Runnable callback, int scope) {
+    if (scope == SCOPE_REQUEST) {
+      synchronized (destructionCallbacks) {
+        destructionCallbacks.put(name, callback);
+      }
+    }
+  }
+
+  @Override
+  public Object resolveReference(String key) {
+    return null;
+  }
+
+  @Override
+  public String getSessionId() {
+    return "";
+  }
+
+  @Override
+  public Object getSessionMutex() {
+    return this;
+  }
+
+  /**
+   * Destroys the request scoped beans created for the detached work.
+   */
+  public void completed() {
+    List<Runnable> callbacks;
+    synchronized (destructionCallbacks) {
+      callbacks = new ArrayList<>(destructionCallbacks.values());
+      destructionCallbacks.clear();
+    }
+    callbacks.forEach(Runnable::run);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import lombok.Getter;
+import org.opengroup.osdu.file.model.filecollection.StoredObjectSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Differences between the objects of a source directory and of its copy, for incremental copies
+ * of file collections that only copy new and changed objects.
+ *
+ * <p>An object is unchanged when its copy has the same size and the same checksum. Multipart
+ * uploads and copies give objects a composite ETag, such as {@code "<md5>-<parts>"}, that differs
+ * from the ETag of an identical object written in another way, so when either ETag is composite
+ * the copy is also taken as unchanged if it was written after the source was last modified.
+ */
+@Getter
+public final class DirectoryDiff {
+
+  private final List<StoredObjectSummary> changed = new ArrayList<>();
+  private final List<StoredObjectSummary> removed = new ArrayList<>();
+  private int unchanged;
+
+  private DirectoryDiff() {
+  }
+
+  /**
+   * @param source      objects of the source directory
+   * @param destination objects of the destination directory
+   */
+  public static DirectoryDiff compare(Collection<StoredObjectSummary> source,
+                                      Collection<StoredObjectSummary> destination) {
+    Map<String, StoredObjectSummary> copies = new HashMap<>();
+    destination.forEach(object -> copies.put(object.getRelativeKey(), object));
+    DirectoryDiff diff = new DirectoryDiff();
+    for (StoredObjectSummary object : source) {
+      StoredObjectSummary copy = copies.remove(object.getRelativeKey());
+      if (copy != null && isUnchanged(object, copy)) {
+        diff.unchanged++;
+      } else {
+        diff.changed.add(object);
+      }
+    }
+    diff.removed.addAll(copies.values());
+    return diff;
+  }
+
+  static boolean isUnchanged(StoredObjectSummary source, StoredObjectSummary copy) {
+    if (source.getSize() != copy.getSize() || source.getChecksum() == null || copy.getChecksum() == null) {
+      return false;
+    }
+    if (Objects.equals(normalize(source.getChecksum()), normalize(copy.getChecksum()))) {
+      return true;
+    }
+    return (isComposite(source.getChecksum()) || isComposite(copy.getChecksum()))
+        && source.getLastModified() != null && copy.getLastModified() != null
+        && copy.getLastModified() >= source.getLastModified();
+  }
+
+  private static String normalize(String checksum) {
+    return checksum.replace("\"", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean isComposite(String checksum) {
+    return checksum.contains("-");
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Placement of the checksums of a file in its metadata: one checksum goes to
+ * {@code FileSourceInfo.Checksum}, the others to {@code ExtensionProperties.Checksums}.
+ */
+@UtilityClass
+public class FileChecksums {
+
+  /**
+   * @param preferred  configured algorithms, in order of preference
+   * @param checksums  available checksums
+   * @return algorithm of the checksum for {@code FileSourceInfo}: the first preferred algorithm
+   * with a checksum, else the first available checksum; null if there is none
+   */
+  public static String primary(List<String> preferred, Map<String, String> checksums) {
+    for (String algorithm : preferred) {
+      if (StringUtils.isNotBlank(checksums.get(algorithm))) {
+        return algorithm;
+      }
+    }
+    return checksums.entrySet().stream()
+        .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * @return checksums other than the one of {@code primary}
+   */
+  public static Map<String, String> additional(String primary, Map<String, String> checksums) {
+    Map<String, String> additional = new LinkedHashMap<>();
+    checksums.forEach((algorithm, checksum) -> {
+      if (!algorithm.equals(primary) && StringUtils.isNotBlank(checksum)) {
+        additional.put(algorithm, checksum);
+      }
+    });
+    return additional;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+import org.opengroup.osdu.core.common.exception.CoreException;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Location and gzip-compressed JSON encoding of {@link FileCollectionManifest}s.
+ */
+@UtilityClass
+public class FileCollectionManifests {
+
+  public static final String FILE_NAME = ".manifest.json.gz";
+
+  private static final ObjectMapper mapper = new ObjectMapper()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .setSerializationInclusion(Include.NON_NULL);
+
+  /**
+   * @param collectionPath path of the directory of a file collection, with or without a trailing slash
+   * @return path of the manifest of the collection, inside its directory so that it is readable with
+   * the same access as the files of the collection; see {@link #isManifest(String)} to leave it out
+   * of listings
+   */
+  public String manifestPath(String collectionPath) {
+    return collectionPath.endsWith("/") ? collectionPath + FILE_NAME : collectionPath + "/" + FILE_NAME;
+  }
+
+  /**
+   * @return true if the path, relative to the collection or not, is the manifest of a collection
+   */
+  public boolean isManifest(String path) {
+    return path.equals(FILE_NAME) || path.endsWith("/" + FILE_NAME);
+  }
+
+  public byte[] encode(FileCollectionManifest manifest) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      mapper.writeValue(gzip, manifest);
+    } catch (IOException e) {
+      throw new CoreException("Could not encode file collection manifest", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  public FileCollectionManifest decode(InputStream content) {
+    try (GZIPInputStream gzip = new GZIPInputStream(content)) {
+      return mapper.readValue(gzip, FileCollectionManifest.class);
+    } catch (IOException e) {
+      throw new CoreException("Could not decode file collection manifest", e);
+    }
+  }
+}
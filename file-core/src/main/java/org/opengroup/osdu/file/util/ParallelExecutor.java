@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.apache.http.HttpStatus;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Shared, bounded worker pool used to run the per-item steps of a request (copies, signing,
+ * Storage lookups) concurrently.
+ *
+ * <p>Work is submitted through {@link #map(List, int, Function)}, which keeps the order of the
+ * input, caps the number of items of one call that run at the same time and lets the calling
+ * thread take part in the work, so nested or saturated calls degrade to sequential execution
+ * instead of deadlocking. The request context and MDC of the caller are propagated to the
+ * workers, so request scoped beans such as {@code DpsHeaders} keep working inside the tasks.
+ */
+@Component
+public class ParallelExecutor implements DisposableBean {
+
+  private static final String METRIC_NAME = "file.parallel.executor";
+
+  private final ThreadPoolExecutor executor;
+
+  @Autowired
+  public ParallelExecutor(FileExecutorProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+        ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+        : new SynchronousQueue<>();
+    this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+        properties.getKeepAliveSeconds(), TimeUnit.SECONDS, queue,
+        new ThreadFactoryBuilder().setNameFormat("file-parallel-%d").setDaemon(true).build());
+    this.executor.allowCoreThreadTimeOut(true);
+    meterRegistry.ifAvailable(registry ->
+        new ExecutorServiceMetrics(this.executor, METRIC_NAME, Tags.empty()).bindTo(registry));
+  }
+
+  public ParallelExecutor(FileExecutorProperties properties) {
+    this(properties, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+  }
+
+  /**
+   * Applies {@code task} to every item with at most {@code maxConcurrency} items in flight.
+   *
+   * @param items          items to process
+   * @param maxConcurrency maximum number of items of this call processed at the same time
+   * @param task           operation to apply; per-item failures the caller wants to keep should be
+   *                       handled inside the task
+   * @return results in the same order as {@code items}
+   * @throws RuntimeException the first exception thrown by {@code task}; remaining items are skipped
+   */
+  @SuppressWarnings("unchecked")
+  public <T, R> List<R> map(List<T> items, int maxConcurrency, Function<T, R> task) {
+    int size = items.size();
+    if (size == 0) {
+      return new ArrayList<>();
+    }
+    int workers = Math.max(1, Math.min(maxConcurrency, size));
+    if (workers == 1) {
+      List<R> results = new ArrayList<>(size);
+      for (T item : items) {
+        results.add(task.apply(item));
+      }
+      return results;
+    }
+
+    Object[] results = new Object[size];
+    AtomicInteger next = new AtomicInteger();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    CountDownLatch remaining = new CountDownLatch(size);
+    Runnable worker = () -> {
+      int index;
+      while ((index = next.getAndIncrement()) < size) {
+        try {
+          if (failure.get() == null) {
+            results[index] = task.apply(items.get(index));
+          }
+        } catch (Throwable e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          remaining.countDown();
+        }
+      }
+    };
+
+    Runnable contextualWorker = withCallerContext(worker);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 1; i < workers; i++) {
+      try {
+        futures.add(executor.submit(contextualWorker));
+      } catch (RejectedExecutionException e) {
+        break;
+      }
+    }
+    worker.run();
+
+    try {
+      remaining.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Interrupted",
+          "Interrupted while waiting for parallel tasks to complete", e);
+    } finally {
+      // workers still waiting in the queue have nothing left to do
+      futures.forEach(future -> future.cancel(false));
+    }
+
+    Throwable error = failure.get();
+    if (error instanceof RuntimeException) {
+      throw (RuntimeException) error;
+    } else if (error instanceof Error) {
+      throw (Error) error;
+    } else if (error != null) {
+      throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Internal Server Error",
+          error.getMessage(), (Exception) error);
+    }
+    return (List<R>) new ArrayList<>(Arrays.asList(results));
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private static Runnable withCallerContext(Runnable runnable) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    return () -> {
+      RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+      Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+      RequestContextHolder.setRequestAttributes(requestAttributes);
+      if (mdc != null) {
+        MDC.setContextMap(mdc);
+      }
+      try {
+        runnable.run();
+      } finally {
+        RequestContextHolder.setRequestAttributes(previousAttributes);
+        if (previousMdc != null) {
+          MDC.setContextMap(previousMdc);
+        } else {
+          MDC.clear();
+        }
+      }
+    };
+  }
+}
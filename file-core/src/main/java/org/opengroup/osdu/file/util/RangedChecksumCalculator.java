@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.opengroup.osdu.file.model.property.RangedChecksumProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Computes the checksums of a stored object, all requested algorithms in a single pass over its
+ * bytes. Large objects are fetched as ranged reads running in parallel on the
+ * {@link ParallelExecutor}, and the parts are folded into the digests in object order, so the
+ * result is the same as reading the whole object with a single stream.
+ *
+ * <p>The parts of a window are held in memory until they are folded into the digests, so the bytes
+ * buffered by all calculations running at the same time are capped by
+ * {@link RangedChecksumProperties#getMaxBufferedBytes()}; a calculation waits for buffer space
+ * before reading its next window.
+ */
+@Component
+public class RangedChecksumCalculator {
+
+  private final ParallelExecutor parallelExecutor;
+  private final RangedChecksumProperties properties;
+  private final ChecksumDigests checksumDigests;
+  private final Semaphore bufferPermits;
+
+  public RangedChecksumCalculator(ParallelExecutor parallelExecutor, RangedChecksumProperties properties,
+                                  ChecksumDigests checksumDigests) {
+    this.parallelExecutor = parallelExecutor;
+    this.properties = properties;
+    this.checksumDigests = checksumDigests;
+    this.bufferPermits = new Semaphore(properties.getMaxBufferedBytes(), true);
+  }
+
+  /**
+   * Opens a stream over a range of the object.
+   */
+  @FunctionalInterface
+  public interface RangeReader {
+
+    /**
+     * @param offset first byte of the range
+     * @param length number of bytes of the range
+     */
+    InputStream open(long offset, long length) throws IOException;
+  }
+
+  /**
+   * @return true if an object of the given size is worth reading with parallel ranged reads
+   */
+  public boolean isRangedReadFor(long size) {
+    return properties.isEnabled() && size >= properties.getMinObjectSizeBytes()
+        && size > properties.getPartSizeBytes();
+  }
+
+  /**
+   * Checksums an object of {@code size} bytes with parallel ranged reads. Meant for objects for
+   * which {@link #isRangedReadFor(long)} is true, smaller ones are better read with a single stream.
+   *
+   * @return hexadecimal checksums, in the order of {@code algorithms}
+   */
+  public Map<String, String> checksums(List<String> algorithms, long size, RangeReader reader)
+      throws IOException, NoSuchAlgorithmException {
+    List<MessageDigest> digests = newDigests(algorithms);
+    long partSize = properties.getPartSizeBytes();
+    long parts = (size + partSize - 1) / partSize;
+    int maxBufferedBytes = properties.getMaxBufferedBytes();
+    int window = (int) Math.max(1, Math.min(properties.getConcurrency(), maxBufferedBytes / partSize));
+    for (long first = 0; first < parts; first += window) {
+      List<Long> offsets = LongStream.range(first, Math.min(parts, first + window))
+          .mapToObj(part -> part * partSize)
+          .collect(Collectors.toList());
+      long windowBytes = Math.min(size - offsets.get(0), offsets.size() * partSize);
+      int permits = (int) Math.min(windowBytes, maxBufferedBytes);
+      acquire(permits);
+      try {
+        List<byte[]> buffers;
+        try {
+          buffers = parallelExecutor.map(offsets, window,
+              offset -> readPart(reader, offset, (int) Math.min(partSize, size - offset)));
+        } catch (UncheckedIOException e) {
+          throw e.getCause();
+        }
+        for (byte[] buffer : buffers) {
+          digests.forEach(md -> md.update(buffer));
+        }
+      } finally {
+        bufferPermits.release(permits);
+      }
+    }
+    return toHex(algorithms, digests);
+  }
+
+  /**
+   * Checksums a stream until its end.
+   *
+   * @return hexadecimal checksums, in the order of {@code algorithms}
+   */
+  public Map<String, String> checksums(List<String> algorithms, InputStream stream)
+      throws IOException, NoSuchAlgorithmException {
+    List<MessageDigest> digests = newDigests(algorithms);
+    byte[] bytes = new byte[properties.getStreamBufferBytes()];
+    int numBytes;
+    while ((numBytes = stream.read(bytes)) != -1) {
+      for (MessageDigest md : digests) {
+        md.update(bytes, 0, numBytes);
+      }
+    }
+    return toHex(algorithms, digests);
+  }
+
+  private void acquire(int permits) throws InterruptedIOException {
+    try {
+      bufferPermits.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for checksum buffer space");
+    }
+  }
+
+  private List<MessageDigest> newDigests(List<String> algorithms) throws NoSuchAlgorithmException {
+    List<MessageDigest> digests = new ArrayList<>(algorithms.size());
+    for (String algorithm : algorithms) {
+      digests.add(checksumDigests.newDigest(algorithm));
+    }
+    return digests;
+  }
+
+  private static Map<String, String> toHex(List<String> algorithms, List<MessageDigest> digests) {
+    Map<String, String> checksums = new LinkedHashMap<>();
+    for (int i = 0; i < algorithms.size(); i++) {
+      checksums.put(algorithms.get(i), HexFormat.of().formatHex(digests.get(i).digest()));
+    }
+    return checksums;
+  }
+
+  private static byte[] readPart(RangeReader reader, long offset, int length) {
+    try (InputStream stream = reader.open(offset, length)) {
+      byte[] part = stream.readNBytes(length);
+      if (part.length != length) {
+        throw new IOException(String.format("Expected %d bytes at offset %d, got %d", length, offset, part.length));
+      }
+      return part;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.core.common.dms.model.DatasetRetrievalProperties;
+import org.opengroup.osdu.core.common.dms.model.RetrievalInstructionsResponse;
+import org.opengroup.osdu.file.model.FileRetrievalData;
+import org.opengroup.osdu.file.model.PartialRetrievalInstructionsResponse;
+import org.opengroup.osdu.file.model.property.RetrievalInstructionsProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds the retrieval instructions of a request by signing its datasets concurrently on the
+ * {@link ParallelExecutor}, at most {@link RetrievalInstructionsProperties#getConcurrency()} at a
+ * time.
+ *
+ * <p>The datasets keep the order of the request. A dataset that cannot be signed is reported as
+ * unresolved, see {@link PartialRetrievalInstructionsResponse}, unless no dataset of the request
+ * could be signed, in which case the failure of the first one is thrown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetrievalInstructionsBuilder {
+
+  private final ParallelExecutor parallelExecutor;
+  private final RetrievalInstructionsProperties properties;
+
+  public RetrievalInstructionsResponse build(List<FileRetrievalData> fileRetrievalData,
+                                             Function<FileRetrievalData, DatasetRetrievalProperties> signer) {
+    List<Signed> results = parallelExecutor.map(fileRetrievalData, properties.getConcurrency(), data -> {
+      try {
+        return new Signed(signer.apply(data), null);
+      } catch (RuntimeException e) {
+        log.warn("Unable to sign dataset {}", data.getRecordId(), e);
+        return new Signed(null, e);
+      }
+    });
+
+    List<DatasetRetrievalProperties> datasets = new ArrayList<>(results.size());
+    List<String> unresolvedIds = new ArrayList<>();
+    RuntimeException firstFailure = null;
+    for (int i = 0; i < results.size(); i++) {
+      Signed result = results.get(i);
+      if (result.failure == null) {
+        datasets.add(result.properties);
+      } else {
+        unresolvedIds.add(fileRetrievalData.get(i).getRecordId());
+        firstFailure = firstFailure != null ? firstFailure : result.failure;
+      }
+    }
+    if (datasets.isEmpty() && firstFailure != null) {
+      throw firstFailure;
+    }
+
+    return PartialRetrievalInstructionsResponse.of(RetrievalInstructionsResponse.builder()
+        .datasets(datasets)
+        .build(), unresolvedIds);
+  }
+
+  @RequiredArgsConstructor
+  private static final class Signed {
+    private final DatasetRetrievalProperties properties;
+    private final RuntimeException failure;
+  }
+}
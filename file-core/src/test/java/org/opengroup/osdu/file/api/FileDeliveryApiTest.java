@@ -6,11 +6,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.model.DownloadUrlResponse;
+import org.opengroup.osdu.file.model.DownloadUrlsRequest;
+import org.opengroup.osdu.file.model.DownloadUrlsResponse;
 import org.opengroup.osdu.file.service.FileDeliveryService;
 import org.opengroup.osdu.file.service.storage.StorageException;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
@@ -32,4 +36,12 @@ public class FileDeliveryApiTest {
     assertEquals(HttpStatus.OK, fileDeliveryApi.downloadURL("1234","7D").getStatusCode());
   }
 
+  @Test
+  public void test_downloadURLs() throws StorageException {
+    DownloadUrlsResponse downloadUrlsResponse = new DownloadUrlsResponse();
+    DownloadUrlsRequest request = new DownloadUrlsRequest(Arrays.asList("1234", "5678"), "7D");
+    when(fileDeliveryService.getSignedUrlsByRecordIds(request.getIds(), "7D")).thenReturn(downloadUrlsResponse);
+    assertEquals(HttpStatus.OK, fileDeliveryApi.downloadURLs(request).getStatusCode());
+  }
+
 }
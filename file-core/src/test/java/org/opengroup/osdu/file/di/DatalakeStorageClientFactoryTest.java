@@ -1,14 +1,20 @@
 package org.opengroup.osdu.file.di;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @ExtendWith(SpringExtension.class)
 public class DatalakeStorageClientFactoryTest {
 
+  @Mock
+  ObjectProvider<MeterRegistry> meterRegistry;
+
   @InjectMocks
   DatalakeStorageClientFactory datalakeStorageClientFactory;
 
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.opengroup.osdu.file.model.property.AsyncChecksumProperties;
+import org.opengroup.osdu.file.model.property.ChecksumAlgorithmProperties;
+import org.opengroup.osdu.file.model.storage.Record;
+import org.opengroup.osdu.file.model.storage.UpsertRecords;
+import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
+import org.opengroup.osdu.file.service.status.FileStatusPublisher;
+import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
+import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
+import org.opengroup.osdu.file.service.storage.StorageException;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncChecksumServiceTest {
+
+  private static final String RECORD_ID = "tenant:dataset--File.Generic:1";
+  private static final String PERSISTENT_LOCATION = "persistent/file";
+  private static final List<String> MD5 = Collections.singletonList("MD5");
+
+  @Mock
+  private JaxRsDpsLog log;
+  @Mock
+  private DataLakeStorageFactory dataLakeStorageFactory;
+  @Mock
+  private DataLakeStorageService dataLakeStorageService;
+  @Mock
+  private IStorageUtilService storageUtilService;
+  @Mock
+  private DpsHeaders dpsHeaders;
+  @Mock
+  private FileStatusPublisher fileStatusPublisher;
+  @Mock
+  private ObjectProvider<IServiceAccountJwtClient> serviceAccountJwtClient;
+  @Mock
+  private ObjectProvider<MeterRegistry> meterRegistry;
+
+  private final ChecksumAlgorithmProperties checksumAlgorithmProperties = new ChecksumAlgorithmProperties();
+  private final AsyncChecksumProperties properties = new AsyncChecksumProperties();
+
+  private AsyncChecksumService service;
+
+  @BeforeEach
+  void setUp() {
+    service = createService();
+  }
+
+  private AsyncChecksumService createService() {
+    return new AsyncChecksumService(log, dataLakeStorageFactory, storageUtilService, dpsHeaders,
+        fileStatusPublisher, properties, checksumAlgorithmProperties, serviceAccountJwtClient, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.destroy();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldStoreChecksumInNewRecordVersion() throws Exception {
+    Record record = getRecord(1L);
+    UpsertRecords upsertRecords = new UpsertRecords();
+    upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+    upsertRecords.setRecordIdVersions(Collections.singletonList("2"));
+
+    checksumAlgorithmProperties.setDefaults(Arrays.asList("MD5", "CRC32C"));
+    Map<String, String> checksums = new LinkedHashMap<>();
+    checksums.put("MD5", "abc");
+    checksums.put("CRC32C", "def");
+    when(storageUtilService.getChecksums(PERSISTENT_LOCATION, checksumAlgorithmProperties.getDefaults(), false))
+        .thenReturn(checksums);
+    when(dataLakeStorageFactory.create(any())).thenReturn(dataLakeStorageService);
+    when(dataLakeStorageService.getRecord(RECORD_ID)).thenReturn(record);
+    when(dataLakeStorageService.upsertRecord(any(Record.class))).thenReturn(upsertRecords);
+
+    service.updateChecksum(RECORD_ID, PERSISTENT_LOCATION, checksumAlgorithmProperties.getDefaults());
+
+    ArgumentCaptor<Record> captor = ArgumentCaptor.forClass(Record.class);
+    verify(dataLakeStorageService).upsertRecord(captor.capture());
+    Map<String, Object> stored = (Map<String, Object>) ((Map<String, Object>) captor.getValue().getData()
+        .get("DatasetProperties")).get("FileSourceInfo");
+    assertEquals("abc", stored.get("Checksum"));
+    assertEquals("MD5", stored.get("ChecksumAlgorithm"));
+    assertEquals(Collections.singletonMap("CRC32C", "def"),
+        ((Map<String, Object>) captor.getValue().getData().get("ExtensionProperties")).get("Checksums"));
+    assertEquals(1L, captor.getValue().getVersion());
+    verify(fileStatusPublisher).publishChecksumStatus(RECORD_ID, "2");
+  }
+
+  @Test
+  void shouldLeaveRecordUntouchedWhenChecksumIsNotAvailable() throws Exception {
+    when(storageUtilService.getChecksums(any(), any(), anyBoolean())).thenReturn(Collections.emptyMap());
+
+    service.updateChecksum(RECORD_ID, PERSISTENT_LOCATION, MD5);
+
+    verify(dataLakeStorageFactory, never()).create(any());
+    verify(fileStatusPublisher, never()).publishChecksumStatus(any(), any());
+  }
+
+  @Test
+  void shouldRetryWithRecordReadAgainOnVersionConflict() throws Exception {
+    HttpResponse conflict = new HttpResponse();
+    conflict.setResponseCode(409);
+    UpsertRecords upsertRecords = new UpsertRecords();
+    upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+    upsertRecords.setRecordIdVersions(Collections.singletonList("3"));
+
+    checksumAlgorithmProperties.setDefaults(Collections.singletonList("MD5"));
+    when(storageUtilService.getChecksums(any(), any(), anyBoolean()))
+        .thenReturn(Collections.singletonMap("MD5", "abc"));
+    when(dataLakeStorageFactory.create(any())).thenReturn(dataLakeStorageService);
+    when(dataLakeStorageService.getRecord(RECORD_ID)).thenReturn(getRecord(1L), getRecord(2L));
+    when(dataLakeStorageService.upsertRecord(any(Record.class)))
+        .thenThrow(new StorageException("Conflict", conflict))
+        .thenReturn(upsertRecords);
+
+    service.updateChecksum(RECORD_ID, PERSISTENT_LOCATION, MD5);
+
+    ArgumentCaptor<Record> captor = ArgumentCaptor.forClass(Record.class);
+    verify(dataLakeStorageService, times(2)).upsertRecord(captor.capture());
+    assertEquals(2L, captor.getAllValues().get(1).getVersion());
+    verify(fileStatusPublisher).publishChecksumStatus(RECORD_ID, "3");
+  }
+
+  @Test
+  void shouldWriteChecksumWithServiceCredentials() throws Exception {
+    IServiceAccountJwtClient jwtClient = partitionId -> "Bearer service";
+    when(serviceAccountJwtClient.getIfAvailable()).thenReturn(jwtClient);
+    when(dpsHeaders.getPartitionId()).thenReturn("tenant");
+    when(dpsHeaders.getHeaders()).thenReturn(Collections.singletonMap(DpsHeaders.AUTHORIZATION, "Bearer user"));
+    checksumAlgorithmProperties.setDefaults(Collections.singletonList("MD5"));
+    when(storageUtilService.getChecksums(any(), any(), anyBoolean()))
+        .thenReturn(Collections.singletonMap("MD5", "abc"));
+    when(dataLakeStorageFactory.create(any())).thenReturn(dataLakeStorageService);
+
+    service.updateChecksum(RECORD_ID, PERSISTENT_LOCATION, MD5);
+
+    ArgumentCaptor<DpsHeaders> captor = ArgumentCaptor.forClass(DpsHeaders.class);
+    verify(dataLakeStorageFactory).create(captor.capture());
+    assertEquals("Bearer service", captor.getValue().getAuthorization());
+  }
+
+  @Test
+  void shouldReportWorkRejectedWhenPoolIsFull() throws Exception {
+    service.destroy();
+    properties.setPoolSize(1);
+    properties.setQueueCapacity(0);
+    service = createService();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(storageUtilService.getChecksums(any(), any(), anyBoolean())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Collections.emptyMap();
+    });
+
+    service.schedule(RECORD_ID, PERSISTENT_LOCATION, MD5);
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    service.schedule("tenant:dataset--File.Generic:2", PERSISTENT_LOCATION, MD5);
+    release.countDown();
+
+    verify(fileStatusPublisher).publishChecksumFailureStatus(eq("tenant:dataset--File.Generic:2"), anyString(), anyInt());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldMergeDeferredChecksumsWithStoredOnes() throws Exception {
+    Record record = getRecord(1L);
+    Map<String, Object> fileSourceInfo = (Map<String, Object>) ((Map<String, Object>) record.getData()
+        .get("DatasetProperties")).get("FileSourceInfo");
+    fileSourceInfo.put("Checksum", "abc");
+    fileSourceInfo.put("ChecksumAlgorithm", "MD5");
+    UpsertRecords upsertRecords = new UpsertRecords();
+    upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+    upsertRecords.setRecordIdVersions(Collections.singletonList("2"));
+    List<String> sha256 = Collections.singletonList("SHA256");
+
+    checksumAlgorithmProperties.setDefaults(Arrays.asList("MD5", "SHA256"));
+    when(storageUtilService.getChecksums(PERSISTENT_LOCATION, sha256, false))
+        .thenReturn(Collections.singletonMap("SHA256", "e3b0"));
+    when(dataLakeStorageFactory.create(any())).thenReturn(dataLakeStorageService);
+    when(dataLakeStorageService.getRecord(RECORD_ID)).thenReturn(record);
+    when(dataLakeStorageService.upsertRecord(any(Record.class))).thenReturn(upsertRecords);
+
+    service.updateChecksum(RECORD_ID, PERSISTENT_LOCATION, sha256);
+
+    assertEquals("abc", fileSourceInfo.get("Checksum"));
+    assertEquals("MD5", fileSourceInfo.get("ChecksumAlgorithm"));
+    assertEquals(Collections.singletonMap("SHA256", "e3b0"),
+        ((Map<String, Object>) record.getData().get("ExtensionProperties")).get("Checksums"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldKeepStoredChecksumOfPluggedInAlgorithm() throws Exception {
+    Record record = getRecord(1L);
+    Map<String, Object> fileSourceInfo = (Map<String, Object>) ((Map<String, Object>) record.getData()
+        .get("DatasetProperties")).get("FileSourceInfo");
+    fileSourceInfo.put("Checksum", "44bc2cf5ad770999");
+    fileSourceInfo.put("ChecksumAlgorithm", "XXH64");
+    UpsertRecords upsertRecords = new UpsertRecords();
+    upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+    upsertRecords.setRecordIdVersions(Collections.singletonList("2"));
+    List<String> sha256 = Collections.singletonList("SHA256");
+
+    checksumAlgorithmProperties.setDefaults(Arrays.asList("XXH64", "SHA256"));
+    when(storageUtilService.getChecksums(PERSISTENT_LOCATION, sha256, false))
+        .thenReturn(Collections.singletonMap("SHA256", "e3b0"));
+    when(dataLakeStorageFactory.create(any())).thenReturn(dataLakeStorageService);
+    when(dataLakeStorageService.getRecord(RECORD_ID)).thenReturn(record);
+    when(dataLakeStorageService.upsertRecord(any(Record.class))).thenReturn(upsertRecords);
+
+    service.updateChecksum(RECORD_ID, PERSISTENT_LOCATION, sha256);
+
+    assertEquals("44bc2cf5ad770999", fileSourceInfo.get("Checksum"));
+    assertEquals("XXH64", fileSourceInfo.get("ChecksumAlgorithm"));
+    assertEquals(Collections.singletonMap("SHA256", "e3b0"),
+        ((Map<String, Object>) record.getData().get("ExtensionProperties")).get("Checksums"));
+  }
+
+  private Record getRecord(Long version) {
+    Map<String, Object> fileSourceInfo = new HashMap<>();
+    fileSourceInfo.put("FileSource", "/file");
+    Map<String, Object> datasetProperties = new HashMap<>();
+    datasetProperties.put("FileSourceInfo", fileSourceInfo);
+    Map<String, Object> data = new HashMap<>();
+    data.put("DatasetProperties", datasetProperties);
+    Record record = new Record("kind", RECORD_ID);
+    record.setVersion(version);
+    record.setData(data);
+    return record;
+  }
+}
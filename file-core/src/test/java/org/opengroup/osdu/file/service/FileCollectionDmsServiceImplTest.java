@@ -16,9 +16,9 @@
 package org.opengroup.osdu.file.service;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.dms.model.CopyDmsResponse;
@@ -35,12 +35,17 @@ import org.opengroup.osdu.file.model.FileRetrievalData;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
 import org.opengroup.osdu.file.model.filecollection.DatasetProperties;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.StorageRecordsQueryProperties;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
 import org.opengroup.osdu.file.provider.interfaces.IFileCollectionStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IFileCollectionStorageUtilService;
+import org.opengroup.osdu.file.service.copyjob.CopyJobService;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.service.storage.StorageRecordReader;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -78,6 +83,9 @@ public class FileCollectionDmsServiceImplTest {
   @Mock
   IFileCollectionStorageService storageService;
 
+  @Mock
+  private CopyJobService copyJobService;
+
   @Mock
   DpsHeaders headers;
 
@@ -105,9 +113,16 @@ public class FileCollectionDmsServiceImplTest {
   @Mock
   HttpResponse httpResponse;
 
-  @InjectMocks
   FileCollectionDmsServiceImpl fileCollectionDmsService;
 
+  @BeforeEach
+  void setUp() {
+    StorageRecordReader storageRecordReader = new StorageRecordReader(
+        new ParallelExecutor(new FileExecutorProperties()), new StorageRecordsQueryProperties());
+    fileCollectionDmsService = new FileCollectionDmsServiceImpl(storageService, headers, storageFactory,
+        cloudStorageOperation, storageUtilService, storageRecordReader, copyJobService);
+  }
+
   @Test
   public void ShouldReturnStorageInstructions() {
     // given
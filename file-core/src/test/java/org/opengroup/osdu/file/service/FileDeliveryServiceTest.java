@@ -16,34 +16,51 @@ package org.opengroup.osdu.file.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.model.DownloadUrlItemResponse;
 import org.opengroup.osdu.file.model.DownloadUrlResponse;
 import org.opengroup.osdu.file.model.SignedUrl;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.DatasetProperties;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.FileData;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.FileSourceInfo;
+import org.opengroup.osdu.file.model.property.FileDeliveryBatchProperties;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.SignedUrlCacheProperties;
 import org.opengroup.osdu.file.model.storage.Record;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.service.storage.StorageRecordReader;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
@@ -74,6 +91,19 @@ public class FileDeliveryServiceTest {
   @Mock
   DataLakeStorageService dataLakeStorageService;
 
+  @Spy
+  SignedUrlCache signedUrlCache = new SignedUrlCache(new SignedUrlCacheProperties(), null, null,
+      new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+  @Mock
+  StorageRecordReader storageRecordReader;
+
+  @Spy
+  ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+  @Spy
+  FileDeliveryBatchProperties batchProperties = new FileDeliveryBatchProperties();
+
   @Test
   public void saveMetadata_Success() throws OsduBadRequestException, StorageException, MalformedURLException {
     SignedUrlParameters signedUrlParameters = new SignedUrlParameters();
@@ -90,6 +120,47 @@ public class FileDeliveryServiceTest {
     DownloadUrlResponse downloadUrlResponse = fileDeliveryService.getSignedUrlsByRecordId(RECORD_ID,signedUrlParameters );
     assertEquals("http://testURL.com", downloadUrlResponse.getSignedUrl());
   }
+  @Test
+  public void getSignedUrlsByRecordIds_ReturnsResultOfEachId() throws StorageException, MalformedURLException {
+    String dataPartitionId = "tenant";
+    org.opengroup.osdu.core.common.model.storage.Record fileRecord =
+        new org.opengroup.osdu.core.common.model.storage.Record();
+    fileRecord.setId(RECORD_ID);
+    fileRecord.setData(getRecordObj().getData());
+    MultiRecordInfo records = new MultiRecordInfo();
+    records.setRecords(Collections.singletonList(fileRecord));
+    records.setInvalidRecords(Collections.singletonList("missing"));
+    records.setRetryRecords(Collections.singletonList("throttled"));
+    List<String> ids = Arrays.asList(RECORD_ID, "missing", "throttled");
+
+    when(headers.getPartitionId()).thenReturn(dataPartitionId);
+    when(headers.getAuthorization()).thenReturn("bearer");
+    when(expiryTimeUtil.isInputPatternSupported("1H")).thenReturn(true);
+    when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+    when(storageRecordReader.getRecords(dataLakeStorageService, ids)).thenReturn(records);
+    when(storageUtilService.getPersistentLocation("/xyz", dataPartitionId)).thenReturn("absolutePath");
+    when(storageService.createSignedUrlFileLocation(eq("absolutePath"), eq("bearer"), any())).thenReturn(getSignedUrl());
+
+    List<DownloadUrlItemResponse> items = fileDeliveryService.getSignedUrlsByRecordIds(ids, "1H").getItems();
+
+    assertEquals(3, items.size());
+    assertTrue(items.get(0).isSuccess());
+    assertEquals("http://testURL.com", items.get(0).getSignedUrl());
+    assertFalse(items.get(1).isSuccess());
+    assertEquals(404, items.get(1).getErrorCode());
+    assertEquals(503, items.get(2).getErrorCode());
+    verify(dataLakeStorageService, never()).getRecord(any());
+  }
+
+  @Test
+  public void getSignedUrlsByRecordIds_RejectsTooManyIds() {
+    batchProperties.setMaxItems(1);
+    when(expiryTimeUtil.isInputPatternSupported(any())).thenReturn(true);
+
+    assertThrows(OsduBadRequestException.class,
+        () -> fileDeliveryService.getSignedUrlsByRecordIds(Arrays.asList("a", "b"), null));
+  }
+
   private SignedUrl getSignedUrl() throws MalformedURLException {
     SignedUrl signedUrl = new SignedUrl();
     signedUrl.setUrl(new URL("http://testURL.com"));
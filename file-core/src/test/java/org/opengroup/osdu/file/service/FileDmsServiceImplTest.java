@@ -34,20 +34,32 @@ import org.opengroup.osdu.core.common.http.HttpResponse;
 import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
 import org.opengroup.osdu.core.common.model.storage.Record;
 import org.opengroup.osdu.file.model.FileRetrievalData;
+import org.opengroup.osdu.file.model.PartialRetrievalInstructionsResponse;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.DatasetProperties;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.FileSourceInfo;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.StorageRecordsQueryProperties;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
+import org.opengroup.osdu.file.service.copyjob.CopyJobService;
+import org.opengroup.osdu.file.service.copyjob.ICopyJobDmsService;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
+import org.opengroup.osdu.file.service.storage.StorageRecordReader;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +113,9 @@ public class FileDmsServiceImplTest {
   @Mock
   private DataLakeStorageService dataLakeStorageService;
 
+  @Mock
+  private CopyJobService copyJobService;
+
   private IDmsService dmsService;
 
   private static final String TEST_DATASET_ID = "opendes:dataset--File.Generic:foo-bar";
@@ -112,7 +127,10 @@ public class FileDmsServiceImplTest {
 
   @BeforeEach
   void setUp() {
-    dmsService = new FileDmsServiceImpl(storageService, headers, storageFactory, storageUtilService, cloudStorageOperation);
+    StorageRecordReader storageRecordReader = new StorageRecordReader(
+        new ParallelExecutor(new FileExecutorProperties()), new StorageRecordsQueryProperties());
+    dmsService = new FileDmsServiceImpl(storageService, headers, storageFactory, storageUtilService,
+        cloudStorageOperation, storageRecordReader, copyJobService);
   }
 
   @Test
@@ -186,6 +204,101 @@ public class FileDmsServiceImplTest {
     then(expectedResponse).isEqualTo(actualResponse);
   }
 
+  @Test
+  void shouldReportUnresolvedDatasetsInRetrievalInstructions() throws Exception {
+    // given
+    String missingDatasetId = "opendes:dataset--File.Generic:missing";
+    RetrievalInstructionsResponse providerResponse = RetrievalInstructionsResponse.builder()
+        .datasets(new ArrayList<>()).build();
+
+    RetrievalInstructionsRequest testRequest = new RetrievalInstructionsRequest();
+    testRequest.getDatasetRegistryIds().add(TEST_DATASET_ID);
+    testRequest.getDatasetRegistryIds().add(missingDatasetId);
+    given(storageFactory.create(headers)).willReturn(dataLakeStorageService);
+
+    List<Record> records = new ArrayList<>();
+    addTestRecord(records);
+    MultiRecordInfo multiRecordInfo = new MultiRecordInfo();
+    multiRecordInfo.setRecords(records);
+    multiRecordInfo.setInvalidRecords(Collections.singletonList(missingDatasetId));
+    given(dataLakeStorageService.getRecords(testRequest.getDatasetRegistryIds())).willReturn(multiRecordInfo);
+    given(headers.getPartitionId()).willReturn(PARTITION);
+    given(storageUtilService.getPersistentLocation(TEST_FILE_SOURCE, PARTITION)).willReturn(TEST_UNSIGNED_URL);
+    given(storageService.createRetrievalInstructions(any(), any())).willReturn(providerResponse);
+
+    // when
+    RetrievalInstructionsResponse response = dmsService.getRetrievalInstructions(testRequest);
+
+    // then
+    assertTrue(response instanceof PartialRetrievalInstructionsResponse);
+    assertEquals(providerResponse.getDatasets(), response.getDatasets());
+    assertEquals(Collections.singletonList(missingDatasetId),
+        ((PartialRetrievalInstructionsResponse) response).getUnresolvedDatasetRegistryIds());
+  }
+
+  @Test
+  void shouldSignSharedLocationOnceForAllDatasets() throws Exception {
+    // given
+    String copyDatasetId = "opendes:dataset--File.Generic:foo-bar-copy";
+    String failedCopyDatasetId = "opendes:dataset--File.Generic:other-copy";
+    String otherDatasetId = "opendes:dataset--File.Generic:other";
+    String otherFileSource = "/osdu-user/other";
+    Map<String, Object> retrievalProperties = new HashMap<>();
+    retrievalProperties.put("signedUrl", "testSignedUrl");
+    RetrievalInstructionsResponse providerResponse = new PartialRetrievalInstructionsResponse(
+        RetrievalInstructionsResponse.builder()
+            .datasets(new ArrayList<>(Collections.singletonList(DatasetRetrievalProperties.builder()
+                .retrievalProperties(retrievalProperties)
+                .datasetRegistryId(TEST_DATASET_ID)
+                .providerKey("AZURE").build())))
+            .build(),
+        Collections.singletonList(otherDatasetId));
+
+    RetrievalInstructionsRequest testRequest = new RetrievalInstructionsRequest();
+    testRequest.getDatasetRegistryIds().add(TEST_DATASET_ID);
+    testRequest.getDatasetRegistryIds().add(otherDatasetId);
+    testRequest.getDatasetRegistryIds().add(copyDatasetId);
+    testRequest.getDatasetRegistryIds().add(failedCopyDatasetId);
+    given(storageFactory.create(headers)).willReturn(dataLakeStorageService);
+
+    List<Record> records = new ArrayList<>();
+    addTestRecord(records);
+    addTestRecord(records);
+    addTestRecord(records);
+    addTestRecord(records);
+    records.get(1).setId(otherDatasetId);
+    ((DatasetProperties) records.get(1).getData().get("DatasetProperties")).getFileSourceInfo()
+        .setFileSource(otherFileSource);
+    records.get(2).setId(copyDatasetId);
+    records.get(3).setId(failedCopyDatasetId);
+    records.get(3).setData(records.get(1).getData());
+    MultiRecordInfo multiRecordInfo = new MultiRecordInfo();
+    multiRecordInfo.setRecords(records);
+    given(dataLakeStorageService.getRecords(testRequest.getDatasetRegistryIds())).willReturn(multiRecordInfo);
+    given(headers.getPartitionId()).willReturn(PARTITION);
+    given(storageUtilService.getPersistentLocation(TEST_FILE_SOURCE, PARTITION)).willReturn(TEST_UNSIGNED_URL);
+    given(storageUtilService.getPersistentLocation(otherFileSource, PARTITION)).willReturn(TEST_UNSIGNED_URL + "-other");
+    given(storageService.createRetrievalInstructions(any(), any())).willReturn(providerResponse);
+
+    // when
+    RetrievalInstructionsResponse response = dmsService.getRetrievalInstructions(testRequest);
+
+    // then
+    verify(storageService).createRetrievalInstructions(Arrays.asList(
+        FileRetrievalData.builder().recordId(TEST_DATASET_ID).unsignedUrl(TEST_UNSIGNED_URL).build(),
+        FileRetrievalData.builder().recordId(otherDatasetId).unsignedUrl(TEST_UNSIGNED_URL + "-other").build()),
+        new SignedUrlParameters());
+    assertEquals(2, response.getDatasets().size());
+    assertEquals(TEST_DATASET_ID, response.getDatasets().get(0).getDatasetRegistryId());
+    assertEquals(copyDatasetId, response.getDatasets().get(1).getDatasetRegistryId());
+    assertEquals(retrievalProperties, response.getDatasets().get(1).getRetrievalProperties());
+    assertNotSame(response.getDatasets().get(0).getRetrievalProperties(),
+        response.getDatasets().get(1).getRetrievalProperties());
+    assertEquals("AZURE", response.getDatasets().get(1).getProviderKey());
+    assertEquals(Arrays.asList(otherDatasetId, failedCopyDatasetId),
+        ((PartialRetrievalInstructionsResponse) response).getUnresolvedDatasetRegistryIds());
+  }
+
   @Test
   void shouldNotReturnRetrievalInstructionsWithInvalidMetadataRecord() throws Exception {
     // given
@@ -289,6 +402,27 @@ public class FileDmsServiceImplTest {
 
   }
 
+  @Test
+  void submitCopyJobCopiesStagingToPersistentLocation() {
+    List<Record> records = new ArrayList<>();
+    addTestRecord(records);
+    when(headers.getPartitionId()).thenReturn(DATA_PARTITION_ID);
+    when(storageUtilService.getStagingLocation(TEST_FILE_SOURCE, DATA_PARTITION_ID)).thenReturn(STAGING_LOCATION);
+    when(storageUtilService.getPersistentLocation(TEST_FILE_SOURCE, DATA_PARTITION_ID)).thenReturn(PERSISTENT_LOCATION);
+    CopyJobResponse copyJobResponse = CopyJobResponse.builder().jobId("job").build();
+    when(copyJobService.submit(eq(CopyJob.Type.FILE), any())).thenReturn(copyJobResponse);
+
+    CopyJobResponse result = ((ICopyJobDmsService) dmsService).submitCopyJob(records);
+
+    Assertions.assertSame(copyJobResponse, result);
+    verify(copyJobService).submit(CopyJob.Type.FILE, Collections.singletonList(CopyJobItem.builder()
+        .sourcePath(STAGING_LOCATION)
+        .destinationPath(PERSISTENT_LOCATION)
+        .datasetBlobStoragePath(PERSISTENT_LOCATION)
+        .build()));
+    verify(cloudStorageOperation, times(0)).copyFiles(any());
+  }
+
   @Test
   public void copyDatasetsToPersistentLocationAppException() {
 
@@ -15,13 +15,18 @@
 package org.opengroup.osdu.file.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.opengroup.osdu.core.common.http.HttpResponse;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -31,12 +36,17 @@ import org.opengroup.osdu.file.exception.KindValidationException;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.exception.NotFoundException;
 import org.opengroup.osdu.file.mapper.FileMetadataRecordMapper;
+import org.opengroup.osdu.file.model.file.FileCopyChecksumResponse;
 import org.opengroup.osdu.file.model.filemetadata.FileMetadata;
+import org.opengroup.osdu.file.model.filemetadata.FileMetadataBatchResponse;
 import org.opengroup.osdu.file.model.filemetadata.FileMetadataResponse;
 import org.opengroup.osdu.file.model.filemetadata.RecordVersion;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.DatasetProperties;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.FileData;
 import org.opengroup.osdu.file.model.filemetadata.filedetails.FileSourceInfo;
+import org.opengroup.osdu.file.model.property.ChecksumAlgorithmProperties;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.FileMetadataBatchProperties;
 import org.opengroup.osdu.file.model.storage.Record;
 import org.opengroup.osdu.file.model.storage.UpsertRecords;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
@@ -47,10 +57,15 @@ import org.opengroup.osdu.file.service.storage.DataLakeStorageFactory;
 import org.opengroup.osdu.file.service.storage.DataLakeStorageService;
 import org.opengroup.osdu.file.service.storage.StorageException;
 import org.opengroup.osdu.file.util.FileMetadataUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -97,6 +112,18 @@ public class FileMetadataServiceTest {
     @Mock
     FileDatasetDetailsPublisher fileDatasetDetailsPublisher;
 
+    @Mock
+    AsyncChecksumService asyncChecksumService;
+
+    @Spy
+    ChecksumAlgorithmProperties checksumAlgorithmProperties = new ChecksumAlgorithmProperties();
+
+    @Spy
+    ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+    @Spy
+    FileMetadataBatchProperties batchProperties = new FileMetadataBatchProperties();
+
     FileMetadata fileMetadata;
 
     @Test
@@ -134,6 +161,188 @@ public class FileMetadataServiceTest {
         assertEquals(RECORD_ID, fileMetadataResponse.getId());
 
     }
+    @Test
+    public void saveMetadata_UsesChecksumReturnedByCopy() throws OsduBadRequestException, StorageException, ApplicationException {
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        fileMetadata = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        Record record = new Record("tenant");
+        UpsertRecords upsertRecords = new UpsertRecords();
+        upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+        upsertRecords.setRecordIdVersions(Collections.singletonList(RECORD_ID_VERSION));
+
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(record);
+        when(dataLakeStorageService.upsertRecord(record)).thenReturn(upsertRecords);
+        when(cloudStorageOperation.copyFileWithChecksum(STAGING_FILE_PATH, PERSISTENT_FILE_PATH))
+                .thenReturn(FileCopyChecksumResponse.builder()
+                        .destinationPath(PERSISTENT_FILE_PATH)
+                        .checksum("d41d8cd98f00b204e9800998ecf8427e")
+                        .checksumAlgorithm("MD5")
+                        .build());
+
+        FileMetadataResponse fileMetadataResponse = fileMetadataService.saveMetadata(fileMetadata);
+
+        assertEquals(RECORD_ID, fileMetadataResponse.getId());
+        assertEquals("d41d8cd98f00b204e9800998ecf8427e", fileSourceInfo.getChecksum());
+        assertEquals("MD5", fileSourceInfo.getChecksumAlgorithm());
+        verify(cloudStorageOperation, never()).copyFile(any(), any());
+        verify(storageUtilService, never()).getChecksums(any(), any(), anyBoolean());
+    }
+
+    @Test
+    public void saveMetadata_ComputesChecksumWhenCopyReportsNoAlgorithm() throws OsduBadRequestException, StorageException, ApplicationException {
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        fileMetadata = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        Record record = new Record("tenant");
+        UpsertRecords upsertRecords = new UpsertRecords();
+        upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+        upsertRecords.setRecordIdVersions(Collections.singletonList(RECORD_ID_VERSION));
+
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(record);
+        when(dataLakeStorageService.upsertRecord(record)).thenReturn(upsertRecords);
+        when(cloudStorageOperation.copyFileWithChecksum(STAGING_FILE_PATH, PERSISTENT_FILE_PATH))
+                .thenReturn(FileCopyChecksumResponse.builder()
+                        .destinationPath(PERSISTENT_FILE_PATH)
+                        .checksum("d41d8cd98f00b204e9800998ecf8427e")
+                        .build());
+
+        checksumAlgorithmProperties.getPartitions().put("tenant", List.of("MD5"));
+        when(storageUtilService.getChecksums(PERSISTENT_FILE_PATH, List.of("MD5"), true))
+                .thenReturn(Map.of("MD5", "9e107d9d372bb6826bd81d3542a419d6"));
+
+        FileMetadataResponse fileMetadataResponse = fileMetadataService.saveMetadata(fileMetadata);
+
+        assertEquals(RECORD_ID, fileMetadataResponse.getId());
+        assertEquals("9e107d9d372bb6826bd81d3542a419d6", fileSourceInfo.getChecksum());
+        assertEquals("MD5", fileSourceInfo.getChecksumAlgorithm());
+        verify(cloudStorageOperation, never()).copyFile(any(), any());
+    }
+
+    @Test
+    public void saveMetadata_RecordsChecksumsOfConfiguredAlgorithms() throws OsduBadRequestException, StorageException, ApplicationException {
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        fileMetadata = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        Record record = new Record("tenant");
+        UpsertRecords upsertRecords = new UpsertRecords();
+        upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+        upsertRecords.setRecordIdVersions(Collections.singletonList(RECORD_ID_VERSION));
+        List<String> algorithms = Arrays.asList("SHA256", "CRC32C");
+        checksumAlgorithmProperties.getPartitions().put("tenant", algorithms);
+        Map<String, String> checksums = new LinkedHashMap<>();
+        checksums.put("SHA256", "e3b0c442");
+        checksums.put("CRC32C", "00000000");
+
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(record);
+        when(dataLakeStorageService.upsertRecord(record)).thenReturn(upsertRecords);
+        when(cloudStorageOperation.copyFileWithChecksum(STAGING_FILE_PATH, PERSISTENT_FILE_PATH))
+                .thenReturn(FileCopyChecksumResponse.builder()
+                        .destinationPath(PERSISTENT_FILE_PATH)
+                        .checksum("d41d8cd98f00b204e9800998ecf8427e")
+                        .checksumAlgorithm("MD5")
+                        .build());
+        when(storageUtilService.getChecksums(PERSISTENT_FILE_PATH, algorithms, true)).thenReturn(checksums);
+
+        fileMetadataService.saveMetadata(fileMetadata);
+
+        assertEquals("e3b0c442", fileSourceInfo.getChecksum());
+        assertEquals("SHA256", fileSourceInfo.getChecksumAlgorithm());
+        Map<String, String> additional = new LinkedHashMap<>();
+        additional.put("MD5", "d41d8cd98f00b204e9800998ecf8427e");
+        additional.put("CRC32C", "00000000");
+        assertEquals(additional, fileData.getExtensionProperties().get("Checksums"));
+    }
+
+    @Test
+    public void saveMetadata_DefersChecksumWhenAsyncChecksumIsEnabled() throws OsduBadRequestException, StorageException, ApplicationException {
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        fileMetadata = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        Record record = new Record("tenant");
+        UpsertRecords upsertRecords = new UpsertRecords();
+        upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+        upsertRecords.setRecordIdVersions(Collections.singletonList(RECORD_ID_VERSION));
+
+        when(asyncChecksumService.isEnabled()).thenReturn(true);
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(record);
+        when(dataLakeStorageService.upsertRecord(record)).thenReturn(upsertRecords);
+
+        FileMetadataResponse fileMetadataResponse = fileMetadataService.saveMetadata(fileMetadata);
+
+        assertEquals(RECORD_ID, fileMetadataResponse.getId());
+        assertNull(fileSourceInfo.getChecksum());
+        verify(cloudStorageOperation).copyFile(STAGING_FILE_PATH, PERSISTENT_FILE_PATH);
+        verify(storageUtilService, never()).getChecksums(any(), any(), anyBoolean());
+        verify(asyncChecksumService).schedule(RECORD_ID, PERSISTENT_FILE_PATH, Collections.emptyList());
+    }
+
+    @Test
+    public void saveMetadata_DefersOnlyAlgorithmsMissingFromCopy() throws OsduBadRequestException, StorageException, ApplicationException {
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        fileMetadata = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        Record record = new Record("tenant");
+        UpsertRecords upsertRecords = new UpsertRecords();
+        upsertRecords.setRecordIds(Collections.singletonList(RECORD_ID));
+        upsertRecords.setRecordIdVersions(Collections.singletonList(RECORD_ID_VERSION));
+        checksumAlgorithmProperties.getPartitions().put("tenant",
+                Arrays.asList("MD5", "SHA256"));
+
+        when(asyncChecksumService.isEnabled()).thenReturn(true);
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(record);
+        when(dataLakeStorageService.upsertRecord(record)).thenReturn(upsertRecords);
+        when(cloudStorageOperation.copyFileWithChecksum(STAGING_FILE_PATH, PERSISTENT_FILE_PATH))
+                .thenReturn(FileCopyChecksumResponse.builder()
+                        .destinationPath(PERSISTENT_FILE_PATH)
+                        .checksum("d41d8cd98f00b204e9800998ecf8427e")
+                        .checksumAlgorithm("MD5")
+                        .build());
+
+        fileMetadataService.saveMetadata(fileMetadata);
+
+        assertEquals("d41d8cd98f00b204e9800998ecf8427e", fileSourceInfo.getChecksum());
+        assertEquals("MD5", fileSourceInfo.getChecksumAlgorithm());
+        verify(storageUtilService, never()).getChecksums(any(), any(), anyBoolean());
+        verify(asyncChecksumService).schedule(RECORD_ID, PERSISTENT_FILE_PATH,
+                Collections.singletonList("SHA256"));
+    }
+
   @Test
   public void saveMetadata_StagingFileNotDeletedPrematurely() throws OsduBadRequestException, StorageException, ApplicationException {
 
@@ -287,6 +496,107 @@ public class FileMetadataServiceTest {
         });
     }
 
+    @Test
+    public void saveMetadataBatch_ReturnsPerItemResults() throws StorageException, ApplicationException {
+
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        FileMetadata validItem = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+        FileMetadata invalidItem = FileMetadata.builder().data(fileData).kind("invalidKind").build();
+
+        String dataPartitionId = "tenant";
+        Record record = new Record(dataPartitionId);
+        UpsertRecords upsertRecords = new UpsertRecords();
+        List<String> recordIds = new ArrayList<>();
+        recordIds.add(RECORD_ID);
+        List<String> recordIdVersions = new ArrayList<>();
+        recordIdVersions.add(RECORD_ID_VERSION);
+        upsertRecords.setRecordIds(recordIds);
+        upsertRecords.setRecordIdVersions(recordIdVersions);
+
+        when(headers.getPartitionId()).thenReturn(dataPartitionId);
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(record);
+        when(dataLakeStorageService.upsertRecord(any(Record[].class))).thenReturn(upsertRecords);
+        when(cloudStorageOperation.copyFile(any(), any())).thenReturn("copy");
+        when(cloudStorageOperation.deleteFile(any())).thenReturn(Boolean.TRUE);
+
+        FileMetadataBatchResponse response = fileMetadataService.saveMetadataBatch(List.of(invalidItem, validItem));
+
+        assertEquals(2, response.getItems().size());
+        assertFalse(response.getItems().get(0).isSuccess());
+        assertEquals(400, response.getItems().get(0).getErrorCode());
+        assertTrue(response.getItems().get(1).isSuccess());
+        assertEquals(RECORD_ID, response.getItems().get(1).getId());
+        assertEquals(RECORD_ID_VERSION, response.getItems().get(1).getVersion());
+        verify(dataLakeStorageService, times(1)).upsertRecord(any(Record[].class));
+        verify(cloudStorageOperation, times(1)).deleteFile(STAGING_FILE_PATH);
+        verify(fileStatusPublisher, times(1)).publishSuccessStatus(recordIds, recordIdVersions);
+    }
+
+    @Test
+    public void saveMetadataBatch_StorageFailureFailsChunkItems() throws StorageException, ApplicationException {
+
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        FileMetadata item = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        HttpResponse httpResp = new HttpResponse();
+        httpResp.setResponseCode(403);
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(iFileMetadataRecordMapper.fileMetadataToRecord(any())).thenReturn(new Record("tenant"));
+        when(dataLakeStorageService.upsertRecord(any(Record[].class)))
+                .thenThrow(new StorageException("Forbidden", httpResp));
+
+        FileMetadataBatchResponse response = fileMetadataService.saveMetadataBatch(List.of(item));
+
+        assertFalse(response.getItems().get(0).isSuccess());
+        assertEquals(403, response.getItems().get(0).getErrorCode());
+        verify(cloudStorageOperation, times(1)).deleteFile(PERSISTENT_FILE_PATH);
+        verify(cloudStorageOperation, never()).deleteFile(STAGING_FILE_PATH);
+    }
+
+    @Test
+    public void saveMetadataBatch_CopyFailureKeepsPersistentFile() throws ApplicationException {
+
+        FileSourceInfo fileSourceInfo = FileSourceInfo.builder().fileSource(FILE_SOURCE).build();
+        DatasetProperties datasetProperties = DatasetProperties.builder().fileSourceInfo(fileSourceInfo).build();
+        FileData fileData = FileData.builder().datasetProperties(datasetProperties).build();
+        FileMetadata item = FileMetadata.builder().data(fileData).kind(FILE_METADATA_KIND).build();
+
+        when(headers.getPartitionId()).thenReturn("tenant");
+        when(dataLakeStorageFactory.create(headers)).thenReturn(dataLakeStorageService);
+        when(fileMetadataUtil1.generateRecordId(anyString(), anyString())).thenReturn(RECORD_ID);
+        when(storageUtilService.getStagingLocation(any(), any())).thenReturn(STAGING_FILE_PATH);
+        when(storageUtilService.getPersistentLocation(any(), any())).thenReturn(PERSISTENT_FILE_PATH);
+        when(cloudStorageOperation.copyFileWithChecksum(STAGING_FILE_PATH, PERSISTENT_FILE_PATH))
+                .thenThrow(new IllegalStateException("copy failed"));
+
+        FileMetadataBatchResponse response = fileMetadataService.saveMetadataBatch(List.of(item));
+
+        assertFalse(response.getItems().get(0).isSuccess());
+        assertEquals(500, response.getItems().get(0).getErrorCode());
+        verify(cloudStorageOperation, never()).deleteFile(any());
+    }
+
+    @Test
+    public void saveMetadataBatch_TooManyItems() {
+        batchProperties.setMaxItems(1);
+        FileMetadata item = FileMetadata.builder().kind(FILE_METADATA_KIND).build();
+
+        assertThrows(OsduBadRequestException.class,
+                () -> fileMetadataService.saveMetadataBatch(List.of(item, item)));
+    }
+
     @Test
     public void getMetadataById_Success()
             throws OsduBadRequestException, NotFoundException, ApplicationException, StorageException {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.file.model.SignedUrl;
+import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.property.SignedUrlCacheProperties;
+import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class SignedUrlCacheTest {
+
+  @Mock
+  private DpsHeaders headers;
+
+  private final SignedUrlCacheProperties properties = new SignedUrlCacheProperties();
+  private final AtomicInteger signed = new AtomicInteger();
+  private final Supplier<SignedUrl> signer = () -> SignedUrl.builder()
+      .uri(URI.create("https://store/file?sig=" + signed.incrementAndGet()))
+      .build();
+
+  private SignedUrlCache cache;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(headers.getPartitionId()).thenReturn("tenant");
+    lenient().when(headers.getAuthorization()).thenReturn("Bearer a");
+    properties.setEnabled(true);
+    cache = new SignedUrlCache(properties, headers, new ExpiryTimeUtil(),
+        new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  void shouldReuseUrlForSameFileAndEquivalentValidity() {
+    SignedUrl first = cache.get("/file", new SignedUrlParameters("60M"), signer);
+    SignedUrl second = cache.get("/file", new SignedUrlParameters("1H"), signer);
+
+    assertSame(first, second);
+    assertEquals(1, signed.get());
+  }
+
+  @Test
+  void shouldSignAgainForOtherParametersOrCallers() {
+    SignedUrl first = cache.get("/file", new SignedUrlParameters("1H"), signer);
+    assertNotSame(first, cache.get("/file", new SignedUrlParameters("2H"), signer));
+    assertNotSame(first, cache.get("/file", new SignedUrlParameters("1H", "name.csv", "text/csv"), signer));
+    assertNotSame(first, cache.get("/other", new SignedUrlParameters("1H"), signer));
+
+    lenient().when(headers.getAuthorization()).thenReturn("Bearer b");
+    assertNotSame(first, cache.get("/file", new SignedUrlParameters("1H"), signer));
+    assertEquals(5, signed.get());
+  }
+
+  @Test
+  void shouldNotCacheWhenDisabledOrWithoutReuseWindow() {
+    properties.setReuseFraction(0);
+    cache.get("/file", new SignedUrlParameters("1H"), signer);
+    cache.get("/file", new SignedUrlParameters("1H"), signer);
+
+    properties.setReuseFraction(0.5);
+    properties.setEnabled(false);
+    cache.get("/file", new SignedUrlParameters("1H"), signer);
+    cache.get("/file", new SignedUrlParameters("1H"), signer);
+
+    assertEquals(4, signed.get());
+  }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.copyjob;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.core.common.util.IServiceAccountJwtClient;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+import org.opengroup.osdu.file.model.copyjob.CopyJobResponse;
+import org.opengroup.osdu.file.model.file.FileCopyOperation;
+import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
+import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.DirectoryCopyPage;
+import org.opengroup.osdu.file.model.property.CopyJobProperties;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
+import org.opengroup.osdu.file.provider.interfaces.ICopyJobStore;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CopyJobServiceTest {
+
+  private static final String PARTITION = "opendes";
+
+  @Mock
+  private ICloudStorageOperation cloudStorageOperation;
+  @Mock
+  private DpsHeaders headers;
+  @Mock
+  private IServiceAccountJwtClient jwtClient;
+
+  @TempDir
+  Path storeDirectory;
+
+  private final CopyJobProperties properties = new CopyJobProperties();
+  private final ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+  private final StaticListableBeanFactory beans = new StaticListableBeanFactory();
+  private CopyJobService service;
+
+  @BeforeEach
+  void setUp() {
+    properties.setConcurrency(2);
+    properties.setStoreDirectory(storeDirectory.toString());
+    service = createService();
+    lenient().when(headers.getPartitionId()).thenReturn(PARTITION);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.destroy();
+    parallelExecutor.destroy();
+  }
+
+  @Test
+  void shouldCopyAndCheckpointEveryItem() throws Exception {
+    copyFilesFailing(Collections.emptySet());
+    List<Integer> checkpointedItems = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger jobUpdates = new AtomicInteger();
+    LocalFileCopyJobStore localStore = new LocalFileCopyJobStore(storeDirectory.toString());
+    beans.addBean("copyJobStore", new DelegatingStore(localStore) {
+      @Override
+      public boolean update(CopyJob job, long expectedVersion) {
+        jobUpdates.incrementAndGet();
+        return super.update(job, expectedVersion);
+      }
+
+      @Override
+      public void updateItem(String jobId, int index, CopyJobItem item) {
+        checkpointedItems.add(index);
+        super.updateItem(jobId, index, item);
+      }
+    });
+    service.destroy();
+    service = createService();
+
+    CopyJobResponse submitted = service.submit(CopyJob.Type.FILE, items("a", "b", "c"));
+    CopyJobResponse finished = awaitFinished(submitted.getJobId());
+
+    assertEquals(CopyJob.Status.COMPLETED, finished.getStatus());
+    assertEquals(3, finished.getCompletedItems());
+    assertEquals(Arrays.asList("persistent/a", "persistent/b", "persistent/c"), finished.getResults().stream()
+        .map(result -> result.getDatasetBlobStoragePath()).collect(Collectors.toList()));
+    assertTrue(finished.getResults().stream().allMatch(result -> result.isSuccess()));
+    verify(cloudStorageOperation, times(3)).copyFiles(any());
+    assertEquals(Arrays.asList(0, 1, 2), checkpointedItems.stream().sorted().collect(Collectors.toList()));
+    // running and finished, items are not checkpointed with the job
+    assertEquals(2, jobUpdates.get());
+    assertEquals(0, localStore.get(submitted.getJobId()).getLeaseExpiresAt());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldResumeFailedJobWithItemsNotCopied() throws Exception {
+    copyFilesFailing(Collections.singleton("staging/b"));
+    CopyJobResponse failed = awaitFinished(service.submit(CopyJob.Type.FILE, items("a", "b", "c")).getJobId());
+    assertEquals(CopyJob.Status.FAILED, failed.getStatus());
+    assertEquals(2, failed.getCompletedItems());
+    assertEquals(1, failed.getFailedItems());
+
+    copyFilesFailing(Collections.emptySet());
+    CopyJobResponse resumed = service.submit(CopyJob.Type.FILE, items("a", "b", "c"));
+    CopyJobResponse finished = awaitFinished(resumed.getJobId());
+
+    assertEquals(failed.getJobId(), resumed.getJobId());
+    assertEquals(CopyJob.Status.COMPLETED, finished.getStatus());
+    assertNull(finished.getError());
+    ArgumentCaptor<List<FileCopyOperation>> operations = ArgumentCaptor.forClass(List.class);
+    verify(cloudStorageOperation, times(4)).copyFiles(operations.capture());
+    assertEquals(Collections.singletonList("staging/b"), operations.getValue().stream()
+        .map(FileCopyOperation::getSourcePath).collect(Collectors.toList()));
+  }
+
+  @Test
+  void shouldNotCopyCompletedJobAgain() throws Exception {
+    copyFilesFailing(Collections.emptySet());
+    awaitFinished(service.submit(CopyJob.Type.FILE, items("a")).getJobId());
+
+    CopyJobResponse submittedAgain = service.submit(CopyJob.Type.FILE, items("a"));
+
+    assertEquals(CopyJob.Status.COMPLETED, submittedAgain.getStatus());
+    verify(cloudStorageOperation, times(1)).copyFiles(any());
+  }
+
+  @Test
+  void shouldCopyCompletedJobAgainOnceExpired() throws Exception {
+    properties.setCompletedJobTtlSeconds(0);
+    copyFilesFailing(Collections.emptySet());
+    awaitFinished(service.submit(CopyJob.Type.FILE, items("a")).getJobId());
+
+    CopyJobResponse submittedAgain = service.submit(CopyJob.Type.FILE, items("a"));
+    awaitFinished(submittedAgain.getJobId());
+
+    assertEquals(CopyJob.Status.QUEUED, submittedAgain.getStatus());
+    verify(cloudStorageOperation, times(2)).copyFiles(any());
+  }
+
+  @Test
+  void shouldCopyWithServiceAccountToken() throws Exception {
+    beans.addBean("serviceAccountJwtClient", jwtClient);
+    when(jwtClient.getIdToken(PARTITION)).thenReturn("service-token");
+    copyFilesFailing(Collections.emptySet());
+
+    awaitFinished(service.submit(CopyJob.Type.FILE, items("a")).getJobId());
+
+    verify(headers).put(DpsHeaders.AUTHORIZATION, "service-token");
+  }
+
+  @Test
+  void shouldLeaveJobLeasedByAnotherInstance() {
+    List<CopyJobItem> items = items("a", "b");
+    LocalFileCopyJobStore localStore = new LocalFileCopyJobStore(storeDirectory.toString());
+    localStore.create(job(items, CopyJob.Status.RUNNING, System.currentTimeMillis() + 60_000));
+
+    CopyJobResponse submitted = service.submit(CopyJob.Type.FILE, items("a", "b"));
+
+    assertEquals(CopyJob.Status.RUNNING, submitted.getStatus());
+    assertEquals("other-instance", localStore.get(submitted.getJobId()).getOwner());
+    verify(cloudStorageOperation, never()).copyFiles(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldTakeOverJobWhoseLeaseExpired() throws Exception {
+    copyFilesFailing(Collections.emptySet());
+    List<CopyJobItem> items = items("a", "b");
+    LocalFileCopyJobStore localStore = new LocalFileCopyJobStore(storeDirectory.toString());
+    CopyJob interrupted = job(items, CopyJob.Status.RUNNING, System.currentTimeMillis() - 1);
+    localStore.create(interrupted);
+    CopyJobItem copied = items("a").get(0);
+    copied.setStatus(CopyJobItem.Status.COMPLETED);
+    localStore.updateItem(interrupted.getJobId(), 0, copied);
+
+    CopyJobResponse finished = awaitFinished(service.submit(CopyJob.Type.FILE, items("a", "b")).getJobId());
+
+    assertEquals(CopyJob.Status.COMPLETED, finished.getStatus());
+    assertEquals(2, finished.getCompletedItems());
+    ArgumentCaptor<List<FileCopyOperation>> operations = ArgumentCaptor.forClass(List.class);
+    verify(cloudStorageOperation).copyFiles(operations.capture());
+    assertEquals(Collections.singletonList("staging/b"), operations.getValue().stream()
+        .map(FileCopyOperation::getSourcePath).collect(Collectors.toList()));
+  }
+
+  @Test
+  void shouldStopJobTakenOverByAnotherInstance() throws Exception {
+    LocalFileCopyJobStore localStore = new LocalFileCopyJobStore(storeDirectory.toString());
+    CountDownLatch lost = new CountDownLatch(1);
+    beans.addBean("copyJobStore", new DelegatingStore(localStore) {
+      @Override
+      public boolean update(CopyJob job, long expectedVersion) {
+        if (job.getStatus() == CopyJob.Status.RUNNING) {
+          lost.countDown();
+          return false;
+        }
+        return super.update(job, expectedVersion);
+      }
+    });
+    service.destroy();
+    service = createService();
+
+    CopyJobResponse submitted = service.submit(CopyJob.Type.FILE, items("a"));
+
+    assertTrue(lost.await(5, TimeUnit.SECONDS));
+    verify(cloudStorageOperation, after(200).never()).copyFiles(any());
+    assertEquals(CopyJob.Status.QUEUED, localStore.get(submitted.getJobId()).getStatus());
+  }
+
+  @Test
+  void shouldRenewLeaseOfRunningJob() throws Exception {
+    CountDownLatch copying = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      copying.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      List<FileCopyOperation> operations = invocation.getArgument(0);
+      return Collections.singletonList(new FileCopyOperationResponse(operations.get(0), true));
+    }).when(cloudStorageOperation).copyFiles(any());
+    LocalFileCopyJobStore localStore = new LocalFileCopyJobStore(storeDirectory.toString());
+
+    String jobId = service.submit(CopyJob.Type.FILE, items("a")).getJobId();
+    assertTrue(copying.await(5, TimeUnit.SECONDS));
+    long leaseExpiresAt = localStore.get(jobId).getLeaseExpiresAt();
+    Thread.sleep(5);
+    service.renewLeases();
+
+    assertTrue(localStore.get(jobId).getLeaseExpiresAt() > leaseExpiresAt);
+    release.countDown();
+    assertEquals(CopyJob.Status.COMPLETED, awaitFinished(jobId).getStatus());
+  }
+
+  @Test
+  void shouldResumeFileCollectionFromLastCopiedPage() throws Exception {
+    AtomicInteger failures = new AtomicInteger(1);
+    when(cloudStorageOperation.copyDirectoryPage(any(), any())).thenAnswer(invocation -> {
+      String cursor = invocation.getArgument(1);
+      if (cursor == null) {
+        return new DirectoryCopyPage(true, 1000, "staging/a/0999");
+      }
+      if (failures.getAndDecrement() > 0) {
+        return new DirectoryCopyPage(false, 0, cursor);
+      }
+      return new DirectoryCopyPage(true, 500, null);
+    });
+    String jobId = service.submit(CopyJob.Type.FILE_COLLECTION, items("a")).getJobId();
+    CopyJobResponse failed = awaitFinished(CopyJob.Type.FILE_COLLECTION, jobId);
+    assertEquals(CopyJob.Status.FAILED, failed.getStatus());
+    CopyJobItem interrupted = new LocalFileCopyJobStore(storeDirectory.toString()).get(jobId).getItems().get(0);
+    assertEquals("staging/a/0999", interrupted.getCursor());
+    assertEquals(1000, interrupted.getCopiedObjects());
+
+    service.submit(CopyJob.Type.FILE_COLLECTION, items("a"));
+    CopyJobResponse finished = awaitFinished(CopyJob.Type.FILE_COLLECTION, jobId);
+
+    assertEquals(CopyJob.Status.COMPLETED, finished.getStatus());
+    CopyJobItem copied = new LocalFileCopyJobStore(storeDirectory.toString()).get(jobId).getItems().get(0);
+    assertNull(copied.getCursor());
+    assertEquals(1500, copied.getCopiedObjects());
+    verify(cloudStorageOperation, times(1)).copyDirectoryPage(any(), isNull());
+    verify(cloudStorageOperation, times(2)).copyDirectoryPage(any(), eq("staging/a/0999"));
+    verify(cloudStorageOperation, never()).copyDirectories(any());
+  }
+
+  @Test
+  void shouldCopyFileCollectionAtOnceWithoutPages() throws Exception {
+    when(cloudStorageOperation.copyDirectories(any())).thenAnswer(invocation -> {
+      List<FileCopyOperation> operations = invocation.getArgument(0);
+      return operations.stream()
+          .map(operation -> new DatasetCopyOperation(operation, true))
+          .collect(Collectors.toList());
+    });
+
+    String jobId = service.submit(CopyJob.Type.FILE_COLLECTION, items("a", "b")).getJobId();
+    CopyJobResponse finished = awaitFinished(CopyJob.Type.FILE_COLLECTION, jobId);
+
+    assertEquals(CopyJob.Status.COMPLETED, finished.getStatus());
+    verify(cloudStorageOperation, times(2)).copyDirectories(any());
+  }
+
+  @Test
+  void shouldKeepJobsInStoreDirectoryWithoutStoreBean() throws Exception {
+    copyFilesFailing(Collections.emptySet());
+
+    String jobId = awaitFinished(service.submit(CopyJob.Type.FILE, items("a")).getJobId()).getJobId();
+
+    assertEquals(CopyJob.Status.COMPLETED, new LocalFileCopyJobStore(storeDirectory.toString()).get(jobId).getStatus());
+  }
+
+  @Test
+  void shouldNotFindJobOfAnotherPartitionOrType() throws Exception {
+    copyFilesFailing(Collections.emptySet());
+    String jobId = awaitFinished(service.submit(CopyJob.Type.FILE, items("a")).getJobId()).getJobId();
+
+    AppException otherType = assertThrows(AppException.class,
+        () -> service.getJob(CopyJob.Type.FILE_COLLECTION, jobId));
+    when(headers.getPartitionId()).thenReturn("other");
+    AppException otherPartition = assertThrows(AppException.class, () -> service.getJob(CopyJob.Type.FILE, jobId));
+    AppException invalidId = assertThrows(AppException.class, () -> service.getJob(CopyJob.Type.FILE, "../job"));
+
+    assertEquals(404, otherType.getError().getCode());
+    assertEquals(404, otherPartition.getError().getCode());
+    assertEquals(404, invalidId.getError().getCode());
+    verify(cloudStorageOperation, never()).copyDirectories(any());
+  }
+
+  private CopyJobService createService() {
+    return new CopyJobService(cloudStorageOperation, headers, properties, parallelExecutor,
+        beans.getBeanProvider(ICopyJobStore.class), beans.getBeanProvider(IServiceAccountJwtClient.class),
+        beans.getBeanProvider(MeterRegistry.class));
+  }
+
+  private CopyJob job(List<CopyJobItem> items, CopyJob.Status status, long leaseExpiresAt) {
+    return CopyJob.builder()
+        .jobId(CopyJobService.jobId(PARTITION, CopyJob.Type.FILE, items))
+        .type(CopyJob.Type.FILE)
+        .partitionId(PARTITION)
+        .status(status)
+        .items(items)
+        .owner("other-instance")
+        .leaseExpiresAt(leaseExpiresAt)
+        .build();
+  }
+
+  private void copyFilesFailing(Set<String> failingSources) {
+    doAnswer(invocation -> {
+      List<FileCopyOperation> operations = invocation.getArgument(0);
+      return operations.stream()
+          .map(operation -> new FileCopyOperationResponse(operation,
+              !failingSources.contains(operation.getSourcePath())))
+          .collect(Collectors.toList());
+    }).when(cloudStorageOperation).copyFiles(any());
+  }
+
+  private CopyJobResponse awaitFinished(String jobId) throws InterruptedException {
+    return awaitFinished(CopyJob.Type.FILE, jobId);
+  }
+
+  private CopyJobResponse awaitFinished(CopyJob.Type type, String jobId) throws InterruptedException {
+    for (int attempt = 0; attempt < 500; attempt++) {
+      CopyJobResponse response = service.getJob(type, jobId);
+      if (response.getResults() != null) {
+        return response;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("Copy job did not finish: " + jobId);
+  }
+
+  private static List<CopyJobItem> items(String... names) {
+    return Arrays.stream(names)
+        .map(name -> CopyJobItem.builder()
+            .sourcePath("staging/" + name)
+            .destinationPath("persistent/" + name)
+            .datasetBlobStoragePath("persistent/" + name)
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  private static class DelegatingStore implements ICopyJobStore {
+
+    private final ICopyJobStore delegate;
+
+    DelegatingStore(ICopyJobStore delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean create(CopyJob job) {
+      return delegate.create(job);
+    }
+
+    @Override
+    public CopyJob get(String jobId) {
+      return delegate.get(jobId);
+    }
+
+    @Override
+    public boolean update(CopyJob job, long expectedVersion) {
+      return delegate.update(job, expectedVersion);
+    }
+
+    @Override
+    public void updateItem(String jobId, int index, CopyJobItem item) {
+      delegate.updateItem(jobId, index, item);
+    }
+  }
+}
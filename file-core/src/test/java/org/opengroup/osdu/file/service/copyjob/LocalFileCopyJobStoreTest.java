@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.copyjob;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opengroup.osdu.file.model.copyjob.CopyJob;
+import org.opengroup.osdu.file.model.copyjob.CopyJobItem;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalFileCopyJobStoreTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldCreateJobOnce() {
+    LocalFileCopyJobStore store = new LocalFileCopyJobStore(directory.toString());
+
+    assertNull(store.get("job"));
+    assertTrue(store.create(job("first")));
+    assertFalse(store.create(job("second")));
+    assertEquals("first", store.get("job").getOwner());
+  }
+
+  @Test
+  void shouldUpdateJobOnlyFromExpectedVersion() {
+    LocalFileCopyJobStore store = new LocalFileCopyJobStore(directory.toString());
+    store.create(job("first"));
+    CopyJob job = store.get("job");
+    CopyJob concurrent = store.get("job");
+
+    job.setOwner("second");
+    assertTrue(store.update(job, 0));
+    concurrent.setOwner("third");
+    assertFalse(store.update(concurrent, 0));
+
+    assertEquals(1, job.getVersion());
+    assertEquals("second", store.get("job").getOwner());
+    assertEquals(1, store.get("job").getVersion());
+  }
+
+  @Test
+  void shouldKeepItemsUpdatedSeparatelyFromJob() {
+    LocalFileCopyJobStore store = new LocalFileCopyJobStore(directory.toString());
+    store.create(job("first"));
+    CopyJob job = store.get("job");
+
+    store.updateItem("job", 1, CopyJobItem.builder().sourcePath("b").status(CopyJobItem.Status.COMPLETED).build());
+    job.getItems().get(0).setStatus(CopyJobItem.Status.FAILED);
+    job.setStatus(CopyJob.Status.RUNNING);
+    store.update(job, 0);
+
+    CopyJob stored = store.get("job");
+    assertEquals(CopyJob.Status.RUNNING, stored.getStatus());
+    assertEquals(CopyJobItem.Status.PENDING, stored.getItems().get(0).getStatus());
+    assertEquals(CopyJobItem.Status.COMPLETED, stored.getItems().get(1).getStatus());
+  }
+
+  private static CopyJob job(String owner) {
+    return CopyJob.builder()
+        .jobId("job")
+        .type(CopyJob.Type.FILE)
+        .status(CopyJob.Status.QUEUED)
+        .owner(owner)
+        .items(new ArrayList<>(Arrays.asList(
+            CopyJobItem.builder().sourcePath("a").build(),
+            CopyJobItem.builder().sourcePath("b").build())))
+        .build();
+  }
+}
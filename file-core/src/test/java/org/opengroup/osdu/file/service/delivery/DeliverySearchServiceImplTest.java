@@ -18,25 +18,34 @@ import com.google.gson.Gson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.opengroup.osdu.core.common.http.FetchServiceHttpRequest;
 import org.opengroup.osdu.core.common.http.IUrlFetchService;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.HttpResponse;
 import org.opengroup.osdu.core.common.model.search.QueryResponse;
 import org.opengroup.osdu.file.model.delivery.SrnFileData;
 import org.opengroup.osdu.file.model.delivery.UrlSigningResponse;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
 import org.opengroup.osdu.file.provider.interfaces.delivery.IDeliveryUnsignedUrlLocationMapper;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -90,6 +99,8 @@ public class DeliverySearchServiceImplTest {
     @BeforeEach
     public void setUp() {
         initMocks(this);
+        ReflectionTestUtils.setField(CUT, "parallelExecutor", new ParallelExecutor(new FileExecutorProperties()));
+        ReflectionTestUtils.setField(CUT, "SEARCH_BATCH_CONCURRENCY", "8", String.class);
     }
 
     @Test
@@ -101,6 +112,7 @@ public class DeliverySearchServiceImplTest {
         srns.add("srn:file/csv:59158134479121976019:");
 
         HttpResponse response = new HttpResponse();
+        response.setResponseCode(200);
         response.setBody(responseBody);
         Mockito.when(urlFetchService.sendRequest(Mockito.any()))
                 .thenReturn(response);
@@ -144,6 +156,7 @@ public class DeliverySearchServiceImplTest {
         srns.add("srn:file/csv:59158134479121976019:");
 
         HttpResponse response = new HttpResponse();
+        response.setResponseCode(200);
         response.setBody(responseBody);
         Mockito.when(urlFetchService.sendRequest(Mockito.any()))
                 .thenReturn(response);
@@ -171,6 +184,7 @@ public class DeliverySearchServiceImplTest {
         recordIds.add("srn:file/csv:59158134479121976019:");
 
         HttpResponse response = new HttpResponse();
+        response.setResponseCode(200);
         response.setBody(responseBody);
         Mockito.when(urlFetchService.sendRequest(Mockito.any()))
                 .thenReturn(response);
@@ -198,8 +212,10 @@ public class DeliverySearchServiceImplTest {
         recordIds.add("srn:file/csv:69207556434748899880399:");
         recordIds.add("srn:file/csv:59158134479121976019:");
 
+        HttpResponse emptyResponse = new HttpResponse();
+        emptyResponse.setResponseCode(200);
         Mockito.when(urlFetchService.sendRequest(Mockito.any()))
-                .thenReturn(new HttpResponse());
+                .thenReturn(emptyResponse);
 
         // Manually set test environment variables
         ReflectionTestUtils.setField(CUT, "SEARCH_BATCH_SIZE", "100", String.class);
@@ -212,4 +228,65 @@ public class DeliverySearchServiceImplTest {
         assertTrue(actual.getResults().isEmpty());
         assertEquals(0, actual.getTotalCount());
     }
+
+    @Test
+    public void getSearchRecordsByRecordID_moreRecordsThanLimit_pagesWithCursor() throws URISyntaxException {
+        // Arrange
+        List<String> recordIds = new ArrayList<>();
+        recordIds.add("srn:file/csv:7344999246049527:");
+
+        HttpResponse cursorPage1 = new HttpResponse();
+        cursorPage1.setResponseCode(200);
+        cursorPage1.setBody("{\"cursor\":\"c1\",\"results\":[{\"id\":\"a\"}],\"totalCount\":3}");
+        HttpResponse cursorPage2 = new HttpResponse();
+        cursorPage2.setResponseCode(200);
+        cursorPage2.setBody("{\"cursor\":\"c2\",\"results\":[{\"id\":\"b\"},{\"id\":\"c\"}],\"totalCount\":3}");
+        Mockito.when(urlFetchService.sendRequest(Mockito.any()))
+                .thenReturn(cursorPage1, cursorPage2);
+
+        // Manually set test environment variables
+        ReflectionTestUtils.setField(CUT, "SEARCH_BATCH_SIZE", "100", String.class);
+        ReflectionTestUtils.setField(CUT, "SEARCH_QUERY_LIMIT", "1", String.class);
+        ReflectionTestUtils.setField(CUT, "SEARCH_QUERY_WITH_CURSOR_HOST", "search/query_with_cursor", String.class);
+
+        // Act
+        QueryResponse actual = CUT.getSearchRecordsByRecordID(recordIds);
+
+        // Assert
+        assertEquals(3, actual.getTotalCount());
+        assertEquals(Arrays.asList("a", "b", "c"), actual.getResults().stream()
+                .map(result -> result.get("id")).collect(Collectors.toList()));
+        ArgumentCaptor<FetchServiceHttpRequest> requests = ArgumentCaptor.forClass(FetchServiceHttpRequest.class);
+        Mockito.verify(urlFetchService, Mockito.times(2)).sendRequest(requests.capture());
+        assertEquals("search/query_with_cursor", requests.getAllValues().get(0).getUrl());
+        assertFalse(requests.getAllValues().get(0).getBody().contains("cursor"));
+        assertTrue(requests.getAllValues().get(1).getBody().contains("\"cursor\":\"c1\""));
+    }
+
+    @Test
+    public void getSearchRecordsByRecordID_cursorPageFails_throws() throws URISyntaxException {
+        // Arrange
+        List<String> recordIds = new ArrayList<>();
+        recordIds.add("srn:file/csv:7344999246049527:");
+
+        HttpResponse cursorPage1 = new HttpResponse();
+        cursorPage1.setResponseCode(200);
+        cursorPage1.setBody("{\"cursor\":\"c1\",\"results\":[{\"id\":\"a\"}],\"totalCount\":3}");
+        HttpResponse failedPage = new HttpResponse();
+        failedPage.setResponseCode(503);
+        failedPage.setBody("unavailable");
+        Mockito.when(urlFetchService.sendRequest(Mockito.any()))
+                .thenReturn(cursorPage1, failedPage);
+
+        // Manually set test environment variables
+        ReflectionTestUtils.setField(CUT, "SEARCH_BATCH_SIZE", "100", String.class);
+        ReflectionTestUtils.setField(CUT, "SEARCH_QUERY_LIMIT", "1", String.class);
+        ReflectionTestUtils.setField(CUT, "SEARCH_QUERY_WITH_CURSOR_HOST", "search/query_with_cursor", String.class);
+
+        // Act
+        AppException error = assertThrows(AppException.class, () -> CUT.getSearchRecordsByRecordID(recordIds));
+
+        // Assert
+        assertEquals(503, error.getError().getCode());
+    }
 }
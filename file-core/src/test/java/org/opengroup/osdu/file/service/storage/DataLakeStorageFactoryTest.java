@@ -51,6 +51,17 @@ public class DataLakeStorageFactoryTest {
     Assertions.assertNotNull(service);
 
   }
+  @Test
+  public void createReusesSharedPoolAcrossServices() throws Exception {
+    try (DataLakeStorageFactory factory = new DataLakeStorageFactory(config, bodyMapper)) {
+      Assertions.assertNotNull(factory.create(dpsHeaders));
+      Assertions.assertNotNull(factory.create(dpsHeaders));
+
+      Assertions.assertEquals(0, factory.getPoolStats().getLeased());
+      Assertions.assertEquals(200, factory.getPoolStats().getMax());
+    }
+  }
+
   @Test
   public void createThrowsNPE() {
     DataLakeStorageFactory factory = new DataLakeStorageFactory(config, bodyMapper);
@@ -29,6 +29,7 @@ import org.opengroup.osdu.core.common.http.json.HttpResponseBodyParsingException
 import org.opengroup.osdu.core.common.model.entitlements.Acl;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
+import org.opengroup.osdu.file.model.property.StorageRecordCacheProperties;
 import org.opengroup.osdu.file.model.storage.Record;
 import org.opengroup.osdu.file.model.storage.UpsertRecords;
 
@@ -236,6 +237,82 @@ public class DataLakeStorageServiceTest {
     verify(httpClient, times(1)).send(any(HttpRequest.class));
 
   }
+  @Test
+  public void getRecordIsServedFromCacheUntilUpsert() throws StorageException, HttpResponseBodyParsingException {
+
+    dataLakeStorageService = new DataLakeStorageService(storageAPIConfig, httpClient, headers, bodyMapper, getRecordCache());
+    when(headers.getPartitionId()).thenReturn("opendes");
+    when(headers.getAuthorization()).thenReturn("Bearer token");
+    when(httpClient.send(any(HttpRequest.class))).thenReturn(httpResponse);
+    when(httpResponse.isSuccessCode()).thenReturn(true);
+    when(httpResponse.IsNotFoundCode()).thenReturn(false);
+    when(bodyMapper.parseBody(httpResponse, Record.class)).thenReturn(getRecord(RECORD_ID, KIND));
+    when(bodyMapper.parseBody(httpResponse, UpsertRecords.class)).thenReturn(getUpsertRecordObject(Collections.singletonList(RECORD_ID)));
+
+    assertEquals(RECORD_ID, dataLakeStorageService.getRecord(RECORD_ID).getId());
+    assertEquals(RECORD_ID, dataLakeStorageService.getRecord(RECORD_ID).getId());
+    verify(bodyMapper, times(1)).parseBody(httpResponse, Record.class);
+
+    dataLakeStorageService.upsertRecord(getRecord(RECORD_ID, KIND));
+    dataLakeStorageService.getRecord(RECORD_ID);
+    verify(bodyMapper, times(2)).parseBody(httpResponse, Record.class);
+    verify(httpClient, times(3)).send(any(HttpRequest.class));
+  }
+
+  @Test
+  public void getRecordsFetchesOnlyMissingRecords() throws StorageException, HttpResponseBodyParsingException {
+
+    dataLakeStorageService = new DataLakeStorageService(storageAPIConfig, httpClient, headers, bodyMapper, getRecordCache());
+    when(headers.getPartitionId()).thenReturn("opendes");
+    when(headers.getAuthorization()).thenReturn("Bearer token");
+    when(httpClient.send(any(HttpRequest.class))).thenReturn(httpResponse);
+    when(httpResponse.isSuccessCode()).thenReturn(true);
+    when(httpResponse.IsNotFoundCode()).thenReturn(false);
+    when(bodyMapper.parseBody(httpResponse, MultiRecordInfo.class))
+        .thenReturn(getMultiRecordInfo(RECORD_ID), getMultiRecordInfo(RECORD_ID_2));
+
+    dataLakeStorageService.getRecords(Collections.singletonList(RECORD_ID));
+    MultiRecordInfo result = dataLakeStorageService.getRecords(Arrays.asList(RECORD_ID, RECORD_ID_2));
+
+    assertEquals(2, result.getRecords().size());
+    assertEquals(RECORD_ID, result.getRecords().get(0).getId());
+    assertEquals(RECORD_ID_2, result.getRecords().get(1).getId());
+    verify(httpClient, times(2)).send(any(HttpRequest.class));
+  }
+
+  @Test
+  public void getRecordsReturnsCachedRecordsWhenMissingOnesAreNotFound() throws StorageException, HttpResponseBodyParsingException {
+
+    dataLakeStorageService = new DataLakeStorageService(storageAPIConfig, httpClient, headers, bodyMapper, getRecordCache());
+    when(headers.getPartitionId()).thenReturn("opendes");
+    when(headers.getAuthorization()).thenReturn("Bearer token");
+    when(httpClient.send(any(HttpRequest.class))).thenReturn(httpResponse);
+    when(httpResponse.isSuccessCode()).thenReturn(true);
+    when(httpResponse.IsNotFoundCode()).thenReturn(false, true);
+    when(bodyMapper.parseBody(httpResponse, MultiRecordInfo.class)).thenReturn(getMultiRecordInfo(RECORD_ID));
+
+    dataLakeStorageService.getRecords(Collections.singletonList(RECORD_ID));
+    MultiRecordInfo result = dataLakeStorageService.getRecords(Arrays.asList(RECORD_ID, RECORD_ID_2));
+
+    assertEquals(1, result.getRecords().size());
+    assertEquals(RECORD_ID, result.getRecords().get(0).getId());
+    assertEquals(Collections.singletonList(RECORD_ID_2), result.getInvalidRecords());
+  }
+
+  private RecordCache getRecordCache() {
+    StorageRecordCacheProperties properties = new StorageRecordCacheProperties();
+    properties.setEnabled(true);
+    return new RecordCache(properties);
+  }
+
+  private MultiRecordInfo getMultiRecordInfo(String recordId) {
+    org.opengroup.osdu.core.common.model.storage.Record record = new org.opengroup.osdu.core.common.model.storage.Record();
+    record.setId(recordId);
+    MultiRecordInfo multiRecordInfo = new MultiRecordInfo();
+    multiRecordInfo.setRecords(new java.util.ArrayList<>(Collections.singletonList(record)));
+    return multiRecordInfo;
+  }
+
   private Record getRecord(String recordId, String kind) {
     Record record = new Record();
     record.setId(recordId);
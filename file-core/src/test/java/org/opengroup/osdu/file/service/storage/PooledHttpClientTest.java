@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.storage;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.http.HttpRequest;
+import org.opengroup.osdu.core.common.http.HttpResponse;
+import org.opengroup.osdu.file.model.property.StorageHttpClientProperties;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledHttpClientTest {
+
+  private static final String BODY = "{\"id\":\"opendes:dataset--File.Generic:1\"}";
+
+  private HttpServer server;
+  private PooledHttpClient httpClient;
+  private String baseUrl;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/records", exchange -> {
+      byte[] response = BODY.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, response.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(response);
+      }
+    });
+    server.createContext("/slow", exchange -> {
+      try {
+        Thread.sleep(2000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+    httpClient = new PooledHttpClient(new StorageHttpClientProperties());
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    httpClient.close();
+    server.stop(0);
+  }
+
+  @Test
+  public void sendReturnsResponseAndKeepsConnectionAlive() {
+    HttpRequest request = HttpRequest.get().url(baseUrl + "/records/1")
+        .headers(Collections.singletonMap("data-partition-id", "opendes")).build();
+
+    HttpResponse first = httpClient.send(request);
+    HttpResponse second = httpClient.send(request);
+
+    assertEquals(200, first.getResponseCode());
+    assertEquals(BODY, first.getBody());
+    assertEquals(200, second.getResponseCode());
+    assertNull(second.getException());
+    assertEquals(0, httpClient.getPoolStats().getLeased());
+    assertEquals(1, httpClient.getPoolStats().getAvailable());
+  }
+
+  @Test
+  public void sendHonorsRequestTimeout() {
+    HttpRequest request = HttpRequest.get().url(baseUrl + "/slow").connectionTimeout(200).build();
+
+    HttpResponse response = httpClient.send(request);
+
+    assertNotNull(response.getException());
+    assertTrue(response.getLatency() < 2000);
+  }
+
+  @Test
+  public void sendSetsExceptionWhenServerIsUnreachable() {
+    server.stop(0);
+    HttpRequest request = HttpRequest.get().url(baseUrl + "/records/1").build();
+
+    HttpResponse response = httpClient.send(request);
+
+    assertNotNull(response.getException());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.model.http.DpsHeaders;
+import org.opengroup.osdu.file.model.property.StorageRecordCacheProperties;
+import org.opengroup.osdu.file.model.storage.Record;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RecordCacheTest {
+
+  private static final String RECORD_ID = "opendes:dataset--File.Generic:1";
+
+  private RecordCache cache;
+  private DpsHeaders headers;
+
+  @BeforeEach
+  public void setUp() {
+    StorageRecordCacheProperties properties = new StorageRecordCacheProperties();
+    properties.setEnabled(true);
+    cache = new RecordCache(properties);
+    headers = new DpsHeaders();
+    headers.put(DpsHeaders.DATA_PARTITION_ID, "opendes");
+    headers.put(DpsHeaders.AUTHORIZATION, "Bearer token");
+  }
+
+  @Test
+  public void getReturnsCopyOfCachedRecord() {
+    cache.put(headers, RECORD_ID, 1L, record(1L, "a"));
+
+    cache.get(headers, RECORD_ID, Record.class).setKind("changed");
+
+    assertEquals("a", cache.get(headers, RECORD_ID, Record.class).getKind());
+  }
+
+  @Test
+  public void putKeepsNewerVersion() {
+    cache.put(headers, RECORD_ID, 2L, record(2L, "new"));
+    cache.put(headers, RECORD_ID, 1L, record(1L, "old"));
+
+    assertEquals("new", cache.get(headers, RECORD_ID, Record.class).getKind());
+  }
+
+  @Test
+  public void invalidateDropsEveryCallerView() {
+    DpsHeaders other = new DpsHeaders();
+    other.put(DpsHeaders.DATA_PARTITION_ID, "opendes");
+    other.put(DpsHeaders.AUTHORIZATION, "Bearer other");
+    cache.put(headers, RECORD_ID, 1L, record(1L, "a"));
+    cache.put(other, RECORD_ID, 1L, record(1L, "a"));
+
+    cache.invalidate("opendes", Collections.singletonList(RECORD_ID));
+
+    assertNull(cache.get(headers, RECORD_ID, Record.class));
+    assertNull(cache.get(other, RECORD_ID, Record.class));
+  }
+
+  @Test
+  public void putSkipsRecordReadBeforeInvalidation() {
+    long generation = cache.generation("opendes", RECORD_ID);
+    cache.invalidate("opendes", Collections.singletonList(RECORD_ID));
+
+    cache.put(headers, RECORD_ID, 1L, record(1L, "stale"), generation);
+
+    assertNull(cache.get(headers, RECORD_ID, Record.class));
+    cache.put(headers, RECORD_ID, 2L, record(2L, "fresh"), cache.generation("opendes", RECORD_ID));
+    assertEquals("fresh", cache.get(headers, RECORD_ID, Record.class).getKind());
+  }
+
+  private Record record(Long version, String kind) {
+    Record record = new Record(kind, RECORD_ID);
+    record.setVersion(version);
+    return record;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.storage.MultiRecordInfo;
+import org.opengroup.osdu.core.common.model.storage.Record;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.StorageRecordsQueryProperties;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorageRecordReaderTest {
+
+  @Mock
+  private DataLakeStorageService storage;
+
+  private StorageRecordReader reader;
+
+  @BeforeEach
+  void setUp() {
+    StorageRecordsQueryProperties properties = new StorageRecordsQueryProperties();
+    properties.setChunkSize(2);
+    properties.setConcurrency(4);
+    reader = new StorageRecordReader(new ParallelExecutor(new FileExecutorProperties()), properties);
+  }
+
+  @Test
+  void shouldQueryChunksAndMergeInOrder() throws Exception {
+    when(storage.getRecords(any())).thenAnswer(invocation -> {
+      Collection<String> ids = invocation.getArgument(0);
+      MultiRecordInfo info = new MultiRecordInfo();
+      info.setRecords(ids.stream().filter(id -> !id.equals("c")).map(this::record).collect(Collectors.toList()));
+      info.setInvalidRecords(ids.contains("c") ? Collections.singletonList("c") : new ArrayList<>());
+      return info;
+    });
+
+    MultiRecordInfo result = reader.getRecords(storage, Arrays.asList("a", "b", "c", "d", "e", "a"));
+
+    assertEquals(Arrays.asList("a", "b", "d", "e"),
+        result.getRecords().stream().map(Record::getId).collect(Collectors.toList()));
+    assertEquals(Collections.singletonList("c"), result.getInvalidRecords());
+    assertTrue(result.getRetryRecords().isEmpty());
+    verify(storage, times(3)).getRecords(any());
+  }
+
+  @Test
+  void shouldReportChunkNotFoundAsInvalidRecords() throws Exception {
+    when(storage.getRecords(any())).thenReturn(null);
+
+    MultiRecordInfo result = reader.getRecords(storage, Arrays.asList("a", "b", "c"));
+
+    assertTrue(result.getRecords().isEmpty());
+    assertEquals(Arrays.asList("a", "b", "c"), result.getInvalidRecords());
+  }
+
+  @Test
+  void shouldRethrowStorageException() throws Exception {
+    StorageException exception = new StorageException("failed", null);
+    when(storage.getRecords(any())).thenThrow(exception);
+
+    StorageException thrown = assertThrows(StorageException.class,
+        () -> reader.getRecords(storage, Arrays.asList("a", "b", "c")));
+
+    assertSame(exception, thrown);
+  }
+
+  private Record record(String id) {
+    Record record = new Record();
+    record.setId(id);
+    return record;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.model.property.ChecksumAlgorithmProperties;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChecksumAlgorithmValidatorTest {
+
+  private final ChecksumAlgorithmProperties properties = new ChecksumAlgorithmProperties();
+  private final ChecksumAlgorithmValidator validator =
+      new ChecksumAlgorithmValidator(properties, new ChecksumDigests(
+          new StaticListableBeanFactory().getBeanProvider(IChecksumDigestFactory.class)));
+
+  @Test
+  public void acceptsSupportedAlgorithms() {
+    properties.setDefaults(Arrays.asList("MD5", "CRC32C"));
+    properties.getPartitions().put("opendes", Collections.singletonList("SHA256"));
+
+    assertDoesNotThrow(validator::validate);
+  }
+
+  @Test
+  public void rejectsNone() {
+    properties.getPartitions().put("opendes", Arrays.asList("MD5", "NONE"));
+
+    IllegalStateException e = assertThrows(IllegalStateException.class, validator::validate);
+
+    assertTrue(e.getMessage().contains("partitions.opendes=NONE"));
+  }
+
+  @Test
+  public void rejectsUnregisteredAlgorithm() {
+    properties.setDefaults(Collections.singletonList("XXH64"));
+
+    IllegalStateException e = assertThrows(IllegalStateException.class, validator::validate);
+
+    assertTrue(e.getMessage().contains("defaults=XXH64"));
+  }
+}
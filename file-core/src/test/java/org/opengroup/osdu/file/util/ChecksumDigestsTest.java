@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChecksumDigestsTest {
+
+  private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+  private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+  @Test
+  public void crc32cMatchesCheckValue() throws Exception {
+    MessageDigest digest = newChecksumDigests().newDigest("CRC32C");
+    digest.update(CHECK_INPUT, 0, 4);
+    digest.update(CHECK_INPUT, 4, CHECK_INPUT.length - 4);
+
+    assertEquals("e3069283", HexFormat.of().formatHex(digest.digest()));
+  }
+
+  @Test
+  public void builtInAlgorithmsAreSupported() {
+    ChecksumDigests checksumDigests = newChecksumDigests();
+
+    assertTrue(checksumDigests.isSupported("MD5"));
+    assertTrue(checksumDigests.isSupported("SHA1"));
+    assertTrue(checksumDigests.isSupported("SHA256"));
+    assertTrue(checksumDigests.isSupported("CRC32C"));
+  }
+
+  @Test
+  public void customFactoryReplacesBuiltInAlgorithm() throws Exception {
+    beanFactory.addBean("crc32c", digestFactory("CRC32C", "SHA-256"));
+
+    assertEquals("SHA-256", newChecksumDigests().newDigest("CRC32C").getAlgorithm());
+  }
+
+  @Test
+  public void customFactoryAddsAlgorithm() throws Exception {
+    beanFactory.addBean("sha512", digestFactory("SHA512", "SHA-512"));
+    ChecksumDigests checksumDigests = newChecksumDigests();
+
+    assertTrue(checksumDigests.getAlgorithms().contains("SHA512"));
+    assertEquals("SHA-512", checksumDigests.newDigest("SHA512").getAlgorithm());
+  }
+
+  @Test
+  public void customFactoryWithoutNameIsRejected() {
+    beanFactory.addBean("unnamed", digestFactory(" ", "SHA-512"));
+
+    assertThrows(IllegalStateException.class, this::newChecksumDigests);
+  }
+
+  @Test
+  public void unknownAlgorithmIsRejected() {
+    ChecksumDigests checksumDigests = newChecksumDigests();
+
+    assertFalse(checksumDigests.isSupported("XXH64"));
+    assertThrows(NoSuchAlgorithmException.class, () -> checksumDigests.newDigest("XXH64"));
+    assertThrows(NoSuchAlgorithmException.class, () -> checksumDigests.newDigest(null));
+  }
+
+  private ChecksumDigests newChecksumDigests() {
+    return new ChecksumDigests(beanFactory.getBeanProvider(IChecksumDigestFactory.class));
+  }
+
+  private static IChecksumDigestFactory digestFactory(String algorithm, String jdkName) {
+    return new IChecksumDigestFactory() {
+      @Override
+      public String getAlgorithm() {
+        return algorithm;
+      }
+
+      @Override
+      public MessageDigest newDigest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(jdkName);
+      }
+    };
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.model.filecollection.StoredObjectSummary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectoryDiffTest {
+
+  @Test
+  public void compareFindsNewChangedAndRemovedObjects() {
+    List<StoredObjectSummary> source = Arrays.asList(
+        object("same", 10, "\"aa\"", 1L),
+        object("resized", 11, "bb", 1L),
+        object("edited", 10, "cc", 1L),
+        object("new", 10, "dd", 1L));
+    List<StoredObjectSummary> destination = Arrays.asList(
+        object("same", 10, "AA", 2L),
+        object("resized", 10, "bb", 2L),
+        object("edited", 10, "ee", 2L),
+        object("removed", 10, "ff", 2L));
+
+    DirectoryDiff diff = DirectoryDiff.compare(source, destination);
+
+    assertEquals(1, diff.getUnchanged());
+    assertEquals(Arrays.asList("resized", "edited", "new"), keys(diff.getChanged()));
+    assertEquals(Collections.singletonList("removed"), keys(diff.getRemoved()));
+  }
+
+  @Test
+  public void compositeETagsFallBackToModificationTime() {
+    StoredObjectSummary source = object("big", 100, "aa-3", 5L);
+
+    assertTrue(DirectoryDiff.isUnchanged(source, object("big", 100, "bb-2", 5L)));
+    assertFalse(DirectoryDiff.isUnchanged(source, object("big", 100, "bb-2", 4L)));
+    assertFalse(DirectoryDiff.isUnchanged(source, object("big", 100, "bb", null)));
+    assertFalse(DirectoryDiff.isUnchanged(object("small", 100, "aa", 1L), object("small", 100, "bb", 5L)));
+  }
+
+  private static StoredObjectSummary object(String key, long size, String checksum, Long lastModified) {
+    return StoredObjectSummary.builder()
+        .relativeKey(key).size(size).checksum(checksum).lastModified(lastModified).build();
+  }
+
+  private static List<String> keys(List<StoredObjectSummary> objects) {
+    return objects.stream().map(StoredObjectSummary::getRelativeKey).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileCollectionManifestsTest {
+
+  @Test
+  public void manifestIsWrittenInsideTheCollection() {
+    assertEquals("tenant/collection/.manifest.json.gz", FileCollectionManifests.manifestPath("tenant/collection/"));
+    assertEquals("tenant/collection/.manifest.json.gz", FileCollectionManifests.manifestPath("tenant/collection"));
+  }
+
+  @Test
+  public void manifestIsRecognizedInListings() {
+    assertTrue(FileCollectionManifests.isManifest("tenant/collection/.manifest.json.gz"));
+    assertTrue(FileCollectionManifests.isManifest(".manifest.json.gz"));
+    assertFalse(FileCollectionManifests.isManifest("tenant/collection/data.manifest.json.gz"));
+  }
+
+  @Test
+  public void decodeReturnsTheEncodedManifest() {
+    FileCollectionManifest manifest = FileCollectionManifest.of(Arrays.asList(
+        FileCollectionManifest.Entry.builder().path("a.txt").size(3).checksum("abc")
+            .checksumAlgorithm("MD5").etag("\"e1\"").build(),
+        FileCollectionManifest.Entry.builder().path("sub/b.txt").size(4).build()));
+
+    FileCollectionManifest decoded = FileCollectionManifests.decode(
+        new ByteArrayInputStream(FileCollectionManifests.encode(manifest)));
+
+    assertEquals(manifest, decoded);
+    assertEquals(FileCollectionManifest.VERSION, decoded.getVersion());
+    assertEquals(2, decoded.getFileCount());
+    assertEquals(7, decoded.getTotalSize());
+  }
+}
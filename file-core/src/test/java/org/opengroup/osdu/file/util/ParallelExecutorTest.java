@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelExecutorTest {
+
+  private final ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+  @AfterEach
+  public void tearDown() {
+    parallelExecutor.destroy();
+  }
+
+  @Test
+  public void mapKeepsInputOrder() {
+    List<Integer> items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+    List<Integer> results = parallelExecutor.map(items, 8, item -> item * 2);
+
+    assertEquals(200, results.size());
+    for (int i = 0; i < items.size(); i++) {
+      assertEquals(i * 2, results.get(i));
+    }
+  }
+
+  @Test
+  public void mapBoundsConcurrency() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<Integer> items = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+
+    parallelExecutor.map(items, 4, item -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep();
+      running.decrementAndGet();
+      return item;
+    });
+
+    assertTrue(maxRunning.get() <= 4);
+  }
+
+  @Test
+  public void mapRethrowsTaskFailure() {
+    List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> parallelExecutor.map(items, 4, item -> {
+          if (item == 7) {
+            throw new IllegalStateException("failed item");
+          }
+          return item;
+        }));
+    assertEquals("failed item", exception.getMessage());
+  }
+
+  @Test
+  public void nestedMapDoesNotDeadlockWhenPoolIsSaturated() {
+    FileExecutorProperties properties = new FileExecutorProperties();
+    properties.setPoolSize(1);
+    properties.setQueueCapacity(0);
+    ParallelExecutor smallExecutor = new ParallelExecutor(properties);
+    List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    List<Integer> results = smallExecutor.map(items, 4,
+        item -> smallExecutor.map(items, 4, inner -> inner).size() + item);
+
+    assertEquals(10, results.get(0));
+    assertEquals(19, results.get(9));
+    smallExecutor.destroy();
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RangedChecksumProperties;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of sequential and ranged checksums against an in-memory object store stand-in that
+ * limits the bandwidth of each connection, the way a single stream to S3 or Blob Storage is.
+ * Excluded from the default test run, run it with the {@code benchmark} profile:
+ * {@code mvn test -pl file-core -Pbenchmark}
+ */
+@Tag("benchmark")
+public class RangedChecksumCalculatorBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RangedChecksumCalculatorBenchmark.class);
+
+  private static final List<String> ALGORITHMS = Collections.singletonList("MD5");
+  private static final int OBJECT_SIZE = Integer.getInteger("benchmark.objectSizeMb", 256) * 1024 * 1024;
+  private static final long STREAM_BYTES_PER_SECOND =
+      Long.getLong("benchmark.streamMbPerSecond", 64) * 1024 * 1024;
+  private static final long FIRST_BYTE_LATENCY_MILLIS = Long.getLong("benchmark.firstByteMillis", 20);
+
+  @Test
+  public void compareSequentialAndRangedThroughput() throws Exception {
+    byte[] object = new byte[OBJECT_SIZE];
+    new Random(1).nextBytes(object);
+    ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+    try {
+      RangedChecksumProperties properties = new RangedChecksumProperties();
+      RangedChecksumCalculator calculator = new RangedChecksumCalculator(parallelExecutor, properties,
+          new ChecksumDigests(new StaticListableBeanFactory().getBeanProvider(IChecksumDigestFactory.class)));
+
+      long start = System.nanoTime();
+      Map<String, String> sequential = calculator.checksums(ALGORITHMS, open(object, 0, object.length));
+      report("sequential", System.nanoTime() - start);
+
+      for (int concurrency : new int[] {4, 8, 16}) {
+        properties.setConcurrency(concurrency);
+        start = System.nanoTime();
+        Map<String, String> ranged = calculator.checksums(ALGORITHMS, object.length,
+            (offset, length) -> open(object, (int) offset, (int) length));
+        report("ranged, concurrency " + concurrency + ", part " + properties.getPartSizeBytes() / 1024 / 1024 + " MB",
+            System.nanoTime() - start);
+        assertEquals(sequential, ranged);
+      }
+    } finally {
+      parallelExecutor.destroy();
+    }
+  }
+
+  private static void report(String name, long nanos) {
+    double seconds = nanos / 1e9;
+    LOGGER.info(String.format("%-40s %8.2f s %10.1f MB/s", name, seconds, OBJECT_SIZE / 1024.0 / 1024.0 / seconds));
+  }
+
+  private static InputStream open(byte[] object, int offset, int length) {
+    return new ThrottledInputStream(Arrays.copyOfRange(object, offset, offset + length));
+  }
+
+  /**
+   * Stream of a stored range, paced to the bandwidth of a single connection.
+   */
+  private static class ThrottledInputStream extends FilterInputStream {
+
+    private final long startNanos = System.nanoTime();
+    private long delivered;
+
+    ThrottledInputStream(byte[] range) {
+      super(new ByteArrayInputStream(range));
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        delivered += read;
+        pace();
+      }
+      return read;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int read = super.read();
+      if (read >= 0) {
+        delivered++;
+        pace();
+      }
+      return read;
+    }
+
+    private void pace() throws IOException {
+      long dueNanos = FIRST_BYTE_LATENCY_MILLIS * 1_000_000L + delivered * 1_000_000_000L / STREAM_BYTES_PER_SECOND;
+      long waitNanos = dueNanos - (System.nanoTime() - startNanos);
+      if (waitNanos > 0) {
+        try {
+          Thread.sleep(waitNanos / 1_000_000L, (int) (waitNanos % 1_000_000L));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+    }
+  }
+}
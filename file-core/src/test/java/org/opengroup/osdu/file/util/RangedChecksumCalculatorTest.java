@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RangedChecksumProperties;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RangedChecksumCalculatorTest {
+
+  private static final List<String> MD5 = Collections.singletonList("MD5");
+
+  private final ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+  @AfterEach
+  public void tearDown() {
+    parallelExecutor.destroy();
+  }
+
+  @Test
+  public void rangedDigestMatchesSequentialDigest() throws Exception {
+    byte[] content = new byte[1000];
+    new Random(42).nextBytes(content);
+    AtomicInteger reads = new AtomicInteger();
+    RangedChecksumCalculator calculator = calculator(properties(64, 3));
+
+    Map<String, String> checksums = calculator.checksums(MD5, content.length, (offset, length) -> {
+      reads.incrementAndGet();
+      return new ByteArrayInputStream(content, (int) offset, (int) length);
+    });
+
+    assertEquals(hex("MD5", content), checksums.get("MD5"));
+    assertEquals(16, reads.get());
+  }
+
+  @Test
+  public void streamDigestMatchesSequentialDigest() throws Exception {
+    byte[] content = new byte[1000];
+    new Random(7).nextBytes(content);
+    RangedChecksumCalculator calculator = calculator(properties(64, 3));
+
+    Map<String, String> checksums = calculator.checksums(MD5, new ByteArrayInputStream(content));
+
+    assertEquals(hex("MD5", content), checksums.get("MD5"));
+  }
+
+  @Test
+  public void rangedChecksumsComputesAllAlgorithmsInOnePass() throws Exception {
+    byte[] content = new byte[1000];
+    new Random(11).nextBytes(content);
+    AtomicInteger reads = new AtomicInteger();
+    RangedChecksumCalculator calculator = calculator(properties(64, 3));
+    List<String> algorithms =
+        Arrays.asList("SHA256", "MD5", "CRC32C");
+
+    Map<String, String> checksums = calculator.checksums(algorithms, content.length, (offset, length) -> {
+      reads.incrementAndGet();
+      return new ByteArrayInputStream(content, (int) offset, (int) length);
+    });
+
+    assertEquals(algorithms, List.copyOf(checksums.keySet()));
+    assertEquals(hex("SHA-256", content), checksums.get("SHA256"));
+    assertEquals(hex("MD5", content), checksums.get("MD5"));
+    assertEquals(8, checksums.get("CRC32C").length());
+    assertEquals(16, reads.get());
+  }
+
+  @Test
+  public void rangedReadsStayWithinBufferLimit() throws Exception {
+    byte[] content = new byte[1000];
+    new Random(3).nextBytes(content);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    RangedChecksumProperties properties = properties(64, 8);
+    properties.setMaxBufferedBytes(128);
+    RangedChecksumCalculator calculator = calculator(properties);
+
+    Map<String, String> checksums = calculator.checksums(MD5, content.length, (offset, length) -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      return new FilterInputStream(new ByteArrayInputStream(content, (int) offset, (int) length)) {
+        @Override
+        public void close() throws IOException {
+          inFlight.decrementAndGet();
+          super.close();
+        }
+      };
+    });
+
+    assertEquals(hex("MD5", content), checksums.get("MD5"));
+    assertTrue(maxInFlight.get() <= 2);
+  }
+
+  @Test
+  public void rangedDigestFailsOnShortRead() {
+    byte[] content = new byte[100];
+    RangedChecksumCalculator calculator = calculator(properties(40, 2));
+
+    assertThrows(IOException.class, () -> calculator.checksums(MD5, content.length,
+        (offset, length) -> new ByteArrayInputStream(content, (int) offset, (int) length - 1)));
+  }
+
+  @Test
+  public void rangedReadOnlyForObjectsAboveThreshold() {
+    RangedChecksumProperties properties = properties(64, 3);
+    properties.setMinObjectSizeBytes(1000);
+    RangedChecksumCalculator calculator = calculator(properties);
+
+    assertFalse(calculator.isRangedReadFor(999));
+    assertTrue(calculator.isRangedReadFor(1000));
+
+    properties.setEnabled(false);
+    assertFalse(calculator.isRangedReadFor(1000));
+  }
+
+  private RangedChecksumCalculator calculator(RangedChecksumProperties properties) {
+    return new RangedChecksumCalculator(parallelExecutor, properties, new ChecksumDigests(
+        new StaticListableBeanFactory().getBeanProvider(IChecksumDigestFactory.class)));
+  }
+
+  private static String hex(String algorithm, byte[] content) throws Exception {
+    return HexFormat.of().formatHex(MessageDigest.getInstance(algorithm).digest(content));
+  }
+
+  private static RangedChecksumProperties properties(int partSize, int concurrency) {
+    RangedChecksumProperties properties = new RangedChecksumProperties();
+    properties.setPartSizeBytes(partSize);
+    properties.setConcurrency(concurrency);
+    properties.setMinObjectSizeBytes(0);
+    return properties;
+  }
+}
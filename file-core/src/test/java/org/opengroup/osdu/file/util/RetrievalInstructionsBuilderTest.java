@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.core.common.dms.model.DatasetRetrievalProperties;
+import org.opengroup.osdu.core.common.dms.model.RetrievalInstructionsResponse;
+import org.opengroup.osdu.core.common.model.http.AppException;
+import org.opengroup.osdu.file.model.FileRetrievalData;
+import org.opengroup.osdu.file.model.PartialRetrievalInstructionsResponse;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RetrievalInstructionsProperties;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetrievalInstructionsBuilderTest {
+
+  private final ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+  private final RetrievalInstructionsBuilder builder =
+      new RetrievalInstructionsBuilder(parallelExecutor, new RetrievalInstructionsProperties());
+
+  private final Function<FileRetrievalData, DatasetRetrievalProperties> signer = data -> {
+    if (data.getUnsignedUrl().startsWith("bad")) {
+      throw new AppException(400, "Malformed URL", data.getUnsignedUrl());
+    }
+    return DatasetRetrievalProperties.builder()
+        .datasetRegistryId(data.getRecordId())
+        .retrievalProperties(Collections.singletonMap("signedUrl", data.getUnsignedUrl() + "?signed"))
+        .build();
+  };
+
+  @AfterEach
+  public void tearDown() {
+    parallelExecutor.destroy();
+  }
+
+  @Test
+  public void buildKeepsRequestOrder() {
+    List<FileRetrievalData> items = IntStream.range(0, 100)
+        .mapToObj(i -> data("id" + i, "url" + i))
+        .collect(Collectors.toList());
+
+    RetrievalInstructionsResponse response = builder.build(items, signer);
+
+    assertFalse(response instanceof PartialRetrievalInstructionsResponse);
+    assertEquals(items.stream().map(FileRetrievalData::getRecordId).collect(Collectors.toList()),
+        response.getDatasets().stream().map(DatasetRetrievalProperties::getDatasetRegistryId).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void buildReportsDatasetsThatCannotBeSigned() {
+    List<FileRetrievalData> items = Arrays.asList(data("id1", "url1"), data("id2", "bad2"), data("id3", "url3"));
+
+    RetrievalInstructionsResponse response = builder.build(items, signer);
+
+    assertTrue(response instanceof PartialRetrievalInstructionsResponse);
+    assertEquals(2, response.getDatasets().size());
+    assertEquals(Collections.singletonList("id2"),
+        ((PartialRetrievalInstructionsResponse) response).getUnresolvedDatasetRegistryIds());
+  }
+
+  @Test
+  public void buildThrowsWhenNoDatasetCanBeSigned() {
+    List<FileRetrievalData> items = Arrays.asList(data("id1", "bad1"), data("id2", "bad2"));
+
+    AppException e = assertThrows(AppException.class, () -> builder.build(items, signer));
+
+    assertEquals(400, e.getError().getCode());
+  }
+
+  @Test
+  public void partialResponsesAreMerged() {
+    RetrievalInstructionsResponse response = builder.build(
+        Arrays.asList(data("id1", "url1"), data("id2", "bad2")), signer);
+
+    RetrievalInstructionsResponse merged = PartialRetrievalInstructionsResponse.of(response,
+        Collections.singletonList("id3"));
+
+    assertEquals(Arrays.asList("id2", "id3"),
+        ((PartialRetrievalInstructionsResponse) merged).getUnresolvedDatasetRegistryIds());
+  }
+
+  private static FileRetrievalData data(String recordId, String unsignedUrl) {
+    return FileRetrievalData.builder().recordId(recordId).unsignedUrl(unsignedUrl).build();
+  }
+}
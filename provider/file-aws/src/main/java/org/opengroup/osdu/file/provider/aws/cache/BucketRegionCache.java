@@ -0,0 +1,32 @@
+/**
+* Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*      http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.opengroup.osdu.file.provider.aws.cache;
+
+import org.opengroup.osdu.core.common.cache.VmCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Regions of S3 buckets by bucket name. A bucket keeps its region for its lifetime; entries expire
+ * so that a bucket deleted and created again in another region is found again.
+ */
+@Component
+public class BucketRegionCache extends VmCache<String, String> {
+
+    public BucketRegionCache() {
+        super(3_600, 1_000);
+    }
+}
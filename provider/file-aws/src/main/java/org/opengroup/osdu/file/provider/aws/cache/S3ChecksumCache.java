@@ -0,0 +1,36 @@
+/**
+* Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*      http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.opengroup.osdu.file.provider.aws.cache;
+
+import org.opengroup.osdu.core.common.cache.VmCache;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Checksums by algorithm name computed by downloading an S3 object, keyed by bucket, key and ETag. An object that is
+ * overwritten gets a new ETag, so a stale entry is never served.
+ */
+@Lazy
+@Component
+public class S3ChecksumCache extends VmCache<String, Map<String, String>> {
+
+    public S3ChecksumCache() {
+        super(86_400, 10_000);
+    }
+}
@@ -0,0 +1,166 @@
+/**
+* Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*      http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.opengroup.osdu.file.provider.aws.cache;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Temporary credentials of assumed roles, shared by the requests for the same role, location,
+ * access type and duration.
+ *
+ * <p>Credentials are reused while at least {@code min-remaining-fraction} of the requested
+ * duration remains, and refreshed on a dedicated background thread once less than
+ * {@code refresh-ahead-fraction} remains. Presigned URLs must not outlive the credentials they
+ * are signed with, which can expire before the expiration a request asked for. Concurrent requests for missing credentials wait for a
+ * single {@code AssumeRole} call.
+ */
+@Slf4j
+@Component
+public class StsCredentialsCache implements DisposableBean {
+
+    public enum AccessType {
+        UPLOAD,
+        RETRIEVAL
+    }
+
+    @lombok.Value
+    public static class Key {
+        String roleArn;
+        String bucket;
+        String prefix;
+        AccessType accessType;
+        long durationSeconds;
+    }
+
+    @Value("${aws.sts.credentials-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${aws.sts.credentials-cache.max-size:1000}")
+    private int maxSize = 1000;
+
+    @Value("${aws.sts.credentials-cache.min-remaining-fraction:0.75}")
+    private double minRemainingFraction = 0.75;
+
+    @Value("${aws.sts.credentials-cache.refresh-ahead-fraction:0.9}")
+    private double refreshAheadFraction = 0.9;
+
+    private final Map<Key, TemporaryCredentials> credentials = new ConcurrentHashMap<>();
+
+    private final Map<Key, CompletableFuture<TemporaryCredentials>> loading = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("sts-credentials-refresh-%d").setDaemon(true).build());
+
+    /**
+     * @param loader assumes the role of the key, called only if there are no usable credentials
+     */
+    public TemporaryCredentials get(Key key, Supplier<TemporaryCredentials> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long durationMillis = key.getDurationSeconds() * 1_000L;
+        TemporaryCredentials cached = credentials.get(key);
+        long remaining = remainingMillis(cached);
+        if (remaining >= minRemainingFraction * durationMillis) {
+            if (remaining < refreshAheadFraction * durationMillis) {
+                load(key, loader, true);
+            }
+            return cached;
+        }
+        try {
+            return load(key, loader, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<TemporaryCredentials> load(Key key, Supplier<TemporaryCredentials> loader, boolean background) {
+        CompletableFuture<TemporaryCredentials> created = new CompletableFuture<>();
+        CompletableFuture<TemporaryCredentials> existing = loading.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        Runnable task = () -> {
+            try {
+                TemporaryCredentials loaded = loader.get();
+                put(key, loaded);
+                created.complete(loaded);
+            } catch (RuntimeException e) {
+                if (background) {
+                    log.warn("Unable to refresh the credentials of role {} for {}/{}, keeping the current ones",
+                        key.getRoleArn(), key.getBucket(), key.getPrefix(), e);
+                }
+                created.completeExceptionally(e);
+            } finally {
+                loading.remove(key, created);
+            }
+        };
+        if (background) {
+            try {
+                refreshExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                loading.remove(key, created);
+                created.completeExceptionally(e);
+            }
+        } else {
+            task.run();
+        }
+        return created;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void put(Key key, TemporaryCredentials loaded) {
+        credentials.put(key, loaded);
+        if (credentials.size() > maxSize) {
+            credentials.entrySet().removeIf(entry -> remainingMillis(entry.getValue()) <= 0);
+            while (credentials.size() > maxSize) {
+                credentials.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> remainingMillis(entry.getValue())))
+                    .ifPresent(entry -> credentials.remove(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    private static long remainingMillis(TemporaryCredentials cached) {
+        if (cached == null || cached.getExpiration() == null) {
+            return -1;
+        }
+        return cached.getExpiration().getTime() - System.currentTimeMillis();
+    }
+}
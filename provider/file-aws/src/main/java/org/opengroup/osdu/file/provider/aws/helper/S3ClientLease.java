@@ -0,0 +1,52 @@
+/**
+* Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*      http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.opengroup.osdu.file.provider.aws.helper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pooled S3 client or presigner borrowed from {@link S3Helper}. The pool does not close the
+ * instance while it is borrowed, so every lease must be closed once the instance is no longer
+ * used, typically with try-with-resources. The instance itself must not be closed.
+ */
+public final class S3ClientLease<T> implements AutoCloseable {
+
+    private final T instance;
+
+    private final Runnable release;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public S3ClientLease(T instance, Runnable release) {
+        this.instance = instance;
+        this.release = release;
+    }
+
+    public T get() {
+        return instance;
+    }
+
+    /**
+     * Returns the instance to the pool. Closing a lease more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            release.run();
+        }
+    }
+}
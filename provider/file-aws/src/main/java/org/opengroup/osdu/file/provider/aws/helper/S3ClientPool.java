@@ -0,0 +1,185 @@
+/**
+* Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*      http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.opengroup.osdu.file.provider.aws.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
+import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * S3 clients and presigners shared by the requests that use the same temporary credentials in
+ * the same region. Instances are borrowed through {@link S3ClientLease}s and must not be closed by
+ * their users. Entries whose credentials expire or that are evicted as least recently used beyond
+ * {@code maxSize} leave the pool at once, but their instances are closed only when the last lease
+ * on them is released.
+ */
+@Slf4j
+final class S3ClientPool {
+
+    private static final long DEFAULT_TTL_MILLIS = 3_600_000L;
+
+    private final int maxSize;
+
+    private final LinkedHashMap<String, PooledClients> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    S3ClientPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    S3ClientLease<S3Client> client(Region region, TemporaryCredentials credentials) {
+        PooledClients clients = borrow(region, credentials);
+        try {
+            synchronized (clients) {
+                if (clients.client == null) {
+                    clients.client = S3Client.builder()
+                        .region(region)
+                        .credentialsProvider(new TemporaryCredentialsProvider(credentials))
+                        .build();
+                }
+                return new S3ClientLease<>(clients.client, clients::release);
+            }
+        } catch (RuntimeException e) {
+            clients.release();
+            throw e;
+        }
+    }
+
+    S3ClientLease<S3Presigner> presigner(Region region, TemporaryCredentials credentials) {
+        PooledClients clients = borrow(region, credentials);
+        try {
+            synchronized (clients) {
+                if (clients.presigner == null) {
+                    clients.presigner = S3Presigner.builder()
+                        .region(region)
+                        .credentialsProvider(new TemporaryCredentialsProvider(credentials))
+                        .build();
+                }
+                return new S3ClientLease<>(clients.presigner, clients::release);
+            }
+        } catch (RuntimeException e) {
+            clients.release();
+            throw e;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void clear() {
+        entries.values().forEach(PooledClients::retire);
+        entries.clear();
+    }
+
+    /**
+     * Returns the entry of the credentials with one more borrower. The borrower is counted while
+     * the pool is locked, so an entry cannot be retired and closed between lookup and borrowing.
+     */
+    private synchronized PooledClients borrow(Region region, TemporaryCredentials credentials) {
+        long now = System.currentTimeMillis();
+        String key = region.id() + '\n' + credentials.getAccessKeyId();
+        PooledClients clients = entries.get(key);
+        if (clients == null || clients.expiresAt <= now) {
+            clients = newEntry(key, credentials, now);
+        }
+        clients.borrow();
+        return clients;
+    }
+
+    private PooledClients newEntry(String key, TemporaryCredentials credentials, long now) {
+        Iterator<PooledClients> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            PooledClients pooled = iterator.next();
+            if (pooled.expiresAt <= now) {
+                iterator.remove();
+                pooled.retire();
+            }
+        }
+        Date expiration = credentials.getExpiration();
+        PooledClients clients = new PooledClients(expiration != null ? expiration.getTime() : now + DEFAULT_TTL_MILLIS);
+        entries.put(key, clients);
+        if (entries.size() > maxSize) {
+            Iterator<PooledClients> eldest = entries.values().iterator();
+            PooledClients evicted = eldest.next();
+            eldest.remove();
+            evicted.retire();
+        }
+        return clients;
+    }
+
+    private static final class PooledClients {
+
+        private final long expiresAt;
+
+        private S3Client client;
+
+        private S3Presigner presigner;
+
+        private int borrowers;
+
+        private boolean retired;
+
+        private PooledClients(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private synchronized void borrow() {
+            borrowers++;
+        }
+
+        private synchronized void release() {
+            borrowers--;
+            if (retired && borrowers == 0) {
+                close();
+            }
+        }
+
+        /**
+         * Marks the entry as out of the pool; the instances are closed now if nobody borrows them,
+         * or by the last {@link #release()} otherwise.
+         */
+        private synchronized void retire() {
+            retired = true;
+            if (borrowers == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                if (client != null) {
+                    client.close();
+                }
+                if (presigner != null) {
+                    presigner.close();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Unable to close pooled S3 clients", e);
+            }
+            client = null;
+            presigner = null;
+        }
+    }
+}
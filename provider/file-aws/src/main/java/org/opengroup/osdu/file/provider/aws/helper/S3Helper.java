@@ -20,6 +20,7 @@ import static java.time.Instant.now;
 
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -30,75 +31,107 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 import software.amazon.awssdk.core.ResponseInputStream;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentialsProvider;
+import org.opengroup.osdu.file.provider.aws.cache.BucketRegionCache;
 import org.opengroup.osdu.file.provider.aws.model.S3Location;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
 
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.net.URL;
 import java.util.Date;
-import java.util.Map;
 
-public class S3Helper {
+/**
+ * S3 operations with temporary credentials. The regions of the buckets are kept in a
+ * {@link BucketRegionCache} and the clients and presigners are shared through a
+ * {@link S3ClientPool}, which is closed with the application context. Clients are handed out as
+ * {@link S3ClientLease}s, which must be closed instead of the clients.
+ */
+@Component
+public class S3Helper implements DisposableBean {
+
+    private static final int MAX_POOLED_CLIENTS = 256;
+
+    private final BucketRegionCache bucketRegions;
 
-    private S3Helper() {
-        //private constructor
+    private final S3ClientPool clientPool = new S3ClientPool(MAX_POOLED_CLIENTS);
+
+    public S3Helper(BucketRegionCache bucketRegions) {
+        this.bucketRegions = bucketRegions;
+    }
+
+    /**
+     * Closes the pooled clients once they are released.
+     */
+    @Override
+    public void destroy() {
+        clientPool.clear();
     }
 
     /**
      * Generates a presigned URL for the S3 location
      */
-    public static URL generatePresignedUrl(S3Location location,
-                                           SdkHttpMethod httpMethod,
-                                           Date expiration,
-                                           TemporaryCredentials credentials) throws SdkException {
+    public URL generatePresignedUrl(S3Location location,
+                                    SdkHttpMethod httpMethod,
+                                    Date expiration,
+                                    TemporaryCredentials credentials) throws SdkException {
         return generatePresignedUrl(location, httpMethod, expiration, credentials, null);
     }
     
     /**
      * Generates a presigned URL for the S3 location with head overrides
      */
-    public static URL generatePresignedUrl(S3Location location,
-                                           SdkHttpMethod httpMethod,
-                                           Date expiration,
-                                           TemporaryCredentials credentials,
-                                           AwsRequestOverrideConfiguration requestOverrideConfiguration) throws SdkException {
-        try (S3Presigner presigner = generatePresignerWithCredentials(location.getBucket(), credentials)) {
-
-            if (httpMethod == SdkHttpMethod.GET) {
-                GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
-                    .bucket(location.getBucket())
-                    .key(location.getKey());
-                
-                if (requestOverrideConfiguration != null) {
-                    requestBuilder.overrideConfiguration(requestOverrideConfiguration);
-                }
-                
-                GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .getObjectRequest(requestBuilder.build())
-                    .signatureDuration(java.time.Duration.between(now(), expiration.toInstant()))
-                    .build();
-                return presigner.presignGetObject(presignRequest).url();
-            } else {
-                PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
-                    .bucket(location.getBucket())
-                    .key(location.getKey());
-                
-                if (requestOverrideConfiguration != null) {
-                    requestBuilder.overrideConfiguration(requestOverrideConfiguration);
-                }
-                
-                PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                    .putObjectRequest(requestBuilder.build())
-                    .signatureDuration(java.time.Duration.between(now(), expiration.toInstant()))
-                    .build();
-                return presigner.presignPutObject(presignRequest).url();
+    public URL generatePresignedUrl(S3Location location,
+                                    SdkHttpMethod httpMethod,
+                                    Date expiration,
+                                    TemporaryCredentials credentials,
+                                    AwsRequestOverrideConfiguration requestOverrideConfiguration) throws SdkException {
+        try (S3ClientLease<S3Presigner> lease = borrowPresigner(location.getBucket(), credentials)) {
+            return presign(lease.get(), location, httpMethod, expiration, requestOverrideConfiguration);
+        }
+    }
+
+    private static URL presign(S3Presigner presigner,
+                               S3Location location,
+                               SdkHttpMethod httpMethod,
+                               Date expiration,
+                               AwsRequestOverrideConfiguration requestOverrideConfiguration) {
+        if (httpMethod == SdkHttpMethod.GET) {
+            GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+                .bucket(location.getBucket())
+                .key(location.getKey());
+            
+            if (requestOverrideConfiguration != null) {
+                requestBuilder.overrideConfiguration(requestOverrideConfiguration);
             }
+            
+            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .getObjectRequest(requestBuilder.build())
+                .signatureDuration(java.time.Duration.between(now(), expiration.toInstant()))
+                .build();
+            return presigner.presignGetObject(presignRequest).url();
+        } else {
+            PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
+                .bucket(location.getBucket())
+                .key(location.getKey());
+            
+            if (requestOverrideConfiguration != null) {
+                requestBuilder.overrideConfiguration(requestOverrideConfiguration);
+            }
+            
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .putObjectRequest(requestBuilder.build())
+                .signatureDuration(java.time.Duration.between(now(), expiration.toInstant()))
+                .build();
+            return presigner.presignPutObject(presignRequest).url();
         }
     }
 
-    public static boolean doesObjectExist(S3Location location, TemporaryCredentials credentials) {
-        try (S3Client s3 = generateClientWithCredentials(location.getBucket(), credentials)) {
+    public boolean doesObjectExist(S3Location location, TemporaryCredentials credentials) {
+        try (S3ClientLease<S3Client> lease = borrowS3Client(location.getBucket(), credentials)) {
             try {
-                s3.headObject(HeadObjectRequest.builder()
+                lease.get().headObject(HeadObjectRequest.builder()
                                                .bucket(location.getBucket())
                                                .key(location.getKey())
                                                .build());
@@ -109,10 +142,10 @@ public class S3Helper {
         }
     }
 
-    public static boolean doesObjectCollectionExist(S3Location location, TemporaryCredentials credentials) {
-        try (S3Client s3 = generateClientWithCredentials(location.getBucket(), credentials)) {
+    public boolean doesObjectCollectionExist(S3Location location, TemporaryCredentials credentials) {
+        try (S3ClientLease<S3Client> lease = borrowS3Client(location.getBucket(), credentials)) {
             try {
-                final ListObjectsV2Response response = s3.listObjectsV2(ListObjectsV2Request.builder()
+                final ListObjectsV2Response response = lease.get().listObjectsV2(ListObjectsV2Request.builder()
                                                                                             .bucket(location.getBucket())
                                                                                             .prefix(location.getKey())
                                                                                             .build());
@@ -123,12 +156,26 @@ public class S3Helper {
         }
     }
 
-    public static String getBucketRegion(String bucket, TemporaryCredentials credentials) {
-        final S3Client s3Client = S3Client.builder()
+    /**
+     * Returns the region of the bucket, looked up with the given credentials unless cached.
+     * Concurrent requests for a bucket that is not cached may each look it up.
+     */
+    public String getBucketRegion(String bucket, TemporaryCredentials credentials) {
+        String region = bucketRegions.get(bucket);
+        if (region == null) {
+            region = lookupBucketRegion(bucket, credentials);
+            bucketRegions.put(bucket, region);
+        }
+        return region;
+    }
+
+    private static String lookupBucketRegion(String bucket, TemporaryCredentials credentials) {
+        final GetBucketLocationResponse response;
+        try (S3Client s3Client = S3Client.builder()
             .credentialsProvider(new TemporaryCredentialsProvider(credentials))
-            .build();
-        final GetBucketLocationResponse response = s3Client.getBucketLocation(
-            GetBucketLocationRequest.builder().bucket(bucket).build());
+            .build()) {
+            response = s3Client.getBucketLocation(GetBucketLocationRequest.builder().bucket(bucket).build());
+        }
         String regionStr = response.locationConstraintAsString();
 
         // Handle special case for us-east-1
@@ -139,35 +186,47 @@ public class S3Helper {
         return region.id();
     }
 
-    public static S3Client createS3Client(String bucket, TemporaryCredentials credentials) {
-        return generateClientWithCredentials(bucket, credentials);
+    /**
+     * Borrows the pooled client of the bucket's region. The lease must be closed once the client is
+     * no longer used; the client itself must not be closed.
+     */
+    public S3ClientLease<S3Client> borrowS3Client(String bucket, TemporaryCredentials credentials) {
+        final String region = getBucketRegion(bucket, credentials);
+
+        return clientPool.client(Region.of(region), credentials);
     }
 
-    public static ResponseInputStream<GetObjectResponse> getObject(S3Location location, TemporaryCredentials credentials) {
-        try (S3Client s3Client = createS3Client(location.getBucket(), credentials)) {
+    /**
+     * Opens the object. The pooled client stays borrowed until the returned stream is closed.
+     */
+    public ResponseInputStream<GetObjectResponse> getObject(S3Location location, TemporaryCredentials credentials) {
+        S3ClientLease<S3Client> lease = borrowS3Client(location.getBucket(), credentials);
+        try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                                                                 .bucket(location.getBucket())
                                                                 .key(location.getKey())
                                                                 .build();
-            return s3Client.getObject(getObjectRequest);
+            ResponseInputStream<GetObjectResponse> object = lease.get().getObject(getObjectRequest);
+            FilterInputStream releasing = new FilterInputStream(object) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        lease.close();
+                    }
+                }
+            };
+            return new ResponseInputStream<>(object.response(), AbortableInputStream.create(releasing, object::abort));
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
         }
     }
 
-    private static S3Client generateClientWithCredentials(String bucket, TemporaryCredentials credentials) {
-        final String region = getBucketRegion(bucket, credentials);
-
-        return S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(new TemporaryCredentialsProvider(credentials))
-                .build();
-    }
-    
-    private static S3Presigner generatePresignerWithCredentials(String bucket, TemporaryCredentials credentials) {
+    private S3ClientLease<S3Presigner> borrowPresigner(String bucket, TemporaryCredentials credentials) {
         final String region = getBucketRegion(bucket, credentials);
 
-        return S3Presigner.builder()
-                .region(Region.of(region))
-                .credentialsProvider(new TemporaryCredentialsProvider(credentials))
-                .build();
+        return clientPool.presigner(Region.of(region), credentials);
     }
 }
@@ -24,9 +24,11 @@ import software.amazon.awssdk.services.sts.model.StsException;
 import software.amazon.awssdk.policybuilder.iam.IamPolicy;
 import software.amazon.awssdk.policybuilder.iam.IamStatement;
 import software.amazon.awssdk.policybuilder.iam.IamEffect;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import org.opengroup.osdu.core.aws.v2.sts.STSConfig;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
+import org.opengroup.osdu.file.provider.aws.cache.StsCredentialsCache;
 import org.opengroup.osdu.file.provider.aws.config.ProviderConfigurationBag;
 import org.opengroup.osdu.file.provider.aws.model.S3Location;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,41 +37,78 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.util.Date;
 
+/**
+ * Assumes the role of a partition with a session policy scoped to one S3 location. The policies
+ * are rendered from templates built once, and the credentials are shared through the
+ * {@link StsCredentialsCache}.
+ */
 @Component
 public class StsCredentialsHelper {
 
+    private static final String BUCKET_PLACEHOLDER = "{{bucket}}";
+
+    private static final String KEY_PLACEHOLDER = "{{key}}";
+
+    private static final S3Location TEMPLATE_LOCATION = new S3Location(BUCKET_PLACEHOLDER, KEY_PLACEHOLDER);
+
     private final StsClient securityTokenService;
 
-    @Autowired
+    private final StsCredentialsCache credentialsCache;
+
+    private final String uploadPolicyTemplate;
+
+    private final String retrievalPolicyTemplate;
+
     public StsCredentialsHelper(ProviderConfigurationBag providerConfigurationBag) {
+        this(providerConfigurationBag, new StsCredentialsCache());
+    }
+
+    @Autowired
+    public StsCredentialsHelper(ProviderConfigurationBag providerConfigurationBag, StsCredentialsCache credentialsCache) {
         final STSConfig config = new STSConfig(providerConfigurationBag.amazonRegion);
         this.securityTokenService = config.amazonSTS();
+        this.credentialsCache = credentialsCache;
+        this.uploadPolicyTemplate = createUploadPolicy(TEMPLATE_LOCATION).toJson();
+        this.retrievalPolicyTemplate = createRetrievalPolicy(TEMPLATE_LOCATION).toJson();
     }
 
     public TemporaryCredentials getUploadCredentials(S3Location fileLocation, String roleArn, Date expiration) {
-        IamPolicy policy = createUploadPolicy(fileLocation);
-
-        return getCredentials(policy, roleArn, expiration);
+        return getCredentials(fileLocation, StsCredentialsCache.AccessType.UPLOAD, uploadPolicyTemplate, roleArn, expiration);
     }
 
     public TemporaryCredentials getRetrievalCredentials(S3Location fileLocation, String roleArn, Date expiration) {
-        IamPolicy policy = createRetrievalPolicy(fileLocation);
-
-        return getCredentials(policy, roleArn, expiration);
+        return getCredentials(fileLocation, StsCredentialsCache.AccessType.RETRIEVAL, retrievalPolicyTemplate, roleArn, expiration);
     }
 
     public TemporaryCredentials getCredentials(IamPolicy policy, String roleArn, Date expiration) {
-        Instant now = Instant.now();
+        return assumeRole(policy.toJson(), roleArn, durationSeconds(expiration));
+    }
+
+    private TemporaryCredentials getCredentials(S3Location fileLocation, StsCredentialsCache.AccessType accessType,
+                                                String policyTemplate, String roleArn, Date expiration) {
+        String keyWithoutTrailingSlash = fileLocation.getKey().replaceFirst("/$", "");
+        long duration = durationSeconds(expiration);
+        StsCredentialsCache.Key key = new StsCredentialsCache.Key(
+            roleArn, fileLocation.getBucket(), keyWithoutTrailingSlash, accessType, duration);
+
+        return credentialsCache.get(key, () -> {
+            String policy = policyTemplate
+                .replace(BUCKET_PLACEHOLDER, escapeJson(fileLocation.getBucket()))
+                .replace(KEY_PLACEHOLDER, escapeJson(keyWithoutTrailingSlash));
+            return assumeRole(policy, roleArn, duration);
+        });
+    }
+
+    private TemporaryCredentials assumeRole(String policy, String roleArn, long duration) {
         UUID uuid = UUID.randomUUID();
         String roleSessionName = uuid.toString();
-        long duration = Math.round(((expiration.getTime() - now.toEpochMilli()) / 1_000.0) / 60.0) * 60;
 
         try {
             AssumeRoleRequest roleRequest = AssumeRoleRequest.builder()
                 .roleArn(roleArn)
                 .roleSessionName(roleSessionName)
                 .durationSeconds((int) duration)
-                .policy(policy.toJson())
+                .policy(policy)
                 .build();
 
             AssumeRoleResponse response = securityTokenService.assumeRole(roleRequest);
@@ -87,6 +126,15 @@ public class StsCredentialsHelper {
         }
     }
 
+    private static long durationSeconds(Date expiration) {
+        Instant now = Instant.now();
+        return Math.round(((expiration.getTime() - now.toEpochMilli()) / 1_000.0) / 60.0) * 60;
+    }
+
+    private static String escapeJson(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+
     private IamPolicy createUploadPolicy(S3Location fileLocation) {
         String fileLocationKeyWithoutTrailingSlash = fileLocation.getKey().replaceFirst("/$", "");
 
@@ -55,14 +55,16 @@ public class FileCollectionStorageServiceImpl implements IFileCollectionStorageS
     private final DpsHeaders headers;
     private final ObjectMapper objectMapper;
     private final ExpiryTimeUtil expiryTimeUtil;
+    private final S3Helper s3Helper;
 
     @Autowired
     public FileCollectionStorageServiceImpl(FileLocationProvider fileLocationProvider, DpsHeaders headers, ObjectMapper objectMapper,
-                                            ExpiryTimeUtil expiryTimeUtil) {
+                                            ExpiryTimeUtil expiryTimeUtil, S3Helper s3Helper) {
         this.fileLocationProvider = fileLocationProvider;
         this.headers = headers;
         this.objectMapper = objectMapper;
         this.expiryTimeUtil = expiryTimeUtil;
+        this.s3Helper = s3Helper;
     }
 
     @Override
@@ -90,7 +92,7 @@ public class FileCollectionStorageServiceImpl implements IFileCollectionStorageS
                                             .build();
     }
 
-    private static FileCollectionDmsStorageLocation getFileCollectionDmsStorageLocation(ProviderLocation fileLocation, S3Location unsignedLocation, DpsHeaders headers) {
+    private FileCollectionDmsStorageLocation getFileCollectionDmsStorageLocation(ProviderLocation fileLocation, S3Location unsignedLocation, DpsHeaders headers) {
         return FileCollectionDmsStorageLocation
             .builder()
             .unsignedUrl(fileLocation.getUnsignedUrl())
@@ -98,7 +100,7 @@ public class FileCollectionStorageServiceImpl implements IFileCollectionStorageS
             .connectionString(fileLocation.getConnectionString())
             .credentials(fileLocation.getCredentials())
             .createdBy(headers.getUserEmail())
-            .region(S3Helper.getBucketRegion(unsignedLocation.getBucket(), fileLocation.getCredentials()))
+            .region(s3Helper.getBucketRegion(unsignedLocation.getBucket(), fileLocation.getCredentials()))
             .build();
     }
 
@@ -20,7 +20,6 @@ import java.net.MalformedURLException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import org.opengroup.osdu.core.common.dms.model.DatasetRetrievalProperties;
 import org.opengroup.osdu.core.common.dms.model.RetrievalInstructionsResponse;
@@ -39,6 +38,7 @@ import org.opengroup.osdu.file.provider.aws.service.FileLocationProvider;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil.RelativeTimeValue;
+import org.opengroup.osdu.file.util.RetrievalInstructionsBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
@@ -61,17 +61,23 @@ public class StorageServiceImpl implements IStorageService {
     private final DpsHeaders headers;
     private final ObjectMapper objectMapper;
     private final ExpiryTimeUtil expiryTimeUtil;
+    private final RetrievalInstructionsBuilder retrievalInstructionsBuilder;
+    private final S3Helper s3Helper;
 
 
     @Autowired
     public StorageServiceImpl(FileLocationProvider fileLocationProvider,
                               DpsHeaders headers,
                               ObjectMapper objectMapper,
-                              ExpiryTimeUtil expiryTimeUtil) {
+                              ExpiryTimeUtil expiryTimeUtil,
+                              RetrievalInstructionsBuilder retrievalInstructionsBuilder,
+                              S3Helper s3Helper) {
         this.fileLocationProvider = fileLocationProvider;
         this.headers = headers;
         this.objectMapper = objectMapper;
         this.expiryTimeUtil = expiryTimeUtil;
+        this.retrievalInstructionsBuilder = retrievalInstructionsBuilder;
+        this.s3Helper = s3Helper;
     }
 
     @Override
@@ -125,7 +131,7 @@ public class StorageServiceImpl implements IStorageService {
                 .credentials(fileLocation.getCredentials())
                 .createdBy(this.headers.getUserEmail())
                 .signedUploadFileName(datasetId)
-                .region(S3Helper.getBucketRegion(unsignedLocation.getBucket(), fileLocation.getCredentials()))
+                .region(s3Helper.getBucketRegion(unsignedLocation.getBucket(), fileLocation.getCredentials()))
                 .build();
 
         final Map<String, Object> storageLocation = objectMapper.convertValue(dmsLocation, new TypeReference<Map<String, Object>>() {});
@@ -138,13 +144,7 @@ public class StorageServiceImpl implements IStorageService {
 
     @Override
     public RetrievalInstructionsResponse createRetrievalInstructions(List<FileRetrievalData> fileRetrievalData) {
-        final List<DatasetRetrievalProperties> datasetRetrievalPropertiesList = fileRetrievalData.stream()
-                                                                                                 .map(this::buildDatasetRetrievalProperties)
-                                                                                                 .collect(Collectors.toList());
-
-        return RetrievalInstructionsResponse.builder()
-                                            .datasets(datasetRetrievalPropertiesList)
-                                            .build();
+        return retrievalInstructionsBuilder.build(fileRetrievalData, this::buildDatasetRetrievalProperties);
     }
 
     @Override
@@ -196,7 +196,7 @@ public class StorageServiceImpl implements IStorageService {
                 .connectionString(fileLocation.getConnectionString())
                 .credentials(fileLocation.getCredentials())
                 .fileName(locationSourceSplit[locationSourceSplit.length - 1])
-                .region(S3Helper.getBucketRegion(unsignedLocation.getBucket(), fileLocation.getCredentials()))
+                .region(s3Helper.getBucketRegion(unsignedLocation.getBucket(), fileLocation.getCredentials()))
                 .signedUrlExpiration(expirationDate)
                 .build();
         final Map<String, Object> downloadLocation = objectMapper.convertValue(dmsLocation, new TypeReference<Map<String, Object>>() {});
@@ -20,54 +20,79 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.ServerSideEncryption;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.StringUtils;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.file.constant.ChecksumAlgorithm;
 import org.opengroup.osdu.file.constant.FileMetadataConstant;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
+import org.opengroup.osdu.file.provider.aws.cache.S3ChecksumCache;
 import org.opengroup.osdu.file.provider.aws.config.ProviderConfigurationBag;
 import org.opengroup.osdu.file.provider.aws.helper.*;
 import org.opengroup.osdu.file.provider.aws.model.S3Location;
-import org.opengroup.osdu.file.provider.aws.model.constant.StorageConstant;
 import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.RangedChecksumCalculator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Primary
 public class StorageUtilServiceImpl implements IStorageUtilService {
 
+    private static final long MAX_CHECKSUM_OBJECT_SIZE = 5368709120L; // 5G
+
     private final DpsHeaders headers;
     private final ProviderConfigurationBag providerConfigurationBag;
     private final StsRoleHelper stsRoleHelper;
     private final StsCredentialsHelper stsCredentialsHelper;
     private final ExpiryTimeUtil expiryTimeUtil;
+    private final RangedChecksumCalculator rangedChecksumCalculator;
+    private final S3ChecksumCache s3ChecksumCache;
+    private final S3Helper s3Helper;
 
     @Autowired
     public StorageUtilServiceImpl(ProviderConfigurationBag providerConfigurationBag,
                                     StsCredentialsHelper stsCredentialsHelper,
                                     StsRoleHelper stsRoleHelper,
                                     DpsHeaders headers,
-                                    ExpiryTimeUtil expTimeUtil) {
+                                    ExpiryTimeUtil expTimeUtil,
+                                    RangedChecksumCalculator rangedChecksumCalculator,
+                                    @Lazy S3ChecksumCache s3ChecksumCache,
+                                    S3Helper s3Helper) {
         this.providerConfigurationBag = providerConfigurationBag;
         this.stsCredentialsHelper = stsCredentialsHelper;
         this.stsRoleHelper = stsRoleHelper;
         this.headers = headers;
         this.expiryTimeUtil = expTimeUtil;
+        this.rangedChecksumCalculator = rangedChecksumCalculator;
+        this.s3ChecksumCache = s3ChecksumCache;
+        this.s3Helper = s3Helper;
     }
 
     @Override
@@ -84,27 +109,122 @@ public class StorageUtilServiceImpl implements IStorageUtilService {
 
     @Override
     public String getChecksum(String filePath) {
+        return getChecksums(filePath, Collections.emptyList(), true).getOrDefault(getChecksumAlgorithm().name(), "");
+    }
+
+    @Override
+    public String getChecksumWithoutSizeLimit(String filePath) {
+        return getChecksums(filePath, Collections.emptyList(), false).getOrDefault(getChecksumAlgorithm().name(), "");
+    }
+
+    /**
+     * Resolves checksums without reading the object where possible: first from the checksums S3
+     * returns on HEAD (the ETag of single part, non KMS uploads is the MD5 of the object, and
+     * additional checksums are returned when the object was uploaded with one), then from checksums
+     * previously computed for the same ETag, and only then by downloading the object.
+     */
+    @Override
+    public Map<String, String> getChecksums(String filePath, List<String> algorithms, boolean sizeLimited) {
+        List<String> requested = algorithms.isEmpty()
+            ? Collections.singletonList(getChecksumAlgorithm().name()) : algorithms;
+        long maxBytes = sizeLimited ? MAX_CHECKSUM_OBJECT_SIZE : Long.MAX_VALUE;
         S3LocationWithCredentials locationWithCredentials = getS3LocationWithCredentials(filePath);
         
-        try (S3Client s3Client = S3Helper.createS3Client(locationWithCredentials.location.getBucket(), locationWithCredentials.credentials)) {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                                                                .bucket(locationWithCredentials.location.getBucket())
-                                                                .key(locationWithCredentials.location.getKey())
-                                                                .build();
-            
-            try (ResponseInputStream<GetObjectResponse> response = s3Client.getObject(getObjectRequest)) {
-                final long maxBytes = 5368709120L; // 5G
-                if (response.response().contentLength() < maxBytes) {
-                    return calculateChecksum(response);
-                } else {
-                    return "";
+        try (S3ClientLease<S3Client> lease = s3Helper.borrowS3Client(locationWithCredentials.location.getBucket(), locationWithCredentials.credentials)) {
+            S3Client s3Client = lease.get();
+            HeadObjectResponse headObjectResponse = headObject(s3Client, locationWithCredentials.location);
+            Map<String, String> available = nativeChecksums(headObjectResponse);
+            String cacheKey = checksumCacheKey(locationWithCredentials.location, headObjectResponse);
+            if (!available.keySet().containsAll(requested) && cacheKey != null) {
+                Map<String, String> cached = s3ChecksumCache.get(cacheKey);
+                if (cached != null) {
+                    cached.forEach(available::putIfAbsent);
                 }
             }
+
+            List<String> missing = requested.stream()
+                .filter(algorithm -> !available.containsKey(algorithm))
+                .collect(Collectors.toList());
+            long contentLength = headObjectResponse.contentLength();
+            if (!missing.isEmpty() && contentLength < maxBytes) {
+                GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                                                                    .bucket(locationWithCredentials.location.getBucket())
+                                                                    .key(locationWithCredentials.location.getKey())
+                                                                    .build();
+                Map<String, String> computed = calculateChecksums(s3Client, getObjectRequest, contentLength, missing);
+                available.putAll(computed);
+                if (cacheKey != null) {
+                    Map<String, String> cached = s3ChecksumCache.get(cacheKey);
+                    Map<String, String> toCache = cached != null ? new HashMap<>(cached) : new HashMap<>();
+                    toCache.putAll(computed);
+                    s3ChecksumCache.put(cacheKey, toCache);
+                }
+            }
+
+            Map<String, String> checksums = new LinkedHashMap<>();
+            requested.stream()
+                .filter(available::containsKey)
+                .forEach(algorithm -> checksums.put(algorithm, available.get(algorithm)));
+            return checksums;
+        } catch (AppException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Failed to read S3 object", e);
         }
     }
 
+    /**
+     * Replaces a separate existence check: a missing object is reported by the HEAD request that
+     * also returns its size and checksums.
+     */
+    private HeadObjectResponse headObject(S3Client s3Client, S3Location location) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                                                        .bucket(location.getBucket())
+                                                        .key(location.getKey())
+                                                        .checksumMode(ChecksumMode.ENABLED)
+                                                        .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new AppException(HttpStatus.NOT_FOUND.value(),
+                    "S3 object not found",
+                    "S3 object not found");
+            }
+            throw e;
+        }
+    }
+
+    private static Map<String, String> nativeChecksums(HeadObjectResponse headObjectResponse) {
+        Map<String, String> checksums = new HashMap<>();
+        String eTag = StringUtils.strip(headObjectResponse.eTag(), "\"");
+        boolean eTagIsMd5 = eTag != null && eTag.matches("[0-9a-fA-F]{32}")
+            && headObjectResponse.sseCustomerAlgorithm() == null
+            && headObjectResponse.serverSideEncryption() != ServerSideEncryption.AWS_KMS
+            && headObjectResponse.serverSideEncryption() != ServerSideEncryption.AWS_KMS_DSSE;
+        if (eTagIsMd5) {
+            checksums.put(ChecksumAlgorithm.MD5.name(), eTag.toLowerCase());
+        }
+        putNativeChecksum(checksums, ChecksumAlgorithm.SHA256.name(), headObjectResponse.checksumSHA256());
+        putNativeChecksum(checksums, ChecksumAlgorithm.SHA1.name(), headObjectResponse.checksumSHA1());
+        putNativeChecksum(checksums, ChecksumAlgorithm.CRC32C.name(), headObjectResponse.checksumCRC32C());
+        return checksums;
+    }
+
+    private static void putNativeChecksum(Map<String, String> checksums, String algorithm, String base64Checksum) {
+        // checksums of multipart uploads are checksums of the part checksums, suffixed with the part count
+        if (StringUtils.isBlank(base64Checksum) || base64Checksum.contains("-")) {
+            return;
+        }
+        checksums.put(algorithm, new String(Hex.encodeHex(Base64.getDecoder().decode(base64Checksum))));
+    }
+
+    private static String checksumCacheKey(S3Location location, HeadObjectResponse headObjectResponse) {
+        if (StringUtils.isBlank(headObjectResponse.eTag())) {
+            return null;
+        }
+        return location.getBucket() + "/" + location.getKey() + ":" + headObjectResponse.eTag();
+    }
+
     @Override
     public ChecksumAlgorithm getChecksumAlgorithm() { return ChecksumAlgorithm.MD5; }
 
@@ -126,12 +246,6 @@ public class StorageUtilServiceImpl implements IStorageUtilService {
             stsRoleArn,
             getTemporaryCredentialsExpirationDate());
 
-        if (!S3Helper.doesObjectExist(unsignedLocation, credentials)) {
-            throw new AppException(HttpStatus.NOT_FOUND.value(),
-                "S3 object not found",
-                "S3 object not found");
-        }
-
         return new S3LocationWithCredentials(unsignedLocation, credentials);
     }
 
@@ -152,18 +266,20 @@ public class StorageUtilServiceImpl implements IStorageUtilService {
         return ExpirationDateHelper.getExpiration(Instant.now(), expirationDuration);
     }
 
-    private String calculateChecksum(ResponseInputStream<GetObjectResponse> s3Obj) {
+    private Map<String, String> calculateChecksums(S3Client s3Client, GetObjectRequest getObjectRequest,
+                                                   long contentLength, List<String> algorithms) {
         try {
-            MessageDigest md = MessageDigest.getInstance(getChecksumAlgorithm().toString());
-            byte[] bytes = new byte[StorageConstant.AWS_HASH_BYTE_ARRAY_LENGTH];
-            int numBytes;
-            while ((numBytes = s3Obj.read(bytes)) != -1) {
-                md.update(bytes, 0, numBytes);
+            if (rangedChecksumCalculator.isRangedReadFor(contentLength)) {
+                return rangedChecksumCalculator.checksums(algorithms, contentLength,
+                    (offset, length) -> s3Client.getObject(getObjectRequest.toBuilder()
+                        .range(String.format("bytes=%d-%d", offset, offset + length - 1))
+                        .build()));
+            }
+            try (ResponseInputStream<GetObjectResponse> s3Obj = s3Client.getObject(getObjectRequest)) {
+                return rangedChecksumCalculator.checksums(algorithms, s3Obj);
             }
-            byte[] digest = md.digest();
-            return new String(Hex.encodeHex(digest));
         } catch (NoSuchAlgorithmException | IOException ex) {
-            String message = FileMetadataConstant.CHECKSUM_EXCEPTION + s3Obj.toString();
+            String message = FileMetadataConstant.CHECKSUM_EXCEPTION + getObjectRequest.key();
             throw new AppException(org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR, message , ex.getMessage(), ex);
         }
     }
@@ -63,17 +63,20 @@ public class FileLocationProviderImpl implements FileLocationProvider {
     private final StsRoleHelper stsRoleHelper;
     private final StsCredentialsHelper stsCredentialsHelper;
     private final S3ConnectionInfoHelper s3ConnectionInfoHelper;
+    private final S3Helper s3Helper;
 
     @Autowired
     public FileLocationProviderImpl(ProviderConfigurationBag providerConfigurationBag,
                                     StsCredentialsHelper stsCredentialsHelper,
                                     StsRoleHelper stsRoleHelper,
                                     S3ConnectionInfoHelper s3ConnectionInfoHelper,
+                                    S3Helper s3Helper,
                                     DpsHeaders headers) {
         this.providerConfigurationBag = providerConfigurationBag;
         this.stsCredentialsHelper = stsCredentialsHelper;
         this.stsRoleHelper = stsRoleHelper;
         this.s3ConnectionInfoHelper = s3ConnectionInfoHelper;
+        this.s3Helper = s3Helper;
         this.headers = headers;
     }
 
@@ -150,7 +153,7 @@ public class FileLocationProviderImpl implements FileLocationProvider {
 
         try {
             final S3Location s3LocationForSignedUpload = s3LocationBuilder.build();
-            final URL s3SignedUrl = S3Helper.generatePresignedUrl(s3LocationForSignedUpload, SdkHttpMethod.PUT, expiration, credentials);
+            final URL s3SignedUrl = s3Helper.generatePresignedUrl(s3LocationForSignedUpload, SdkHttpMethod.PUT, urlExpiration(expiration, credentials), credentials);
 
             return ProviderLocation.builder()
                 .unsignedUrl(unsignedLocation.toString())
@@ -237,7 +240,7 @@ public class FileLocationProviderImpl implements FileLocationProvider {
         validateInput(isCollection, unsignedLocation, credentials);
 
         // Signed URLs only support single files.
-        final URL s3SignedUrl = isCollection ? null : S3Helper.generatePresignedUrl(unsignedLocation, SdkHttpMethod.GET, expiration, credentials, requestOverrideConfiguration);
+        final URL s3SignedUrl = isCollection ? null : s3Helper.generatePresignedUrl(unsignedLocation, SdkHttpMethod.GET, urlExpiration(expiration, credentials), credentials, requestOverrideConfiguration);
         return getProviderLocation(isCollection, unsignedLocation, credentials, s3SignedUrl);
     }
 
@@ -247,10 +250,19 @@ public class FileLocationProviderImpl implements FileLocationProvider {
         validateInput(isCollection, unsignedLocation, credentials);
 
         // Signed URLs only support single files.
-        final URL s3SignedUrl = isCollection ? null : S3Helper.generatePresignedUrl(unsignedLocation, SdkHttpMethod.GET, expiration, credentials);
+        final URL s3SignedUrl = isCollection ? null : s3Helper.generatePresignedUrl(unsignedLocation, SdkHttpMethod.GET, urlExpiration(expiration, credentials), credentials);
         return getProviderLocation(isCollection, unsignedLocation, credentials, s3SignedUrl);
     }
 
+    /**
+     * A URL presigned with temporary credentials is rejected once they expire, and shared
+     * credentials can expire before the requested expiration, so the URL expiry is capped to theirs.
+     */
+    private static Date urlExpiration(Date expiration, TemporaryCredentials credentials) {
+        Date credentialsExpiration = credentials.getExpiration();
+        return credentialsExpiration != null && credentialsExpiration.before(expiration) ? credentialsExpiration : expiration;
+    }
+
     private void validateURL(S3Location unsignedLocation) {
         if (!unsignedLocation.isValid()) {
             throw new AppException(HttpStatus.BAD_REQUEST.value(),
@@ -268,7 +280,7 @@ public class FileLocationProviderImpl implements FileLocationProvider {
     }
 
     private void validateFileCollectionPath(S3Location unsignedLocation, TemporaryCredentials credentials) {
-        if (!S3Helper.doesObjectCollectionExist(unsignedLocation, credentials)) {
+        if (!s3Helper.doesObjectCollectionExist(unsignedLocation, credentials)) {
             throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 "Invalid/Empty File Collection Path",
                 "Invalid/Empty File Collection Path - File collection not found at specified S3 path or is empty");
@@ -276,7 +288,7 @@ public class FileLocationProviderImpl implements FileLocationProvider {
     }
 
     private void validateFilePath(S3Location unsignedLocation, TemporaryCredentials credentials) {
-        if (!S3Helper.doesObjectExist(unsignedLocation, credentials)) {
+        if (!s3Helper.doesObjectExist(unsignedLocation, credentials)) {
             throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 "Invalid File Path",
                 "Invalid File Path - File not found at specified S3 path");
@@ -0,0 +1,63 @@
+/**
+* Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+* 
+*      http://www.apache.org/licenses/LICENSE-2.0
+* 
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.opengroup.osdu.file.cache;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
+import org.opengroup.osdu.file.provider.aws.cache.StsCredentialsCache;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class StsCredentialsCacheTest {
+
+    private final StsCredentialsCache cache = new StsCredentialsCache();
+
+    private final StsCredentialsCache.Key key = new StsCredentialsCache.Key(
+        "role", "bucket", "prefix", StsCredentialsCache.AccessType.RETRIEVAL, 100);
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    void shouldRefreshCredentialsOnDedicatedThread() throws Exception {
+        // 80% of the duration left: still reused, but refreshed ahead of expiry
+        TemporaryCredentials expiring = credentials(80_000L);
+        TemporaryCredentials refreshed = credentials(100_000L);
+        CompletableFuture<String> refreshThread = new CompletableFuture<>();
+
+        assertSame(expiring, cache.get(key, () -> expiring));
+        assertSame(expiring, cache.get(key, () -> {
+            refreshThread.complete(Thread.currentThread().getName());
+            return refreshed;
+        }));
+
+        assertTrue(refreshThread.get(1, TimeUnit.SECONDS).startsWith("sts-credentials-refresh-"));
+    }
+
+    private static TemporaryCredentials credentials(long validityMillis) {
+        return new TemporaryCredentials("accessKey", "secretKey", "sessionToken",
+            new Date(System.currentTimeMillis() + validityMillis));
+    }
+}
@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
@@ -38,11 +40,14 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import software.amazon.awssdk.core.ResponseInputStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
+import org.opengroup.osdu.file.provider.aws.cache.BucketRegionCache;
+import org.opengroup.osdu.file.provider.aws.helper.S3ClientLease;
 import org.opengroup.osdu.file.provider.aws.helper.S3Helper;
 import org.opengroup.osdu.file.provider.aws.model.S3Location;
 
@@ -57,6 +62,12 @@ class S3HelperTest {
             new Date(System.currentTimeMillis() + 3600L * 1000L));
     private final String uri = "s3://my-bucket/my-key";
     private final S3Location location = S3Location.of(uri);
+    private final S3Helper s3Helper = new S3Helper(new BucketRegionCache());
+
+    @AfterEach
+    void tearDown() {
+        s3Helper.destroy();
+    }
 
     @Test
     void testGeneratePresignedUrlForGet() throws Exception {
@@ -83,7 +94,7 @@ class S3HelperTest {
             when(presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedRequest);
             when(presignedRequest.url()).thenReturn(expectedUrl);
             
-            URL actual = S3Helper.generatePresignedUrl(location, SdkHttpMethod.GET, new Date(), credentials);
+            URL actual = s3Helper.generatePresignedUrl(location, SdkHttpMethod.GET, new Date(), credentials);
             assertEquals(expectedUrl, actual);
         }
     }
@@ -113,7 +124,7 @@ class S3HelperTest {
             when(presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presignedRequest);
             when(presignedRequest.url()).thenReturn(expectedUrl);
             
-            URL actual = S3Helper.generatePresignedUrl(location, SdkHttpMethod.PUT, new Date(), credentials);
+            URL actual = s3Helper.generatePresignedUrl(location, SdkHttpMethod.PUT, new Date(), credentials);
             assertEquals(expectedUrl, actual);
         }
     }
@@ -144,7 +155,7 @@ class S3HelperTest {
             when(presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedRequest);
             when(presignedRequest.url()).thenReturn(expectedUrl);
             
-            URL actual = S3Helper.generatePresignedUrl(location, SdkHttpMethod.GET, new Date(), credentials, overrideConfig);
+            URL actual = s3Helper.generatePresignedUrl(location, SdkHttpMethod.GET, new Date(), credentials, overrideConfig);
             assertEquals(expectedUrl, actual);
         }
     }
@@ -164,11 +175,11 @@ class S3HelperTest {
             when(s3Client.headObject(any(HeadObjectRequest.class)))
                 .thenReturn(HeadObjectResponse.builder().build());
             
-            boolean actual = S3Helper.doesObjectExist(location, credentials);
+            boolean actual = s3Helper.doesObjectExist(location, credentials);
             assertTrue(actual);
             
             when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(SdkException.class);
-            actual = S3Helper.doesObjectExist(location, credentials);
+            actual = s3Helper.doesObjectExist(location, credentials);
             assertFalse(actual);
         }
     }
@@ -188,16 +199,16 @@ class S3HelperTest {
             when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
                 .thenReturn(ListObjectsV2Response.builder().contents(Collections.emptyList()).build());
             
-            boolean actual = S3Helper.doesObjectCollectionExist(location, credentials);
+            boolean actual = s3Helper.doesObjectCollectionExist(location, credentials);
             assertFalse(actual);
             
             when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
                 .thenReturn(ListObjectsV2Response.builder().contents(S3Object.builder().key("test").build()).build());
-            actual = S3Helper.doesObjectCollectionExist(location, credentials);
+            actual = s3Helper.doesObjectCollectionExist(location, credentials);
             assertTrue(actual);
             
             when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenThrow(SdkException.class);
-            actual = S3Helper.doesObjectCollectionExist(location, credentials);
+            actual = s3Helper.doesObjectCollectionExist(location, credentials);
             assertFalse(actual);
         }
     }
@@ -216,7 +227,7 @@ class S3HelperTest {
             when(s3Client.getBucketLocation(any(GetBucketLocationRequest.class)))
                 .thenReturn(GetBucketLocationResponse.builder().locationConstraint(expectedRegion).build());
             
-            String actual = S3Helper.getBucketRegion(bucketName, credentials);
+            String actual = s3Helper.getBucketRegion(bucketName, credentials);
             assertEquals(expectedRegion, actual);
         }
     }
@@ -233,16 +244,18 @@ class S3HelperTest {
             when(s3Client.getBucketLocation(any(GetBucketLocationRequest.class)))
                 .thenReturn(GetBucketLocationResponse.builder().build());
             
-            String actual = S3Helper.getBucketRegion("my-bucket", credentials);
+            String actual = s3Helper.getBucketRegion("my-bucket", credentials);
             assertEquals("us-east-1", actual);
         }
     }
 
     @Test
-    void testGetObject() {
+    void testGetObject() throws Exception {
         S3Client s3Client = mock(S3Client.class);
         S3ClientBuilder s3ClientBuilder = mock(S3ClientBuilder.class);
         ResponseInputStream<GetObjectResponse> responseStream = mock(ResponseInputStream.class);
+        GetObjectResponse response = GetObjectResponse.builder().build();
+        when(responseStream.response()).thenReturn(response);
 
         try (MockedStatic<S3Client> s3ClientMock = mockStatic(S3Client.class)) {
             s3ClientMock.when(S3Client::builder).thenReturn(s3ClientBuilder);
@@ -253,9 +266,15 @@ class S3HelperTest {
                 .thenReturn(GetBucketLocationResponse.builder().locationConstraint("us-east-1").build());
             when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(responseStream);
             
-            ResponseInputStream<GetObjectResponse> actual = S3Helper.getObject(location, credentials);
-            assertEquals(responseStream, actual);
-            assertNotNull(actual);
+            ResponseInputStream<GetObjectResponse> actual = s3Helper.getObject(location, credentials);
+            assertEquals(response, actual.response());
+
+            // the pooled client stays open until the stream is closed
+            s3Helper.destroy();
+            verify(s3Client, times(1)).close();
+            actual.close();
+            verify(responseStream).close();
+            verify(s3Client, times(2)).close();
         }
     }
 
@@ -272,9 +291,66 @@ class S3HelperTest {
             when(s3Client.getBucketLocation(any(GetBucketLocationRequest.class)))
                 .thenReturn(GetBucketLocationResponse.builder().locationConstraint("us-east-1").build());
             
-            S3Client actual = S3Helper.createS3Client("my-bucket", credentials);
-            assertNotNull(actual);
+            try (S3ClientLease<S3Client> actual = s3Helper.borrowS3Client("my-bucket", credentials)) {
+                assertNotNull(actual.get());
+            }
+        }
+    }
+
+    @Test
+    void testClientAndBucketRegionAreReused() {
+        S3Client s3Client = mock(S3Client.class);
+        S3ClientBuilder s3ClientBuilder = mock(S3ClientBuilder.class);
+
+        try (MockedStatic<S3Client> s3ClientMock = mockStatic(S3Client.class)) {
+            s3ClientMock.when(S3Client::builder).thenReturn(s3ClientBuilder);
+            when(s3ClientBuilder.credentialsProvider(any())).thenReturn(s3ClientBuilder);
+            when(s3ClientBuilder.region(any(Region.class))).thenReturn(s3ClientBuilder);
+            when(s3ClientBuilder.build()).thenReturn(s3Client);
+            when(s3Client.getBucketLocation(any(GetBucketLocationRequest.class)))
+                .thenReturn(GetBucketLocationResponse.builder().locationConstraint("us-west-2").build());
+
+            try (S3ClientLease<S3Client> first = s3Helper.borrowS3Client("my-bucket", credentials);
+                 S3ClientLease<S3Client> second = s3Helper.borrowS3Client("my-bucket", credentials)) {
+                assertEquals(first.get(), second.get());
+            }
+            assertEquals("us-west-2", s3Helper.getBucketRegion("my-bucket", credentials));
+            verify(s3Client, times(1)).getBucketLocation(any(GetBucketLocationRequest.class));
+            // one client for the region lookup, one pooled client
+            verify(s3ClientBuilder, times(2)).build();
+            verify(s3Client, times(1)).close();
+
+            s3Helper.destroy();
+            verify(s3Client, times(2)).close();
+        }
+    }
+
+    @Test
+    void testBorrowedClientIsClosedOnlyAfterRelease() {
+        S3Client s3Client = mock(S3Client.class);
+        S3ClientBuilder s3ClientBuilder = mock(S3ClientBuilder.class);
+
+        try (MockedStatic<S3Client> s3ClientMock = mockStatic(S3Client.class)) {
+            s3ClientMock.when(S3Client::builder).thenReturn(s3ClientBuilder);
+            when(s3ClientBuilder.credentialsProvider(any())).thenReturn(s3ClientBuilder);
+            when(s3ClientBuilder.region(any(Region.class))).thenReturn(s3ClientBuilder);
+            when(s3ClientBuilder.build()).thenReturn(s3Client);
+            when(s3Client.getBucketLocation(any(GetBucketLocationRequest.class)))
+                .thenReturn(GetBucketLocationResponse.builder().locationConstraint("us-east-1").build());
+
+            S3ClientLease<S3Client> first = s3Helper.borrowS3Client("my-bucket", credentials);
+            S3ClientLease<S3Client> second = s3Helper.borrowS3Client("my-bucket", credentials);
+            // only the client of the region lookup is closed so far
+            verify(s3Client, times(1)).close();
+
+            s3Helper.destroy();
+            first.close();
+            first.close();
+            verify(s3Client, times(1)).close();
+
+            second.close();
+            verify(s3Client, times(2)).close();
         }
     }
 
-}
\ No newline at end of file
+}
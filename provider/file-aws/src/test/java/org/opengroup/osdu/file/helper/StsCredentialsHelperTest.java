@@ -17,17 +17,22 @@
 package org.opengroup.osdu.file.helper;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.mockito.ArgumentCaptor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -36,10 +41,14 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.aws.v2.sts.STSConfig;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
 import org.opengroup.osdu.file.provider.aws.config.ProviderConfigurationBag;
 import org.opengroup.osdu.file.provider.aws.helper.StsCredentialsHelper;
 import org.opengroup.osdu.file.provider.aws.model.S3Location;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
@@ -160,5 +169,45 @@ class StsCredentialsHelperTest {
                 request.durationSeconds() == 60));
         }
     }
-}
 
+    @Test
+    void shouldShareCredentialsOfTheSameLocation() {
+        Date expiration = new Date(System.currentTimeMillis() + 3_600_000L);
+        when(assumeRoleResponse.credentials()).thenReturn(credentials.toBuilder()
+            .expiration(expiration.toInstant())
+            .build());
+
+        try (MockedConstruction<STSConfig> config = Mockito.mockConstruction(STSConfig.class,
+            (mock, context) -> when(mock.amazonSTS()).thenReturn(securityTokenService))) {
+
+            stsCredentialsHelper = new StsCredentialsHelper(providerConfigurationBag);
+            S3Location s3Location = new S3Location(TEST_BUCKET, TEST_KEY);
+
+            TemporaryCredentials first = stsCredentialsHelper.getRetrievalCredentials(s3Location, TEST_ROLE_ARN, expiration);
+            TemporaryCredentials second = stsCredentialsHelper.getRetrievalCredentials(s3Location, TEST_ROLE_ARN, expiration);
+            stsCredentialsHelper.getUploadCredentials(s3Location, TEST_ROLE_ARN, expiration);
+
+            assertSame(first, second);
+            verify(securityTokenService, times(2)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    void shouldRenderPolicyForLocation() throws Exception {
+        try (MockedConstruction<STSConfig> config = Mockito.mockConstruction(STSConfig.class,
+            (mock, context) -> when(mock.amazonSTS()).thenReturn(securityTokenService))) {
+
+            stsCredentialsHelper = new StsCredentialsHelper(providerConfigurationBag);
+            S3Location s3Location = new S3Location(TEST_BUCKET, "dir/\"quoted\"/");
+
+            stsCredentialsHelper.getUploadCredentials(s3Location, TEST_ROLE_ARN, TEST_EXPIRATION);
+
+            ArgumentCaptor<AssumeRoleRequest> request = ArgumentCaptor.forClass(AssumeRoleRequest.class);
+            verify(securityTokenService).assumeRole(request.capture());
+            JsonNode policy = new ObjectMapper().readTree(request.getValue().policy());
+            List<String> resources = policy.findValuesAsText("Resource");
+            assertTrue(resources.contains("arn:aws:s3:::XXXXXX/dir/\"quoted\"/*"), resources.toString());
+            assertTrue(resources.contains("arn:aws:s3:::XXXXXX"), resources.toString());
+        }
+    }
+}
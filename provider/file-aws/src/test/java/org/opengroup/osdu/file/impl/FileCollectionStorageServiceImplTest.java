@@ -21,19 +21,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -66,27 +62,18 @@ class FileCollectionStorageServiceImplTest {
     @Mock
     ExpiryTimeUtil expiryTimeUtil;
 
+    @Mock
+    S3Helper s3Helper;
+
     @InjectMocks
     FileCollectionStorageServiceImpl service;
 
-    MockedStatic<S3Helper> mockS3Helper;
-
-    @BeforeEach
-	void setUp() {
-        mockS3Helper = mockStatic(S3Helper.class);
-	}
-
-	@AfterEach
-	void after() {
-        mockS3Helper.close();
-	}	
-
     @Test
     void testCreateStorageInstructions() {
 
         when(fileLocationProvider.getFileCollectionUploadLocation(anyString(), anyString())).thenReturn(new ProviderLocation());
 
-        mockS3Helper.when(() -> S3Helper.getBucketRegion(any(), any())).thenReturn("us-east-1");
+        when(s3Helper.getBucketRegion(any(), any())).thenReturn("us-east-1");
 
         assertNotNull(service.createStorageInstructions(datasetID, partitionID));
     }
@@ -114,7 +101,7 @@ class FileCollectionStorageServiceImplTest {
         when(expiryTimeUtil.getExpiryTimeValueInTimeUnit(any())).thenReturn(realExpiryTimeUtil.getExpiryTimeValueInTimeUnit(signedUrlParameters.getExpiryTime()));
         when(fileLocationProvider.getFileCollectionRetrievalLocation(any(), any())).thenReturn(new ProviderLocation());
 
-        mockS3Helper.when(() -> S3Helper.getBucketRegion(any(), any())).thenReturn("us-east-1");
+        when(s3Helper.getBucketRegion(any(), any())).thenReturn("us-east-1");
 
         fileRetrievalDatas.add(fileRetrievalData);
 
@@ -28,7 +28,11 @@ import org.opengroup.osdu.file.model.FileRetrievalData;
 import org.opengroup.osdu.file.provider.aws.helper.S3Helper;
 import org.opengroup.osdu.file.provider.aws.model.ProviderLocation;
 import org.opengroup.osdu.file.provider.aws.service.FileLocationProvider;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RetrievalInstructionsProperties;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.opengroup.osdu.file.util.RetrievalInstructionsBuilder;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -44,13 +48,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.opengroup.osdu.file.model.SignedUrl;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
@@ -76,13 +78,18 @@ class StorageServiceImplTest {
     @Mock
     FileLocationProvider fileLocationProvider;
 
+    @Mock
+    S3Helper s3Helper;
+
     private ExpiryTimeUtil expiryTimeUtil = new ExpiryTimeUtil();
 
     private StorageServiceImpl storageService;
 
     @BeforeEach
     void setup() {
-        storageService = new StorageServiceImpl(fileLocationProvider, headers, objectMapper, expiryTimeUtil);
+        storageService = new StorageServiceImpl(fileLocationProvider, headers, objectMapper, expiryTimeUtil,
+            new RetrievalInstructionsBuilder(new ParallelExecutor(new FileExecutorProperties()),
+                new RetrievalInstructionsProperties()), s3Helper);
     }
 
     @Test
@@ -134,16 +141,14 @@ class StorageServiceImplTest {
             .thenReturn(mockLocation);
         when(headers.getUserEmail()).thenReturn("test@example.com");
 
-        try (MockedStatic<S3Helper> s3HelperMock = mockStatic(S3Helper.class)) {
-            s3HelperMock.when(() -> S3Helper.getBucketRegion(anyString(), any())).thenReturn("us-east-1");
+        when(s3Helper.getBucketRegion(anyString(), any())).thenReturn("us-east-1");
 
-            // Act
-            StorageInstructionsResponse result = storageService.createStorageInstructions(datasetId, partitionID, params);
+        // Act
+        StorageInstructionsResponse result = storageService.createStorageInstructions(datasetId, partitionID, params);
 
-            // Assert
-            assertNotNull(result);
-            verify(fileLocationProvider).getUploadFileLocation(eq(datasetId), eq(partitionID), eq(Duration.ofDays(7)));
-        }
+        // Assert
+        assertNotNull(result);
+        verify(fileLocationProvider).getUploadFileLocation(eq(datasetId), eq(partitionID), eq(Duration.ofDays(7)));
     }
 
     @Test
@@ -196,15 +201,11 @@ class StorageServiceImplTest {
 		when(fileLocation.getSignedUrl()).thenReturn(new URI(localhost));
 		when(fileLocationProvider.getUploadFileLocation(datasetId, partitionID)).thenReturn(fileLocation);
 
-		try (MockedStatic<S3Helper> s3MockedStatic = mockStatic(S3Helper.class)) {
-            s3MockedStatic
-                    .when(() -> S3Helper.getBucketRegion(anyString(), any()))
-                    .thenReturn("us-east-1");
+		when(s3Helper.getBucketRegion(anyString(), any())).thenReturn("us-east-1");
 
-			StorageInstructionsResponse response = storageService.createStorageInstructions(datasetId, partitionID);
+		StorageInstructionsResponse response = storageService.createStorageInstructions(datasetId, partitionID);
 
-			assertNotNull(response);
-        }
+		assertNotNull(response);
 	}
 
 	@Test
@@ -229,23 +230,20 @@ class StorageServiceImplTest {
                 new Date(System.currentTimeMillis() + 3600L * 1000L));
         String expectedRegion = "us-east-1";
 
-        try (MockedStatic<S3Helper> s3MockedStatic = mockStatic(S3Helper.class)) {
-            s3MockedStatic.when(() -> S3Helper.getBucketRegion(anyString(), any()))
-                .thenReturn(expectedRegion);
+		when(s3Helper.getBucketRegion(anyString(), any())).thenReturn(expectedRegion);
 
-			fileRetrievalDatas.add(fileRetrievalData);
+		fileRetrievalDatas.add(fileRetrievalData);
 
-			ProviderLocation fileLocation = mock(ProviderLocation.class);
-			when(fileLocation.getUnsignedUrl()).thenReturn(localhost);
-			when(fileLocation.getSignedUrl()).thenReturn(new URI(localhost));
-			when(fileLocation.getLocationSource()).thenReturn(localhost);
-			when(fileLocation.getCredentials()).thenReturn(credentials);
-			when(fileLocationProvider.getRetrievalFileLocation(any(), any())).thenReturn(fileLocation);
+		ProviderLocation fileLocation = mock(ProviderLocation.class);
+		when(fileLocation.getUnsignedUrl()).thenReturn(localhost);
+		when(fileLocation.getSignedUrl()).thenReturn(new URI(localhost));
+		when(fileLocation.getLocationSource()).thenReturn(localhost);
+		when(fileLocation.getCredentials()).thenReturn(credentials);
+		when(fileLocationProvider.getRetrievalFileLocation(any(), any())).thenReturn(fileLocation);
 
-			RetrievalInstructionsResponse response = storageService.createRetrievalInstructions(fileRetrievalDatas);
+		RetrievalInstructionsResponse response = storageService.createRetrievalInstructions(fileRetrievalDatas);
 
-			assertNotNull(response);
-        }
+		assertNotNull(response);
 	}
 
 	@Test
@@ -320,16 +318,14 @@ class StorageServiceImplTest {
 			.thenReturn(mockLocation);
 		when(headers.getUserEmail()).thenReturn("test@example.com");
 
-		try (MockedStatic<S3Helper> s3HelperMock = mockStatic(S3Helper.class)) {
-			s3HelperMock.when(() -> S3Helper.getBucketRegion(anyString(), any())).thenReturn("us-east-1");
+		when(s3Helper.getBucketRegion(anyString(), any())).thenReturn("us-east-1");
 
-			// Act
-			StorageInstructionsResponse result = storageService.createStorageInstructions(datasetId, partitionID, params);
+		// Act
+		StorageInstructionsResponse result = storageService.createStorageInstructions(datasetId, partitionID, params);
 
-			// Assert
-			assertNotNull(result);
-			verify(fileLocationProvider).getUploadFileLocation(eq(datasetId), eq(partitionID), eq(Duration.ofDays(7)));
-		}
+		// Assert
+		assertNotNull(result);
+		verify(fileLocationProvider).getUploadFileLocation(eq(datasetId), eq(partitionID), eq(Duration.ofDays(7)));
 	}
 
 }
@@ -16,32 +16,55 @@
 
 package org.opengroup.osdu.file.impl;
 
+import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.provider.aws.cache.S3ChecksumCache;
 import org.opengroup.osdu.file.provider.aws.helper.ExpirationDateHelper;
+import org.opengroup.osdu.file.provider.aws.helper.S3ClientLease;
 import org.opengroup.osdu.file.provider.aws.helper.S3Helper;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RangedChecksumProperties;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.opengroup.osdu.file.util.ChecksumDigests;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.opengroup.osdu.file.util.RangedChecksumCalculator;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.opengroup.osdu.file.provider.aws.auth.TemporaryCredentials;
 import org.opengroup.osdu.file.provider.aws.impl.StorageUtilServiceImpl;
 import org.opengroup.osdu.file.provider.aws.config.ProviderConfigurationBag;
@@ -67,6 +90,19 @@ class StorageUtilServiceImplTest {
     @Mock
     ExpiryTimeUtil expiryTimeUtil;
 
+    private final ChecksumDigests checksumDigests =
+        new ChecksumDigests(new StaticListableBeanFactory().getBeanProvider(IChecksumDigestFactory.class));
+
+    @Spy
+    RangedChecksumCalculator rangedChecksumCalculator = new RangedChecksumCalculator(
+        new ParallelExecutor(new FileExecutorProperties()), new RangedChecksumProperties(), checksumDigests);
+
+    @Spy
+    S3ChecksumCache s3ChecksumCache = new S3ChecksumCache();
+
+    @Mock
+    S3Helper s3Helper;
+
 
 
     @InjectMocks
@@ -80,8 +116,7 @@ class StorageUtilServiceImplTest {
         Date expirationDate = new Date(System.currentTimeMillis() + 3600L * 1000L);
         TemporaryCredentials credentials = mock(TemporaryCredentials.class);
         
-        try (MockedStatic<S3Helper> s3HelperMock = mockStatic(S3Helper.class);
-             MockedStatic<ExpirationDateHelper> expMockedStatic = mockStatic(ExpirationDateHelper.class)) {
+        try (MockedStatic<ExpirationDateHelper> expMockedStatic = mockStatic(ExpirationDateHelper.class)) {
             
             when(stsCredentialsHelper.getRetrievalCredentials(any(), any(), any())).thenReturn(credentials);
             when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), any())).thenReturn("testRole");
@@ -93,15 +128,13 @@ class StorageUtilServiceImplTest {
             expMockedStatic.when(() -> ExpirationDateHelper.getExpiration(any(Instant.class), any(Duration.class)))
                 .thenReturn(expirationDate);
             
-            s3HelperMock.when(() -> S3Helper.doesObjectExist(any(), any())).thenReturn(true);
-            
             // Mock S3Client creation
             S3Client mockS3Client = mock(S3Client.class);
-            s3HelperMock.when(() -> S3Helper.createS3Client(any(), any())).thenReturn(mockS3Client);
+            when(s3Helper.borrowS3Client(any(), any())).thenReturn(new S3ClientLease<>(mockS3Client, () -> { }));
             
+            when(mockS3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(10L).build());
             ResponseInputStream<GetObjectResponse> responseStream = mock(ResponseInputStream.class);
-            GetObjectResponse response = GetObjectResponse.builder().contentLength(10L).build();
-            when(responseStream.response()).thenReturn(response);
             when(responseStream.read(any(byte[].class))).thenReturn(4, -1);
             when(mockS3Client.getObject(any(GetObjectRequest.class))).thenReturn(responseStream);
             
@@ -110,6 +143,120 @@ class StorageUtilServiceImplTest {
         }
     }
 
+    @Test
+    void testGetChecksum_WithRangedReads() throws Exception {
+        String uri = "s3://bucket/path/key";
+        byte[] content = "0123456789".getBytes();
+        RangedChecksumProperties properties = new RangedChecksumProperties();
+        properties.setPartSizeBytes(4);
+        properties.setConcurrency(2);
+        properties.setMinObjectSizeBytes(0);
+        rangedChecksumCalculator = new RangedChecksumCalculator(new ParallelExecutor(new FileExecutorProperties()), properties,
+            checksumDigests);
+        storageUtilService = new StorageUtilServiceImpl(providerConfigurationBag, stsCredentialsHelper, stsRoleHelper,
+            headers, expiryTimeUtil, rangedChecksumCalculator, s3ChecksumCache, s3Helper);
+
+        try (MockedStatic<ExpirationDateHelper> expMockedStatic = mockStatic(ExpirationDateHelper.class)) {
+
+            when(stsCredentialsHelper.getRetrievalCredentials(any(), any(), any())).thenReturn(mock(TemporaryCredentials.class));
+            when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), any())).thenReturn("testRole");
+            when(expiryTimeUtil.getExpiryTimeValueInTimeUnit(any()))
+                .thenReturn(new ExpiryTimeUtil().getExpiryTimeValueInTimeUnit(null));
+            expMockedStatic.when(() -> ExpirationDateHelper.getExpiration(any(Instant.class), any(Duration.class)))
+                .thenReturn(new Date(System.currentTimeMillis() + 3600L * 1000L));
+
+            S3Client mockS3Client = mock(S3Client.class);
+            when(s3Helper.borrowS3Client(any(), any())).thenReturn(new S3ClientLease<>(mockS3Client, () -> { }));
+            when(mockS3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength((long) content.length).build());
+            when(mockS3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+                String[] range = ((GetObjectRequest) invocation.getArgument(0)).range().substring(6).split("-");
+                int start = Integer.parseInt(range[0]);
+                int end = Integer.parseInt(range[1]);
+                return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(content, start, end - start + 1)));
+            });
+
+            String actual = storageUtilService.getChecksum(uri);
+
+            assertEquals(new String(Hex.encodeHex(MessageDigest.getInstance("MD5").digest(content))), actual);
+            verify(mockS3Client, times(3)).getObject(any(GetObjectRequest.class));
+
+            Map<String, String> checksums = storageUtilService.getChecksums(uri,
+                Arrays.asList("SHA256", "CRC32C"), false);
+
+            assertEquals(new String(Hex.encodeHex(MessageDigest.getInstance("SHA-256").digest(content))),
+                checksums.get("SHA256"));
+            assertNotNull(checksums.get("CRC32C"));
+            verify(mockS3Client, times(6)).getObject(any(GetObjectRequest.class));
+        }
+    }
+
+    @Test
+    void testGetChecksums_UsesNativeChecksumsWithoutDownload() throws Exception {
+        String uri = "s3://bucket/path/key";
+        byte[] content = "0123456789".getBytes();
+        String md5 = new String(Hex.encodeHex(MessageDigest.getInstance("MD5").digest(content)));
+        byte[] sha256 = MessageDigest.getInstance("SHA-256").digest(content);
+
+        try (MockedStatic<ExpirationDateHelper> expMockedStatic = mockStatic(ExpirationDateHelper.class)) {
+            S3Client mockS3Client = mockS3Client(expMockedStatic);
+            when(mockS3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder()
+                    .contentLength((long) content.length)
+                    .eTag("\"" + md5 + "\"")
+                    .checksumSHA256(Base64.getEncoder().encodeToString(sha256))
+                    .build());
+
+            Map<String, String> checksums = storageUtilService.getChecksums(uri,
+                Arrays.asList("SHA256", "MD5"), true);
+
+            assertEquals(new String(Hex.encodeHex(sha256)), checksums.get("SHA256"));
+            assertEquals(md5, checksums.get("MD5"));
+            verify(mockS3Client, never()).getObject(any(GetObjectRequest.class));
+        }
+    }
+
+    @Test
+    void testGetChecksum_ReusesComputedChecksumForSameETag() throws Exception {
+        String uri = "s3://bucket/path/key";
+        byte[] content = "0123456789".getBytes();
+
+        try (MockedStatic<ExpirationDateHelper> expMockedStatic = mockStatic(ExpirationDateHelper.class)) {
+            S3Client mockS3Client = mockS3Client(expMockedStatic);
+            when(mockS3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder()
+                    .contentLength((long) content.length)
+                    .eTag("\"9b2cf535f27731c974343645a3985328-2\"")
+                    .build());
+            when(mockS3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation ->
+                new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(content))));
+
+            String first = storageUtilService.getChecksum(uri);
+            String second = storageUtilService.getChecksum(uri);
+
+            assertEquals(new String(Hex.encodeHex(MessageDigest.getInstance("MD5").digest(content))), first);
+            assertEquals(first, second);
+            verify(mockS3Client, times(1)).getObject(any(GetObjectRequest.class));
+        }
+    }
+
+    @Test
+    void testGetChecksum_ObjectNotFound() {
+        String uri = "s3://bucket/path/key";
+
+        try (MockedStatic<ExpirationDateHelper> expMockedStatic = mockStatic(ExpirationDateHelper.class)) {
+            S3Client mockS3Client = mockS3Client(expMockedStatic);
+            when(mockS3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(404).build());
+
+            AppException exception = assertThrows(AppException.class, () -> storageUtilService.getChecksum(uri));
+
+            assertEquals(404, exception.getError().getCode());
+        }
+    }
+
     @Test
     void getChecksum_InvalidS3Location_ThrowsOsduBadRequestException() {
         String invalidS3Path = "invalid-s3-path";
@@ -122,5 +269,15 @@ class StorageUtilServiceImplTest {
         assertTrue(exception.getMessage().contains("Invalid source file path to copy from " + invalidS3Path));
     }
 
-
+    private S3Client mockS3Client(MockedStatic<ExpirationDateHelper> expMockedStatic) {
+        when(stsCredentialsHelper.getRetrievalCredentials(any(), any(), any())).thenReturn(mock(TemporaryCredentials.class));
+        when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), any())).thenReturn("testRole");
+        when(expiryTimeUtil.getExpiryTimeValueInTimeUnit(any()))
+            .thenReturn(new ExpiryTimeUtil().getExpiryTimeValueInTimeUnit(null));
+        expMockedStatic.when(() -> ExpirationDateHelper.getExpiration(any(Instant.class), any(Duration.class)))
+            .thenReturn(new Date(System.currentTimeMillis() + 3600L * 1000L));
+        S3Client mockS3Client = mock(S3Client.class);
+        when(s3Helper.borrowS3Client(any(), any())).thenReturn(new S3ClientLease<>(mockS3Client, () -> { }));
+        return mockS3Client;
+    }
 }
@@ -20,8 +20,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.MalformedURLException;
@@ -29,12 +30,10 @@ import java.net.URL;
 import java.time.Duration;
 import java.util.Date;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.core.aws.v2.s3.util.S3ClientConnectionInfo;
 import org.opengroup.osdu.core.common.model.http.AppException;
@@ -50,6 +49,7 @@ import org.opengroup.osdu.file.provider.aws.model.S3Location;
 import org.opengroup.osdu.file.provider.aws.service.impl.FileLocationProviderImpl;
 
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 
 
@@ -90,22 +90,15 @@ class FileLocationProviderImplTest  {
 	@Mock
     S3Helper s3Helper;
 
-    MockedStatic<S3Helper> mockS3Helper;
-
     private FileLocationProviderImpl provider;
     private final Duration duration = Duration.ofSeconds(1800);
 
     @BeforeEach
 	void setUp() {
-        mockS3Helper = mockStatic(S3Helper.class);
-        provider = new FileLocationProviderImpl(providerConfigurationBag, stsCredentialsHelper, stsRoleHelper, s3ConnectionInfoHelper, headers);
+        provider = new FileLocationProviderImpl(providerConfigurationBag, stsCredentialsHelper, stsRoleHelper, s3ConnectionInfoHelper,
+            s3Helper, headers);
 	}
 
-	@AfterEach
-	void after() {
-        mockS3Helper.close();
-	}	
-
     @Test
     void testGetUploadFileLocation_nullS3ConnectionInfo() {
 
@@ -141,7 +134,7 @@ class FileLocationProviderImplTest  {
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), anyString())).thenReturn(stsRoleArn);
         when(stsCredentialsHelper.getUploadCredentials(any(), anyString(), any())).thenReturn(credentials);
 
-        mockS3Helper.when(() -> S3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(localhost));
+        when(s3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(localhost));
 
         assertNotNull(provider.getUploadFileLocation(fileID, partitionID));
         assertNotNull(provider.getFileCollectionUploadLocation(datasetID, partitionID));
@@ -160,7 +153,7 @@ class FileLocationProviderImplTest  {
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), anyString())).thenReturn(stsRoleArn);
         when(stsCredentialsHelper.getUploadCredentials(any(), anyString(), any())).thenReturn(credentials);
 
-        mockS3Helper.when(() -> S3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(badURL));
+        when(s3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(badURL));
 
         assertThrows(AppException.class, () -> {
             provider.getUploadFileLocation(fileID, partitionID);
@@ -186,9 +179,9 @@ class FileLocationProviderImplTest  {
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), anyString())).thenReturn(stsRoleArn);
         when(stsCredentialsHelper.getRetrievalCredentials(any(), anyString(), any())).thenReturn(credentials);
 
-        mockS3Helper.when(() -> S3Helper.doesObjectExist(any(), any())).thenReturn(true);
-        mockS3Helper.when(() -> S3Helper.doesObjectCollectionExist(any(), any())).thenReturn(true);
-        mockS3Helper.when(() -> S3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(localhost));
+        when(s3Helper.doesObjectExist(any(), any())).thenReturn(true);
+        when(s3Helper.doesObjectCollectionExist(any(), any())).thenReturn(true);
+        when(s3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(localhost));
 
         assertNotNull(provider.getRetrievalFileLocation(new S3Location(bucketName, keyName), duration));
         assertNotNull(provider.getFileCollectionRetrievalLocation(new S3Location(bucketName, keyName + "/"), duration));
@@ -204,13 +197,31 @@ class FileLocationProviderImplTest  {
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), anyString())).thenReturn(stsRoleArn);
         when(stsCredentialsHelper.getRetrievalCredentials(any(), anyString(), any())).thenReturn(credentials);
 
-        mockS3Helper.when(() -> S3Helper.doesObjectExist(any(), any())).thenReturn(true);
-        mockS3Helper.when(() -> S3Helper.generatePresignedUrl(any(), any(), any(), any(), any())).thenReturn(new URL(localhost));
+        when(s3Helper.doesObjectExist(any(), any())).thenReturn(true);
+        when(s3Helper.generatePresignedUrl(any(), any(), any(), any(), any())).thenReturn(new URL(localhost));
         AwsRequestOverrideConfiguration awsRequestOverrideConfiguration = mock(AwsRequestOverrideConfiguration.class);
 
         assertNotNull(provider.getRetrievalFileLocation(new S3Location(bucketName, keyName), duration, awsRequestOverrideConfiguration));
     }
 
+    @Test
+    void testGetRetrievalLocation_urlExpiresWithCredentials() throws MalformedURLException {
+
+        Date credentialsExpiration = new Date(System.currentTimeMillis() + 600L * 1000L);
+        TemporaryCredentials credentials = new TemporaryCredentials("accessKey", "secretKey", "sessionToken",
+                credentialsExpiration);
+
+        providerConfigurationBag.stsRoleIamParameterRelativePath = stsRoleIamParameterRelativePath;
+        when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), anyString())).thenReturn(stsRoleArn);
+        when(stsCredentialsHelper.getRetrievalCredentials(any(), anyString(), any())).thenReturn(credentials);
+
+        when(s3Helper.doesObjectExist(any(), any())).thenReturn(true);
+        when(s3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(localhost));
+
+        assertNotNull(provider.getRetrievalFileLocation(new S3Location(bucketName, keyName), duration));
+        verify(s3Helper).generatePresignedUrl(any(), eq(SdkHttpMethod.GET), eq(credentialsExpiration), eq(credentials));
+    }
+
     @Test
     void testGetRetrievalFileLocation_badURI() throws MalformedURLException {
 
@@ -221,8 +232,8 @@ class FileLocationProviderImplTest  {
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), anyString())).thenReturn(stsRoleArn);
         when(stsCredentialsHelper.getRetrievalCredentials(any(), anyString(), any())).thenReturn(credentials);
 
-        mockS3Helper.when(() -> S3Helper.doesObjectExist(any(), any())).thenReturn(true);
-        mockS3Helper.when(() -> S3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(badURL));
+        when(s3Helper.doesObjectExist(any(), any())).thenReturn(true);
+        when(s3Helper.generatePresignedUrl(any(), any(), any(), any())).thenReturn(new URL(badURL));
         S3Location s3Location = new S3Location(bucketName, keyName);
 
         assertThrows(AppException.class, () -> {
@@ -266,7 +277,7 @@ class FileLocationProviderImplTest  {
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), any())).thenReturn(stsRoleArn);
         when(unsignedLocation.isValid()).thenReturn(true);
         when(unsignedLocation.isFolder()).thenReturn(false);
-        mockS3Helper.when(() -> S3Helper.doesObjectExist(any(), any())).thenReturn(false);
+        when(s3Helper.doesObjectExist(any(), any())).thenReturn(false);
 
         assertThrows(AppException.class, () -> {
             provider.getRetrievalFileLocation(unsignedLocation, duration);
@@ -280,7 +291,7 @@ class FileLocationProviderImplTest  {
 
         when(stsRoleHelper.getRoleArnForPartition(any(DpsHeaders.class), any())).thenReturn(stsRoleArn);
         when(unsignedLocation.isValid()).thenReturn(true);
-        mockS3Helper.when(() -> S3Helper.doesObjectCollectionExist(any(), any())).thenReturn(false);
+        when(s3Helper.doesObjectCollectionExist(any(), any())).thenReturn(false);
 
         assertThrows(AppException.class, () -> {
             provider.getFileCollectionRetrievalLocation(unsignedLocation, duration);
@@ -16,6 +16,7 @@
 
 package org.opengroup.osdu.file.provider.azure.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,6 +33,12 @@ public class AzureFileCollectionDmsUploadLocation {
   private String fileCollectionSource;
   private int fileCount;
   private List<String> fileNames;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Boolean fileNamesTruncated;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String continuationToken;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String manifestPath;
   private String createdBy;
   private String expiryTime;
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Files of a directory, see {@link org.opengroup.osdu.file.provider.azure.service.DataLakeDirectoryLister}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectoryListing {
+
+  private int fileCount;
+
+  /**
+   * Names of the first files of the directory, null if not requested.
+   */
+  private List<String> fileNames;
+
+  /**
+   * True if {@link #fileNames} does not include every file of the directory.
+   */
+  private boolean fileNamesTruncated;
+
+  /**
+   * Continuation token of the listing after the last of {@link #fileNames} when they are truncated,
+   * null to list the directory from its start.
+   */
+  private String continuationToken;
+
+  /**
+   * Path of the manifest of the directory when {@link #fileNames} are truncated and were read from
+   * it; the manifest lists every file and is readable with the signed URL of the directory.
+   */
+  private String manifestPath;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A URI carrying a SAS token and the expiry the token was actually signed with, which can be
+ * earlier than the requested one when the signing key expires first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignedSasUri {
+  private String uri;
+  private OffsetDateTime expiryTime;
+}
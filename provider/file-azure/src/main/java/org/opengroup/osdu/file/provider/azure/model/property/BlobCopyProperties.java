@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.model.property;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Limits of the server-side blob copies started by a single copy request.
+ */
+@Data
+@ConfigurationProperties(prefix = "azure.blob.copy")
+@Validated
+@Component
+public class BlobCopyProperties {
+
+  /**
+   * Maximum number of copies of one request in progress at the same time.
+   */
+  @Min(1)
+  int concurrency = 16;
+
+  /**
+   * Time a single copy may take before it is aborted and reported as failed.
+   */
+  @Min(1)
+  long timeoutSeconds = 300;
+
+  @Min(1)
+  long pollIntervalMillis = 1000;
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.model.property;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * User delegation keys cached per storage account to sign SAS tokens.
+ */
+@Data
+@ConfigurationProperties(prefix = "azure.sas.delegation-key")
+@Validated
+@Component
+public class DelegationKeyProperties {
+
+  /**
+   * Validity of a requested key, at most 7 days. A SAS token never outlives the key it is
+   * signed with.
+   */
+  @Min(600)
+  @Max(604800)
+  long validitySeconds = 172800;
+
+  /**
+   * Remaining validity below which a cached key is refreshed in the background while it keeps
+   * being used. Should be at least the longest SAS validity.
+   */
+  @Min(0)
+  long refreshAheadSeconds = 86400;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.model.property;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Listing of the files of file collections for their retrieval instructions.
+ */
+@Data
+@ConfigurationProperties(prefix = "azure.file-collection.listing")
+@Validated
+@Component
+public class FileCollectionListingProperties {
+
+  /**
+   * When false, retrieval instructions only contain the number of files of a collection.
+   */
+  boolean includeFileNames = true;
+
+  /**
+   * Maximum number of file names in the retrieval instructions of a collection. The instructions
+   * of a larger collection contain a continuation token to list the remaining files with the
+   * signed URL.
+   */
+  @Min(0)
+  int maxInlineFileNames = 10000;
+
+  /**
+   * Number of paths requested per listing call, at most 5000 for Data Lake.
+   */
+  @Min(1)
+  @Max(5000)
+  int pageSize = 5000;
+
+  /**
+   * Maximum number of collections of a request listed at the same time.
+   */
+  @Min(1)
+  int concurrency = 8;
+}
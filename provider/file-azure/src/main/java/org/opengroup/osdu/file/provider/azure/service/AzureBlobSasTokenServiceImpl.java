@@ -16,9 +16,8 @@
 
 package org.opengroup.osdu.file.provider.azure.service;
 
-import com.azure.identity.DefaultAzureCredential;
-import com.azure.identity.DefaultAzureCredentialBuilder;
-import com.azure.storage.blob.*;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobUrlParts;
 import com.azure.storage.blob.models.UserDelegationKey;
 import com.azure.storage.blob.sas.BlobContainerSasPermission;
 import com.azure.storage.blob.sas.BlobSasPermission;
@@ -32,43 +31,32 @@ import java.time.ZoneOffset;
 
 /*
 For a given blob object, generator a SAS Token that'll let bearers access the blob for 24 hours.
+The user delegation key and the client of the storage account come from the UserDelegationKeyCache,
+so signing does not call the storage account.
  */
 @Log
 @Component
 public class AzureBlobSasTokenServiceImpl {
 
-    private DefaultAzureCredential defaultCredential = new DefaultAzureCredentialBuilder().build();
     @Autowired
-    private DefaultAzureCredential defaultAzureCredential;
+    private UserDelegationKeyCache userDelegationKeyCache;
 
 
     public String signContainer(final String containerUrl) {
         BlobUrlParts parts = BlobUrlParts.parse(containerUrl);
         String endpoint = calcBlobAccountUrl(parts);
 
-        BlobServiceClient rbacKeySource = new BlobServiceClientBuilder()
-                .endpoint(endpoint)
-                .credential(defaultCredential)
-                .buildClient();
+        BlobServiceClient serviceClient = userDelegationKeyCache.getServiceClient(endpoint);
+        UserDelegationKey key = userDelegationKeyCache.getKey(endpoint);
 
-
-        BlobContainerClient blobContainerClient = new BlobContainerClientBuilder()
-                .credential(defaultCredential)
-                .endpoint(containerUrl)
-                .containerName(parts.getBlobContainerName())
-                .buildClient();
-
-
-        OffsetDateTime expiresInHalfADay = calcTokenExpirationDate();
-        UserDelegationKey key = rbacKeySource.getUserDelegationKey(null, expiresInHalfADay);
-
-        OffsetDateTime expiryTime = OffsetDateTime.now().plusDays(1);
+        OffsetDateTime expiryTime = UserDelegationKeyCache.limitToKey(OffsetDateTime.now().plusDays(1), key);
         BlobContainerSasPermission readOnlyPerms = new BlobContainerSasPermission().setReadPermission(true);
         readOnlyPerms.setListPermission(true);
         BlobServiceSasSignatureValues values = new BlobServiceSasSignatureValues(expiryTime, readOnlyPerms)
                 .setStartTime(OffsetDateTime.now());
 
-        String sasToken = blobContainerClient.generateUserDelegationSas(values, key);
+        String sasToken = serviceClient.getBlobContainerClient(parts.getBlobContainerName())
+                .generateUserDelegationSas(values, key);
 
         String sasUri = String.format("%s?%s", containerUrl, sasToken);
         return sasUri;
@@ -78,24 +66,18 @@ public class AzureBlobSasTokenServiceImpl {
     public String sign(String blobUrl) {
         BlobUrlParts parts = BlobUrlParts.parse(blobUrl);
         String endpoint = calcBlobAccountUrl(parts);
-        BlobServiceClient rbacKeySource = new BlobServiceClientBuilder()
-                .endpoint(endpoint)
-                .credential(defaultCredential)
-                .buildClient();
-        BlobClient tokenSource = new BlobClientBuilder()
-                .credential(defaultCredential)
-                .endpoint(blobUrl)
-                .buildClient();
-        OffsetDateTime expiresInHalfADay = calcTokenExpirationDate();
-        UserDelegationKey key = rbacKeySource.getUserDelegationKey(null, expiresInHalfADay);
+        BlobServiceClient serviceClient = userDelegationKeyCache.getServiceClient(endpoint);
+        UserDelegationKey key = userDelegationKeyCache.getKey(endpoint);
+        OffsetDateTime expiresInHalfADay = UserDelegationKeyCache.limitToKey(calcTokenExpirationDate(), key);
         BlobSasPermission readOnlyPerms = BlobSasPermission.parse("r");
         BlobServiceSasSignatureValues tokenProps = new BlobServiceSasSignatureValues(expiresInHalfADay, readOnlyPerms);
-        String sasToken = tokenSource.generateUserDelegationSas(tokenProps, key);
+        String sasToken = serviceClient.getBlobContainerClient(parts.getBlobContainerName())
+                .getBlobClient(parts.getBlobName())
+                .generateUserDelegationSas(tokenProps, key);
 
         String sasUri = String.format("%s?%s", blobUrl, sasToken);
         return sasUri;
     }
-
     private String calcBlobAccountUrl(BlobUrlParts parts) {
         return String.format("https://%s.blob.core.windows.net", parts.getAccountName());
     }
@@ -16,14 +16,14 @@
 
 package org.opengroup.osdu.file.provider.azure.service;
 
-import com.azure.identity.DefaultAzureCredential;
-import com.azure.identity.DefaultAzureCredentialBuilder;
-import com.azure.storage.blob.*;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobUrlParts;
 import com.azure.storage.blob.models.UserDelegationKey;
 import com.azure.storage.blob.sas.BlobSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import lombok.extern.java.Log;
 import org.opengroup.osdu.file.provider.azure.config.BlobServiceClientWrapper;
+import org.opengroup.osdu.file.provider.azure.model.SignedSasUri;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -39,34 +39,35 @@ public class AzureTokenServiceImpl {
   @Autowired
   private BlobServiceClientWrapper blobServiceClientWrapper;
 
-  private static final DefaultAzureCredential defaultCredential = new DefaultAzureCredentialBuilder().build();
+  @Autowired
+  private UserDelegationKeyCache userDelegationKeyCache;
 
-  private UserDelegationKey getUserDelegationKey() {
-    String storageAccountURL = this.blobServiceClientWrapper.getStorageAccountURL();
-    BlobServiceClient rbacKeySource = new BlobServiceClientBuilder()
-        .endpoint(storageAccountURL)
-        .credential(defaultCredential)
-        .buildClient();
-    OffsetDateTime expires = calcTokenExpirationDate(1, TimeUnit.DAYS);
-    return rbacKeySource.getUserDelegationKey(null, expires);
+  public String sign(String blobUrl, long duration, TimeUnit timeUnit) {
+    return signWithExpiry(blobUrl, duration, timeUnit).getUri();
   }
 
-  public String sign(String blobUrl, long duration, TimeUnit timeUnit) {
-    UserDelegationKey key = getUserDelegationKey();
-    BlobClient tokenSource = new BlobClientBuilder()
-        .credential(defaultCredential)
-        .endpoint(blobUrl)
-        .buildClient();
+  /**
+   * Signs {@code blobUrl} for {@code duration}, 7 days when negative. The returned expiry is the one
+   * the token was signed with: it is earlier than requested when the cached user delegation key
+   * expires first.
+   */
+  public SignedSasUri signWithExpiry(String blobUrl, long duration, TimeUnit timeUnit) {
+    String storageAccountURL = this.blobServiceClientWrapper.getStorageAccountURL();
+    BlobServiceClient serviceClient = userDelegationKeyCache.getServiceClient(storageAccountURL);
+    UserDelegationKey key = userDelegationKeyCache.getKey(storageAccountURL);
+    BlobUrlParts parts = BlobUrlParts.parse(blobUrl);
     BlobSasPermission permissions = BlobSasPermission.parse("rw");
     if (duration < 0)
       duration = 7L;
     if(timeUnit == null)
       timeUnit = TimeUnit.DAYS;
-    OffsetDateTime expires = calcTokenExpirationDate(duration, timeUnit);
+    OffsetDateTime expires = UserDelegationKeyCache.limitToKey(calcTokenExpirationDate(duration, timeUnit), key);
     BlobServiceSasSignatureValues tokenProps = new BlobServiceSasSignatureValues(expires, permissions);
-    String sasToken = tokenSource.generateUserDelegationSas(tokenProps, key);
+    String sasToken = serviceClient.getBlobContainerClient(parts.getBlobContainerName())
+        .getBlobClient(parts.getBlobName())
+        .generateUserDelegationSas(tokenProps, key);
     String sasUri = String.format("%s?%s", blobUrl, sasToken);
-    return sasUri;
+    return new SignedSasUri(sasUri, expires);
   }
 
   private static OffsetDateTime calcTokenExpirationDate(long duration, TimeUnit timeUnit) {
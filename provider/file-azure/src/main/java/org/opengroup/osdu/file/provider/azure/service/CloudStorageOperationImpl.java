@@ -16,11 +16,17 @@
 
 package org.opengroup.osdu.file.provider.azure.service;
 
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.CopyStatusType;
 import com.azure.storage.file.datalake.models.DataLakeStorageException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.util.Strings;
+import org.opengroup.osdu.azure.blobstorage.IBlobContainerClientFactory;
 import org.opengroup.osdu.azure.datalakestorage.DataLakeStore;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppException;
@@ -30,11 +36,16 @@ import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.model.property.FileCollectionManifestProperties;
+import org.opengroup.osdu.file.provider.azure.model.property.BlobCopyProperties;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.opengroup.osdu.azure.blobstorage.BlobStore;
 import com.azure.storage.blob.models.BlobCopyInfo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,6 +66,21 @@ public class CloudStorageOperationImpl implements ICloudStorageOperation {
   @Autowired
   ServiceHelper serviceHelper;
 
+  @Autowired
+  IBlobContainerClientFactory blobContainerClientFactory;
+
+  @Autowired
+  ParallelExecutor parallelExecutor;
+
+  @Autowired
+  BlobCopyProperties blobCopyProperties;
+
+  @Autowired
+  DataLakeManifestStore manifestStore;
+
+  @Autowired
+  FileCollectionManifestProperties manifestProperties;
+
   private String loggerName = CloudStorageOperationImpl.class.getName();
 
   @Override
@@ -78,28 +104,62 @@ public class CloudStorageOperationImpl implements ICloudStorageOperation {
     }
   }
 
+  /**
+   * Copies the files with server-side copies, at most {@link BlobCopyProperties#getConcurrency()}
+   * of them in progress at the same time. A copy that does not complete within
+   * {@link BlobCopyProperties#getTimeoutSeconds()} is aborted and reported as failed, without
+   * failing the other copies.
+   */
   @Override
   public List<FileCopyOperationResponse> copyFiles(List<FileCopyOperation> fileCopyOperationList) {
-    // TODO: Investigate if files can be copied in parallel with batch.
-    List<FileCopyOperationResponse> operationResponses = new ArrayList<>();
-
-    for (FileCopyOperation fileCopyOperation : fileCopyOperationList) {
-      FileCopyOperationResponse response;
+    String partitionId = dpsHeaders.getPartitionId();
+    return parallelExecutor.map(fileCopyOperationList, blobCopyProperties.getConcurrency(), fileCopyOperation -> {
+      boolean success;
       try {
-        this.copyFile(fileCopyOperation.getSourcePath(),
+        success = copyFileAndWait(partitionId, fileCopyOperation.getSourcePath(),
             fileCopyOperation.getDestinationPath());
-        response = FileCopyOperationResponse.builder()
-            .copyOperation(fileCopyOperation)
-            .success(true).build();
       } catch (Exception e) {
         logger.error("Error in performing file copy operation", e);
-        response = FileCopyOperationResponse.builder()
-            .copyOperation(fileCopyOperation)
-            .success(false).build();
+        success = false;
       }
-      operationResponses.add(response);
+      return FileCopyOperationResponse.builder()
+          .copyOperation(fileCopyOperation)
+          .success(success).build();
+    });
+  }
+
+  private boolean copyFileAndWait(String partitionId, String sourceFilePath, String destinationFilePath) {
+    if (Strings.isBlank(sourceFilePath) || Strings.isBlank(destinationFilePath)) {
+      throw new OsduBadRequestException(
+          String.format("Illegal argument for source { %s } or destination { %s } file path",
+              sourceFilePath, destinationFilePath));
+    }
+
+    String filePath = serviceHelper.getRelativeFilePathFromAbsoluteFilePath(destinationFilePath);
+    String containerName = serviceHelper.getContainerNameFromAbsoluteFilePath(destinationFilePath);
+    BlobClient blobClient = blobContainerClientFactory.getClient(partitionId, containerName).getBlobClient(filePath);
+    SyncPoller<BlobCopyInfo, Void> poller = blobClient.beginCopy(sourceFilePath,
+        Duration.ofMillis(blobCopyProperties.getPollIntervalMillis()));
+
+    PollResponse<BlobCopyInfo> pollResponse;
+    try {
+      pollResponse = poller.waitForCompletion(Duration.ofSeconds(blobCopyProperties.getTimeoutSeconds()));
+    } catch (RuntimeException e) {
+      abortCopy(poller, filePath);
+      throw e;
+    }
+    CopyStatusType copyStatus = pollResponse.getValue().getCopyStatus();
+    logger.info(loggerName, copyStatus.toString());
+    return pollResponse.getStatus() == LongRunningOperationStatus.SUCCESSFULLY_COMPLETED
+        && copyStatus == CopyStatusType.SUCCESS;
+  }
+
+  private void abortCopy(SyncPoller<BlobCopyInfo, Void> poller, String filePath) {
+    try {
+      poller.cancelOperation();
+    } catch (RuntimeException e) {
+      logger.warning(String.format("Unable to abort copy to %s", filePath), e);
     }
-    return operationResponses;
   }
 
   @Override
@@ -113,6 +173,11 @@ public class CloudStorageOperationImpl implements ICloudStorageOperation {
     return blobStore.deleteFromStorageContainer(dpsHeaders.getPartitionId(), filepath, containerName);
   }
 
+  /**
+   * With {@link FileCollectionManifestProperties#isEnabled()}, the manifest of each moved directory is
+   * written next to it; a directory whose manifest cannot be written is still reported as copied and
+   * is listed when it is retrieved.
+   */
   @Override
   public List<DatasetCopyOperation> copyDirectories(List<FileCopyOperation> fileCollectionPathList) {
 
@@ -161,5 +226,19 @@ public class CloudStorageOperationImpl implements ICloudStorageOperation {
         throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage(), ex);
       }
     }
+
+    if (manifestProperties.isEnabled()) {
+      writeManifest(partitionId, persistentFileSystem, fileCollectionPath);
+    }
+  }
+
+  private void writeManifest(String partitionId, String fileSystem, String fileCollectionPath) {
+    try {
+      FileCollectionManifest manifest = manifestStore.write(partitionId, fileSystem, fileCollectionPath);
+      logger.info(loggerName, String.format("Wrote manifest of file collection %s: %d files",
+          fileCollectionPath, manifest.getFileCount()));
+    } catch (RuntimeException e) {
+      logger.warning(String.format("Unable to write manifest of file collection %s", fileCollectionPath), e);
+    }
   }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.service;
+
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathItem;
+import lombok.RequiredArgsConstructor;
+import org.opengroup.osdu.azure.datalakestorage.IDataLakeClientFactory;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.model.property.FileCollectionManifestProperties;
+import org.opengroup.osdu.file.provider.azure.model.DirectoryListing;
+import org.opengroup.osdu.file.provider.azure.model.property.FileCollectionListingProperties;
+import org.opengroup.osdu.file.util.FileCollectionManifests;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists the files of a Data Lake directory page by page, keeping only the file names that are
+ * returned inline, so that the heap used by a listing does not grow with the size of the directory.
+ * With {@link FileCollectionManifestProperties#isEnabled()}, directories that have a manifest are
+ * described from it with a single read instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataLakeDirectoryLister {
+
+  private final IDataLakeClientFactory dataLakeClientFactory;
+  private final FileCollectionListingProperties properties;
+  private final FileCollectionManifestProperties manifestProperties;
+  private final DataLakeManifestStore manifestStore;
+
+  /**
+   * Counts the files of a directory and, if {@link FileCollectionListingProperties#isIncludeFileNames()},
+   * returns the names of its first files, at most {@link FileCollectionListingProperties#getMaxInlineFileNames()}.
+   * Once the names are complete or the limit is reached, the remaining files are only counted.
+   */
+  public DirectoryListing list(String partitionId, String fileSystemName, String directoryPath) {
+    if (manifestProperties.isEnabled()) {
+      FileCollectionManifest manifest = manifestStore.read(partitionId, fileSystemName, directoryPath);
+      if (manifest != null) {
+        return fromManifest(directoryPath, manifest);
+      }
+    }
+
+    PagedIterable<PathItem> paths = dataLakeClientFactory.getDataLakeServiceClient(partitionId)
+        .getFileSystemClient(fileSystemName)
+        .listPaths(new ListPathsOptions().setPath(directoryPath).setRecursive(true), null);
+
+    int maxFileNames = properties.isIncludeFileNames() ? properties.getMaxInlineFileNames() : 0;
+    List<String> fileNames = properties.isIncludeFileNames() ? new ArrayList<>() : null;
+    String continuationToken = null;
+    String nextPageToken = null;
+    boolean truncated = false;
+    int fileCount = 0;
+    // pages no larger than the limit, so that the names end at a page boundary
+    int pageSize = maxFileNames > 0 ? Math.min(maxFileNames, properties.getPageSize()) : properties.getPageSize();
+    for (PagedResponse<PathItem> page : paths.iterableByPage(pageSize)) {
+      List<String> pageFileNames = fileNamesOf(page);
+      fileCount += pageFileNames.size();
+      nextPageToken = page.getContinuationToken();
+      if (fileNames == null || fileNames.size() + pageFileNames.size() > maxFileNames) {
+        truncated = true;
+        break;
+      }
+      fileNames.addAll(pageFileNames);
+      continuationToken = nextPageToken;
+    }
+    if (truncated && nextPageToken != null) {
+      for (PagedResponse<PathItem> page : paths.iterableByPage(nextPageToken, properties.getPageSize())) {
+        fileCount += fileNamesOf(page).size();
+      }
+    }
+
+    DirectoryListing.DirectoryListingBuilder listing = DirectoryListing.builder()
+        .fileCount(fileCount)
+        .fileNames(fileNames);
+    if (fileNames != null && truncated) {
+      listing.fileNamesTruncated(true).continuationToken(continuationToken);
+    }
+    return listing.build();
+  }
+
+  /**
+   * File names are the paths of the manifest prefixed with the directory, as they are listed. There is
+   * no continuation token when they are truncated, the path of the manifest is returned instead.
+   */
+  private DirectoryListing fromManifest(String directoryPath, FileCollectionManifest manifest) {
+    DirectoryListing.DirectoryListingBuilder listing = DirectoryListing.builder()
+        .fileCount((int) manifest.getFileCount());
+    if (properties.isIncludeFileNames()) {
+      String prefix = directoryPath.endsWith("/") ? directoryPath : directoryPath + "/";
+      List<String> fileNames = new ArrayList<>();
+      for (FileCollectionManifest.Entry file : manifest.getFiles()) {
+        if (fileNames.size() == properties.getMaxInlineFileNames()) {
+          listing.fileNamesTruncated(true).manifestPath(FileCollectionManifests.manifestPath(directoryPath));
+          break;
+        }
+        fileNames.add(prefix + file.getPath());
+      }
+      listing.fileNames(fileNames);
+    }
+    return listing.build();
+  }
+
+  private static List<String> fileNamesOf(PagedResponse<PathItem> page) {
+    List<String> fileNames = new ArrayList<>();
+    for (PathItem path : page.getValue()) {
+      if (!Boolean.TRUE.equals(path.isDirectory()) && !FileCollectionManifests.isManifest(path.getName())) {
+        fileNames.add(path.getName());
+      }
+    }
+    return fileNames;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.service;
+
+import com.azure.storage.file.datalake.DataLakeFileSystemClient;
+import com.azure.storage.file.datalake.models.DataLakeStorageException;
+import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathItem;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.http.HttpStatus;
+import org.opengroup.osdu.azure.datalakestorage.IDataLakeClientFactory;
+import org.opengroup.osdu.file.constant.ChecksumAlgorithm;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.provider.azure.model.property.FileCollectionListingProperties;
+import org.opengroup.osdu.file.util.FileCollectionManifests;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes and reads the {@link FileCollectionManifest}s of Data Lake directories. The manifest of a
+ * directory is a file inside it, see {@link FileCollectionManifests#manifestPath(String)}, so that
+ * the signed URL of the directory can read it.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataLakeManifestStore {
+
+  private final IDataLakeClientFactory dataLakeClientFactory;
+  private final ParallelExecutor parallelExecutor;
+  private final FileCollectionListingProperties listingProperties;
+
+  /**
+   * Lists the files of a directory and writes its manifest, replacing any previous one. Listings do
+   * not return the MD5 of the files, which is read from the properties of every file,
+   * {@link FileCollectionListingProperties#getConcurrency()} at a time.
+   */
+  public FileCollectionManifest write(String partitionId, String fileSystemName, String directoryPath) {
+    DataLakeFileSystemClient fileSystemClient = getFileSystemClient(partitionId, fileSystemName);
+    String prefix = directoryPath.endsWith("/") ? directoryPath : directoryPath + "/";
+    List<PathItem> paths = new ArrayList<>();
+    for (PathItem path : fileSystemClient.listPaths(new ListPathsOptions().setPath(directoryPath).setRecursive(true), null)) {
+      if (!Boolean.TRUE.equals(path.isDirectory()) && !FileCollectionManifests.isManifest(path.getName())) {
+        paths.add(path);
+      }
+    }
+    List<FileCollectionManifest.Entry> files = parallelExecutor.map(paths, listingProperties.getConcurrency(), path -> {
+      String name = path.getName();
+      byte[] contentMd5 = fileSystemClient.getFileClient(name).getProperties().getContentMd5();
+      boolean hasChecksum = contentMd5 != null && contentMd5.length > 0;
+      return FileCollectionManifest.Entry.builder()
+          .path(name.startsWith(prefix) ? name.substring(prefix.length()) : name)
+          .size(path.getContentLength())
+          .checksum(hasChecksum ? new String(Hex.encodeHex(contentMd5)) : null)
+          .checksumAlgorithm(hasChecksum ? ChecksumAlgorithm.MD5.name() : null)
+          .etag(path.getETag())
+          .build();
+    });
+
+    FileCollectionManifest manifest = FileCollectionManifest.of(files);
+    byte[] content = FileCollectionManifests.encode(manifest);
+    fileSystemClient.getFileClient(FileCollectionManifests.manifestPath(directoryPath))
+        .upload(new ByteArrayInputStream(content), content.length, true);
+    return manifest;
+  }
+
+  /**
+   * @return manifest of a directory, null if the directory has none
+   */
+  public FileCollectionManifest read(String partitionId, String fileSystemName, String directoryPath) {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    try {
+      getFileSystemClient(partitionId, fileSystemName)
+          .getFileClient(FileCollectionManifests.manifestPath(directoryPath))
+          .read(content);
+    } catch (DataLakeStorageException e) {
+      if (e.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+    return FileCollectionManifests.decode(new ByteArrayInputStream(content.toByteArray()));
+  }
+
+  private DataLakeFileSystemClient getFileSystemClient(String partitionId, String fileSystemName) {
+    return dataLakeClientFactory.getDataLakeServiceClient(partitionId).getFileSystemClient(fileSystemName);
+  }
+}
@@ -37,11 +37,14 @@ import org.opengroup.osdu.file.model.SignedUrl;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.provider.azure.config.DataLakeConfig;
 import org.opengroup.osdu.file.provider.azure.model.AzureFileCollectionDmsUploadLocation;
+import org.opengroup.osdu.file.provider.azure.model.DirectoryListing;
 import org.opengroup.osdu.file.provider.azure.model.constant.StorageConstant;
+import org.opengroup.osdu.file.provider.azure.model.property.FileCollectionListingProperties;
 import org.opengroup.osdu.file.provider.azure.model.property.FileLocationProperties;
 import org.opengroup.osdu.file.provider.interfaces.IFileCollectionStorageService;
 import org.opengroup.osdu.file.provider.interfaces.IStorageRepository;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
@@ -99,6 +102,15 @@ public class FileCollectionStorageServiceImpl implements IFileCollectionStorageS
   @Autowired
   private MSIConfiguration msiConfiguration;
 
+  @Autowired
+  DataLakeDirectoryLister directoryLister;
+
+  @Autowired
+  FileCollectionListingProperties listingProperties;
+
+  @Autowired
+  ParallelExecutor parallelExecutor;
+
   @Override
   public StorageInstructionsResponse createStorageInstructions(String directoryID, String partitionID, SignedUrlParameters signedUrlParameters) {
     SignedUrl signedUrl = this.createSignedUrl(directoryID, partitionID, signedUrlParameters);
@@ -157,16 +169,19 @@ public class FileCollectionStorageServiceImpl implements IFileCollectionStorageS
     return createRetrievalInstructions(fileRetrievalDataList, new SignedUrlParameters());
   }
 
+  /**
+   * Collections are listed in parallel, at most {@link FileCollectionListingProperties#getConcurrency()}
+   * at the same time.
+   */
   @Override
   public RetrievalInstructionsResponse createRetrievalInstructions(List<FileRetrievalData> fileRetrievalDataList, SignedUrlParameters signedUrlParameters) {
 
-    List<DatasetRetrievalProperties> datasetRetrievalProperties = fileRetrievalDataList.stream()
-        .map(fileRetrievalDataItem -> DatasetRetrievalProperties.builder()
+    List<DatasetRetrievalProperties> datasetRetrievalProperties = parallelExecutor.map(fileRetrievalDataList,
+        listingProperties.getConcurrency(), fileRetrievalDataItem -> DatasetRetrievalProperties.builder()
             .datasetRegistryId(fileRetrievalDataItem.getRecordId())
             .retrievalProperties(getRetrievalProperties(signedUrlParameters, fileRetrievalDataItem))
             .providerKey(PROVIDER_KEY)
-            .build())
-        .toList();
+            .build());
 
     return RetrievalInstructionsResponse.builder()
         .datasets(datasetRetrievalProperties)
@@ -176,24 +191,25 @@ public class FileCollectionStorageServiceImpl implements IFileCollectionStorageS
   private Map<String, Object> getRetrievalProperties(SignedUrlParameters signedUrlParameters, FileRetrievalData fileRetrievalData) {
     SignedUrl signedUrl = this.createSignedUrlDirectoryLocation(fileRetrievalData.getUnsignedUrl(),
         signedUrlParameters);
-    List<String> fileNames = getFileNames(fileRetrievalData);
+    DirectoryListing listing = listFiles(fileRetrievalData);
     AzureFileCollectionDmsUploadLocation dmsLocation = AzureFileCollectionDmsUploadLocation.builder()
         .signedUrl(signedUrl.getUrl().toString())
         .fileCollectionSource(signedUrl.getFileSource())
-        .fileNames(fileNames)
-        .fileCount(fileNames.size())
+        .fileNames(listing.getFileNames())
+        .fileNamesTruncated(listing.isFileNamesTruncated() ? Boolean.TRUE : null)
+        .continuationToken(listing.getContinuationToken())
+        .manifestPath(listing.getManifestPath())
+        .fileCount(listing.getFileCount())
         .createdBy(signedUrl.getCreatedBy())
         .expiryTime(expiryTimeUtil.getExpiryTimeInString(signedUrlParameters))
         .build();
     return OBJECT_MAPPER.convertValue(dmsLocation, new TypeReference<>() {});
   }
 
-  private List<String> getFileNames(FileRetrievalData fileRetrievalData) {
+  private DirectoryListing listFiles(FileRetrievalData fileRetrievalData) {
     String fileSystemName = serviceHelper.getFileSystemNameFromAbsoluteDirectoryPath(fileRetrievalData.getUnsignedUrl());
     String directoryPath = serviceHelper.getRelativeDirectoryPathFromAbsoluteDirectoryPath(fileRetrievalData.getUnsignedUrl());
-    List<String> fileNames = dataLakeStore
-        .getFileNamesFromDirectory(dpsHeaders.getPartitionId(), fileSystemName, directoryPath);
-    return fileNames;
+    return directoryLister.list(dpsHeaders.getPartitionId(), fileSystemName, directoryPath);
   }
 
   /**
@@ -44,6 +44,7 @@ import org.opengroup.osdu.file.provider.azure.model.property.FileLocationPropert
 import org.opengroup.osdu.file.provider.interfaces.IStorageRepository;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.RetrievalInstructionsBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
@@ -57,7 +58,6 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -98,6 +98,9 @@ public class StorageServiceImpl implements IStorageService {
   @Autowired
   ServiceHelper serviceHelper;
 
+  @Autowired
+  RetrievalInstructionsBuilder retrievalInstructionsBuilder;
+
   @Override
   public SignedUrl createSignedUrl(String fileID, String authorizationToken, String partitionID) {
     return createSignedUrl(fileID, authorizationToken, partitionID, new SignedUrlParameters());
@@ -260,33 +263,27 @@ public class StorageServiceImpl implements IStorageService {
   @Override
   public RetrievalInstructionsResponse createRetrievalInstructions(List<FileRetrievalData> fileRetrievalDataList, SignedUrlParameters signedUrlParameters) {
 
-    List<DatasetRetrievalProperties> datasetRetrievalProperties = new ArrayList<>(fileRetrievalDataList.size());
-
-    for(FileRetrievalData fileRetrievalData : fileRetrievalDataList) {
+    String authorizationToken = dpsHeaders.getAuthorization();
+    String expiryTime = expiryTimeUtil.getExpiryTimeInString(signedUrlParameters);
 
+    return retrievalInstructionsBuilder.build(fileRetrievalDataList, fileRetrievalData -> {
       SignedUrl signedUrl = this.createSignedUrlFileLocation(fileRetrievalData.getUnsignedUrl(),
-          dpsHeaders.getAuthorization(), signedUrlParameters);
+          authorizationToken, signedUrlParameters);
 
       AzureFileDmsDownloadLocation dmsLocation = AzureFileDmsDownloadLocation.builder()
           .signedUrl(signedUrl.getUrl().toString())
           .fileSource(signedUrl.getFileSource())
           .createdBy(signedUrl.getCreatedBy())
-          .expiryTime(expiryTimeUtil.getExpiryTimeInString(signedUrlParameters))
+          .expiryTime(expiryTime)
           .build();
 
       Map<String, Object> downloadLocation = OBJECT_MAPPER.convertValue(dmsLocation, new TypeReference<Map<String, Object>>() {});
-      DatasetRetrievalProperties datasetRetrievalProperty = DatasetRetrievalProperties.builder()
+      return DatasetRetrievalProperties.builder()
           .retrievalProperties(downloadLocation)
           .datasetRegistryId(fileRetrievalData.getRecordId())
           .providerKey(PROVIDER_KEY)
           .build();
-
-      datasetRetrievalProperties.add(datasetRetrievalProperty);
-    }
-
-    return RetrievalInstructionsResponse.builder()
-        .datasets(datasetRetrievalProperties)
-        .build();
+    });
   }
 
   @Override
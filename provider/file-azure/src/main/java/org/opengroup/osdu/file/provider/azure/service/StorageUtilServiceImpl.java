@@ -16,7 +16,9 @@
 
 package org.opengroup.osdu.file.provider.azure.service;
 
+import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.specialized.BlobInputStream;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ import org.apache.commons.codec.binary.Hex;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.util.Strings;
 import org.opengroup.osdu.azure.blobstorage.BlobStore;
+import org.opengroup.osdu.azure.blobstorage.IBlobContainerClientFactory;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -35,14 +38,19 @@ import org.opengroup.osdu.file.provider.azure.config.BlobStoreConfig;
 import org.opengroup.osdu.file.provider.azure.model.constant.StorageConstant;
 import org.opengroup.osdu.file.provider.azure.util.FilePathUtil;
 import org.opengroup.osdu.file.provider.interfaces.IStorageUtilService;
+import org.opengroup.osdu.file.util.RangedChecksumCalculator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -72,6 +80,12 @@ public class StorageUtilServiceImpl implements IStorageUtilService  {
 
   final JaxRsDpsLog log;
 
+  @Autowired
+  final IBlobContainerClientFactory blobContainerClientFactory;
+
+  @Autowired
+  final RangedChecksumCalculator rangedChecksumCalculator;
+
   @Override
   public String getPersistentLocation(String relativePath, String partitionId) {
 
@@ -95,42 +109,61 @@ public class StorageUtilServiceImpl implements IStorageUtilService  {
 
   @Override
   public String getChecksum(final String filePath) {
+    return getChecksums(filePath, Collections.emptyList(), true).get(getChecksumAlgorithm().name());
+  }
+
+  @Override
+  public String getChecksumWithoutSizeLimit(final String filePath) {
+    return getChecksums(filePath, Collections.emptyList(), false).get(getChecksumAlgorithm().name());
+  }
+
+  @Override
+  public Map<String, String> getChecksums(final String filePath, List<String> algorithms, boolean sizeLimited) {
     if (Strings.isBlank(filePath)) {
       throw new OsduBadRequestException(String.format("Illegal file path argument - { %s }", filePath));
     }
+    List<String> requested = algorithms.isEmpty()
+        ? Collections.singletonList(getChecksumAlgorithm().name()) : algorithms;
     String sourceFilePath = serviceHelper.getRelativeFilePathFromAbsoluteFilePath(filePath);
     String containerName = serviceHelper.getContainerNameFromAbsoluteFilePath(filePath);
     try {
       BlobProperties blobProperties = blobStore.readBlobProperties(dpsHeaders.getPartitionId(), sourceFilePath, containerName);
       byte[] byteChecksum = blobProperties.getContentMd5();
       String fileID = sourceFilePath.split(StorageConstant.SLASH)[2];
-      if (byteChecksum != null && byteChecksum.length > 0) {
+      Map<String, String> checksums = new LinkedHashMap<>();
+      List<String> missing = new ArrayList<>(requested);
+      if (byteChecksum != null && byteChecksum.length > 0 && requested.contains(ChecksumAlgorithm.MD5.name())) {
         log.info("checksum is available for fileId "+fileID);
-        return new String(Hex.encodeHex(byteChecksum));
-      } else {
+        checksums.put(ChecksumAlgorithm.MD5.name(), new String(Hex.encodeHex(byteChecksum)));
+        missing.remove(ChecksumAlgorithm.MD5.name());
+      }
+      if (!missing.isEmpty()) {
         log.info("checksum is not available, calculating the checksum for fileId "+fileID);
-        return calculateChecksum(sourceFilePath, containerName, blobProperties.getBlobSize());
+        checksums.putAll(calculateChecksums(sourceFilePath, containerName, blobProperties.getBlobSize(),
+            sizeLimited ? blobSizeLimit : Long.MAX_VALUE, missing));
       }
+      return checksums;
     } catch (BlobStorageException ex) {
       throw new OsduBadRequestException(FileMetadataConstant.METADATA_EXCEPTION + filePath, ex);
     }
   }
 
-  private String calculateChecksum(String filePath, String containerName, long blobSize) {
+  private Map<String, String> calculateChecksums(String filePath, String containerName, long blobSize,
+                                                 long sizeLimit, List<String> algorithms) {
     try {
-      if (blobSize > blobSizeLimit) {
-        log.info(String.format("Checksum is not calculated, blob size is '%d' exceeds defined limit '%d'.", blobSize, blobSizeLimit));
-        return null;
+      if (blobSize > sizeLimit) {
+        log.info(String.format("Checksum is not calculated, blob size is '%d' exceeds defined limit '%d'.", blobSize, sizeLimit));
+        return Collections.emptyMap();
+      }
+      if (rangedChecksumCalculator.isRangedReadFor(blobSize)) {
+        BlobClient blobClient = blobContainerClientFactory.getClient(dpsHeaders.getPartitionId(), containerName)
+            .getBlobClient(filePath);
+        return rangedChecksumCalculator.checksums(algorithms, blobSize,
+            (offset, length) -> blobClient.openInputStream(new BlobRange(offset, length), null));
       }
-      MessageDigest md = MessageDigest.getInstance(getChecksumAlgorithm().toString());
-      BlobInputStream blobInputStream = blobStore.getBlobInputStream(dpsHeaders.getPartitionId(), filePath, containerName);
-      byte[] bytes = new byte[StorageConstant.AZURE_MAX_FILEPATH];
-      int numBytes;
-      while ((numBytes = blobInputStream.read(bytes)) != -1) {
-        md.update(bytes, 0, numBytes);
+      try (BlobInputStream blobInputStream = blobStore.getBlobInputStream(dpsHeaders.getPartitionId(), filePath, containerName)) {
+        return rangedChecksumCalculator.checksums(algorithms, blobInputStream);
       }
-      byte[] digest = md.digest();
-      return new String(Hex.encodeHex(digest));
     } catch (NoSuchAlgorithmException ex) {
       String message = FileMetadataConstant.CHECKSUM_EXCEPTION + filePath;
       throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, message , ex.getMessage(), ex);
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.service;
+
+import com.azure.identity.DefaultAzureCredential;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.UserDelegationKey;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opengroup.osdu.file.provider.azure.model.property.DelegationKeyProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * User delegation keys and blob service clients per storage account, so that signing a SAS token
+ * is a local operation instead of a key request to the storage account.
+ *
+ * <p>A key is requested once per account and reused until its remaining validity drops below
+ * {@link DelegationKeyProperties#getRefreshAheadSeconds()}; it is then refreshed on a dedicated
+ * background thread while the current key is still used. Only a missing or expiring key is requested on the calling
+ * thread, once for all concurrent callers of the same account.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDelegationKeyCache implements DisposableBean {
+
+  private static final long MIN_REMAINING_SECONDS = 300;
+
+  private final DefaultAzureCredential defaultAzureCredential;
+  private final DelegationKeyProperties properties;
+
+  private final ConcurrentMap<String, BlobServiceClient> serviceClients = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, UserDelegationKey> keys = new ConcurrentHashMap<>();
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+  private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("delegation-key-refresh-%d").setDaemon(true).build());
+
+  /**
+   * @param accountUrl blob endpoint of a storage account, e.g. {@code https://account.blob.core.windows.net}
+   */
+  public BlobServiceClient getServiceClient(String accountUrl) {
+    return serviceClients.computeIfAbsent(accountUrl, this::createServiceClient);
+  }
+
+  /**
+   * @param accountUrl blob endpoint of a storage account, e.g. {@code https://account.blob.core.windows.net}
+   * @return a key valid for at least {@value #MIN_REMAINING_SECONDS} seconds
+   */
+  public UserDelegationKey getKey(String accountUrl) {
+    OffsetDateTime now = now();
+    UserDelegationKey key = keys.get(accountUrl);
+    if (!isUsable(key, now)) {
+      key = keys.compute(accountUrl, (url, current) -> isUsable(current, now()) ? current : requestKey(url));
+    } else if (key.getSignedExpiry().isBefore(now.plusSeconds(properties.getRefreshAheadSeconds()))
+        && refreshing.add(accountUrl)) {
+      try {
+        refreshExecutor.execute(() -> refresh(accountUrl));
+      } catch (RejectedExecutionException e) {
+        refreshing.remove(accountUrl);
+      }
+    }
+    return key;
+  }
+
+  /**
+   * @return the earlier of {@code expiry} and the expiry of {@code key}, past which a SAS token
+   * signed with the key is not accepted anyway
+   */
+  public static OffsetDateTime limitToKey(OffsetDateTime expiry, UserDelegationKey key) {
+    return expiry.isAfter(key.getSignedExpiry()) ? key.getSignedExpiry() : expiry;
+  }
+
+  @Override
+  public void destroy() {
+    refreshExecutor.shutdownNow();
+  }
+
+  BlobServiceClient createServiceClient(String accountUrl) {
+    return new BlobServiceClientBuilder()
+        .endpoint(accountUrl)
+        .credential(defaultAzureCredential)
+        .buildClient();
+  }
+
+  private void refresh(String accountUrl) {
+    try {
+      keys.put(accountUrl, requestKey(accountUrl));
+    } catch (RuntimeException e) {
+      log.warn("Unable to refresh the user delegation key of {}, keeping the current key", accountUrl, e);
+    } finally {
+      refreshing.remove(accountUrl);
+    }
+  }
+
+  private UserDelegationKey requestKey(String accountUrl) {
+    UserDelegationKey key = getServiceClient(accountUrl)
+        .getUserDelegationKey(null, now().plusSeconds(properties.getValiditySeconds()));
+    log.debug("Requested user delegation key of {} valid until {}", accountUrl, key.getSignedExpiry());
+    return key;
+  }
+
+  private static boolean isUsable(UserDelegationKey key, OffsetDateTime now) {
+    return key != null && key.getSignedExpiry() != null
+        && key.getSignedExpiry().isAfter(now.plusSeconds(MIN_REMAINING_SECONDS));
+  }
+
+  private static OffsetDateTime now() {
+    return OffsetDateTime.now(ZoneOffset.UTC);
+  }
+}
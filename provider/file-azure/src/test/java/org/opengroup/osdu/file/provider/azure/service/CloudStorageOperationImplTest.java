@@ -16,6 +16,11 @@
 
 package org.opengroup.osdu.file.provider.azure.service;
 
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobCopyInfo;
 import com.azure.storage.blob.models.CopyStatusType;
 import com.azure.storage.file.datalake.DataLakeDirectoryClient;
@@ -28,8 +33,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.azure.blobstorage.BlobStore;
+import org.opengroup.osdu.azure.blobstorage.IBlobContainerClientFactory;
 import org.opengroup.osdu.azure.datalakestorage.DataLakeStore;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
@@ -37,10 +44,17 @@ import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.model.property.FileCollectionManifestProperties;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
 import org.opengroup.osdu.file.provider.azure.TestUtils;
+import org.opengroup.osdu.file.provider.azure.model.property.BlobCopyProperties;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import com.azure.storage.blob.models.BlobStorageException;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
@@ -80,6 +94,21 @@ public class CloudStorageOperationImplTest {
   @Mock
   DataLakeStore dataLakeStore;
 
+  @Mock
+  IBlobContainerClientFactory blobContainerClientFactory;
+
+  @Spy
+  ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
+  @Spy
+  BlobCopyProperties blobCopyProperties = new BlobCopyProperties();
+
+  @Mock
+  DataLakeManifestStore manifestStore;
+
+  @Spy
+  FileCollectionManifestProperties manifestProperties = new FileCollectionManifestProperties();
+
   @BeforeEach
   public void init() {
     initMocks(this);
@@ -176,22 +205,49 @@ public class CloudStorageOperationImplTest {
   public void copyFiles_Success() {
     prepareMockCopyFile();
     List<FileCopyOperation> fileCopyOperationList = getFileCopyOperationsForFile();
-
-    when(blobStore.copyFile(TestUtils.PARTITION, TestUtils.RELATIVE_FILE_PATH,
-        TestUtils.STAGING_CONTAINER_NAME,TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH)).thenReturn(blobCopyInfo);
+    BlobClient blobClient = prepareMockBlobClient(TestUtils.RELATIVE_FILE_PATH);
+    SyncPoller<BlobCopyInfo, Void> poller = mockPoller(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED);
+    when(blobClient.beginCopy(Mockito.eq(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH), Mockito.any(Duration.class)))
+        .thenReturn(poller);
 
     List<FileCopyOperationResponse> responses = cloudStorageOperation.copyFiles(fileCopyOperationList);
     Assertions.assertTrue(responses.get(0).isSuccess());
     Assertions.assertEquals(fileCopyOperationList.get(0), responses.get(0).getCopyOperation());
 
     // verify
-    verify(blobStore, times(1)).copyFile(TestUtils.PARTITION, TestUtils.RELATIVE_FILE_PATH,
-        TestUtils.STAGING_CONTAINER_NAME,TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH);
-
+    verify(blobClient, times(1)).beginCopy(Mockito.eq(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH), Mockito.any(Duration.class));
+    verify(poller).waitForCompletion(Duration.ofSeconds(blobCopyProperties.getTimeoutSeconds()));
     verifyMockCopyFile();
     verify(blobCopyInfo).getCopyStatus();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void copyFiles_KeepsOrderAndReportsFailuresPerItem() {
+    prepareMockCopyFile();
+    List<FileCopyOperation> fileCopyOperationList = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      fileCopyOperationList.addAll(getFileCopyOperationsForFile());
+    }
+    fileCopyOperationList.add(1, getFileCopyOperations_EmptySourcePath().get(0));
+    BlobClient blobClient = prepareMockBlobClient(TestUtils.RELATIVE_FILE_PATH);
+    SyncPoller<BlobCopyInfo, Void> completed = mockPoller(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED);
+    SyncPoller<BlobCopyInfo, Void> timedOut = mock(SyncPoller.class);
+    when(timedOut.waitForCompletion(Mockito.any(Duration.class))).thenThrow(new RuntimeException("timeout"));
+    when(blobClient.beginCopy(Mockito.anyString(), Mockito.any(Duration.class)))
+        .thenReturn(completed, timedOut, completed);
+
+    List<FileCopyOperationResponse> responses = cloudStorageOperation.copyFiles(fileCopyOperationList);
+
+    Assertions.assertEquals(4, responses.size());
+    for (int i = 0; i < responses.size(); i++) {
+      Assertions.assertSame(fileCopyOperationList.get(i), responses.get(i).getCopyOperation());
+    }
+    Assertions.assertFalse(responses.get(1).isSuccess());
+    Assertions.assertEquals(2, responses.stream().filter(FileCopyOperationResponse::isSuccess).count());
+    verify(timedOut).cancelOperation();
+  }
+
   @Test
   public void copyDirectories_Success() {
     prepareMockCopyDirectories();
@@ -207,6 +263,37 @@ public class CloudStorageOperationImplTest {
     verifyMockCopyDirectories();
   }
 
+  @Test
+  public void copyDirectories_WritesManifestOfMovedDirectory() {
+    prepareMockCopyDirectories();
+    manifestProperties.setEnabled(true);
+    List<FileCopyOperation> fileCopyOperationList = getFileCopyOperations();
+    when(dataLakeStore.moveDirectory(TestUtils.PARTITION, TestUtils.STAGING_CONTAINER_NAME,
+        FILE_COLLECTION_PATH, TestUtils.PERSISTENT_CONTAINER_NAME)).thenReturn(mock(DataLakeDirectoryClient.class));
+    when(manifestStore.write(TestUtils.PARTITION, TestUtils.PERSISTENT_CONTAINER_NAME, FILE_COLLECTION_PATH))
+        .thenReturn(FileCollectionManifest.of(Collections.emptyList()));
+
+    List<DatasetCopyOperation> operationResponses = cloudStorageOperation.copyDirectories(fileCopyOperationList);
+
+    Assertions.assertTrue(operationResponses.get(0).isSuccess());
+    verify(manifestStore).write(TestUtils.PARTITION, TestUtils.PERSISTENT_CONTAINER_NAME, FILE_COLLECTION_PATH);
+  }
+
+  @Test
+  public void copyDirectories_SucceedsWhenManifestCannotBeWritten() {
+    prepareMockCopyDirectories();
+    manifestProperties.setEnabled(true);
+    List<FileCopyOperation> fileCopyOperationList = getFileCopyOperations();
+    when(dataLakeStore.moveDirectory(TestUtils.PARTITION, TestUtils.STAGING_CONTAINER_NAME,
+        FILE_COLLECTION_PATH, TestUtils.PERSISTENT_CONTAINER_NAME)).thenReturn(mock(DataLakeDirectoryClient.class));
+    when(manifestStore.write(TestUtils.PARTITION, TestUtils.PERSISTENT_CONTAINER_NAME, FILE_COLLECTION_PATH))
+        .thenThrow(new IllegalStateException("write failed"));
+
+    List<DatasetCopyOperation> operationResponses = cloudStorageOperation.copyDirectories(fileCopyOperationList);
+
+    Assertions.assertTrue(operationResponses.get(0).isSuccess());
+  }
+
   @Test
   public void copyDirectories_EmptySourcePath() {
     List<FileCopyOperation> fileCopyOperationList = getFileCopyOperations_EmptySourcePath();
@@ -306,6 +393,23 @@ public class CloudStorageOperationImplTest {
     lenient().when(blobCopyInfo.getCopyStatus()).thenReturn(CopyStatusType.SUCCESS);
   }
 
+  private BlobClient prepareMockBlobClient(String filePath) {
+    BlobContainerClient blobContainerClient = mock(BlobContainerClient.class);
+    BlobClient blobClient = mock(BlobClient.class);
+    when(blobContainerClientFactory.getClient(TestUtils.PARTITION, TestUtils.STAGING_CONTAINER_NAME))
+        .thenReturn(blobContainerClient);
+    when(blobContainerClient.getBlobClient(filePath)).thenReturn(blobClient);
+    return blobClient;
+  }
+
+  @SuppressWarnings("unchecked")
+  private SyncPoller<BlobCopyInfo, Void> mockPoller(LongRunningOperationStatus status) {
+    SyncPoller<BlobCopyInfo, Void> poller = mock(SyncPoller.class);
+    PollResponse<BlobCopyInfo> pollResponse = new PollResponse<>(status, blobCopyInfo);
+    when(poller.waitForCompletion(Mockito.any(Duration.class))).thenReturn(pollResponse);
+    return poller;
+  }
+
   private void verifyMockCopyFile() {
     verify(dpsHeaders).getPartitionId();
     verify(serviceHelper).getContainerNameFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH);
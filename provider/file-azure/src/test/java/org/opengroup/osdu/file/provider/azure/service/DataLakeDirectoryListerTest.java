@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.service;
+
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.storage.file.datalake.DataLakeFileSystemClient;
+import com.azure.storage.file.datalake.DataLakeServiceClient;
+import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.azure.datalakestorage.IDataLakeClientFactory;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.model.property.FileCollectionManifestProperties;
+import org.opengroup.osdu.file.provider.azure.model.DirectoryListing;
+import org.opengroup.osdu.file.provider.azure.model.property.FileCollectionListingProperties;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataLakeDirectoryListerTest {
+
+  private static final String PARTITION = "partition";
+  private static final String FILE_SYSTEM = "staging";
+  private static final String DIRECTORY = "collection";
+
+  @Mock
+  IDataLakeClientFactory dataLakeClientFactory;
+
+  @Mock
+  DataLakeServiceClient serviceClient;
+
+  @Mock
+  DataLakeFileSystemClient fileSystemClient;
+
+  @Mock
+  PagedIterable<PathItem> paths;
+
+  @Mock
+  DataLakeManifestStore manifestStore;
+
+  private final FileCollectionListingProperties properties = new FileCollectionListingProperties();
+
+  private final FileCollectionManifestProperties manifestProperties = new FileCollectionManifestProperties();
+
+  private DataLakeDirectoryLister lister;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(dataLakeClientFactory.getDataLakeServiceClient(PARTITION)).thenReturn(serviceClient);
+    lenient().when(serviceClient.getFileSystemClient(FILE_SYSTEM)).thenReturn(fileSystemClient);
+    lenient().when(fileSystemClient.listPaths(any(ListPathsOptions.class), isNull())).thenReturn(paths);
+    lister = new DataLakeDirectoryLister(dataLakeClientFactory, properties, manifestProperties, manifestStore);
+  }
+
+  @Test
+  void shouldListAllFileNamesBelowTheLimit() {
+    when(paths.iterableByPage(5000)).thenReturn(List.of(
+        page(null, file("collection/a"), directory("collection/sub"), file("collection/sub/b"),
+            file("collection/.manifest.json.gz"))));
+
+    DirectoryListing listing = lister.list(PARTITION, FILE_SYSTEM, DIRECTORY);
+
+    then(listing.getFileNames()).containsExactly("collection/a", "collection/sub/b");
+    then(listing.getFileCount()).isEqualTo(2);
+    then(listing.isFileNamesTruncated()).isFalse();
+    then(listing.getContinuationToken()).isNull();
+  }
+
+  @Test
+  void shouldTruncateFileNamesAndCountRemainingFiles() {
+    properties.setMaxInlineFileNames(2);
+    when(paths.iterableByPage(2)).thenReturn(List.of(
+        page("token1", file("collection/a"), file("collection/b")),
+        page("token2", file("collection/c"), file("collection/d"))));
+    when(paths.iterableByPage("token2", 5000)).thenReturn(List.of(
+        page(null, file("collection/e"))));
+
+    DirectoryListing listing = lister.list(PARTITION, FILE_SYSTEM, DIRECTORY);
+
+    then(listing.getFileNames()).containsExactly("collection/a", "collection/b");
+    then(listing.getFileCount()).isEqualTo(5);
+    then(listing.isFileNamesTruncated()).isTrue();
+    then(listing.getContinuationToken()).isEqualTo("token1");
+  }
+
+  @Test
+  void shouldOnlyCountFilesWhenFileNamesAreExcluded() {
+    properties.setIncludeFileNames(false);
+    when(paths.iterableByPage(5000)).thenReturn(List.of(
+        page(null, file("collection/a"), file("collection/b"))));
+
+    DirectoryListing listing = lister.list(PARTITION, FILE_SYSTEM, DIRECTORY);
+
+    then(listing.getFileNames()).isNull();
+    then(listing.getFileCount()).isEqualTo(2);
+    then(listing.isFileNamesTruncated()).isFalse();
+    verify(paths, never()).iterableByPage(any(String.class), any(Integer.class));
+  }
+
+  @Test
+  void shouldReadFileNamesFromManifest() {
+    manifestProperties.setEnabled(true);
+    properties.setMaxInlineFileNames(1);
+    when(manifestStore.read(PARTITION, FILE_SYSTEM, DIRECTORY)).thenReturn(FileCollectionManifest.of(List.of(
+        FileCollectionManifest.Entry.builder().path("a").size(1).build(),
+        FileCollectionManifest.Entry.builder().path("sub/b").size(1).build())));
+
+    DirectoryListing listing = lister.list(PARTITION, FILE_SYSTEM, DIRECTORY);
+
+    then(listing.getFileNames()).containsExactly("collection/a");
+    then(listing.getFileCount()).isEqualTo(2);
+    then(listing.isFileNamesTruncated()).isTrue();
+    then(listing.getManifestPath()).isEqualTo("collection/.manifest.json.gz");
+    verify(fileSystemClient, never()).listPaths(any(ListPathsOptions.class), any());
+  }
+
+  @Test
+  void shouldListDirectoryWithoutManifest() {
+    manifestProperties.setEnabled(true);
+    when(paths.iterableByPage(5000)).thenReturn(List.of(page(null, file("collection/a"))));
+
+    DirectoryListing listing = lister.list(PARTITION, FILE_SYSTEM, DIRECTORY);
+
+    then(listing.getFileNames()).containsExactly("collection/a");
+    verify(manifestStore).read(PARTITION, FILE_SYSTEM, DIRECTORY);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PagedResponse<PathItem> page(String continuationToken, PathItem... items) {
+    PagedResponse<PathItem> page = mock(PagedResponse.class);
+    when(page.getValue()).thenReturn(new ArrayList<>(List.of(items)));
+    when(page.getContinuationToken()).thenReturn(continuationToken);
+    return page;
+  }
+
+  private static PathItem file(String name) {
+    return new PathItem("etag", OffsetDateTime.now(), 1L, "group", false, name, "owner", "rwx");
+  }
+
+  private static PathItem directory(String name) {
+    return new PathItem("etag", OffsetDateTime.now(), 0L, "group", true, name, "owner", "rwx");
+  }
+}
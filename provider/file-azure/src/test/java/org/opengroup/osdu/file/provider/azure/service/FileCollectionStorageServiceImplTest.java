@@ -22,6 +22,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.azure.datalakestorage.DataLakeStore;
 import org.opengroup.osdu.azure.di.MSIConfiguration;
@@ -33,10 +34,14 @@ import org.opengroup.osdu.file.model.FileRetrievalData;
 import org.opengroup.osdu.file.model.SignedObject;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.provider.azure.TestUtils;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
 import org.opengroup.osdu.file.provider.azure.config.DataLakeConfig;
+import org.opengroup.osdu.file.provider.azure.model.DirectoryListing;
+import org.opengroup.osdu.file.provider.azure.model.property.FileCollectionListingProperties;
 import org.opengroup.osdu.file.provider.azure.model.property.FileLocationProperties;
 import org.opengroup.osdu.file.provider.interfaces.IStorageRepository;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 import java.net.MalformedURLException;
@@ -90,6 +95,15 @@ public class FileCollectionStorageServiceImplTest {
   @Mock
   MSIConfiguration msiConfiguration;
 
+  @Mock
+  DataLakeDirectoryLister directoryLister;
+
+  @Spy
+  FileCollectionListingProperties listingProperties = new FileCollectionListingProperties();
+
+  @Spy
+  ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+
   @InjectMocks
   FileCollectionStorageServiceImpl fileCollectionStorageServiceImpl;
 
@@ -137,9 +151,8 @@ public class FileCollectionStorageServiceImplTest {
     prepareCreateSignedUrlFileLocationMocks(mockSignedUrl);
     when(msiConfiguration.getIsEnabled()).thenReturn(false);
     List<String> fileNames = List.of("file1.txt", "file2.txt");
-    when(dataLakeStore
-        .getFileNamesFromDirectory(eq(TestUtils.PARTITION), eq(TestUtils.STAGING_FILE_SYSTEM_NAME),
-            eq(TestUtils.DIRECTORY_NAME))).thenReturn(fileNames);
+    when(directoryLister.list(TestUtils.PARTITION, TestUtils.STAGING_FILE_SYSTEM_NAME, TestUtils.DIRECTORY_NAME))
+        .thenReturn(DirectoryListing.builder().fileNames(fileNames).fileCount(fileNames.size()).build());
 
     RetrievalInstructionsResponse response = fileCollectionStorageServiceImpl.
         createRetrievalInstructions(getFileRetrievalDataList());
@@ -148,10 +161,30 @@ public class FileCollectionStorageServiceImplTest {
     then(response.getDatasets().get(0).getDatasetRegistryId()).isEqualTo(TestUtils.FILE_COLLECTION_RECORD_ID);
     then(response.getDatasets().get(0).getRetrievalProperties().get("fileNames")).isEqualTo(fileNames);
     then(response.getDatasets().get(0).getRetrievalProperties().get("fileCount")).isEqualTo(fileNames.size());
+    then(response.getDatasets().get(0).getRetrievalProperties()).doesNotContainKeys("fileNamesTruncated", "continuationToken",
+        "manifestPath");
 
     verifyCreateSignedUrlFileLocationMocks();
   }
 
+  @Test
+  public void shouldCreateRetrievalInstructionsWithTruncatedFileNames() {
+    URL mockSignedUrl = TestUtils.getAzureObjectUrl(TestUtils.STAGING_FILE_SYSTEM_NAME, TestUtils.DIRECTORY_NAME);
+    prepareCreateSignedUrlFileLocationMocks(mockSignedUrl);
+    when(msiConfiguration.getIsEnabled()).thenReturn(false);
+    when(directoryLister.list(TestUtils.PARTITION, TestUtils.STAGING_FILE_SYSTEM_NAME, TestUtils.DIRECTORY_NAME))
+        .thenReturn(DirectoryListing.builder().fileNames(List.of("file1.txt")).fileCount(20000)
+            .fileNamesTruncated(true).continuationToken("token").build());
+
+    RetrievalInstructionsResponse response = fileCollectionStorageServiceImpl.
+        createRetrievalInstructions(getFileRetrievalDataList());
+
+    then(response.getDatasets().get(0).getRetrievalProperties().get("fileNames")).isEqualTo(List.of("file1.txt"));
+    then(response.getDatasets().get(0).getRetrievalProperties().get("fileCount")).isEqualTo(20000);
+    then(response.getDatasets().get(0).getRetrievalProperties().get("fileNamesTruncated")).isEqualTo(true);
+    then(response.getDatasets().get(0).getRetrievalProperties().get("continuationToken")).isEqualTo("token");
+  }
+
   @Test
   public void testCreateRetrievalInstructions_EmptyUnsignedUrl_ThrowsIllegalArgumentException() {
 
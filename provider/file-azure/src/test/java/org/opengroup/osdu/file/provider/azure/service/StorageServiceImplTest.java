@@ -42,12 +42,16 @@ import org.opengroup.osdu.file.model.FileRetrievalData;
 import org.opengroup.osdu.file.model.SignedObject;
 import org.opengroup.osdu.file.model.SignedUrl;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RetrievalInstructionsProperties;
 import org.opengroup.osdu.file.provider.azure.TestUtils;
 import org.opengroup.osdu.file.provider.azure.config.BlobStoreConfig;
 import org.opengroup.osdu.file.provider.azure.model.property.FileLocationProperties;
 import org.opengroup.osdu.file.provider.interfaces.IStorageRepository;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
 import org.opengroup.osdu.file.util.ExpiryTimeUtil;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.opengroup.osdu.file.util.RetrievalInstructionsBuilder;
 
 import java.net.URI;
 import java.net.URL;
@@ -111,7 +115,9 @@ class StorageServiceImplTest {
 
     expiryTimeUtil = new ExpiryTimeUtil();
     storageService = new StorageServiceImpl(blobStore, dpsHeaders, fileLocationProperties,
-        storageRepository, blobStoreConfig, expiryTimeUtil, msiConfiguration, serviceHelper);
+        storageRepository, blobStoreConfig, expiryTimeUtil, msiConfiguration, serviceHelper,
+        new RetrievalInstructionsBuilder(new ParallelExecutor(new FileExecutorProperties()),
+            new RetrievalInstructionsProperties()));
 
     lenient().when(msiConfiguration.getIsEnabled()).thenReturn(false);
 
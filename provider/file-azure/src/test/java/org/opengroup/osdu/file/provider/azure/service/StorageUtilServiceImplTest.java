@@ -16,30 +16,47 @@
 
 package org.opengroup.osdu.file.provider.azure.service;
 
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.specialized.BlobInputStream;
+import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opengroup.osdu.azure.blobstorage.BlobStore;
+import org.opengroup.osdu.azure.blobstorage.IBlobContainerClientFactory;
 import org.opengroup.osdu.core.common.logging.JaxRsDpsLog;
 import org.opengroup.osdu.core.common.model.http.AppException;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.file.exception.OsduBadRequestException;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RangedChecksumProperties;
 import org.opengroup.osdu.file.provider.azure.TestUtils;
 import org.opengroup.osdu.file.provider.azure.config.BlobStoreConfig;
 import org.opengroup.osdu.file.provider.azure.config.BlobServiceClientWrapper;
 import org.opengroup.osdu.file.provider.azure.model.constant.StorageConstant;
 import org.opengroup.osdu.file.provider.azure.util.FilePathUtil;
+import org.opengroup.osdu.file.provider.interfaces.IChecksumDigestFactory;
+import org.opengroup.osdu.file.util.ChecksumDigests;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.opengroup.osdu.file.util.RangedChecksumCalculator;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -52,6 +69,9 @@ public class StorageUtilServiceImplTest {
 
   private StorageUtilServiceImpl storageUtilService;
 
+  private final ChecksumDigests checksumDigests =
+      new ChecksumDigests(new StaticListableBeanFactory().getBeanProvider(IChecksumDigestFactory.class));
+
   @Mock
   BlobStoreConfig blobStoreConfig;
 
@@ -76,10 +96,15 @@ public class StorageUtilServiceImplTest {
   @Mock
   JaxRsDpsLog log;
 
+  @Mock
+  IBlobContainerClientFactory blobContainerClientFactory;
+
   @BeforeEach
   void init() {
     initMocks(this);
-    storageUtilService = new StorageUtilServiceImpl(blobStoreConfig, filePathUtil, blobServiceClientWrapper, blobStore, serviceHelper, dpsHeaders, log);
+    storageUtilService = new StorageUtilServiceImpl(blobStoreConfig, filePathUtil, blobServiceClientWrapper, blobStore, serviceHelper, dpsHeaders, log,
+        blobContainerClientFactory, new RangedChecksumCalculator(new ParallelExecutor(new FileExecutorProperties()), new RangedChecksumProperties(),
+            checksumDigests));
   }
 
   @Test
@@ -188,6 +213,92 @@ public class StorageUtilServiceImplTest {
     verify(blobStore, times(1)).readBlobProperties(TestUtils.PARTITION, TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID,TestUtils.STAGING_CONTAINER_NAME);
   }
 
+  @Test
+  public void getChecksumWithoutSizeLimit_ShouldCalculateChecksum_ForBlobAboveLimit() throws IOException {
+    when(blobStore.readBlobProperties(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobProperties);
+    when(blobProperties.getBlobSize()).thenReturn(TestUtils.BLOB_SIZE * 10);
+    BlobInputStream blobInputStream = mock(BlobInputStream.class);
+    when(blobStore.getBlobInputStream(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobInputStream);
+    when(blobInputStream.read(Mockito.any(byte[].class))).thenReturn(10).thenReturn(-1);
+    when(dpsHeaders.getPartitionId()).thenReturn(TestUtils.PARTITION);
+    ReflectionTestUtils.setField(storageUtilService, TestUtils.BLOB_SIZE_LIMIT, TestUtils.BLOB_SIZE);
+    when(serviceHelper
+        .getContainerNameFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
+        .thenReturn(TestUtils.STAGING_CONTAINER_NAME);
+    when(serviceHelper
+        .getRelativeFilePathFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
+        .thenReturn(TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);
+
+    String checksum = storageUtilService.getChecksumWithoutSizeLimit(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);
+
+    Assertions.assertNotNull(checksum);
+    verify(blobStore, times(1)).getBlobInputStream(TestUtils.PARTITION, TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID,TestUtils.STAGING_CONTAINER_NAME);
+  }
+
+  @Test
+  public void getChecksum_ShouldUseRangedReads_ForLargeBlob() throws Exception {
+    byte[] content = "0123456789".getBytes();
+    RangedChecksumProperties properties = new RangedChecksumProperties();
+    properties.setPartSizeBytes(4);
+    properties.setConcurrency(2);
+    properties.setMinObjectSizeBytes(0);
+    storageUtilService = new StorageUtilServiceImpl(blobStoreConfig, filePathUtil, blobServiceClientWrapper, blobStore, serviceHelper, dpsHeaders, log,
+        blobContainerClientFactory, new RangedChecksumCalculator(new ParallelExecutor(new FileExecutorProperties()), properties,
+            checksumDigests));
+    ReflectionTestUtils.setField(storageUtilService, TestUtils.BLOB_SIZE_LIMIT, TestUtils.BLOB_SIZE);
+    when(blobStore.readBlobProperties(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobProperties);
+    when(blobProperties.getBlobSize()).thenReturn((long) content.length);
+    when(dpsHeaders.getPartitionId()).thenReturn(TestUtils.PARTITION);
+    when(serviceHelper
+        .getContainerNameFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
+        .thenReturn(TestUtils.STAGING_CONTAINER_NAME);
+    when(serviceHelper
+        .getRelativeFilePathFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
+        .thenReturn(TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);
+    BlobContainerClient blobContainerClient = mock(BlobContainerClient.class);
+    BlobClient blobClient = mock(BlobClient.class);
+    when(blobContainerClientFactory.getClient(TestUtils.PARTITION, TestUtils.STAGING_CONTAINER_NAME)).thenReturn(blobContainerClient);
+    when(blobContainerClient.getBlobClient(TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID)).thenReturn(blobClient);
+    when(blobClient.openInputStream(Mockito.any(BlobRange.class), Mockito.any())).thenAnswer(invocation -> {
+      BlobRange range = invocation.getArgument(0);
+      return mock(BlobInputStream.class, AdditionalAnswers.delegatesTo(
+          new ByteArrayInputStream(content, (int) range.getOffset(), range.getCount().intValue())));
+    });
+
+    String checksum = storageUtilService.getChecksum(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);
+
+    Assertions.assertEquals(new String(Hex.encodeHex(MessageDigest.getInstance("MD5").digest(content))), checksum);
+    verify(blobClient, times(3)).openInputStream(Mockito.any(BlobRange.class), Mockito.any());
+    verify(blobStore, times(0)).getBlobInputStream(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+  }
+
+  @Test
+  public void getChecksums_ShouldUseContentMd5_AndCalculateOtherAlgorithms() throws Exception {
+    byte[] content = "0123456789".getBytes();
+    byte[] contentMd5 = MessageDigest.getInstance("MD5").digest(content);
+    when(blobStore.readBlobProperties(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobProperties);
+    when(blobProperties.getContentMd5()).thenReturn(contentMd5);
+    when(blobProperties.getBlobSize()).thenReturn((long) content.length);
+    BlobInputStream blobInputStream = mock(BlobInputStream.class, AdditionalAnswers.delegatesTo(new ByteArrayInputStream(content)));
+    when(blobStore.getBlobInputStream(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobInputStream);
+    when(dpsHeaders.getPartitionId()).thenReturn(TestUtils.PARTITION);
+    ReflectionTestUtils.setField(storageUtilService, TestUtils.BLOB_SIZE_LIMIT, TestUtils.BLOB_SIZE);
+    when(serviceHelper
+        .getContainerNameFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
+        .thenReturn(TestUtils.STAGING_CONTAINER_NAME);
+    when(serviceHelper
+        .getRelativeFilePathFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
+        .thenReturn(TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);
+
+    Map<String, String> checksums = storageUtilService.getChecksums(
+        TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID,
+        Arrays.asList("MD5", "SHA256"), true);
+
+    Assertions.assertEquals(new String(Hex.encodeHex(contentMd5)), checksums.get("MD5"));
+    Assertions.assertEquals(new String(Hex.encodeHex(MessageDigest.getInstance("SHA-256").digest(content))),
+        checksums.get("SHA256"));
+  }
+
   @Test
   public void getChecksum_ShouldThrow_OsduBadRequestException_IfBlobStoreThrowsException() {
     when(dpsHeaders.getPartitionId()).thenReturn(TestUtils.PARTITION);
@@ -212,9 +323,8 @@ public class StorageUtilServiceImplTest {
     when(blobStore.readBlobProperties(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobProperties);
     BlobInputStream blobInputStream = mock(BlobInputStream.class);
     when(blobStore.getBlobInputStream(Mockito.anyString(),Mockito.anyString(),Mockito.anyString())).thenReturn(blobInputStream);
-    byte[] bytes = new byte[StorageConstant.AZURE_MAX_FILEPATH];
     ReflectionTestUtils.setField(storageUtilService, TestUtils.BLOB_SIZE_LIMIT, TestUtils.BLOB_SIZE);
-    when(blobInputStream.read(bytes)).thenReturn(10).thenReturn(-1);
+    when(blobInputStream.read(Mockito.any(byte[].class))).thenReturn(10).thenReturn(-1);
     when(dpsHeaders.getPartitionId()).thenReturn(TestUtils.PARTITION);
     when(serviceHelper
         .getContainerNameFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
@@ -241,9 +351,8 @@ public class StorageUtilServiceImplTest {
     when(serviceHelper
         .getRelativeFilePathFromAbsoluteFilePath(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID))
         .thenReturn(TestUtils.RELATIVE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);
-    byte[] bytes = new byte[StorageConstant.AZURE_MAX_FILEPATH];
     Mockito.doThrow(IOException.class).when(
-        blobInputStream).read(bytes);
+        blobInputStream).read(Mockito.any(byte[].class));
 
     Assertions.assertThrows(AppException.class,()->{storageUtilService.getChecksum(TestUtils.STANDARD_ENDPOINT_ABSOLUTE_FILE_PATH+StorageConstant.SLASH+TestUtils.FILE_ID);});
   }
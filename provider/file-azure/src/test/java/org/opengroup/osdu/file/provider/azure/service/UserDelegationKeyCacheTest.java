@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Microsoft Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opengroup.osdu.file.provider.azure.service;
+
+import com.azure.identity.DefaultAzureCredential;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.models.UserDelegationKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.file.provider.azure.model.property.DelegationKeyProperties;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDelegationKeyCacheTest {
+
+  private static final String ACCOUNT_URL = "https://account.blob.core.windows.net";
+
+  @Mock
+  DefaultAzureCredential defaultAzureCredential;
+
+  @Mock
+  BlobServiceClient serviceClient;
+
+  private final DelegationKeyProperties properties = new DelegationKeyProperties();
+
+  private UserDelegationKeyCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = spy(new UserDelegationKeyCache(defaultAzureCredential, properties));
+    lenient().doReturn(serviceClient).when(cache).createServiceClient(ACCOUNT_URL);
+  }
+
+  @AfterEach
+  void tearDown() {
+    cache.destroy();
+  }
+
+  @Test
+  void shouldReuseKeyAndClientOfAnAccount() {
+    UserDelegationKey key = key(OffsetDateTime.now(ZoneOffset.UTC).plusDays(2));
+    when(serviceClient.getUserDelegationKey(isNull(), any(OffsetDateTime.class))).thenReturn(key);
+
+    then(cache.getKey(ACCOUNT_URL)).isSameAs(key);
+    then(cache.getKey(ACCOUNT_URL)).isSameAs(key);
+    then(cache.getServiceClient(ACCOUNT_URL)).isSameAs(serviceClient);
+
+    verify(serviceClient, times(1)).getUserDelegationKey(isNull(), any(OffsetDateTime.class));
+    verify(cache, times(1)).createServiceClient(ACCOUNT_URL);
+  }
+
+  @Test
+  void shouldRefreshKeyInBackgroundBeforeItExpires() throws InterruptedException {
+    UserDelegationKey expiring = key(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+    UserDelegationKey refreshed = key(OffsetDateTime.now(ZoneOffset.UTC).plusDays(2));
+    when(serviceClient.getUserDelegationKey(isNull(), any(OffsetDateTime.class)))
+        .thenReturn(expiring, refreshed);
+
+    then(cache.getKey(ACCOUNT_URL)).isSameAs(expiring);
+    then(cache.getKey(ACCOUNT_URL)).isSameAs(expiring);
+
+    verify(serviceClient, timeout(1000).atLeast(2)).getUserDelegationKey(isNull(), any(OffsetDateTime.class));
+    UserDelegationKey current = cache.getKey(ACCOUNT_URL);
+    for (int i = 0; i < 100 && current != refreshed; i++) {
+      Thread.sleep(10);
+      current = cache.getKey(ACCOUNT_URL);
+    }
+    then(current).isSameAs(refreshed);
+  }
+
+  @Test
+  void shouldRefreshKeyOnDedicatedThread() throws Exception {
+    UserDelegationKey expiring = key(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+    UserDelegationKey refreshed = key(OffsetDateTime.now(ZoneOffset.UTC).plusDays(2));
+    CompletableFuture<String> refreshThread = new CompletableFuture<>();
+    when(serviceClient.getUserDelegationKey(isNull(), any(OffsetDateTime.class)))
+        .thenReturn(expiring)
+        .thenAnswer(invocation -> {
+          refreshThread.complete(Thread.currentThread().getName());
+          return refreshed;
+        });
+
+    cache.getKey(ACCOUNT_URL);
+    cache.getKey(ACCOUNT_URL);
+
+    then(refreshThread.get(1, TimeUnit.SECONDS)).startsWith("delegation-key-refresh-");
+  }
+
+  @Test
+  void shouldRequestNewKeyOnceExpired() {
+    UserDelegationKey expired = key(OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+    UserDelegationKey renewed = key(OffsetDateTime.now(ZoneOffset.UTC).plusDays(2));
+    when(serviceClient.getUserDelegationKey(isNull(), any(OffsetDateTime.class)))
+        .thenReturn(expired, renewed);
+
+    then(cache.getKey(ACCOUNT_URL)).isSameAs(expired);
+    then(cache.getKey(ACCOUNT_URL)).isSameAs(renewed);
+  }
+
+  @Test
+  void shouldLimitExpiryToKeyExpiry() {
+    OffsetDateTime keyExpiry = OffsetDateTime.now(ZoneOffset.UTC).plusHours(6);
+    UserDelegationKey key = key(keyExpiry);
+
+    then(UserDelegationKeyCache.limitToKey(keyExpiry.plusHours(1), key)).isEqualTo(keyExpiry);
+    then(UserDelegationKeyCache.limitToKey(keyExpiry.minusHours(1), key)).isEqualTo(keyExpiry.minusHours(1));
+  }
+
+  private static UserDelegationKey key(OffsetDateTime expiry) {
+    return new UserDelegationKey().setSignedExpiry(expiry);
+  }
+}
@@ -0,0 +1,320 @@
+/* Licensed Materials - Property of IBM              */
+/* (c) Copyright IBM Corp. 2026. All Rights Reserved.*/
+
+package org.opengroup.osdu.file.provider.ibm.service;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.opengroup.osdu.file.constant.ChecksumAlgorithm;
+import org.opengroup.osdu.file.model.filecollection.DirectoryCopyPage;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.model.filecollection.StoredObjectSummary;
+import org.opengroup.osdu.file.util.DirectoryDiff;
+import org.opengroup.osdu.file.util.FileCollectionManifests;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.AbortMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-side copies of COS objects and prefixes. Objects above the multipart threshold, which
+ * includes every object above the 5 GB limit of a single copy request, are copied with
+ * {@code copyPart} requests running in parallel. Prefixes are listed page by page and the
+ * objects of a page are copied in parallel, and can be copied one page at a time to resume an
+ * interrupted copy after its last copied page.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CosObjectCopier {
+
+	private static final int MAX_PARTS = 10_000;
+
+	private static final int MAX_DELETE_KEYS = 1_000;
+
+	private final ParallelExecutor parallelExecutor;
+
+	@Value("${ibm.cos.copy.concurrency:16}")
+	private int concurrency;
+
+	@Value("${ibm.cos.copy.multipart-threshold-bytes:536870912}")
+	private long multipartThresholdBytes;
+
+	@Value("${ibm.cos.copy.part-size-bytes:134217728}")
+	private long partSizeBytes;
+
+	@Value("${ibm.cos.copy.part-concurrency:8}")
+	private int partConcurrency;
+
+	public void copyObject(AmazonS3 s3Client, String sourceBucketName, String sourceKey,
+			String destinationBucketName, String destinationKey) {
+		ObjectMetadata metadata = s3Client.getObjectMetadata(sourceBucketName, sourceKey);
+		copyObject(s3Client, sourceBucketName, sourceKey, destinationBucketName, destinationKey,
+				metadata.getContentLength(), metadata);
+	}
+
+	/**
+	 * Copies every object under {@code sourcePrefix} to the same relative key under
+	 * {@code destinationPrefix}.
+	 *
+	 * @return number of copied objects
+	 */
+	public int copyPrefix(AmazonS3 s3Client, String sourceBucketName, String sourcePrefix,
+			String destinationBucketName, String destinationPrefix) {
+		AtomicInteger copied = new AtomicInteger();
+		ObjectListing listing = s3Client.listObjects(new ListObjectsRequest()
+				.withBucketName(sourceBucketName)
+				.withPrefix(sourcePrefix));
+		while (true) {
+			copyObjects(s3Client, listing, sourceBucketName, sourcePrefix, destinationBucketName, destinationPrefix,
+					copied);
+			if (!listing.isTruncated()) {
+				break;
+			}
+			listing = s3Client.listNextBatchOfObjects(listing);
+		}
+		log.info("Copied prefix {}/{} to {}/{}: {} objects", sourceBucketName, sourcePrefix,
+				destinationBucketName, destinationPrefix, copied.get());
+		return copied.get();
+	}
+
+	/**
+	 * Copies one page of the listing of the objects under {@code sourcePrefix}, starting after the
+	 * key {@code marker}, to the same relative key under {@code destinationPrefix}.
+	 *
+	 * @param marker last key of the previous page, null for the first page
+	 * @return copied page, whose cursor is its last key, or null if it is the last page
+	 */
+	public DirectoryCopyPage copyPrefixPage(AmazonS3 s3Client, String sourceBucketName, String sourcePrefix,
+			String destinationBucketName, String destinationPrefix, String marker) {
+		ObjectListing listing = s3Client.listObjects(new ListObjectsRequest()
+				.withBucketName(sourceBucketName)
+				.withPrefix(sourcePrefix)
+				.withMarker(marker));
+		AtomicInteger copied = new AtomicInteger();
+		copyObjects(s3Client, listing, sourceBucketName, sourcePrefix, destinationBucketName, destinationPrefix,
+				copied);
+		List<S3ObjectSummary> summaries = listing.getObjectSummaries();
+		String nextMarker = listing.isTruncated() && !summaries.isEmpty()
+				? summaries.get(summaries.size() - 1).getKey()
+				: null;
+		log.debug("Copied page of prefix {}/{} after {}: {} objects", sourceBucketName, sourcePrefix, marker,
+				copied.get());
+		return DirectoryCopyPage.builder()
+				.success(true)
+				.copiedObjects(copied.get())
+				.nextCursor(nextMarker)
+				.build();
+	}
+
+	/**
+	 * Copies the objects under {@code sourcePrefix} that are new or changed compared with the
+	 * objects under {@code destinationPrefix}, see {@link DirectoryDiff}. Both prefixes are listed
+	 * in parallel.
+	 *
+	 * @param deleteRemoved also delete the objects under {@code destinationPrefix} that are no
+	 * longer under {@code sourcePrefix}
+	 * @return number of copied objects
+	 */
+	public int syncPrefix(AmazonS3 s3Client, String sourceBucketName, String sourcePrefix,
+			String destinationBucketName, String destinationPrefix, boolean deleteRemoved) {
+		List<Supplier<List<StoredObjectSummary>>> listings = Arrays.asList(
+				() -> listPrefix(s3Client, sourceBucketName, sourcePrefix),
+				() -> listPrefix(s3Client, destinationBucketName, destinationPrefix));
+		List<List<StoredObjectSummary>> objects = parallelExecutor.map(listings, listings.size(), Supplier::get);
+		DirectoryDiff diff = DirectoryDiff.compare(objects.get(0), objects.get(1));
+
+		parallelExecutor.map(diff.getChanged(), concurrency, object -> {
+			copyObject(s3Client, sourceBucketName, sourcePrefix + object.getRelativeKey(), destinationBucketName,
+					destinationPrefix + object.getRelativeKey(), object.getSize(), null);
+			return object;
+		});
+		if (deleteRemoved) {
+			List<String> removedKeys = new ArrayList<>();
+			diff.getRemoved().forEach(object -> removedKeys.add(destinationPrefix + object.getRelativeKey()));
+			for (int from = 0; from < removedKeys.size(); from += MAX_DELETE_KEYS) {
+				List<String> keys = removedKeys.subList(from, Math.min(removedKeys.size(), from + MAX_DELETE_KEYS));
+				s3Client.deleteObjects(new DeleteObjectsRequest(destinationBucketName)
+						.withKeys(keys.toArray(new String[0]))
+						.withQuiet(true));
+			}
+		}
+		log.info("Synchronized prefix {}/{} to {}/{}: {} objects copied, {} unchanged, {} removed{}",
+				sourceBucketName, sourcePrefix, destinationBucketName, destinationPrefix, diff.getChanged().size(),
+				diff.getUnchanged(), diff.getRemoved().size(), deleteRemoved ? " and deleted" : "");
+		return diff.getChanged().size();
+	}
+
+	/**
+	 * Lists the objects under {@code prefix} and writes their manifest under the prefix, see
+	 * {@link FileCollectionManifests#manifestPath(String)}, replacing any previous one. The ETag of
+	 * an object uploaded in a single part is the MD5 of its content and is kept as its checksum.
+	 */
+	public FileCollectionManifest writeManifest(AmazonS3 s3Client, String bucketName, String prefix) {
+		String manifestKey = FileCollectionManifests.manifestPath(prefix);
+		List<FileCollectionManifest.Entry> files = new ArrayList<>();
+		for (StoredObjectSummary object : listPrefix(s3Client, bucketName, prefix)) {
+			if (manifestKey.equals(prefix + object.getRelativeKey())) {
+				continue;
+			}
+			String md5 = md5Of(object.getChecksum());
+			files.add(FileCollectionManifest.Entry.builder()
+					.path(object.getRelativeKey())
+					.size(object.getSize())
+					.checksum(md5)
+					.checksumAlgorithm(md5 != null ? ChecksumAlgorithm.MD5.name() : null)
+					.etag(object.getChecksum())
+					.build());
+		}
+
+		FileCollectionManifest manifest = FileCollectionManifest.of(files);
+		byte[] content = FileCollectionManifests.encode(manifest);
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(content.length);
+		metadata.setContentType("application/gzip");
+		s3Client.putObject(bucketName, manifestKey, new ByteArrayInputStream(content), metadata);
+		log.info("Wrote manifest {}/{}: {} objects", bucketName, manifestKey, files.size());
+		return manifest;
+	}
+
+	/**
+	 * @return MD5 of the content of an object, null for the ETag of a multipart upload, which is
+	 * derived from the MD5 of its parts
+	 */
+	private static String md5Of(String eTag) {
+		if (eTag == null) {
+			return null;
+		}
+		String md5 = eTag.replace("\"", "").toLowerCase(Locale.ROOT);
+		return md5.matches("[0-9a-f]{32}") ? md5 : null;
+	}
+
+	private void copyObjects(AmazonS3 s3Client, ObjectListing listing, String sourceBucketName, String sourcePrefix,
+			String destinationBucketName, String destinationPrefix, AtomicInteger copied) {
+		parallelExecutor.map(listing.getObjectSummaries(), concurrency, summary -> {
+			String destinationKey = destinationPrefix + summary.getKey().substring(sourcePrefix.length());
+			copyObject(s3Client, sourceBucketName, summary.getKey(), destinationBucketName, destinationKey,
+					summary.getSize(), null);
+			log.debug("Copied object {} of prefix {}: {} -> {}", copied.incrementAndGet(), sourcePrefix,
+					summary.getKey(), destinationKey);
+			return summary;
+		});
+	}
+
+	private List<StoredObjectSummary> listPrefix(AmazonS3 s3Client, String bucketName, String prefix) {
+		List<StoredObjectSummary> objects = new ArrayList<>();
+		ObjectListing listing = s3Client.listObjects(new ListObjectsRequest()
+				.withBucketName(bucketName)
+				.withPrefix(prefix));
+		while (true) {
+			for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+				objects.add(StoredObjectSummary.builder()
+						.relativeKey(summary.getKey().substring(prefix.length()))
+						.size(summary.getSize())
+						.checksum(summary.getETag())
+						.lastModified(summary.getLastModified() != null ? summary.getLastModified().getTime() : null)
+						.build());
+			}
+			if (!listing.isTruncated()) {
+				break;
+			}
+			listing = s3Client.listNextBatchOfObjects(listing);
+		}
+		return objects;
+	}
+
+	/**
+	 * @param sourceMetadata metadata of the source object when already read, otherwise it is only
+	 * read for multipart copies, which unlike {@code copyObject} do not carry it over themselves
+	 */
+	private void copyObject(AmazonS3 s3Client, String sourceBucketName, String sourceKey,
+			String destinationBucketName, String destinationKey, long size, ObjectMetadata sourceMetadata) {
+		if (size < multipartThresholdBytes) {
+			s3Client.copyObject(sourceBucketName, sourceKey, destinationBucketName, destinationKey);
+		} else {
+			ObjectMetadata metadata = sourceMetadata != null
+					? sourceMetadata
+					: s3Client.getObjectMetadata(sourceBucketName, sourceKey);
+			copyMultipart(s3Client, sourceBucketName, sourceKey, destinationBucketName, destinationKey, size,
+					metadata);
+		}
+	}
+
+	private void copyMultipart(AmazonS3 s3Client, String sourceBucketName, String sourceKey,
+			String destinationBucketName, String destinationKey, long size, ObjectMetadata sourceMetadata) {
+		long partSize = Math.max(partSizeBytes, (size + MAX_PARTS - 1) / MAX_PARTS);
+		int parts = (int) ((size + partSize - 1) / partSize);
+		String uploadId = s3Client.initiateMultipartUpload(
+				new InitiateMultipartUploadRequest(destinationBucketName, destinationKey,
+						destinationMetadata(sourceMetadata))).getUploadId();
+		try {
+			AtomicInteger copiedParts = new AtomicInteger();
+			List<Integer> partNumbers = IntStream.rangeClosed(1, parts).boxed().collect(Collectors.toList());
+			List<PartETag> partETags = parallelExecutor.map(partNumbers, partConcurrency, partNumber -> {
+				long firstByte = (partNumber - 1) * partSize;
+				long lastByte = Math.min(firstByte + partSize, size) - 1;
+				PartETag partETag = s3Client.copyPart(new CopyPartRequest()
+						.withSourceBucketName(sourceBucketName)
+						.withSourceKey(sourceKey)
+						.withDestinationBucketName(destinationBucketName)
+						.withDestinationKey(destinationKey)
+						.withUploadId(uploadId)
+						.withFirstByte(firstByte)
+						.withLastByte(lastByte)
+						.withPartNumber(partNumber)).getPartETag();
+				log.debug("Copied part {} of {} of {}", copiedParts.incrementAndGet(), parts, sourceKey);
+				return partETag;
+			});
+			s3Client.completeMultipartUpload(
+					new CompleteMultipartUploadRequest(destinationBucketName, destinationKey, uploadId, partETags));
+		} catch (RuntimeException e) {
+			try {
+				s3Client.abortMultipartUpload(
+						new AbortMultipartUploadRequest(destinationBucketName, destinationKey, uploadId));
+			} catch (RuntimeException abortFailure) {
+				log.warn("Failed to abort multipart upload {} of {}/{}", uploadId, destinationBucketName,
+						destinationKey, abortFailure);
+				e.addSuppressed(abortFailure);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Metadata of a multipart copy, with the user metadata and content headers of the source object
+	 * but without its length, checksum and other system metadata.
+	 */
+	private static ObjectMetadata destinationMetadata(ObjectMetadata sourceMetadata) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setUserMetadata(sourceMetadata.getUserMetadata());
+		metadata.setContentType(sourceMetadata.getContentType());
+		metadata.setContentEncoding(sourceMetadata.getContentEncoding());
+		metadata.setContentDisposition(sourceMetadata.getContentDisposition());
+		metadata.setContentLanguage(sourceMetadata.getContentLanguage());
+		metadata.setCacheControl(sourceMetadata.getCacheControl());
+		metadata.setHttpExpiresDate(sourceMetadata.getHttpExpiresDate());
+		return metadata;
+	}
+}
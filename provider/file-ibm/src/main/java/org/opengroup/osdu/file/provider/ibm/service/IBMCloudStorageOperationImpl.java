@@ -6,7 +6,6 @@ package org.opengroup.osdu.file.provider.ibm.service;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
@@ -18,18 +17,40 @@ import org.opengroup.osdu.file.exception.OsduBadRequestException;
 import org.opengroup.osdu.file.model.file.FileCopyOperation;
 import org.opengroup.osdu.file.model.file.FileCopyOperationResponse;
 import org.opengroup.osdu.file.model.filecollection.DatasetCopyOperation;
+import org.opengroup.osdu.file.model.filecollection.DirectoryCopyPage;
+import org.opengroup.osdu.file.model.property.FileCollectionCopyProperties;
+import org.opengroup.osdu.file.model.property.FileCollectionManifestProperties;
 import org.opengroup.osdu.file.provider.interfaces.ICloudStorageOperation;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
-import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
 public class IBMCloudStorageOperationImpl implements ICloudStorageOperation {
 
 	@Inject
 	private CloudObjectStorageFactory cosFactory;
 
+	@Inject
+	private CosObjectCopier cosObjectCopier;
+
+	@Inject
+	private ParallelExecutor parallelExecutor;
+
+	@Inject
+	private FileCollectionCopyProperties fileCollectionCopyProperties;
+
+	@Inject
+	private FileCollectionManifestProperties fileCollectionManifestProperties;
+
+	@Value("${ibm.cos.copy.concurrency:16}")
+	private int copyConcurrency;
+
 	private AmazonS3 s3Client;
 	
 	private final static String INVALID_S3_PATH_REASON = "Unsigned url invalid, needs to be full S3 path";
@@ -50,7 +71,7 @@ public class IBMCloudStorageOperationImpl implements ICloudStorageOperation {
 		String destinationBucketName = destValues[0];
 		String destinationKey = destValues[1];
 		
-		s3Client.copyObject(sourceBucketName, sourcKey, destinationBucketName, destinationKey);
+		cosObjectCopier.copyObject(s3Client, sourceBucketName, sourcKey, destinationBucketName, destinationKey);
 				
 		return destinationKey;
 	}
@@ -59,25 +80,30 @@ public class IBMCloudStorageOperationImpl implements ICloudStorageOperation {
 	public List<DatasetCopyOperation> copyDirectories(List<FileCopyOperation> fileCopyOperationList) {
 		List<DatasetCopyOperation> datasetCopyOperations = new ArrayList<>();
 		for(FileCopyOperation fileCopyOperation : fileCopyOperationList) {
-			String[] sourceValues = getFileName(fileCopyOperation.getSourcePath());
-			String sourceBucketName = sourceValues[0];
-			String sourcKey = sourceValues[1];
-		
-			String[] destValues = getFileName(fileCopyOperation.getDestinationPath());
-			String destinationBucketName = destValues[0];
-			String destinationKey = destValues[1];
-			List<S3ObjectSummary> s3Objects = s3Client.listObjects(sourceBucketName, sourcKey).getObjectSummaries();
-			List<String> keys = s3Objects.stream().map(i -> i.getKey()).collect(Collectors.toList());
 			DatasetCopyOperation response;
 			try {
-//				keys.forEach(key -> s3Client.copyObject(sourceBucketName, key, destinationBucketName, key) );
-				for(String key : keys) {
-					s3Client.copyObject(sourceBucketName, key, destinationBucketName, key);
+				String[] sourceValues = getFileName(fileCopyOperation.getSourcePath());
+				String sourceBucketName = sourceValues[0];
+				String sourcKey = sourceValues[1];
+
+				String[] destValues = getFileName(fileCopyOperation.getDestinationPath());
+				String destinationBucketName = destValues[0];
+				String destinationKey = destValues[1];
+				if (fileCollectionCopyProperties.isIncremental()) {
+					cosObjectCopier.syncPrefix(s3Client, sourceBucketName, sourcKey, destinationBucketName, destinationKey,
+							fileCollectionCopyProperties.isDeleteRemoved());
+				} else {
+					cosObjectCopier.copyPrefix(s3Client, sourceBucketName, sourcKey, destinationBucketName, destinationKey);
+				}
+				if (fileCollectionManifestProperties.isEnabled()) {
+					writeManifest(destinationBucketName, destinationKey);
 				}
 				response = DatasetCopyOperation.builder()
 	            .fileCopyOperation(fileCopyOperation)
 	            .success(true).build();
 			} catch (Exception e) {
+				log.error("Directory copy operation failed: source={}, destination={}",
+						fileCopyOperation.getSourcePath(), fileCopyOperation.getDestinationPath(), e);
 				response = DatasetCopyOperation.builder()
 			            .fileCopyOperation(fileCopyOperation)
 			            .success(false).build();
@@ -88,6 +114,45 @@ public class IBMCloudStorageOperationImpl implements ICloudStorageOperation {
 		return datasetCopyOperations;
 	}
 
+	/**
+	 * Incremental copies compare the whole source with the whole destination and already skip the
+	 * objects copied before an interruption, so they are not copied by page.
+	 */
+	@Override
+	public DirectoryCopyPage copyDirectoryPage(FileCopyOperation fileCopyOperation, String cursor) {
+		if (fileCollectionCopyProperties.isIncremental()) {
+			return null;
+		}
+		try {
+			String[] sourceValues = getFileName(fileCopyOperation.getSourcePath());
+			String[] destValues = getFileName(fileCopyOperation.getDestinationPath());
+			DirectoryCopyPage page = cosObjectCopier.copyPrefixPage(s3Client, sourceValues[0], sourceValues[1],
+					destValues[0], destValues[1], cursor);
+			if (page.getNextCursor() == null && fileCollectionManifestProperties.isEnabled()) {
+				writeManifest(destValues[0], destValues[1]);
+			}
+			return page;
+		} catch (Exception e) {
+			log.error("Directory copy operation failed: source={}, destination={}, after={}",
+					fileCopyOperation.getSourcePath(), fileCopyOperation.getDestinationPath(), cursor, e);
+			return DirectoryCopyPage.builder()
+					.success(false)
+					.nextCursor(cursor)
+					.build();
+		}
+	}
+
+	/**
+	 * A collection whose manifest cannot be written is still reported as copied; readers then list it.
+	 */
+	private void writeManifest(String bucketName, String prefix) {
+		try {
+			cosObjectCopier.writeManifest(s3Client, bucketName, prefix);
+		} catch (RuntimeException e) {
+			log.warn("Unable to write manifest of {}/{}", bucketName, prefix, e);
+		}
+	}
+
 
 	@Override
 	public Boolean deleteFile(String location) {
@@ -103,24 +168,23 @@ public class IBMCloudStorageOperationImpl implements ICloudStorageOperation {
 	
 	  @Override
 	  public List<FileCopyOperationResponse> copyFiles(List<FileCopyOperation> fileCopyOperationList) {
-	    List<FileCopyOperationResponse> operationResponses = new ArrayList<>();
-
-	    for (FileCopyOperation fileCopyOperation: fileCopyOperationList) {
+	    return parallelExecutor.map(fileCopyOperationList, copyConcurrency, fileCopyOperation -> {
 	      FileCopyOperationResponse response;
 	      try {
-	        String copyId = this.copyFile(fileCopyOperation.getSourcePath(),
+	        this.copyFile(fileCopyOperation.getSourcePath(),
 	            fileCopyOperation.getDestinationPath());
 	        response = FileCopyOperationResponse.builder()
 	            .copyOperation(fileCopyOperation)
 	            .success(true).build();
 	      } catch (Exception e) {
+	        log.error("File copy operation failed: source={}, destination={}",
+	            fileCopyOperation.getSourcePath(), fileCopyOperation.getDestinationPath(), e);
 	        response = FileCopyOperationResponse.builder()
 	            .copyOperation(fileCopyOperation)
 	            .success(false).build();
 	      }
-	      operationResponses.add(response);
-	    }
-	    return operationResponses;
+	      return response;
+	    });
 	  }
 	
 
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,14 +31,14 @@ import org.opengroup.osdu.core.ibm.objectstorage.CloudObjectStorageFactory;
 import org.opengroup.osdu.file.exception.FileLocationNotFoundException;
 import org.opengroup.osdu.file.exception.OsduException;
 import org.opengroup.osdu.file.exception.OsduUnauthorizedException;
-import org.opengroup.osdu.file.model.DownloadUrlResponse;
 import org.opengroup.osdu.file.model.FileRetrievalData;
 import org.opengroup.osdu.file.model.SignedUrl;
 import org.opengroup.osdu.file.model.SignedUrlParameters;
 import org.opengroup.osdu.file.provider.ibm.model.file.S3Location;
 import org.opengroup.osdu.file.provider.ibm.model.file.TemporaryCredentials;
 import org.opengroup.osdu.file.provider.interfaces.IStorageService;
-import org.opengroup.osdu.file.service.FileDeliveryService;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.opengroup.osdu.file.util.RetrievalInstructionsBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -91,6 +92,12 @@ public class IBMStorageServiceImpl implements IStorageService {
 	@Value("${PROVIDER_KEY}")
 	private String providerKey;
 
+	@Value("${ibm.cos.retrieval.credentials-max-keys:20}")
+	private int retrievalCredentialsMaxKeys;
+
+	@Value("${ibm.cos.retrieval.credentials-concurrency:8}")
+	private int retrievalCredentialsConcurrency;
+
 	private String roleArn;
 
 	private ExpirationDateHelper expirationDateHelper;
@@ -101,7 +108,10 @@ public class IBMStorageServiceImpl implements IStorageService {
 	private CloudObjectStorageFactory cosFactory;
 
 	@Autowired
-	private FileDeliveryService deliveryService;
+	private RetrievalInstructionsBuilder retrievalInstructionsBuilder;
+
+	@Autowired
+	private ParallelExecutor parallelExecutor;
 
 	private AmazonS3 s3Client;
 
@@ -222,12 +232,7 @@ public class IBMStorageServiceImpl implements IStorageService {
    private URL generateSignedS3DownloadUrl(String s3BucketName, String s3ObjectKey,
        String httpMethod, SignedUrlParameters signedUrlParameters) {
 		// TODO Auto-generated method stub
-     Date expiration;
-     if (signedUrlParameters.getExpiryTime() != null) {
-       expiration = expirationDateHelper.getExpirationTime(signedUrlParameters.getExpiryTime());
-     } else {
-       expiration = expirationDateHelper.getExpirationDate(s3SignedUrlExpirationTimeInDays);
-     }
+     Date expiration = getDownloadExpiration(signedUrlParameters);
 		log.debug("Requesting a signed S3 URL with an expiration of: " + expiration.toString() + " ("
 				+ s3SignedUrlExpirationTimeInDays + " minutes from now)");
 
@@ -282,46 +287,121 @@ public class IBMStorageServiceImpl implements IStorageService {
 
 	@Override
 	public RetrievalInstructionsResponse createRetrievalInstructions(List<FileRetrievalData> fileRetrievalData) {
+		return createRetrievalInstructions(fileRetrievalData, new SignedUrlParameters());
+	}
+
+	@Override
+	public RetrievalInstructionsResponse createRetrievalInstructions(List<FileRetrievalData> fileRetrievalData,
+			SignedUrlParameters signedUrlParameters) {
 
 		log.info("calling Retrieval Instructions to generate temporaryCredentials and signed url for file download");
-		RetrievalInstructionsResponse response = new RetrievalInstructionsResponse();
-		Map<String, Object> retrivalDataSet = new HashMap<String, Object>();
-		DatasetRetrievalProperties dataset = new DatasetRetrievalProperties();
-		List<DatasetRetrievalProperties> listOfdDataSet = new ArrayList<DatasetRetrievalProperties>();
 		Instant currentTime = Instant.now();
-		Date expiration = expirationDateHelper.getExpirationDate(s3SignedUrlExpirationTimeInDays);
-		for (FileRetrievalData retrivaldata : fileRetrievalData) {
-			S3Location fileLocation = new S3Location(retrivaldata.getUnsignedUrl());
-			if (!fileLocation.isValid()) {
-				throw new AppException(HttpStatus.SC_BAD_REQUEST, "Malformed URL", INVALID_S3_PATH_REASON);
-			}
-			if (fileLocation.getKey().trim().endsWith("/")) {
-				throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Invalid S3 Object Key",
-						"Invalid S3 Object Key - Object key cannot contain trailing '/'");
+		Date expiration = getDownloadExpiration(signedUrlParameters);
+		Map<String, TemporaryCredentials> credentialsByLocation = getRetrievalCredentials(fileRetrievalData,
+				this.headers.getUserEmail(), expiration);
+
+		return retrievalInstructionsBuilder.build(fileRetrievalData, retrivaldata -> {
+			S3Location fileLocation = getRetrievalLocation(retrivaldata.getUnsignedUrl());
+			TemporaryCredentials credentials = credentialsByLocation.get(retrivaldata.getUnsignedUrl());
+			if (credentials == null) {
+				throw new AppException(HttpStatus.SC_SERVICE_UNAVAILABLE, "Remote Service Unavailable",
+						"Unable to get temporary credentials for " + retrivaldata.getUnsignedUrl());
 			}
-			try {
-			TemporaryCredentials credentials = stsHelper.getRetrievalCredentials(fileLocation, roleArn,
-					this.headers.getUserEmail(), expiration);
-			SignedUrlParameters signedParam=new SignedUrlParameters();
-			DownloadUrlResponse signedUrl=deliveryService.getSignedUrlsByRecordId(retrivaldata.getRecordId(), signedParam);
+			URL signedUrl = generateSignedS3DownloadUrl(fileLocation.getBucket(), fileLocation.getKey(), "GET",
+					signedUrlParameters);
+
+			Map<String, Object> retrivalDataSet = new HashMap<String, Object>();
 			retrivalDataSet.put("unsignedUrl", retrivaldata.getUnsignedUrl());
-			retrivalDataSet.put("signedUrl",signedUrl.getSignedUrl());
+			retrivalDataSet.put("signedUrl", signedUrl.toString());
 			retrivalDataSet.put("signedUrlExpiration", expiration);
 			retrivalDataSet.put("connectionString", credentials.toConnectionString());
 			retrivalDataSet.put("credentials", credentials);
 			retrivalDataSet.put("createdAt", currentTime);
-			retrivalDataSet.put("createdAt", Instant.now());
 			retrivalDataSet.put("region", s3Region);
-			dataset.setRetrievalProperties(retrivalDataSet);
-			dataset.setDatasetRegistryId(retrivaldata.getRecordId());
-      dataset.setProviderKey(providerKey);
-			listOfdDataSet.add(dataset);
-			response.setDatasets(listOfdDataSet);
-			}catch (Exception e) {
-				throw new NullPointerException("data cannot be null");
+			return DatasetRetrievalProperties.builder()
+					.retrievalProperties(retrivalDataSet)
+					.datasetRegistryId(retrivaldata.getRecordId())
+					.providerKey(providerKey)
+					.build();
+		});
+	}
+
+	/**
+	 * Gets the download credentials of the valid locations, keyed by unsigned url. The locations
+	 * are grouped by bucket and prefix and each group, up to {@code retrievalCredentialsMaxKeys}
+	 * locations, shares credentials whose policy lists its locations. Locations whose credentials
+	 * could not be obtained are left out.
+	 */
+	private Map<String, TemporaryCredentials> getRetrievalCredentials(List<FileRetrievalData> fileRetrievalData,
+			String user, Date expiration) {
+		Map<String, S3Location> locations = new HashMap<>();
+		Map<String, List<String>> locationsByPrefix = new LinkedHashMap<>();
+		for (FileRetrievalData retrivaldata : fileRetrievalData) {
+			String unsignedUrl = retrivaldata.getUnsignedUrl();
+			if (locations.containsKey(unsignedUrl)) {
+				continue;
+			}
+			S3Location fileLocation;
+			try {
+				fileLocation = getRetrievalLocation(unsignedUrl);
+			} catch (AppException e) {
+				continue;
+			}
+			locations.put(unsignedUrl, fileLocation);
+			String prefix = fileLocation.getKey().substring(0, fileLocation.getKey().lastIndexOf('/') + 1);
+			locationsByPrefix.computeIfAbsent(fileLocation.getBucket() + "/" + prefix, k -> new ArrayList<>())
+					.add(unsignedUrl);
+		}
+
+		List<List<String>> groups = new ArrayList<>();
+		for (List<String> prefixLocations : locationsByPrefix.values()) {
+			for (int from = 0; from < prefixLocations.size(); from += retrievalCredentialsMaxKeys) {
+				groups.add(prefixLocations.subList(from,
+						Math.min(prefixLocations.size(), from + retrievalCredentialsMaxKeys)));
+			}
+		}
+		List<TemporaryCredentials> groupCredentials = parallelExecutor.map(groups, retrievalCredentialsConcurrency,
+				group -> {
+					List<S3Location> groupLocations = new ArrayList<>(group.size());
+					group.forEach(unsignedUrl -> groupLocations.add(locations.get(unsignedUrl)));
+					try {
+						return stsHelper.getRetrievalCredentials(groupLocations, roleArn, user, expiration);
+					} catch (RuntimeException e) {
+						log.warn("Unable to get temporary credentials for {} locations in bucket {}", group.size(),
+								groupLocations.get(0).getBucket(), e);
+						return null;
+					}
+				});
+		log.debug("Requested {} temporary credentials for {} locations", groups.size(), locations.size());
+
+		Map<String, TemporaryCredentials> credentialsByLocation = new HashMap<>();
+		for (int i = 0; i < groups.size(); i++) {
+			if (groupCredentials.get(i) != null) {
+				for (String unsignedUrl : groups.get(i)) {
+					credentialsByLocation.put(unsignedUrl, groupCredentials.get(i));
+				}
 			}
 		}
-		return response;
+		return credentialsByLocation;
+	}
+
+	private S3Location getRetrievalLocation(String unsignedUrl) {
+		S3Location fileLocation = new S3Location(unsignedUrl);
+		if (!fileLocation.isValid()) {
+			throw new AppException(HttpStatus.SC_BAD_REQUEST, "Malformed URL", INVALID_S3_PATH_REASON);
+		}
+		if (fileLocation.getKey().trim().endsWith("/")) {
+			throw new AppException(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Invalid S3 Object Key",
+					"Invalid S3 Object Key - Object key cannot contain trailing '/'");
+		}
+		return fileLocation;
+	}
+
+	private Date getDownloadExpiration(SignedUrlParameters signedUrlParameters) {
+		if (signedUrlParameters.getExpiryTime() != null) {
+			return expirationDateHelper.getExpirationTime(signedUrlParameters.getExpiryTime());
+		}
+		return expirationDateHelper.getExpirationDate(s3SignedUrlExpirationTimeInDays);
 	}
 
 
@@ -1,7 +1,10 @@
 package org.opengroup.osdu.file.provider.ibm.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import jakarta.inject.Inject;
 
@@ -69,11 +72,22 @@ public class STSHelper {
 	public TemporaryCredentials getRetrievalCredentials(S3Location fileLocation,
 		    String roleArn, String user, Date expiration) {
 
-		      Policy policy = createRetrievalPolicy(fileLocation);
-		      
-		   return getCredentials(policy, roleArn, user, expiration);
+		   return getRetrievalCredentials(Collections.singletonList(fileLocation), roleArn, user, expiration);
 		  
 		  }
+
+	/**
+	 * Credentials allowing to download every one of the given locations, which must be in the same
+	 * bucket, and only them.
+	 */
+	public TemporaryCredentials getRetrievalCredentials(List<S3Location> fileLocations,
+		    String roleArn, String user, Date expiration) {
+
+		      Policy policy = createRetrievalPolicy(fileLocations);
+
+		   return getCredentials(policy, roleArn, user, expiration);
+
+		  }
 	
 	private TemporaryCredentials getCredentials(Policy policy,
 		    String roleArn, String user, Date expiration) {
@@ -114,17 +128,27 @@ public class STSHelper {
 		    return temporaryCredentials;
 		  }
 	
-	private Policy createRetrievalPolicy(S3Location fileLocation) {
+	private Policy createRetrievalPolicy(List<S3Location> fileLocations) {
 		
 		//Some string formats below assume no trailing slash.
-	    String fileLocationKey = fileLocation.key;
-	    String fileLocationKeyWithoutTrailingSlash = fileLocation.key.replaceFirst("/$", "");
+	    String bucket = fileLocations.get(0).bucket;
+	    List<String> fileLocationKeys = new ArrayList<>();
+	    List<String> fileLocationSubpaths = new ArrayList<>();
+	    List<Resource> fileResources = new ArrayList<>();
+	    List<Resource> fileSubpathResources = new ArrayList<>();
+	    for (S3Location fileLocation : fileLocations) {
+	      String fileLocationKeyWithoutTrailingSlash = fileLocation.key.replaceFirst("/$", "");
+	      fileLocationKeys.add(fileLocation.key);
+	      fileLocationSubpaths.add(String.format("%s/*", fileLocationKeyWithoutTrailingSlash));
+	      fileResources.add(new Resource(String.format("arn:aws:s3:::%s/%s", bucket, fileLocation.key)));
+	      fileSubpathResources.add(new Resource(String.format("arn:aws:s3:::%s/%s/*", bucket, fileLocationKeyWithoutTrailingSlash)));
+	    }
 	    	    
 	    Policy policy = new Policy();
 	    
 	    Statement listBucketStatement = new Statement(Statement.Effect.Allow);
-	    String resource = String.format("arn:aws:s3:::%s", fileLocation.bucket);  
-	    Condition condition = new Condition().withType("StringEquals").withConditionKey("s3:prefix").withValues(fileLocationKey);
+	    String resource = String.format("arn:aws:s3:::%s", bucket);  
+	    Condition condition = new Condition().withType("StringEquals").withConditionKey("s3:prefix").withValues(fileLocationKeys);
 	    listBucketStatement = listBucketStatement
 	    	      .withResources(new Resource(resource))
 	    	      .withConditions(condition)
@@ -132,11 +156,11 @@ public class STSHelper {
 	    	      
 	    	    //Statement 2: Allow Listing files under the file location
 	    	    Statement listBucketSubpathStatement = new Statement(Statement.Effect.Allow);
-	    	    String resource2 = String.format("arn:aws:s3:::%s", fileLocation.bucket);    
+	    	    String resource2 = String.format("arn:aws:s3:::%s", bucket);    
 	    	    Condition condition2 = new Condition()
 	    	      .withType("StringLike")
 	    	      .withConditionKey("s3:prefix")
-	    	      .withValues(String.format("%s/*", fileLocationKeyWithoutTrailingSlash));
+	    	      .withValues(fileLocationSubpaths);
 
 	    	    listBucketSubpathStatement = listBucketSubpathStatement
 	    	        .withResources(new Resource(resource2))
@@ -145,18 +169,16 @@ public class STSHelper {
 
 	    	    //Statement 3: Allow Downloading files at the file location
 	    	    Statement AllowDownloadStatement = new Statement(Statement.Effect.Allow);
-	    	    String resource3 = String.format("arn:aws:s3:::%s/%s", fileLocation.bucket, fileLocationKey);    
 
 	    	    AllowDownloadStatement = AllowDownloadStatement
-	    	        .withResources(new Resource(resource3))        
+	    	        .withResources(fileResources.toArray(new Resource[0]))        
 	    	        .withActions(S3Actions.GetObject, S3Actions.GetBucketLocation);
 
 	    	    //Statement 4: Allow Downloading files under the file location
 	    	    Statement AllowDownloadSubpathStatement = new Statement(Statement.Effect.Allow);
-	    	    String resource4 = String.format("arn:aws:s3:::%s/%s/*", fileLocation.bucket, fileLocationKeyWithoutTrailingSlash);    
 
 	    	    AllowDownloadSubpathStatement = AllowDownloadSubpathStatement
-	    	        .withResources(new Resource(resource4))        
+	    	        .withResources(fileSubpathResources.toArray(new Resource[0]))        
 	    	        .withActions(S3Actions.GetObject, S3Actions.GetBucketLocation);
 
 	    	    return policy.withStatements(listBucketStatement, listBucketSubpathStatement, AllowDownloadStatement, AllowDownloadSubpathStatement);
@@ -0,0 +1,237 @@
+package org.opengroup.osdu.file.provider.ibm.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.file.model.filecollection.DirectoryCopyPage;
+import org.opengroup.osdu.file.model.filecollection.FileCollectionManifest;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.util.FileCollectionManifests;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.AbortMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartResult;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+
+@ExtendWith(MockitoExtension.class)
+public class CosObjectCopierTest {
+
+	@Mock
+	AmazonS3 s3Client;
+
+	private CosObjectCopier copier;
+
+	@BeforeEach
+	public void setUp() {
+		copier = new CosObjectCopier(new ParallelExecutor(new FileExecutorProperties()));
+		ReflectionTestUtils.setField(copier, "concurrency", 4);
+		ReflectionTestUtils.setField(copier, "multipartThresholdBytes", 100L);
+		ReflectionTestUtils.setField(copier, "partSizeBytes", 40L);
+		ReflectionTestUtils.setField(copier, "partConcurrency", 2);
+	}
+
+	@Test
+	public void copyPrefix_CopiesEveryPageOfTheListing() {
+		ObjectListing firstPage = listing(true, "src/a", "src/b");
+		ObjectListing secondPage = listing(false, "src/c");
+		when(s3Client.listObjects(any(ListObjectsRequest.class))).thenReturn(firstPage);
+		when(s3Client.listNextBatchOfObjects(firstPage)).thenReturn(secondPage);
+
+		int copied = copier.copyPrefix(s3Client, "staging", "src/", "persistent", "dst/");
+
+		assertEquals(3, copied);
+		verify(s3Client).copyObject("staging", "src/a", "persistent", "dst/a");
+		verify(s3Client).copyObject("staging", "src/b", "persistent", "dst/b");
+		verify(s3Client).copyObject("staging", "src/c", "persistent", "dst/c");
+	}
+
+	@Test
+	public void copyPrefixPage_CopiesThePageAfterTheMarker() {
+		when(s3Client.listObjects(any(ListObjectsRequest.class))).thenAnswer(invocation ->
+				"src/b".equals(invocation.<ListObjectsRequest>getArgument(0).getMarker())
+						? listing(true, "src/c", "src/d")
+						: listing(false, "src/e"));
+
+		DirectoryCopyPage page = copier.copyPrefixPage(s3Client, "staging", "src/", "persistent", "dst/", "src/b");
+		DirectoryCopyPage lastPage = copier.copyPrefixPage(s3Client, "staging", "src/", "persistent", "dst/",
+				page.getNextCursor());
+
+		assertEquals(2, page.getCopiedObjects());
+		assertEquals("src/d", page.getNextCursor());
+		assertEquals(1, lastPage.getCopiedObjects());
+		assertNull(lastPage.getNextCursor());
+		verify(s3Client).copyObject("staging", "src/c", "persistent", "dst/c");
+		verify(s3Client).copyObject("staging", "src/d", "persistent", "dst/d");
+		verify(s3Client).copyObject("staging", "src/e", "persistent", "dst/e");
+		verify(s3Client, never()).copyObject("staging", "src/b", "persistent", "dst/b");
+	}
+
+	@Test
+	public void syncPrefix_CopiesOnlyChangedObjectsAndDeletesRemovedOnes() {
+		ObjectListing source = listing(false, "src/same", "src/changed", "src/new");
+		setETags(source, "\"etag-same\"", "\"etag-changed\"", "\"etag-new\"");
+		ObjectListing destination = listing(false, "dst/same", "dst/changed", "dst/removed");
+		setETags(destination, "\"etag-same\"", "\"etag-old\"", "\"etag-removed\"");
+		when(s3Client.listObjects(argThat((ListObjectsRequest request) -> request != null
+				&& "src/".equals(request.getPrefix())))).thenReturn(source);
+		when(s3Client.listObjects(argThat((ListObjectsRequest request) -> request != null
+				&& "dst/".equals(request.getPrefix())))).thenReturn(destination);
+
+		int copied = copier.syncPrefix(s3Client, "staging", "src/", "persistent", "dst/", true);
+
+		assertEquals(2, copied);
+		verify(s3Client).copyObject("staging", "src/changed", "persistent", "dst/changed");
+		verify(s3Client).copyObject("staging", "src/new", "persistent", "dst/new");
+		verify(s3Client, never()).copyObject("staging", "src/same", "persistent", "dst/same");
+		ArgumentCaptor<DeleteObjectsRequest> delete = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+		verify(s3Client).deleteObjects(delete.capture());
+		assertEquals(Arrays.asList("dst/removed"), delete.getValue().getKeys().stream()
+				.map(DeleteObjectsRequest.KeyVersion::getKey).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void writeManifest_DescribesTheObjectsOfThePrefix() {
+		ObjectListing destination = listing(false, "dst/a", "dst/sub/b", "dst/.manifest.json.gz");
+		setETags(destination, "\"0CC175B9C0F1B6A831C399E269772661\"", "\"9b2cf535f27731c974343645a3985328-2\"",
+				"\"manifest\"");
+		when(s3Client.listObjects(any(ListObjectsRequest.class))).thenReturn(destination);
+
+		FileCollectionManifest manifest = copier.writeManifest(s3Client, "persistent", "dst/");
+
+		assertEquals(2, manifest.getFileCount());
+		assertEquals(20, manifest.getTotalSize());
+		assertEquals(Arrays.asList("a", "sub/b"), manifest.getFiles().stream()
+				.map(FileCollectionManifest.Entry::getPath).collect(Collectors.toList()));
+		assertEquals("\"0CC175B9C0F1B6A831C399E269772661\"", manifest.getFiles().get(0).getEtag());
+		assertEquals("0cc175b9c0f1b6a831c399e269772661", manifest.getFiles().get(0).getChecksum());
+		assertEquals("MD5", manifest.getFiles().get(0).getChecksumAlgorithm());
+		assertNull(manifest.getFiles().get(1).getChecksum());
+		ArgumentCaptor<InputStream> content = ArgumentCaptor.forClass(InputStream.class);
+		verify(s3Client).putObject(eq("persistent"), eq("dst/.manifest.json.gz"), content.capture(),
+				any(ObjectMetadata.class));
+		assertEquals(manifest, FileCollectionManifests.decode(content.getValue()));
+	}
+
+	@Test
+	public void copyObject_UsesMultipartCopyAboveThreshold() {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(100L);
+		metadata.setContentType("application/octet-stream");
+		metadata.addUserMetadata("owner", "osdu");
+		when(s3Client.getObjectMetadata("staging", "big")).thenReturn(metadata);
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload");
+		when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+		when(s3Client.copyPart(any(CopyPartRequest.class))).thenAnswer(invocation -> {
+			CopyPartRequest request = invocation.getArgument(0);
+			CopyPartResult result = new CopyPartResult();
+			result.setPartNumber(request.getPartNumber());
+			result.setETag("etag" + request.getPartNumber());
+			return result;
+		});
+
+		copier.copyObject(s3Client, "staging", "big", "persistent", "big");
+
+		ArgumentCaptor<CopyPartRequest> parts = ArgumentCaptor.forClass(CopyPartRequest.class);
+		verify(s3Client, times(3)).copyPart(parts.capture());
+		List<Long> lastBytes = parts.getAllValues().stream().map(CopyPartRequest::getLastByte).sorted()
+				.collect(Collectors.toList());
+		assertEquals(Arrays.asList(39L, 79L, 99L), lastBytes);
+		ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+				ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(s3Client).completeMultipartUpload(complete.capture());
+		assertEquals(Arrays.asList(1, 2, 3), complete.getValue().getPartETags().stream()
+				.map(PartETag::getPartNumber).collect(Collectors.toList()));
+		verify(s3Client, never()).copyObject(any(String.class), any(String.class), any(String.class), any(String.class));
+		ArgumentCaptor<InitiateMultipartUploadRequest> initiate =
+				ArgumentCaptor.forClass(InitiateMultipartUploadRequest.class);
+		verify(s3Client).initiateMultipartUpload(initiate.capture());
+		assertEquals("application/octet-stream", initiate.getValue().getObjectMetadata().getContentType());
+		assertEquals("osdu", initiate.getValue().getObjectMetadata().getUserMetaDataOf("owner"));
+		verify(s3Client, times(1)).getObjectMetadata("staging", "big");
+	}
+
+	@Test
+	public void copyObject_AbortsMultipartUploadWhenAPartFails() {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(100L);
+		when(s3Client.getObjectMetadata("staging", "big")).thenReturn(metadata);
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload");
+		when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+		when(s3Client.copyPart(any(CopyPartRequest.class))).thenThrow(new IllegalStateException("part failed"));
+
+		assertThrows(IllegalStateException.class,
+				() -> copier.copyObject(s3Client, "staging", "big", "persistent", "big"));
+
+		verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+	@Test
+	public void copyObject_KeepsCopyFailureWhenAbortFails() {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(100L);
+		when(s3Client.getObjectMetadata("staging", "big")).thenReturn(metadata);
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload");
+		when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+		when(s3Client.copyPart(any(CopyPartRequest.class))).thenThrow(new IllegalStateException("part failed"));
+		IllegalStateException abortFailure = new IllegalStateException("abort failed");
+		doThrow(abortFailure).when(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+		IllegalStateException thrown = assertThrows(IllegalStateException.class,
+				() -> copier.copyObject(s3Client, "staging", "big", "persistent", "big"));
+
+		assertEquals("part failed", thrown.getMessage());
+		assertEquals(Arrays.asList(abortFailure), Arrays.asList(thrown.getSuppressed()));
+	}
+
+	private static void setETags(ObjectListing listing, String... eTags) {
+		for (int i = 0; i < eTags.length; i++) {
+			listing.getObjectSummaries().get(i).setETag(eTags[i]);
+		}
+	}
+
+	private static ObjectListing listing(boolean truncated, String... keys) {
+		ObjectListing listing = new ObjectListing();
+		listing.setTruncated(truncated);
+		for (String key : keys) {
+			S3ObjectSummary summary = new S3ObjectSummary();
+			summary.setKey(key);
+			summary.setSize(10L);
+			listing.getObjectSummaries().add(summary);
+		}
+		return listing;
+	}
+}
@@ -7,6 +7,11 @@ import static org.mockito.MockitoAnnotations.initMocks;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -14,10 +19,13 @@ import org.junit.Ignore;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opengroup.osdu.core.common.dms.model.DatasetRetrievalProperties;
+import org.opengroup.osdu.core.common.dms.model.RetrievalInstructionsResponse;
 import org.opengroup.osdu.core.common.model.http.DpsHeaders;
 import org.opengroup.osdu.core.common.model.tenant.TenantInfo;
 import org.opengroup.osdu.core.ibm.objectstorage.CloudObjectStorageFactory;
@@ -30,13 +38,22 @@ import org.opengroup.osdu.file.ReplaceCamelCase;
 //import org.opengroup.osdu.file.aws.repository.FileLocationDoc;
 //import org.opengroup.osdu.file.aws.service.ExpirationDateHelper;
 //import org.opengroup.osdu.file.aws.service.StorageServiceImpl;
+import org.opengroup.osdu.file.model.FileRetrievalData;
+import org.opengroup.osdu.file.model.PartialRetrievalInstructionsResponse;
 import org.opengroup.osdu.file.model.SignedUrl;
+import org.opengroup.osdu.file.model.property.FileExecutorProperties;
+import org.opengroup.osdu.file.model.property.RetrievalInstructionsProperties;
+import org.opengroup.osdu.file.provider.ibm.model.file.S3Location;
+import org.opengroup.osdu.file.provider.ibm.model.file.TemporaryCredentials;
 import org.opengroup.osdu.file.provider.ibm.repository.IBMFileRepositoryImpl;
+import org.opengroup.osdu.file.util.ParallelExecutor;
+import org.opengroup.osdu.file.util.RetrievalInstructionsBuilder;
 import org.powermock.reflect.Whitebox;
 import org.slf4j.Logger;
 
 import com.ibm.cloud.objectstorage.HttpMethod;
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.GeneratePresignedUrlRequest;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(ReplaceCamelCase.class)
@@ -66,6 +83,9 @@ public class IBMStorageServiceImplTest {
   @Mock
   private IBMFileRepositoryImpl queryHelper;
 
+  @Mock
+  private STSHelper stsHelper;
+
   private static final String dataPartitionId = "opendes";
   private static final  String BUCKET_NAME_PREFIX = "rs-local-dev";
   private static final String BUCKET = "file-locations";
@@ -131,4 +151,47 @@ public class IBMStorageServiceImplTest {
     Assert.assertEquals(testUrl, signedUrl.getUrl().toString());
   }
 
+  @Test
+  public void createRetrievalInstructionsSharesCredentialsPerPrefix() throws Exception {
+    // Arrange
+    Date expiration = new Date(System.currentTimeMillis() + 3600_000L);
+    TemporaryCredentials credentials = TemporaryCredentials.builder()
+        .accessKeyId("accessKeyId").secretAccessKey("secretAccessKey").sessionToken("sessionToken")
+        .expiration(expiration).build();
+    ParallelExecutor parallelExecutor = new ParallelExecutor(new FileExecutorProperties());
+    Whitebox.setInternalState(repo, "retrievalInstructionsBuilder",
+        new RetrievalInstructionsBuilder(parallelExecutor, new RetrievalInstructionsProperties()));
+    Whitebox.setInternalState(repo, "parallelExecutor", parallelExecutor);
+    Whitebox.setInternalState(repo, "retrievalCredentialsMaxKeys", 20);
+    Whitebox.setInternalState(repo, "retrievalCredentialsConcurrency", 4);
+    Whitebox.setInternalState(repo, "s3SignedUrlExpirationTimeInDays", 1);
+
+    Mockito.when(expirationDateHelper.getExpirationDate(1)).thenReturn(expiration);
+    Mockito.when(header.getUserEmail()).thenReturn("testuser@abc.com");
+    Mockito.when(stsHelper.getRetrievalCredentials(ArgumentMatchers.<List<S3Location>>any(), ArgumentMatchers.any(),
+        ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(credentials);
+    Mockito.when(s3Client.generatePresignedUrl(ArgumentMatchers.any(GeneratePresignedUrlRequest.class)))
+        .thenReturn(new URL("http://localhost/signed"));
+
+    // Act
+    RetrievalInstructionsResponse response = repo.createRetrievalInstructions(Arrays.asList(
+        FileRetrievalData.builder().recordId("r1").unsignedUrl("s3://bucket/dir/a").build(),
+        FileRetrievalData.builder().recordId("r2").unsignedUrl("s3://bucket/dir/b").build(),
+        FileRetrievalData.builder().recordId("r3").unsignedUrl("s3://bucket/other/c").build(),
+        FileRetrievalData.builder().recordId("r4").unsignedUrl("invalid").build()));
+
+    // Assert
+    Assert.assertEquals(Arrays.asList("r1", "r2", "r3"), response.getDatasets().stream()
+        .map(DatasetRetrievalProperties::getDatasetRegistryId).collect(Collectors.toList()));
+    Assert.assertEquals(Collections.singletonList("r4"),
+        ((PartialRetrievalInstructionsResponse) response).getUnresolvedDatasetRegistryIds());
+    Assert.assertEquals("s3://bucket/dir/b",
+        response.getDatasets().get(1).getRetrievalProperties().get("unsignedUrl"));
+    Assert.assertEquals("http://localhost/signed",
+        response.getDatasets().get(1).getRetrievalProperties().get("signedUrl"));
+    Mockito.verify(stsHelper, Mockito.times(2)).getRetrievalCredentials(
+        ArgumentMatchers.<List<S3Location>>any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+        ArgumentMatchers.any());
+  }
+
 }